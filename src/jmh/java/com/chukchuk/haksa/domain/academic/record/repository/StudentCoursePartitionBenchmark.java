@@ -0,0 +1,205 @@
+package com.chukchuk.haksa.domain.academic.record.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * student_courses 해시 파티션(V14) 전후 비교 (로컬 PostgreSQL 필요)
+ *
+ * - layout=plain: V13까지의 단일 테이블, layout=hash: V14의 student_id 해시 파티션 16개. 인덱스는 양쪽 동일
+ * - 기본 규모: 학생 250,000명 × 수강 40건 = 10,000,000행. 학기(5과목)마다 전체 학생을 한 번씩 넣어
+ *   한 학생의 행이 테이블 전체에 흩어지게 한다. (운영에서 학기별 동기화로 쌓이는 모양)
+ * - validCourses: 졸업 요건 계산의 학생별 이수 과목 조회, resync: 학생 한 명의 수강 이력 갱신(동기화)
+ * - vacuumTable / vacuumOneUnit: 학생 5%의 수강 이력을 갱신해 죽은 튜플을 만든 뒤 VACUUM 시간.
+ *   vacuumOneUnit은 autovacuum 작업 하나의 크기(plain은 테이블 전체, hash는 파티션 하나)를 본다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=StudentCoursePartitionBenchmark \
+ *        -Dbench.pg.url=jdbc:postgresql://localhost:5432/postgres -Dbench.pg.user=postgres -Dbench.pg.password=postgres
+ * 벤치마크 전용 스키마(student_course_partition_bench)를 만들고 끝나면 지운다. 시행마다 1,000만 행을 새로 채우므로 오래 걸린다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentCoursePartitionBenchmark {
+
+    private static final String SCHEMA = "student_course_partition_bench";
+    private static final int PARTITIONS = 16;
+    private static final int SEMESTERS = 8;
+    private static final int COURSES_PER_SEMESTER = 5;
+    private static final int OFFERINGS = 20_000;
+    private static final double CHURN_RATIO = 0.05;
+
+    private static final String VALID_COURSES_SQL = """
+            SELECT offering_id, grade, points, original_score
+            FROM student_courses
+            WHERE student_id = ? AND is_retake_deleted = FALSE AND grade NOT IN ('F', 'R')
+            """;
+
+    private static final String RESYNC_SQL = """
+            UPDATE student_courses SET original_score = ?, is_retake_deleted = FALSE
+            WHERE student_id = ?
+            """;
+
+    @Param({"250000"})
+    public int students;
+
+    @Param({"plain", "hash"})
+    public String layout;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private UUID[] studentIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("bench.pg.url", "jdbc:postgresql://localhost:5432/postgres"));
+        dataSource.setUsername(System.getProperty("bench.pg.user", "postgres"));
+        dataSource.setPassword(System.getProperty("bench.pg.password", "postgres"));
+        dataSource.setMaximumPoolSize(4);
+        dataSource.setSchema(SCHEMA);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        createTable();
+
+        for (int semester = 0; semester < SEMESTERS; semester++) {
+            int firstCourse = semester * COURSES_PER_SEMESTER + 1;
+            jdbcTemplate.update("""
+                    INSERT INTO student_courses (
+                        grade, points, is_retake, original_score, created_at, is_retake_deleted, offering_id, student_id
+                    )
+                    SELECT CASE WHEN c % 15 = 0 THEN 'F' ELSE 'A0' END, 3, FALSE, 90, now(), c % 20 = 0,
+                           1 + ((g * 37 + c * 101) % ?), md5('bench-student-' || g)::uuid
+                    FROM generate_series(1, ?) g, generate_series(?, ?) c
+                    """, OFFERINGS, students, firstCourse, firstCourse + COURSES_PER_SEMESTER - 1);
+        }
+        jdbcTemplate.execute("CREATE INDEX idx_student_courses_student_id ON student_courses (student_id)");
+        jdbcTemplate.execute("""
+                CREATE INDEX idx_student_courses_student_valid
+                    ON student_courses (student_id)
+                    INCLUDE (offering_id, grade, points, original_score)
+                    WHERE is_retake_deleted = FALSE
+                """);
+        jdbcTemplate.execute("VACUUM ANALYZE student_courses");
+
+        List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT md5('bench-student-' || g)::uuid FROM generate_series(1, ?) g", UUID.class, students);
+        studentIds = ids.toArray(UUID[]::new);
+    }
+
+    private void createTable() {
+        if ("plain".equals(layout)) {
+            jdbcTemplate.execute("""
+                    CREATE TABLE student_courses (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+                        grade VARCHAR(255) NULL,
+                        points INTEGER NULL,
+                        is_retake BOOLEAN NULL,
+                        original_score INTEGER NULL,
+                        created_at TIMESTAMP WITH TIME ZONE NULL,
+                        is_retake_deleted BOOLEAN NOT NULL,
+                        offering_id BIGINT NOT NULL,
+                        student_id UUID NOT NULL,
+                        CONSTRAINT pk_student_courses PRIMARY KEY (id)
+                    )
+                    """);
+            return;
+        }
+        jdbcTemplate.execute("""
+                CREATE TABLE student_courses (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+                    grade VARCHAR(255) NULL,
+                    points INTEGER NULL,
+                    is_retake BOOLEAN NULL,
+                    original_score INTEGER NULL,
+                    created_at TIMESTAMP WITH TIME ZONE NULL,
+                    is_retake_deleted BOOLEAN NOT NULL,
+                    offering_id BIGINT NOT NULL,
+                    student_id UUID NOT NULL,
+                    CONSTRAINT pk_student_courses PRIMARY KEY (id, student_id)
+                ) PARTITION BY HASH (student_id)
+                """);
+        for (int remainder = 0; remainder < PARTITIONS; remainder++) {
+            jdbcTemplate.execute("CREATE TABLE student_courses_p%02d PARTITION OF student_courses FOR VALUES WITH (MODULUS %d, REMAINDER %d)"
+                    .formatted(remainder, PARTITIONS, remainder));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int validCourses() {
+        return jdbcTemplate.queryForList(VALID_COURSES_SQL, randomStudent()).size();
+    }
+
+    @Benchmark
+    public int resync() {
+        return jdbcTemplate.update(RESYNC_SQL, ThreadLocalRandom.current().nextInt(60, 100), randomStudent());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void vacuumTable(Churn churn) {
+        jdbcTemplate.execute("VACUUM student_courses");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void vacuumOneUnit(Churn churn) {
+        jdbcTemplate.execute("plain".equals(layout) ? "VACUUM student_courses" : "VACUUM student_courses_p00");
+    }
+
+    private UUID randomStudent() {
+        return studentIds[ThreadLocalRandom.current().nextInt(studentIds.length)];
+    }
+
+    /**
+     * VACUUM 측정 직전마다 학생 CHURN_RATIO만큼의 수강 이력을 갱신해 죽은 튜플을 만든다.
+     */
+    @State(Scope.Benchmark)
+    public static class Churn {
+
+        @Setup(Level.Invocation)
+        public void churn(StudentCoursePartitionBenchmark benchmark) {
+            int count = (int) (benchmark.studentIds.length * CHURN_RATIO);
+            int offset = ThreadLocalRandom.current().nextInt(benchmark.studentIds.length - count + 1);
+            UUID[] targets = new UUID[count];
+            System.arraycopy(benchmark.studentIds, offset, targets, 0, count);
+            benchmark.jdbcTemplate.execute((Connection connection) -> {
+                Array array = connection.createArrayOf("uuid", targets);
+                try (var statement = connection.prepareStatement(
+                        "UPDATE student_courses SET original_score = original_score + 1 WHERE student_id = ANY(?)")) {
+                    statement.setArray(1, array);
+                    return statement.executeUpdate();
+                } finally {
+                    array.free();
+                }
+            });
+        }
+    }
+}
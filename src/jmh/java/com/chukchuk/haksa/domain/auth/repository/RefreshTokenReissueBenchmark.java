@@ -0,0 +1,165 @@
+package com.chukchuk.haksa.domain.auth.repository;
+
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRotationRepository.RefreshTokenRotation;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRotationRepository.RefreshTokenRotationCommand;
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * refresh token 재발급 DB 경로 비교 (로컬 PostgreSQL 필요)
+ *
+ * - lookups        : 기존 경로. refresh_token 조회 → users 조회 → (갱신 시) refresh_token 저장
+ * - singleStatement: UPDATE ... RETURNING 한 문장
+ * - 두 경로 모두 요청당 트랜잭션 하나로 실행하고, 결과는 초당 재발급 수(ops/s)로 본다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=RefreshTokenReissueBenchmark \
+ *        -Dbench.pg.url=jdbc:postgresql://localhost:5432/postgres -Dbench.pg.user=postgres -Dbench.pg.password=postgres
+ * 벤치마크 전용 스키마(reissue_bench)를 만들고 끝나면 지운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RefreshTokenReissueBenchmark {
+
+    private static final String SCHEMA = "reissue_bench";
+
+    @Param({"10000"})
+    public int sessions;
+
+    /** true면 매 요청이 새 refresh token으로 회전한다(만료 임박 세션). */
+    @Param({"false", "true"})
+    public boolean renew;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private RefreshTokenRotationRepository rotationRepository;
+
+    private UUID[] userIds;
+    private String[] currentHashes;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("bench.pg.url", "jdbc:postgresql://localhost:5432/postgres"));
+        dataSource.setUsername(System.getProperty("bench.pg.user", "postgres"));
+        dataSource.setPassword(System.getProperty("bench.pg.password", "postgres"));
+        dataSource.setMaximumPoolSize(4);
+        // search_path만 바꾸므로 스키마가 아직 없어도 연결할 수 있다.
+        dataSource.setSchema(SCHEMA);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        rotationRepository = new RefreshTokenRotationRepositoryImpl(jdbcTemplate, new DatabaseDialect(jdbcTemplate));
+
+        jdbcTemplate.execute("""
+                CREATE TABLE users (
+                    id UUID PRIMARY KEY,
+                    email VARCHAR(255) NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE refresh_token (
+                    session_id VARCHAR(255) PRIMARY KEY,
+                    user_id VARCHAR(255) NOT NULL,
+                    token VARCHAR(255) NULL,
+                    token_hash VARCHAR(255) NULL,
+                    expiry TIMESTAMP(6) NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("CREATE INDEX idx_refresh_token_expiry_session ON refresh_token (expiry, session_id)");
+
+        userIds = new UUID[sessions];
+        currentHashes = new String[sessions];
+        Timestamp expiry = new Timestamp(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(14));
+        for (int i = 0; i < sessions; i++) {
+            userIds[i] = UUID.randomUUID();
+            currentHashes[i] = "hash-" + i;
+            jdbcTemplate.update("INSERT INTO users (id, email) VALUES (?, ?)", userIds[i], "user" + i + "@example.com");
+            jdbcTemplate.update("INSERT INTO refresh_token (session_id, user_id, token_hash, expiry) VALUES (?, ?, ?, ?)",
+                    "session-" + i, userIds[i].toString(), currentHashes[i], expiry);
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public String lookups() {
+        int i = ThreadLocalRandom.current().nextInt(sessions);
+        String sessionId = "session-" + i;
+        return transactionTemplate.execute(status -> {
+            Map<String, Object> saved = jdbcTemplate.queryForMap(
+                    "SELECT session_id, user_id, token, token_hash, expiry FROM refresh_token WHERE session_id = ?",
+                    sessionId);
+            if (!currentHashes[i].equals(saved.get("token_hash"))) {
+                throw new IllegalStateException("hash mismatch");
+            }
+            String email = jdbcTemplate.queryForObject("SELECT email FROM users WHERE id = ?", String.class, userIds[i]);
+            if (renew) {
+                String renewedHash = nextHash(i);
+                jdbcTemplate.update("UPDATE refresh_token SET user_id = ?, token = NULL, token_hash = ?, expiry = ? WHERE session_id = ?",
+                        userIds[i].toString(), renewedHash, new Timestamp(renewedExpiry().getTime()), sessionId);
+                currentHashes[i] = renewedHash;
+            }
+            return email;
+        });
+    }
+
+    @Benchmark
+    public String singleStatement() {
+        int i = ThreadLocalRandom.current().nextInt(sessions);
+        String renewedHash = nextHash(i);
+        RefreshTokenRotation rotation = transactionTemplate.execute(status -> rotationRepository.rotate(
+                new RefreshTokenRotationCommand(
+                        "session-" + i,
+                        userIds[i],
+                        currentHashes[i],
+                        "unused-raw",
+                        renewedHash,
+                        renewedExpiry(),
+                        renew ? new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(365)) : new Date(0L)
+                )
+        ).orElseThrow(() -> new IllegalStateException("rotation rejected")));
+        if (rotation.renewed()) {
+            currentHashes[i] = renewedHash;
+        }
+        return rotation.email();
+    }
+
+    private String nextHash(int i) {
+        return "hash-" + i + "-" + sequence.incrementAndGet();
+    }
+
+    private static Date renewedExpiry() {
+        return new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(14));
+    }
+}
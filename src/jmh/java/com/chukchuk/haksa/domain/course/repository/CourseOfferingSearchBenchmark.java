@@ -0,0 +1,183 @@
+package com.chukchuk.haksa.domain.course.repository;
+
+import com.chukchuk.haksa.global.common.search.SearchText;
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 어드민 강의 후보 검색 비교 (로컬 PostgreSQL 필요)
+ *
+ * - likeScan  : 기존 경로. LOWER(...) LIKE '%검색어%'로 과목/개설강의 전체를 훑고 일치 목록을 전부 반환
+ * - gramIndex : CourseOfferingSearchRepositoryImpl. search_grams GIN(@>)으로 과목을 좁히고 관련도 순 첫 페이지(50건)만 반환
+ * - 합성 카탈로그: 과목 20,000개 × 학기 5개 = 개설강의 100,000개. 과목명은 한글 단어 두 개 조합, 학수번호는 영문+숫자
+ * - keyword는 2음절(pg_trgm 인덱스로는 찾을 수 없는 길이), 4음절, 학수번호 접두어, 한 글자(인덱스 미사용 경로)를 비교한다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=CourseOfferingSearchBenchmark \
+ *        -Dbench.pg.url=jdbc:postgresql://localhost:5432/postgres -Dbench.pg.user=postgres -Dbench.pg.password=postgres
+ * 벤치마크 전용 스키마(course_search_bench)를 만들고 끝나면 지운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CourseOfferingSearchBenchmark {
+
+    private static final String SCHEMA = "course_search_bench";
+    private static final int COURSES = 20_000;
+    private static final int OFFERINGS_PER_COURSE = 5;
+    private static final int PAGE_SIZE = 50;
+
+    private static final String[] HEADS = {
+            "데이터", "자료", "운영", "회계", "경영", "물리", "화학", "컴퓨터", "인공지능", "기계",
+            "전자", "통계", "경제", "심리", "철학", "사회", "국제", "디자인", "건축", "생명"
+    };
+    private static final String[] TAILS = {
+            "구조", "베이스", "분석", "설계", "개론", "실습", "이론", "세미나", "응용", "원론",
+            "프로그래밍", "시스템", "공학", "방법론", "특강"
+    };
+
+    private static final String LIKE_SCAN_SQL = """
+            SELECT o.id, c.course_code, c.course_name, o.year, o.semester, o.points,
+                   o.faculty_division_name, o.raw_faculty_division_name,
+                   COALESCE(d.established_department_name, o.host_department) AS department_name
+            FROM course_offerings o
+            JOIN courses c ON c.id = o.course_id
+            LEFT JOIN departments d ON d.id = o.department_id
+            WHERE o.deleted_at IS NULL
+              AND (LOWER(c.course_name) LIKE LOWER(CONCAT('%', ?, '%'))
+                   OR LOWER(c.course_code) LIKE LOWER(CONCAT('%', ?, '%')))
+            ORDER BY o.year DESC, o.semester DESC, c.course_name ASC
+            """;
+
+    @Param({"회계", "데이터베이스", "cs12", "론"})
+    public String keyword;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private CourseOfferingSearchRepository searchRepository;
+    private String normalizedKeyword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("bench.pg.url", "jdbc:postgresql://localhost:5432/postgres"));
+        dataSource.setUsername(System.getProperty("bench.pg.user", "postgres"));
+        dataSource.setPassword(System.getProperty("bench.pg.password", "postgres"));
+        dataSource.setMaximumPoolSize(4);
+        dataSource.setSchema(SCHEMA);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        searchRepository = new CourseOfferingSearchRepositoryImpl(jdbcTemplate, new DatabaseDialect(jdbcTemplate));
+        normalizedKeyword = SearchText.normalize(keyword);
+
+        jdbcTemplate.execute("""
+                CREATE TABLE departments (
+                    id BIGINT PRIMARY KEY,
+                    department_code VARCHAR(255),
+                    established_department_name VARCHAR(255)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE courses (
+                    id BIGINT PRIMARY KEY,
+                    course_code VARCHAR(255) NOT NULL,
+                    course_name VARCHAR(255),
+                    search_text VARCHAR(512),
+                    search_grams VARCHAR(8) ARRAY
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE course_offerings (
+                    id BIGINT PRIMARY KEY,
+                    year INTEGER NOT NULL,
+                    semester INTEGER NOT NULL,
+                    host_department VARCHAR(255),
+                    points INTEGER,
+                    deleted_at TIMESTAMP WITH TIME ZONE,
+                    faculty_division_name VARCHAR(255),
+                    raw_faculty_division_name VARCHAR(64),
+                    course_id BIGINT NOT NULL,
+                    department_id BIGINT
+                )
+                """);
+
+        List<Object[]> departments = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            departments.add(new Object[]{(long) i + 1, "D" + i, HEADS[i % HEADS.length] + "학과" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO departments VALUES (?, ?, ?)", departments);
+
+        List<Object[]> courses = new ArrayList<>(COURSES);
+        for (int i = 0; i < COURSES; i++) {
+            String code = (i % 3 == 0 ? "CS" : i % 3 == 1 ? "BA" : "GE") + i;
+            String name = HEADS[i % HEADS.length] + TAILS[(i / HEADS.length) % TAILS.length]
+                    + (i % 7 == 0 ? " 실습" : "") + (i % 11 == 0 ? " " + (i % 4 + 1) : "");
+            courses.add(new Object[]{(long) i + 1, code, name});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO courses (id, course_code, course_name, search_text, search_grams) VALUES (?, ?, ?, ?, ?)",
+                courses, 1000, (ps, row) -> {
+                    String code = (String) row[1];
+                    String name = (String) row[2];
+                    ps.setLong(1, (Long) row[0]);
+                    ps.setString(2, code);
+                    ps.setString(3, name);
+                    ps.setString(4, SearchText.document(code, name));
+                    ps.setArray(5, ps.getConnection().createArrayOf("varchar", SearchText.grams(code, name)));
+                });
+
+        List<Object[]> offerings = new ArrayList<>(COURSES * OFFERINGS_PER_COURSE);
+        long offeringId = 1;
+        for (int i = 0; i < COURSES; i++) {
+            for (int k = 0; k < OFFERINGS_PER_COURSE; k++) {
+                offerings.add(new Object[]{
+                        offeringId++, 2022 + k / 2, k % 2 == 0 ? 10 : 20, "주관학과" + (i % 50), 3,
+                        "전선", (long) i + 1, (long) (i % 50) + 1
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO course_offerings
+                (id, year, semester, host_department, points, faculty_division_name, course_id, department_id)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, offerings);
+
+        jdbcTemplate.execute("CREATE INDEX idx_course_offerings_course_id ON course_offerings (course_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_courses_search_grams ON courses USING GIN (search_grams)");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int likeScan() {
+        return jdbcTemplate.query(LIKE_SCAN_SQL, (rs, rowNum) -> rs.getLong("id"), keyword, keyword).size();
+    }
+
+    @Benchmark
+    public int gramIndex() {
+        return searchRepository.search(new CourseOfferingSearchRepository.Query(
+                normalizedKeyword, null, null, null, null, null, PAGE_SIZE + 1
+        )).size();
+    }
+}
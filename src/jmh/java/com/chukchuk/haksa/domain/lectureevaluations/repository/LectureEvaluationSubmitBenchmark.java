@@ -0,0 +1,190 @@
+package com.chukchuk.haksa.domain.lectureevaluations.repository;
+
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationBulkRepository.Submission;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationBulkRepository.SubmittedEvaluation;
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 강의평가 제출 저장 경로 비교 (로컬 PostgreSQL 필요)
+ *
+ * - perRow: 기존 경로. 강의평가마다 INSERT ... RETURNING id(IDENTITY), 태그마다 INSERT, 학기 상태 UPDATE
+ * - bulk  : CourseEvaluationBulkRepositoryImpl. 상태 전환 + 강의평가 INSERT ... RETURNING 한 문장, 태그 batch INSERT
+ * - 제출 하나를 트랜잭션 하나로 실행하고 끝에 롤백해 같은 학기 row를 다시 쓴다.
+ * - 결과는 커넥션 하나의 초당 제출 수(ops/s)로 보고, 평가 기간 피크에 필요한 커넥션 수를 어림하는 데 쓴다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=LectureEvaluationSubmitBenchmark \
+ *        -Dbench.pg.url=jdbc:postgresql://localhost:5432/postgres -Dbench.pg.user=postgres -Dbench.pg.password=postgres
+ * 벤치마크 전용 스키마(evaluation_submit_bench)를 만들고 끝나면 지운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LectureEvaluationSubmitBenchmark {
+
+    private static final String SCHEMA = "evaluation_submit_bench";
+    private static final int YEAR = 2026;
+    private static final int SEMESTER = 10;
+    private static final int STUDENTS = 1000;
+
+    /** 제출 하나에 담긴 과목 수 */
+    @Param({"6", "10"})
+    public int courses;
+
+    /** 과목마다 선택한 태그 수 */
+    @Param({"3"})
+    public int tagsPerCourse;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private CourseEvaluationBulkRepository bulkRepository;
+
+    private UUID[] studentIds;
+    private UUID[] semesterRecordIds;
+    private List<SubmittedEvaluation> evaluations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("bench.pg.url", "jdbc:postgresql://localhost:5432/postgres"));
+        dataSource.setUsername(System.getProperty("bench.pg.user", "postgres"));
+        dataSource.setPassword(System.getProperty("bench.pg.password", "postgres"));
+        dataSource.setMaximumPoolSize(4);
+        dataSource.setSchema(SCHEMA);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        bulkRepository = new CourseEvaluationBulkRepositoryImpl(jdbcTemplate, new DatabaseDialect(jdbcTemplate));
+
+        jdbcTemplate.execute("""
+                CREATE TABLE semester_academic_records (
+                    id UUID PRIMARY KEY,
+                    student_id UUID NOT NULL,
+                    year INTEGER,
+                    semester INTEGER NOT NULL,
+                    lecture_evaluation_status VARCHAR(32),
+                    created_at TIMESTAMP WITH TIME ZONE,
+                    updated_at TIMESTAMP WITH TIME ZONE
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE course_evaluations (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    created_at TIMESTAMP WITH TIME ZONE NULL,
+                    updated_at TIMESTAMP WITH TIME ZONE NULL,
+                    student_id UUID NOT NULL,
+                    course_id BIGINT NOT NULL,
+                    professor_id BIGINT NOT NULL,
+                    year INTEGER NOT NULL,
+                    semester INTEGER NOT NULL,
+                    review VARCHAR(2000) NULL,
+                    CONSTRAINT uk_course_evaluations_student_semester_course_professor
+                        UNIQUE (student_id, year, semester, course_id, professor_id)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE course_evaluation_tags (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    course_evaluation_id BIGINT NOT NULL REFERENCES course_evaluations (id) ON DELETE CASCADE,
+                    tag VARCHAR(64) NOT NULL,
+                    CONSTRAINT uk_course_evaluation_tags_evaluation_tag UNIQUE (course_evaluation_id, tag)
+                )
+                """);
+
+        studentIds = new UUID[STUDENTS];
+        semesterRecordIds = new UUID[STUDENTS];
+        for (int i = 0; i < STUDENTS; i++) {
+            studentIds[i] = UUID.randomUUID();
+            semesterRecordIds[i] = UUID.randomUUID();
+            jdbcTemplate.update("""
+                    INSERT INTO semester_academic_records (id, student_id, year, semester, lecture_evaluation_status)
+                    VALUES (?, ?, ?, ?, 'PENDING')
+                    """, semesterRecordIds[i], studentIds[i], YEAR, SEMESTER);
+        }
+        jdbcTemplate.execute("ANALYZE");
+
+        LectureEvaluationTag[] tags = LectureEvaluationTag.values();
+        evaluations = new ArrayList<>(courses);
+        for (int c = 0; c < courses; c++) {
+            List<LectureEvaluationTag> selected = new ArrayList<>(tagsPerCourse);
+            for (int t = 0; t < tagsPerCourse; t++) {
+                selected.add(tags[(c + t) % tags.length]);
+            }
+            evaluations.add(new SubmittedEvaluation(1000L + c, 2000L + c, "review " + c, selected));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int perRow() {
+        int i = ThreadLocalRandom.current().nextInt(STUDENTS);
+        return transactionTemplate.execute(status -> {
+            Timestamp now = Timestamp.from(Instant.now());
+            int saved = 0;
+            for (SubmittedEvaluation evaluation : evaluations) {
+                Long id = jdbcTemplate.queryForObject("""
+                                INSERT INTO course_evaluations
+                                (student_id, course_id, professor_id, year, semester, review, created_at, updated_at)
+                                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                                RETURNING id
+                                """, Long.class,
+                        studentIds[i], evaluation.courseId(), evaluation.professorId(), YEAR, SEMESTER,
+                        evaluation.review(), now, now);
+                for (LectureEvaluationTag tag : evaluation.tags()) {
+                    jdbcTemplate.queryForObject(
+                            "INSERT INTO course_evaluation_tags (course_evaluation_id, tag) VALUES (?, ?) RETURNING id",
+                            Long.class, id, tag.name());
+                }
+                saved++;
+            }
+            jdbcTemplate.update("UPDATE semester_academic_records SET lecture_evaluation_status = 'COMPLETED', updated_at = ? WHERE id = ?",
+                    now, semesterRecordIds[i]);
+            status.setRollbackOnly();
+            return saved;
+        });
+    }
+
+    @Benchmark
+    public int bulk() {
+        int i = ThreadLocalRandom.current().nextInt(STUDENTS);
+        return transactionTemplate.execute(status -> {
+            int saved = bulkRepository.insertSubmission(
+                    new Submission(semesterRecordIds[i], studentIds[i], YEAR, SEMESTER, evaluations));
+            if (saved != evaluations.size()) {
+                throw new IllegalStateException("submission rejected");
+            }
+            status.setRollbackOnly();
+            return saved;
+        });
+    }
+}
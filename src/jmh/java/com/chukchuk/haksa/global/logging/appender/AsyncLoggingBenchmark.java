@@ -0,0 +1,147 @@
+package com.chukchuk.haksa.global.logging.appender;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.MDC;
+
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나가 로그 3줄([BIZ] / [PERF] / http_summary)을 남길 때의 요청 스레드 지연
+ *
+ * - sync: JSON 인코더를 요청 스레드에서 바로 실행 (변경 전 FILE/CONSOLE과 같은 구조)
+ * - async: RingBufferAsyncAppender 뒤에서 인코딩/출력
+ * - sinkMicros: 출력 1회당 지연 (stdout 파이프/디스크 흉내). 0이면 인코딩 비용만 남는다.
+ *
+ * async 모드에서 버퍼가 넘친 수는 Iteration마다 [drop] 라인으로 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class AsyncLoggingBenchmark {
+
+    @Param({"sync", "async"})
+    public String mode;
+
+    @Param({"0", "20"})
+    public int sinkMicros;
+
+    private LoggerContext context;
+    private Logger biz;
+    private Logger http;
+    private RingBufferAsyncAppender async;
+    private long droppedBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new LoggerContext();
+
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setName("SINK");
+        sink.setEncoder(encoder);
+        sink.setOutputStream(new SlowOutputStream(sinkMicros));
+        sink.start();
+
+        Appender<ILoggingEvent> root = sink;
+        if ("async".equals(mode)) {
+            async = new RingBufferAsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC");
+            async.setQueueSize(8192);
+            async.setDropPolicy(RingBufferAsyncAppender.DropPolicy.DISCARD_BELOW_WARN);
+            async.addAppender(sink);
+            async.start();
+            root = async;
+        }
+
+        Logger rootLogger = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.detachAndStopAllAppenders();
+        rootLogger.addAppender(root);
+        rootLogger.setLevel(ch.qos.logback.classic.Level.INFO);
+
+        biz = context.getLogger("com.chukchuk.haksa.application.portal.ScrapeResultCallbackService");
+        http = context.getLogger("HTTP");
+    }
+
+    @Setup(Level.Iteration)
+    public void markDrops() {
+        droppedBefore = RingBufferAsyncAppender.totalDropped();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportDrops() {
+        if (async != null) {
+            async.flush(5_000);
+            System.out.println("[drop] mode=" + mode + " sinkMicros=" + sinkMicros
+                    + " dropped=" + (RingBufferAsyncAppender.totalDropped() - droppedBefore));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void request() {
+        MDC.put("userId", "3f1c0f9e-9a8e-4a44-8d1f-0c51d1f1a001");
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+        try {
+            String jobId = UUID.randomUUID().toString();
+            biz.info("[BIZ] scrape.job.callback.stage stage={} jobId={} attempt={} status={} took_ms={}",
+                    "validated", jobId, 1, "succeeded", 3);
+            biz.info("[PERF] portal.sync.end jobId={} semesters={} courses={} took_ms={}",
+                    jobId, 8, 64, 120);
+            http.info("http_summary method={} uri={} status={} took_ms={} userId={} ip={} traceId={} spanId={}",
+                    "GET", "/api/graduation/progress", 200, 35,
+                    "3f1c0f9e-9a8e-4a44-8d1f-0c51d1f1a001", "203.0.113.*", "4bf92f3577b34da6", "00f067aa0ba902b7");
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    /** write 호출마다 지정한 시간만큼 바쁜 대기 */
+    private static final class SlowOutputStream extends OutputStream {
+        private final long delayNanos;
+
+        private SlowOutputStream(int delayMicros) {
+            this.delayNanos = TimeUnit.MICROSECONDS.toNanos(delayMicros);
+        }
+
+        @Override
+        public void write(int b) {
+            // 단일 바이트 쓰기는 발생하지 않는다.
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            long until = System.nanoTime() + delayNanos;
+            while (System.nanoTime() < until) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.chukchuk.haksa.global.logging.sanitize;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LogSanitizer.clean 비용 (사전 필터 적용 / 모든 규칙 순차 적용)
+ *
+ * - plain: 민감 키워드가 없는 URI (http_summary 대부분)
+ * - query: 학번/토큰이 들어 있는 쿼리스트링
+ * - error: 포털 연동 실패 메시지 (portal/user 키워드만 있고 매치는 없음)
+ * - json: 비밀번호가 들어 있는 JSON 본문
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogSanitizerBenchmark {
+
+    @Param({"plain", "query", "error", "json"})
+    public String input;
+
+    private String message;
+
+    @Setup
+    public void setUp() {
+        message = switch (input) {
+            case "plain" -> "GET /api/graduation/progress?semester=2024-1&page=0&size=20";
+            case "query" -> "GET /api/portal/link?studentCode=20231234&token=eyJhbGciOiJIUzI1NiJ9.abc.def";
+            case "error" -> "portal login failed for user session: upstream responded 503 after 2 retries";
+            case "json" -> "{\"username\":\"chukchuk\",\"password\":\"pw1234\",\"remember\":true}";
+            default -> throw new IllegalArgumentException(input);
+        };
+    }
+
+    @Benchmark
+    public String prefiltered() {
+        return LogSanitizer.clean(message);
+    }
+
+    @Benchmark
+    public String sequential() {
+        return LogSanitizer.cleanUnfiltered(message);
+    }
+}
@@ -0,0 +1,167 @@
+package com.chukchuk.haksa.global.security.filter;
+
+import ch.qos.logback.classic.Logger;
+import com.chukchuk.haksa.global.common.route.RouteClassification;
+import com.chukchuk.haksa.global.common.route.RouteClassifier;
+import com.chukchuk.haksa.global.logging.filter.HttpSummaryLoggingFilter;
+import com.chukchuk.haksa.global.logging.filter.MdcCleanupFilter;
+import com.chukchuk.haksa.global.logging.filter.MdcUserEnricherFilter;
+import com.chukchuk.haksa.global.security.cache.AuthTokenCache;
+import com.chukchuk.haksa.global.security.service.CustomUserDetailsService;
+import com.chukchuk.haksa.global.security.service.JwtProvider;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 GET 한 건이 서블릿 필터를 통과하는 비용
+ *
+ * - authenticatedGet: JWT → MdcUserEnricher → HttpSummary → MdcCleanup 전체 체인 (JWT 서명 검증 포함)
+ * - emptyChain: 같은 요청/응답 생성 비용만 (기준선)
+ * - legacyDecisions / classifiedDecisions: 필터별 경로 판단만 분리해 목록 순회 방식과 RouteClassifier를 비교
+ *
+ * 로그 출력 I/O는 제외하기 위해 루트 로거를 WARN으로 낮춘다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FilterChainOverheadBenchmark {
+
+    /* 변경 전 필터에 있던 목록 그대로 */
+    private static final List<String> LEGACY_WHITELIST = List.of(
+            "/", "/v3/api-docs", "/swagger", "/webjars", "/swagger-config", "/error"
+    );
+    private static final List<String> LEGACY_EXCLUDE_PREFIXES = List.of(
+            "/swagger-ui", "/v3/api-docs", "/swagger-resources", "/webjars/swagger-ui",
+            "/health", "/actuator/health", "/error"
+    );
+    private static final Set<String> LEGACY_EXCLUDE_EXTS = Set.of(
+            ".ico", ".css", ".js", ".map", ".png", ".jpg", ".jpeg", ".svg", ".gif",
+            ".woff", ".woff2", ".ttf", ".eot"
+    );
+
+    @Param({"/api/graduation/progress", "/api/academic/record/semester?year=2024&semester=10"})
+    public String uri;
+
+    private String path;
+    private String query;
+    private String bearer;
+    private Filter[] filters;
+    private MockHttpServletRequest decisionRequest;
+    private final HttpServlet endpoint = new HttpServlet() {
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse res) {
+            res.setStatus(200);
+        }
+    };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        int q = uri.indexOf('?');
+        path = q < 0 ? uri : uri.substring(0, q);
+        query = q < 0 ? null : uri.substring(q + 1);
+
+        JwtProvider jwtProvider = new JwtProvider();
+        ReflectionTestUtils.setField(jwtProvider, "secret", "benchmark-secret-key-benchmark-secret-key-0123456789");
+        ReflectionTestUtils.setField(jwtProvider, "accessTokenExpiration", TimeUnit.HOURS.toMillis(1));
+        jwtProvider.init();
+
+        String userId = UUID.randomUUID().toString();
+        String token = jwtProvider.createAccessToken(userId, "bench@example.com", "USER");
+        bearer = "Bearer " + token;
+        decisionRequest = new MockHttpServletRequest("GET", path);
+
+        // 사용자 로딩은 캐시 hit 경로만 측정한다.
+        AuthTokenCache authTokenCache = new AuthTokenCache(TimeUnit.HOURS.toMillis(1));
+        UserDetails user = User.withUsername(userId).password("").authorities("ROLE_USER").build();
+        authTokenCache.getOrLoad(userId, token, () -> user);
+
+        filters = new Filter[]{
+                new JwtAuthenticationFilter(jwtProvider, new CustomUserDetailsService(null), authTokenCache,
+                        (request, response, ex) -> response.sendError(401)),
+                new MdcUserEnricherFilter(),
+                new HttpSummaryLoggingFilter(),
+                new MdcCleanupFilter()
+        };
+    }
+
+    @Benchmark
+    public int authenticatedGet() throws Exception {
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            new MockFilterChain(endpoint, filters).doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int emptyChain() throws Exception {
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(endpoint).doFilter(request, response);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public boolean legacyDecisions() {
+        String p = path;
+        boolean authBypass = LEGACY_WHITELIST.stream().anyMatch(w -> w.equals("/") ? p.equals("/") : p.startsWith(w));
+
+        boolean skip;
+        int dot = p.lastIndexOf('.');
+        if (dot > -1 && LEGACY_EXCLUDE_EXTS.contains(p.substring(dot).toLowerCase(Locale.ROOT))) {
+            skip = true;
+        } else {
+            skip = LEGACY_EXCLUDE_PREFIXES.stream().anyMatch(p::startsWith)
+                    || p.equals("/favicon.ico") || p.equals("/swagger-ui.html");
+        }
+        return authBypass | skip;
+    }
+
+    @Benchmark
+    public boolean classifiedDecisions() {
+        // 첫 필터만 계산하고 나머지 두 필터는 요청 속성을 읽는다.
+        decisionRequest.removeAttribute(RouteClassifier.ATTRIBUTE);
+        RouteClassification classification = RouteClassifier.classify(decisionRequest);
+        return classification.authBypass()
+                | RouteClassifier.classify(decisionRequest).staticAsset()
+                | RouteClassifier.classify(decisionRequest).summaryLogSkipped();
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setQueryString(query);
+        request.addHeader("Authorization", bearer);
+        request.setRemoteAddr("203.0.113.10");
+        return request;
+    }
+}
@@ -0,0 +1,107 @@
+package com.chukchuk.haksa.infrastructure.cache.local;
+
+import com.chukchuk.haksa.domain.course.model.FacultyDivision;
+import com.chukchuk.haksa.domain.graduation.dto.AreaProgressDto;
+import com.chukchuk.haksa.domain.graduation.dto.CourseDto;
+import com.chukchuk.haksa.domain.graduation.dto.GraduationProgressResponse;
+import com.chukchuk.haksa.global.config.AcademicCacheProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 객체 그래프 보관(compact=false) vs JSON 바이트 보관(compact=true) 비교
+ *
+ * - 읽기 지연: readGraduationProgress 결과 (hit 경로만 측정)
+ * - 힙 사용량: Trial 시작 시 GC 전후 used heap 차이를 [heap] 라인으로 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LocalAcademicCacheBenchmark {
+
+    private static final Supplier<GraduationProgressResponse> MISS = () -> {
+        throw new IllegalStateException("benchmark expects cache hits only");
+    };
+
+    @Param({"false", "true"})
+    public boolean compact;
+
+    @Param({"5000"})
+    public int students;
+
+    @Param({"60"})
+    public int coursesPerStudent;
+
+    private LocalAcademicCache cache;
+    private UUID[] studentIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AcademicCacheProperties properties = new AcademicCacheProperties();
+        properties.setMaxWeightBytes(Long.MAX_VALUE);
+        properties.getCompact().setEnabled(compact);
+        properties.getCompact().setThresholdBytes(1024);
+
+        long before = usedHeapAfterGc();
+        cache = new LocalAcademicCache(properties);
+        studentIds = new UUID[students];
+        for (int i = 0; i < students; i++) {
+            UUID studentId = UUID.randomUUID();
+            studentIds[i] = studentId;
+            cache.getOrLoadGraduationProgress(studentId, () -> graduationProgress(coursesPerStudent));
+        }
+        long retained = usedHeapAfterGc() - before;
+
+        System.out.printf(
+                "[heap] compact=%s entries=%d retained=%dKB perEntry=%dB weighted=%.0fB%n",
+                compact, students, retained / 1024, retained / students, cache.weightedSize()
+        );
+    }
+
+    @Benchmark
+    public GraduationProgressResponse readGraduationProgress() {
+        UUID studentId = studentIds[ThreadLocalRandom.current().nextInt(studentIds.length)];
+        return cache.getOrLoadGraduationProgress(studentId, MISS);
+    }
+
+    private static GraduationProgressResponse graduationProgress(int courseCount) {
+        List<AreaProgressDto> areas = new ArrayList<>();
+        FacultyDivision[] divisions = {FacultyDivision.전핵, FacultyDivision.전선, FacultyDivision.중핵, FacultyDivision.일선};
+        int perArea = courseCount / divisions.length;
+        for (FacultyDivision division : divisions) {
+            List<CourseDto> courses = new ArrayList<>();
+            for (int i = 0; i < perArea; i++) {
+                courses.add(new CourseDto(2020 + i % 5, division.name() + " 과목 " + i, 3, "A0", 10, null));
+            }
+            areas.add(new AreaProgressDto(division, 30, 24, 2, 1, 3, courses));
+        }
+        return new GraduationProgressResponse(areas, true);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
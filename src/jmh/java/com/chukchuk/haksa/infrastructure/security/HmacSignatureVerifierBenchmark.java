@@ -0,0 +1,107 @@
+package com.chukchuk.haksa.infrastructure.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 콜백 서명 검증 비용 (유효 / 무효 서명)
+ *
+ * - valid / invalid: 스레드별 Mac + 요청 바이트 직접 검증. invalid는 서비스와 같이 sampleDiagnostics까지 호출한다.
+ * - legacyValid / legacyInvalid: 변경 전 방식 (검증마다 Mac 생성 + 문자열 결합, 실패마다 diagnostics)
+ *   diagnostics 자체는 현재 구현을 호출하므로 legacyInvalid는 변경 전 비용의 하한이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class HmacSignatureVerifierBenchmark {
+
+    private static final String SECRET = "a89f20be2f4a38ee011f98d6e7ef1290fd100e82ca4605ea923c81ba80a0d35e";
+
+    @Param({"512", "16384"})
+    public int bodyBytes;
+
+    private HmacSignatureVerifier verifier;
+    private String timestamp;
+    private byte[] rawBody;
+    private String rawBodyString;
+    private String validSignature;
+    private String invalidSignature;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        verifier = new HmacSignatureVerifier(SECRET, Long.MAX_VALUE / 2);
+        timestamp = Instant.now().toString();
+
+        StringBuilder body = new StringBuilder("{\"job_id\":\"job-1\",\"status\":\"succeeded\",\"result_s3_key\":\"");
+        while (body.length() < bodyBytes - 2) {
+            body.append('x');
+        }
+        body.append("\"}");
+        rawBodyString = body.toString();
+        rawBody = rawBodyString.getBytes(StandardCharsets.UTF_8);
+
+        byte[] mac = legacyHmac(timestamp + "." + rawBodyString, SECRET.getBytes(StandardCharsets.UTF_8));
+        validSignature = Base64.getEncoder().encodeToString(mac);
+        mac[mac.length - 1] ^= 1;
+        invalidSignature = Base64.getEncoder().encodeToString(mac);
+    }
+
+    @Benchmark
+    public boolean valid() {
+        return verifier.inspect(timestamp, rawBody, validSignature).valid();
+    }
+
+    @Benchmark
+    public Object invalid() {
+        HmacSignatureVerifier.VerificationResult result = verifier.inspect(timestamp, rawBody, invalidSignature);
+        return result.valid() ? result : verifier.sampleDiagnostics(timestamp, rawBody, invalidSignature);
+    }
+
+    @Benchmark
+    public boolean legacyValid() throws Exception {
+        return legacyMatches(timestamp + "." + new String(rawBody, StandardCharsets.UTF_8), validSignature);
+    }
+
+    @Benchmark
+    public Object legacyInvalid() throws Exception {
+        String body = new String(rawBody, StandardCharsets.UTF_8);
+        if (legacyMatches(timestamp + "." + body, invalidSignature)) {
+            return Boolean.TRUE;
+        }
+        return verifier.diagnostics(timestamp, body, invalidSignature);
+    }
+
+    /* 변경 전: 후보 키마다 Mac.getInstance + init, 서명 문자열 디코딩 */
+    private static boolean legacyMatches(String canonical, String signature) throws Exception {
+        byte[] actual = Base64.getDecoder().decode(signature.trim());
+        byte[] utf8 = SECRET.getBytes(StandardCharsets.UTF_8);
+        if (MessageDigest.isEqual(legacyHmac(canonical, utf8), actual)) {
+            return true;
+        }
+        return MessageDigest.isEqual(legacyHmac(canonical, HexFormat.of().parseHex(SECRET)), actual);
+    }
+
+    private static byte[] legacyHmac(String canonical, byte[] key) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        return mac.doFinal(canonical.getBytes(StandardCharsets.UTF_8));
+    }
+}
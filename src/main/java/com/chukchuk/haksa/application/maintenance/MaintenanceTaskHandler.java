@@ -1,7 +1,12 @@
 package com.chukchuk.haksa.application.maintenance;
 
 import com.chukchuk.haksa.application.portal.ScrapeJobStaleReconciler;
-import com.chukchuk.haksa.domain.auth.service.RefreshTokenService;
+import com.chukchuk.haksa.domain.academic.record.service.StudentCoursePartitionService;
+import com.chukchuk.haksa.domain.auth.service.RefreshTokenCleanupService;
+import com.chukchuk.haksa.domain.lectureevaluations.service.CourseEvaluationStatsService;
+import com.chukchuk.haksa.global.common.search.SearchGramsBackfillService;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.infrastructure.cache.local.AcademicCacheSnapshotStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,15 +17,29 @@ import org.springframework.stereotype.Service;
 public class MaintenanceTaskHandler {
 
     private final ScrapeJobStaleReconciler scrapeJobStaleReconciler;
-    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenCleanupService refreshTokenCleanupService;
+    private final AcademicCacheSnapshotStore academicCacheSnapshotStore;
+    private final CourseEvaluationStatsService courseEvaluationStatsService;
+    private final SearchGramsBackfillService searchGramsBackfillService;
+    private final StudentCoursePartitionService studentCoursePartitionService;
 
     public MaintenanceTaskResult handle(MaintenanceTaskRequest request) {
         long startedAt = System.nanoTime();
         MaintenanceTaskType taskType = MaintenanceTaskType.from(request.task());
-        int affectedCount = switch (taskType) {
-            case SCRAPE_JOB_RECONCILE_STALE -> scrapeJobStaleReconciler.reconcileStaleQueuedJobs();
-            case REFRESH_TOKEN_CLEANUP -> refreshTokenService.deletedExpiredTokens();
-        };
+        int affectedCount;
+        try (QueryCounter.Scope ignored = QueryCounter.open(QueryCounter.ScopeType.MAINTENANCE, taskType.name())) {
+            affectedCount = switch (taskType) {
+                case SCRAPE_JOB_RECONCILE_STALE -> scrapeJobStaleReconciler.reconcileStaleQueuedJobs();
+                case REFRESH_TOKEN_CLEANUP -> refreshTokenCleanupService.cleanupExpiredTokens().deleted();
+                case ACADEMIC_CACHE_SNAPSHOT -> academicCacheSnapshotStore.save();
+                case COURSE_EVALUATION_STATS_REBUILD -> courseEvaluationStatsService.rebuildAll();
+                case SEARCH_GRAMS_BACKFILL -> searchGramsBackfillService.backfillAll();
+                case STUDENT_COURSES_PARTITION_BACKFILL -> studentCoursePartitionService.backfill();
+                case STUDENT_COURSES_PARTITION_SWAP -> studentCoursePartitionService.swap();
+                case STUDENT_COURSES_PARTITION_ROLLBACK -> studentCoursePartitionService.rollback();
+                case STUDENT_COURSES_PARTITION_CLEANUP -> studentCoursePartitionService.cleanup();
+            };
+        }
 
         long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
         log.info("[BIZ] maintenance.task.completed task={} scheduledAt={} affectedCount={} elapsed_ms={}",
@@ -6,7 +6,14 @@ import java.util.stream.Collectors;
 
 public enum MaintenanceTaskType {
     SCRAPE_JOB_RECONCILE_STALE,
-    REFRESH_TOKEN_CLEANUP;
+    REFRESH_TOKEN_CLEANUP,
+    ACADEMIC_CACHE_SNAPSHOT,
+    COURSE_EVALUATION_STATS_REBUILD,
+    SEARCH_GRAMS_BACKFILL,
+    STUDENT_COURSES_PARTITION_BACKFILL,
+    STUDENT_COURSES_PARTITION_SWAP,
+    STUDENT_COURSES_PARTITION_ROLLBACK,
+    STUDENT_COURSES_PARTITION_CLEANUP;
 
     private static final Map<String, MaintenanceTaskType> LOOKUP = Arrays.stream(values())
             .collect(Collectors.toUnmodifiableMap(Enum::name, taskType -> taskType));
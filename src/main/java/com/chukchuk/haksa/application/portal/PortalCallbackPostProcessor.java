@@ -5,6 +5,8 @@ import com.chukchuk.haksa.global.exception.code.ErrorCode;
 import com.chukchuk.haksa.global.exception.type.CommonException;
 import com.chukchuk.haksa.global.exception.type.EntityNotFoundException;
 import com.chukchuk.haksa.global.logging.sentry.SentryMdcContext;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.global.metrics.StageObserver;
 import com.chukchuk.haksa.infrastructure.portal.dto.raw.RawPortalData;
 import com.chukchuk.haksa.infrastructure.portal.exception.PortalScrapeException;
 import com.chukchuk.haksa.infrastructure.portal.mapper.PortalDataMapper;
@@ -29,15 +31,18 @@ public class PortalCallbackPostProcessor {
     private final ObjectMapper objectMapper;
     private final MeterRegistry meterRegistry;
     private final ScrapeResultCallbackTxService scrapeResultCallbackTxService;
+    private final StageObserver stageObserver;
 
     public PortalCallbackPostProcessor(
             ObjectMapper objectMapper,
             MeterRegistry meterRegistry,
-            ScrapeResultCallbackTxService scrapeResultCallbackTxService
+            ScrapeResultCallbackTxService scrapeResultCallbackTxService,
+            StageObserver stageObserver
     ) {
         this.objectMapper = objectMapper;
         this.meterRegistry = meterRegistry;
         this.scrapeResultCallbackTxService = scrapeResultCallbackTxService;
+        this.stageObserver = stageObserver;
     }
 
     public void process(
@@ -82,7 +87,7 @@ public class PortalCallbackPostProcessor {
         long startedAt = System.nanoTime();
         PortalData portalData;
         try {
-            portalData = toPortalData(payloadJson);
+            portalData = stageObserver.observe(StageObserver.CALLBACK, "payload_map", () -> toPortalData(payloadJson));
         } catch (JsonProcessingException e) {
             handleParsingFailure(jobId, userId, operationType, e.getOriginalMessage(), e);
             return;
@@ -94,8 +99,9 @@ public class PortalCallbackPostProcessor {
         String studentCode = portalData.student().studentCode();
         log.info("[BIZ] scrape.job.callback.postprocess.start jobId={} userId={} operationType={} studentCode={} attempt={} requestId={} payloadHash={}",
                 jobId, userId, operationType, studentCode, attempt, workerRequestId, payloadHash);
-        try {
-            scrapeResultCallbackTxService.completeSuccess(
+        // 트랜잭션 밖에서 범위를 열어 커밋 시 flush되는 INSERT/UPDATE까지 동기화 쿼리 수에 포함한다.
+        try (QueryCounter.Scope ignored = QueryCounter.open(QueryCounter.ScopeType.SYNC, String.valueOf(operationType))) {
+            stageObserver.run(StageObserver.CALLBACK, "sync_tx", () -> scrapeResultCallbackTxService.completeSuccess(
                     jobId,
                     userId,
                     operationType,
@@ -104,7 +110,7 @@ public class PortalCallbackPostProcessor {
                     finishedAt,
                     queuedAgeSeconds,
                     payloadHash
-            );
+            ));
             meterRegistry.counter("scrape.job.callback.postprocess.success").increment();
             long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
             meterRegistry.timer("scrape.job.callback.stage", "stage", "postprocess_tx")
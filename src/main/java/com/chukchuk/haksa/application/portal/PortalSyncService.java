@@ -10,6 +10,7 @@ import com.chukchuk.haksa.domain.user.service.UserService;
 import com.chukchuk.haksa.global.exception.code.ErrorCode;
 import com.chukchuk.haksa.global.logging.sanitize.LogSanitizer;
 import com.chukchuk.haksa.global.logging.annotation.LogTime;
+import com.chukchuk.haksa.global.metrics.StageObserver;
 import com.chukchuk.haksa.infrastructure.portal.exception.PortalScrapeException;
 import com.chukchuk.haksa.infrastructure.portal.model.PortalConnectionResult;
 import com.chukchuk.haksa.infrastructure.portal.model.PortalData;
@@ -32,11 +33,13 @@ public class PortalSyncService {
     private final UserService userService;
     private final StudentService studentService;
     private final StudentGraduationProgressService studentGraduationProgressService;
+    private final StageObserver stageObserver;
 
     @Transactional
     public ScrapingResponse syncWithPortal(UUID userId, PortalData portalData) {
         long t0 = LogTime.start();
-        User mergedUser = userService.tryMergeWithExistingUser(userId, portalData.student().studentCode());
+        User mergedUser = stageObserver.observe(StageObserver.SYNC, "user_merge",
+                () -> userService.tryMergeWithExistingUser(userId, portalData.student().studentCode()));
         UUID activeUserId = mergedUser.getId();
         if (Boolean.TRUE.equals(mergedUser.getPortalConnected())) {
             log.info("[BIZ] portal.sync.refresh_after_merge userId={} activeUserId={}", userId, activeUserId);
@@ -44,7 +47,8 @@ public class PortalSyncService {
         }
 
         // 1. 포털 초기화
-        PortalConnectionResult conn = initializePortalConnectionService.executeWithPortalData(activeUserId, portalData);
+        PortalConnectionResult conn = stageObserver.observe(StageObserver.SYNC, "portal_connection",
+                () -> initializePortalConnectionService.executeWithPortalData(activeUserId, portalData));
         if (!conn.isSuccess()) {
             log.warn("[BIZ] portal.sync.conn.fail userId={} msg={}", activeUserId, LogSanitizer.arg(conn.error()));
             throw new PortalScrapeException(ErrorCode.SCRAPING_FAILED);
@@ -76,7 +80,8 @@ public class PortalSyncService {
     @Transactional
     public ScrapingResponse refreshFromPortal(UUID userId, PortalData portalData) {
         long t0 = LogTime.start();
-        User mergedUser = userService.tryMergeWithExistingUser(userId, portalData.student().studentCode());
+        User mergedUser = stageObserver.observe(StageObserver.SYNC, "user_merge",
+                () -> userService.tryMergeWithExistingUser(userId, portalData.student().studentCode()));
         return refreshActiveUserFromPortal(userId, mergedUser, portalData, t0);
     }
 
@@ -84,7 +89,8 @@ public class PortalSyncService {
         UUID activeUserId = activeUser.getId();
 
         // 1. 포털 연동 정보 갱신
-        PortalConnectionResult conn = refreshPortalConnectionService.executeWithPortalData(activeUserId, portalData);
+        PortalConnectionResult conn = stageObserver.observe(StageObserver.SYNC, "portal_connection",
+                () -> refreshPortalConnectionService.executeWithPortalData(activeUserId, portalData));
         if (!conn.isSuccess()) {
             log.warn("[BIZ] portal.refresh.conn.fail userId={} msg={}", activeUserId, LogSanitizer.arg(conn.error()));
             throw new PortalScrapeException(ErrorCode.REFRESH_FAILED);
@@ -113,10 +119,12 @@ public class PortalSyncService {
     }
 
     private void syncLanguageCert(UUID activeUserId, PortalData portalData) {
-        Student student = studentService.getStudentByUserId(activeUserId);
-        studentGraduationProgressService.syncLanguageCert(
-                student,
-                portalData.student().languageCertFulfilled()
-        );
+        stageObserver.run(StageObserver.SYNC, "language_cert", () -> {
+            Student student = studentService.getStudentByUserId(activeUserId);
+            studentGraduationProgressService.syncLanguageCert(
+                    student,
+                    portalData.student().languageCertFulfilled()
+            );
+        });
     }
 }
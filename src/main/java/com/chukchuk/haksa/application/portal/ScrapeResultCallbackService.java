@@ -5,6 +5,8 @@ import com.chukchuk.haksa.global.exception.code.ErrorCode;
 import com.chukchuk.haksa.global.exception.type.CommonException;
 import com.chukchuk.haksa.global.exception.type.EntityNotFoundException;
 import com.chukchuk.haksa.global.logging.sentry.SentryMdcContext;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.global.metrics.StageObserver;
 import com.chukchuk.haksa.infrastructure.portal.client.ScrapeResultStoreClient;
 import com.chukchuk.haksa.infrastructure.portal.exception.ScrapeResultPayloadAccessException;
 import com.chukchuk.haksa.infrastructure.security.HmacSignatureVerifier;
@@ -18,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.Duration;
@@ -25,6 +28,7 @@ import java.time.Instant;
 import java.util.HexFormat;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -43,33 +47,35 @@ public class ScrapeResultCallbackService {
     private final HmacSignatureVerifier hmacSignatureVerifier;
     private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper;
+    private final StageObserver stageObserver;
 
     public void handleCallback(String rawBody, String timestamp, String signature, String attemptHeader, String workerRequestId) {
+        handleCallback(rawBody == null ? null : rawBody.getBytes(StandardCharsets.UTF_8), timestamp, signature, attemptHeader, workerRequestId);
+    }
+
+    public void handleCallback(byte[] rawBodyBytes, String timestamp, String signature, String attemptHeader, String workerRequestId) {
+        try (QueryCounter.Scope ignored = QueryCounter.open(QueryCounter.ScopeType.CALLBACK, "scrape.result")) {
+            stageObserver.run(StageObserver.CALLBACK, "handle", () -> {
+                stageObserver.attribute("payload_bytes", rawBodyBytes == null ? 0 : rawBodyBytes.length);
+                handleCallbackInScope(rawBodyBytes, timestamp, signature, attemptHeader, workerRequestId);
+            });
+        }
+    }
+
+    private void handleCallbackInScope(byte[] rawBodyBytes, String timestamp, String signature, String attemptHeader, String workerRequestId) {
         long startedAt = System.nanoTime();
-        String bodyHash = hashRawBody(rawBody);
-        String hintedJobId = extractJobId(rawBody);
 
-        try {
-            hmacSignatureVerifier.verify(timestamp, rawBody, signature);
-        } catch (CommonException exception) {
-            HmacSignatureVerifier.VerificationDiagnostics diagnostics =
-                    hmacSignatureVerifier.diagnostics(timestamp, rawBody, signature);
-            log.warn("[BIZ] scrape.job.callback.invalid_signature jobId={} signatureValid=false reason={} timestamp={} parsedTimestamp={} timestampDeltaSeconds={} rawBodyHash={} actualSignatureEncoding={} actualSignatureLength={} actualSignatureHash={} expectedUtf8SignatureHash={} expectedHexSignatureHash={}",
-                    hintedJobId,
-                    diagnostics.reason(),
-                    timestamp,
-                    diagnostics.parsedTimestamp(),
-                    diagnostics.timestampDeltaSeconds(),
-                    bodyHash,
-                    diagnostics.actualSignatureEncoding(),
-                    diagnostics.actualSignatureLength(),
-                    diagnostics.actualSignatureHash(),
-                    diagnostics.expectedUtf8SignatureHash(),
-                    diagnostics.expectedHexSignatureHash());
-            throw exception;
+        // 서명 검증은 요청 바이트 그대로 수행하고, 본문 해시/파싱은 검증 통과 후에만 한다.
+        HmacSignatureVerifier.VerificationResult verification = stageObserver.observe(StageObserver.CALLBACK, "hmac_verify",
+                () -> hmacSignatureVerifier.inspect(timestamp, rawBodyBytes, signature));
+        if (!verification.valid()) {
+            logInvalidSignature(rawBodyBytes, timestamp, signature, verification.reason());
+            throw new CommonException(ErrorCode.INVALID_CALLBACK_SIGNATURE);
         }
 
-        PortalLinkDto.ScrapeResultCallbackRequest request = parseRequest(rawBody, bodyHash);
+        String bodyHash = hashRawBody(rawBodyBytes);
+        PortalLinkDto.ScrapeResultCallbackRequest request = stageObserver.observe(StageObserver.CALLBACK, "request_parse",
+                () -> parseRequest(rawBodyBytes, bodyHash));
         int attempt = resolveAttempt(attemptHeader, request.attempt());
         String normalizedWorkerRequestId = normalizeWorkerRequestId(workerRequestId);
         String callbackMetadataJson = writeJson(request.metadata());
@@ -99,13 +105,47 @@ public class ScrapeResultCallbackService {
         throw new CommonException(ErrorCode.SCRAPE_INVALID_CALLBACK_REQUEST);
     }
 
-    private PortalLinkDto.ScrapeResultCallbackRequest parseRequest(String rawBody, String bodyHash) {
+    private void logInvalidSignature(
+            byte[] rawBodyBytes,
+            String timestamp,
+            String signature,
+            HmacSignatureVerifier.VerificationFailureReason reason
+    ) {
+        Optional<HmacSignatureVerifier.VerificationDiagnostics> sampled =
+                hmacSignatureVerifier.sampleDiagnostics(timestamp, rawBodyBytes, signature);
+        if (sampled.isEmpty()) {
+            log.warn("[BIZ] scrape.job.callback.invalid_signature signatureValid=false reason={} diagnostics=suppressed",
+                    reason);
+            return;
+        }
+
+        HmacSignatureVerifier.VerificationDiagnostics diagnostics = sampled.get();
+        String hintedJobId = rawBodyBytes == null ? "" : extractJobId(new String(rawBodyBytes, StandardCharsets.UTF_8));
+        log.warn("[BIZ] scrape.job.callback.invalid_signature jobId={} signatureValid=false reason={} timestamp={} parsedTimestamp={} timestampDeltaSeconds={} rawBodyHash={} actualSignatureEncoding={} actualSignatureLength={} actualSignatureHash={} expectedUtf8SignatureHash={} expectedHexSignatureHash={} suppressedSinceLast={}",
+                hintedJobId,
+                diagnostics.reason(),
+                timestamp,
+                diagnostics.parsedTimestamp(),
+                diagnostics.timestampDeltaSeconds(),
+                diagnostics.rawBodyHash(),
+                diagnostics.actualSignatureEncoding(),
+                diagnostics.actualSignatureLength(),
+                diagnostics.actualSignatureHash(),
+                diagnostics.expectedUtf8SignatureHash(),
+                diagnostics.expectedHexSignatureHash(),
+                diagnostics.suppressedFailures());
+    }
+
+    private PortalLinkDto.ScrapeResultCallbackRequest parseRequest(byte[] rawBody, String bodyHash) {
         try {
             return objectMapper.readValue(rawBody, PortalLinkDto.ScrapeResultCallbackRequest.class);
         } catch (JsonProcessingException e) {
             log.warn("[BIZ] scrape.job.callback.invalid_payload stage=request_parse rawBodyHash={} message={}",
                     bodyHash, e.getOriginalMessage());
             throw new CommonException(ErrorCode.SCRAPE_INVALID_CALLBACK_REQUEST, e);
+        } catch (IOException e) {
+            // byte[] 입력에서는 JSON 오류 외의 IOException이 나지 않지만 시그니처상 처리한다.
+            throw new CommonException(ErrorCode.SCRAPE_INVALID_CALLBACK_REQUEST, e);
         }
     }
 
@@ -121,13 +161,8 @@ public class ScrapeResultCallbackService {
     ) {
         validateResultKey(request.job_id(), request.result_s3_key());
         long receiptStartedAt = System.nanoTime();
-        ScrapeResultCallbackTxService.CallbackReceipt receipt = receiveSuccessCallback(
-                request,
-                callbackMetadataJson,
-                callbackReceivedAt,
-                attempt,
-                bodyHash
-        );
+        ScrapeResultCallbackTxService.CallbackReceipt receipt = stageObserver.observe(StageObserver.CALLBACK, "receipt",
+                () -> receiveSuccessCallback(request, callbackMetadataJson, callbackReceivedAt, attempt, bodyHash));
         SentryMdcContext.Context context = contextFor(receipt, workerRequestId);
         SentryMdcContext.bindToCurrentRequest(context);
         try (SentryMdcContext.MdcScope ignored = SentryMdcContext.open(context)) {
@@ -148,7 +183,8 @@ public class ScrapeResultCallbackService {
             try {
                 long s3StartedAt = System.nanoTime();
                 PayloadBundle payloadBundle = fetchAndNormalizePayload(request.result_s3_key());
-                verifyChecksum(request.resultChecksum(), payloadBundle.rawPayloadJson());
+                stageObserver.run(StageObserver.CALLBACK, "checksum",
+                        () -> verifyChecksum(request.resultChecksum(), payloadBundle.rawPayloadJson()));
                 logStage(
                         "payload_ready",
                         receipt.jobId(),
@@ -165,7 +201,7 @@ public class ScrapeResultCallbackService {
                         receipt.jobId(), attempt, workerRequestId, payloadHash);
 
                 long postProcessStartedAt = System.nanoTime();
-                portalCallbackPostProcessor.process(
+                stageObserver.run(StageObserver.CALLBACK, "postprocess", () -> portalCallbackPostProcessor.process(
                         receipt.jobId(),
                         receipt.userId(),
                         receipt.operationType(),
@@ -175,7 +211,7 @@ public class ScrapeResultCallbackService {
                         attempt,
                         workerRequestId,
                         payloadHash
-                );
+                ));
                 logStage(
                         "postprocess_committed",
                         receipt.jobId(),
@@ -245,14 +281,8 @@ public class ScrapeResultCallbackService {
             String bodyHash,
             long startedAt
     ) {
-        ScrapeResultCallbackTxService.CallbackReceipt receipt = receiveFailedCallback(
-                request,
-                callbackMetadataJson,
-                callbackReceivedAt,
-                finishedAt,
-                attempt,
-                bodyHash
-        );
+        ScrapeResultCallbackTxService.CallbackReceipt receipt = stageObserver.observe(StageObserver.CALLBACK, "receipt",
+                () -> receiveFailedCallback(request, callbackMetadataJson, callbackReceivedAt, finishedAt, attempt, bodyHash));
         SentryMdcContext.Context context = contextFor(receipt, workerRequestId);
         SentryMdcContext.bindToCurrentRequest(context);
         try (SentryMdcContext.MdcScope ignored = SentryMdcContext.open(context)) {
@@ -288,10 +318,16 @@ public class ScrapeResultCallbackService {
     }
 
     private PayloadBundle fetchAndNormalizePayload(String resultS3Key) throws JsonProcessingException {
-        String rawPayload = resultStoreClient.fetch(resultS3Key);
-        JsonNode original = objectMapper.readTree(rawPayload);
-        JsonNode normalized = normalizeNodeKeys(original);
-        return new PayloadBundle(rawPayload, writeJson(normalized));
+        String rawPayload = stageObserver.observe(StageObserver.CALLBACK, "s3_fetch", () -> {
+            String fetched = resultStoreClient.fetch(resultS3Key);
+            stageObserver.attribute("payload_chars", fetched == null ? 0 : fetched.length());
+            return fetched;
+        });
+        return stageObserver.observe(StageObserver.CALLBACK, "payload_normalize", () -> {
+            JsonNode original = objectMapper.readTree(rawPayload);
+            JsonNode normalized = normalizeNodeKeys(original);
+            return new PayloadBundle(rawPayload, writeJson(normalized));
+        });
     }
 
     private void handleDuplicate(
@@ -316,9 +352,13 @@ public class ScrapeResultCallbackService {
     }
 
     private String hashRawBody(String rawBody) {
+        return hashRawBody(rawBody.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String hashRawBody(byte[] rawBody) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            return HexFormat.of().formatHex(digest.digest(rawBody.getBytes(StandardCharsets.UTF_8)));
+            return HexFormat.of().formatHex(digest.digest(rawBody));
         } catch (Exception ignored) {
             return "";
         }
@@ -21,6 +21,7 @@ import com.chukchuk.haksa.domain.student.model.GradeType;
 import com.chukchuk.haksa.domain.student.model.Student;
 import com.chukchuk.haksa.domain.student.service.StudentService;
 import com.chukchuk.haksa.global.logging.annotation.LogTime;
+import com.chukchuk.haksa.global.metrics.StageObserver;
 import com.chukchuk.haksa.infrastructure.portal.mapper.AcademicRecordMapperFromPortal;
 import com.chukchuk.haksa.infrastructure.portal.model.*;
 import lombok.RequiredArgsConstructor;
@@ -48,6 +49,7 @@ public class SyncAcademicRecordService {
     private final ProfessorService professorService;
     private final CourseService courseService;
     private final StudentCourseBulkRepository studentCourseBulkRepository;
+    private final StageObserver stageObserver;
     private static final String DEFAULT_PROFESSOR_NAME = "미확인 교수";
 
     @Transactional
@@ -85,17 +87,28 @@ public class SyncAcademicRecordService {
     }
 
     private SyncStats sync(UUID userId, PortalData portalData, boolean isInitial) {
+        return stageObserver.observe(StageObserver.SYNC, "academic_sync", () -> {
+            stageObserver.attribute("mode", isInitial ? "initial" : "refresh");
+            return syncStages(userId, portalData, isInitial);
+        });
+    }
+
+    private SyncStats syncStages(UUID userId, PortalData portalData, boolean isInitial) {
         long totalStartNs = System.nanoTime();
         Student student = studentService.getStudentByUserId(userId);
         UUID studentId = student.getId();
 
         long academicStartNs = System.nanoTime();
-        AcademicRecord academicRecord = AcademicRecordMapperFromPortal.fromPortalAcademicData(studentId, portalData.academic());
-        if (isInitial) {
-            academicRecordRepository.insertAllAcademicRecords(academicRecord, student);
-        } else {
-            academicRecordRepository.updateChangedAcademicRecords(academicRecord, student);
-        }
+        stageObserver.run(StageObserver.SYNC, "academic_records", () -> {
+            AcademicRecord academicRecord = AcademicRecordMapperFromPortal.fromPortalAcademicData(studentId, portalData.academic());
+            List<SemesterCourseInfo> semesters = portalData.academic().semesters();
+            stageObserver.attribute("semesters", semesters == null ? 0 : semesters.size());
+            if (isInitial) {
+                academicRecordRepository.insertAllAcademicRecords(academicRecord, student);
+            } else {
+                academicRecordRepository.updateChangedAcademicRecords(academicRecord, student);
+            }
+        });
         long academicMs = elapsedMs(academicStartNs);
 
         // 1) 포털 수강 기록 수집
@@ -104,9 +117,14 @@ public class SyncAcademicRecordService {
         List<CourseEnrollment> newEnrollments = processingResult.enrollments();
         Map<Long, CourseOffering> offerings = processingResult.offeringById();
         long offeringFetchMs = processingResult.offeringFetchMs();
+        stageObserver.attribute("courses", newEnrollments.size());
 
         // 2) 기존 수강 기록
-        List<StudentCourse> existingEnrollments = studentCourseRepository.findByStudent(student);
+        List<StudentCourse> existingEnrollments = stageObserver.observe(StageObserver.SYNC, "enrollment_load", () -> {
+            List<StudentCourse> loaded = studentCourseRepository.findByStudent(student);
+            stageObserver.attribute("rows", loaded.size());
+            return loaded;
+        });
         Set<Long> existingOfferingIds = existingEnrollments.stream()
                 .map(sc -> sc.getOffering().getId())
                 .collect(Collectors.toSet());
@@ -123,15 +141,19 @@ public class SyncAcademicRecordService {
         markLectureEvaluationStatusFromSnapshot(studentId, newEnrollments, offerings);
 
         // 2-2) 기존 DB 레코드 갱신 (성적 / 점수 / 재수강 삭제 여부)
-        List<StudentCourse> toUpdate = new ArrayList<>();
-        for (StudentCourse studentCourse : existingEnrollments) {
-            CourseEnrollment portalEnrollment = portalEnrollmentMap.get(studentCourse.getOffering().getId());
-            if (portalEnrollment == null || !studentCourse.isDifferentFrom(portalEnrollment)) {
-                continue;
+        List<StudentCourse> toUpdate = stageObserver.observe(StageObserver.SYNC, "enrollment_diff", () -> {
+            List<StudentCourse> changed = new ArrayList<>();
+            for (StudentCourse studentCourse : existingEnrollments) {
+                CourseEnrollment portalEnrollment = portalEnrollmentMap.get(studentCourse.getOffering().getId());
+                if (portalEnrollment == null || !studentCourse.isDifferentFrom(portalEnrollment)) {
+                    continue;
+                }
+                studentCourse.updateFromPortal(portalEnrollment);
+                changed.add(studentCourse);
             }
-            studentCourse.updateFromPortal(portalEnrollment);
-            toUpdate.add(studentCourse);
-        }
+            stageObserver.attribute("to_update", changed.size());
+            return changed;
+        });
 
         // 3) 신규 수강 기록 저장 (offeringId 기준 중복 방지)
         long offeringMappingStartNs = System.nanoTime();
@@ -152,7 +174,10 @@ public class SyncAcademicRecordService {
         long insertMs = 0L;
         if (!newStudentCourses.isEmpty()) {
             long insertStartNs = System.nanoTime();
-            studentCourseBulkRepository.insertAll(newStudentCourses);
+            stageObserver.run(StageObserver.SYNC, "enrollment_insert", () -> {
+                stageObserver.attribute("rows", newStudentCourses.size());
+                studentCourseBulkRepository.insertAll(newStudentCourses);
+            });
             insertMs = elapsedMs(insertStartNs);
         }
 
@@ -161,7 +186,8 @@ public class SyncAcademicRecordService {
 
         // 4) 포털에 없는 offeringId는 제거 (기존 로직 유지)
         long deleteStartNs = System.nanoTime();
-        int removed = removeDeletedEnrollments(student, newEnrollments, existingEnrollments);
+        int removed = stageObserver.observe(StageObserver.SYNC, "enrollment_delete",
+                () -> removeDeletedEnrollments(student, newEnrollments, existingEnrollments));
         long deleteMs = elapsedMs(deleteStartNs);
 
         SyncStats stats = new SyncStats();
@@ -199,12 +225,18 @@ public class SyncAcademicRecordService {
                 .collect(Collectors.toSet());
         professorNames.add(DEFAULT_PROFESSOR_NAME);
         long professorLoadStart = System.nanoTime();
-        Map<String, Professor> professors = professorService.getOrCreateAll(professorNames);
+        Map<String, Professor> professors = stageObserver.observe(StageObserver.SYNC, "professor_resolve", () -> {
+            stageObserver.attribute("professors", professorNames.size());
+            return professorService.getOrCreateAll(professorNames);
+        });
         long professorMapMs = elapsedMs(professorLoadStart);
 
         Map<String, String> courseCodeToName = extractCourseNames(curriculumData, mergedOfferings);
         long courseLoadStart = System.nanoTime();
-        Map<String, Course> courses = courseService.getOrCreateCourses(courseCodeToName);
+        Map<String, Course> courses = stageObserver.observe(StageObserver.SYNC, "course_resolve", () -> {
+            stageObserver.attribute("courses", courseCodeToName.size());
+            return courseService.getOrCreateCourses(courseCodeToName);
+        });
         long courseMapMs = elapsedMs(courseLoadStart);
 
         List<CreateOfferingCommand> offeringCommands = new ArrayList<>();
@@ -255,7 +287,10 @@ public class SyncAcademicRecordService {
 
         long offeringLoadStart = System.nanoTime();
         Map<CourseOfferingService.CourseOfferingKey, CourseOffering> offeringEntities =
-                courseOfferingService.getOrCreateAll(offeringCommands);
+                stageObserver.observe(StageObserver.SYNC, "offering_resolve", () -> {
+                    stageObserver.attribute("offerings", offeringCommands.size());
+                    return courseOfferingService.getOrCreateAll(offeringCommands);
+                });
         long courseGetOrCreateMs = elapsedMs(offeringLoadStart);
 
         long offeringFetchStart = System.nanoTime();
@@ -370,7 +405,7 @@ public class SyncAcademicRecordService {
                     .filter(Objects::nonNull)
                     .toList();
             if (!ids.isEmpty()) {
-                studentCourseRepository.deleteAllByIdInBatch(ids);
+                studentCourseRepository.deleteOwnedByStudentIdAndIdIn(student.getId(), ids);
             }
         }
 
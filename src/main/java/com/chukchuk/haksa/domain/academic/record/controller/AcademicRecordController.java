@@ -1,11 +1,11 @@
 package com.chukchuk.haksa.domain.academic.record.controller;
 
 import com.chukchuk.haksa.domain.academic.record.controller.docs.AcademicRecordControllerDocs;
-import com.chukchuk.haksa.domain.academic.record.dto.AcademicRecordResponse;
 import com.chukchuk.haksa.domain.academic.record.service.AcademicRecordService;
 import com.chukchuk.haksa.domain.academic.record.service.StudentAcademicRecordService;
+import com.chukchuk.haksa.domain.cache.AcademicResponseCache;
+import com.chukchuk.haksa.domain.student.dto.StudentDataVersion;
 import com.chukchuk.haksa.domain.student.service.StudentService;
-import com.chukchuk.haksa.global.common.response.SuccessResponse;
 import com.chukchuk.haksa.global.logging.annotation.LogTime;
 import com.chukchuk.haksa.global.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +19,6 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.UUID;
 
-import static com.chukchuk.haksa.domain.academic.record.dto.StudentAcademicRecordDto.AcademicSummaryResponse;
 import static com.chukchuk.haksa.global.logging.config.LoggingThresholds.SLOW_MS;
 
 @Slf4j
@@ -31,39 +30,52 @@ public class AcademicRecordController implements AcademicRecordControllerDocs {
     private final AcademicRecordService academicRecordService;
     private final StudentAcademicRecordService studentAcademicRecordService;
     private final StudentService studentService;
+    private final AcademicResponseCache academicResponseCache;
 
     @GetMapping("/record")
-    public ResponseEntity<SuccessResponse<AcademicRecordResponse>> getAcademicRecord(
+    public ResponseEntity<byte[]> getAcademicRecord(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam Integer year,
             @RequestParam Integer semester) {
 
         long t0 = LogTime.start();
-        UUID studentId = studentService.getRequiredStudentIdByUserId(userDetails.getId());
+        StudentDataVersion dataVersion = studentService.getRequiredStudentDataVersionByUserId(userDetails.getId());
+        UUID studentId = dataVersion.studentId();
 
-        AcademicRecordResponse response = academicRecordService.getAcademicRecord(studentId, year, semester);
+        ResponseEntity<byte[]> response = academicResponseCache.ok(
+                studentId,
+                dataVersion.version(),
+                "record:" + year + ":" + semester,
+                () -> academicRecordService.getAcademicRecord(studentId, year, semester)
+        );
 
         long tookMs = LogTime.elapsedMs(t0);
         if (tookMs >= SLOW_MS) {
             log.info("[BIZ] academic.record.done studentId={} year={} semester={} took_ms={}",
                     studentId, year, semester, tookMs);
         }
-        return ResponseEntity.ok(SuccessResponse.of(response));
+        return response;
     }
 
     @GetMapping("/summary")
-    public ResponseEntity<SuccessResponse<AcademicSummaryResponse>> getAcademicSummary(
+    public ResponseEntity<byte[]> getAcademicSummary(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
         long t0 = LogTime.start();
-        UUID studentId = studentService.getRequiredStudentIdByUserId(userDetails.getId());
+        StudentDataVersion dataVersion = studentService.getRequiredStudentDataVersionByUserId(userDetails.getId());
+        UUID studentId = dataVersion.studentId();
 
-        AcademicSummaryResponse response = studentAcademicRecordService.getAcademicSummary(studentId);
+        ResponseEntity<byte[]> response = academicResponseCache.ok(
+                studentId,
+                dataVersion.version(),
+                "summary",
+                () -> studentAcademicRecordService.getAcademicSummary(studentId)
+        );
 
         long tookMs = LogTime.elapsedMs(t0);
         if (tookMs >= SLOW_MS) {
             log.info("[BIZ] academic.summary.done studentId={} took_ms={}", studentId, tookMs);
         }
-        return ResponseEntity.ok(SuccessResponse.of(response));
+        return response;
     }
 }
@@ -1,9 +1,7 @@
 package com.chukchuk.haksa.domain.academic.record.controller.docs;
 
-import com.chukchuk.haksa.domain.academic.record.dto.AcademicRecordResponse;
 import com.chukchuk.haksa.domain.academic.record.wrapper.AcademicRecordApiResponse;
 import com.chukchuk.haksa.domain.academic.record.wrapper.AcademicSummaryApiResponse;
-import com.chukchuk.haksa.global.common.response.SuccessResponse;
 import com.chukchuk.haksa.global.common.response.wrapper.ErrorResponseWrapper;
 import com.chukchuk.haksa.global.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,8 +14,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import static com.chukchuk.haksa.domain.academic.record.dto.StudentAcademicRecordDto.AcademicSummaryResponse;
-
 public interface AcademicRecordControllerDocs {
 
     @Operation(
@@ -26,6 +22,7 @@ public interface AcademicRecordControllerDocs {
             responses = {
                     @ApiResponse(responseCode = "200", description = "지정 학기 성적 및 수강 과목 조회 성공",
                             content = @Content(schema = @Schema(implementation = AcademicRecordApiResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 본문이 같음 (본문 없음)"),
                     @ApiResponse(responseCode = "401", description = "인증 실패",
                             content = @Content(schema = @Schema(implementation = ErrorResponseWrapper.class))),
                     @ApiResponse(responseCode = "404", description = "해당 학기 성적 데이터 없음 (A01)",
@@ -35,7 +32,7 @@ public interface AcademicRecordControllerDocs {
             }
     )
     @SecurityRequirement(name = "bearerAuth")
-    ResponseEntity<SuccessResponse<AcademicRecordResponse>> getAcademicRecord(
+    ResponseEntity<byte[]> getAcademicRecord(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam @Parameter(description = "연도", example = "2024", required = true) Integer year,
             @RequestParam @Parameter(description = "학기", example = "10, 15, 20 ...", required = true) Integer semester
@@ -47,6 +44,7 @@ public interface AcademicRecordControllerDocs {
             responses = {
                     @ApiResponse(responseCode = "200", description = "학업 요약 정보 조회 성공",
                             content = @Content(schema = @Schema(implementation = AcademicSummaryApiResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 본문이 같음 (본문 없음)"),
                     @ApiResponse(responseCode = "401", description = "인증 실패",
                             content = @Content(schema = @Schema(implementation = ErrorResponseWrapper.class))),
                     @ApiResponse(responseCode = "404", description = "학업 요약 정보 없음 또는 사용자 정보 없음 (U02, S01)",
@@ -56,7 +54,7 @@ public interface AcademicRecordControllerDocs {
             }
     )
     @SecurityRequirement(name = "bearerAuth")
-    ResponseEntity<SuccessResponse<AcademicSummaryResponse>> getAcademicSummary(
+    ResponseEntity<byte[]> getAcademicSummary(
             @AuthenticationPrincipal CustomUserDetails userDetails
     );
 }
@@ -8,17 +8,24 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
 import java.util.Objects;
+import java.util.UUID;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "student_courses")
+@Table(
+        name = "student_courses",
+        indexes = {
+                @Index(name = "idx_student_courses_student_id", columnList = "student_id")
+        }
+)
 public class StudentCourse {
 
     @Id
@@ -53,6 +60,15 @@ public class StudentCourse {
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
 
+    /**
+     * 해시 파티션 키 (V16, STUDENT_COURSES_PARTITION_SWAP 이후). Hibernate가 UPDATE/DELETE 조건에 함께 실어 파티션 하나만 건드린다.
+     * 컬럼 값은 student 연관이 쓰고, 이 필드는 저장 시점에 연관에서 채운다.
+     */
+    @Getter(AccessLevel.NONE)
+    @PartitionKey
+    @Column(name = "student_id", insertable = false, updatable = false)
+    private UUID studentId;
+
     public StudentCourse(
             Student student,
             CourseOffering offering,
@@ -76,6 +92,13 @@ public class StudentCourse {
     }
 
 
+    @PrePersist
+    private void fillPartitionKey() {
+        if (this.studentId == null && this.student != null) {
+            this.studentId = this.student.getId();
+        }
+    }
+
     public void setRetakeDeleted(Boolean aBoolean) {
         this.isRetakeDeleted = aBoolean;
     }
@@ -1,5 +1,6 @@
 package com.chukchuk.haksa.domain.academic.record.repository;
 
+import com.chukchuk.haksa.domain.academic.record.model.LectureEvaluationStatus;
 import com.chukchuk.haksa.domain.academic.record.model.SemesterAcademicRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,4 +47,22 @@ public interface SemesterAcademicRecordRepository extends JpaRepository<Semester
             @Param("year") Integer year,
             @Param("semester") Integer semester
     );
+
+    /**
+     * 강의평가 상태를 조건부로 바꾼다. 현재 상태가 expected일 때만 바꾸며, 동시 요청 중 먼저 바꾼 요청만 1을 받는다.
+     */
+    @Modifying
+    @Query("""
+        UPDATE SemesterAcademicRecord sar
+        SET sar.lectureEvaluationStatus = :target,
+            sar.updatedAt = :now
+        WHERE sar.id = :id
+          AND sar.lectureEvaluationStatus = :expected
+    """)
+    int updateLectureEvaluationStatus(
+            @Param("id") UUID id,
+            @Param("expected") LectureEvaluationStatus expected,
+            @Param("target") LectureEvaluationStatus target,
+            @Param("now") Instant now
+    );
 }
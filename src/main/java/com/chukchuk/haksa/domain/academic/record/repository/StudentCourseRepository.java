@@ -33,7 +33,9 @@ public interface StudentCourseRepository extends JpaRepository<StudentCourse, Lo
 
     void deleteByStudentId(UUID studentId);
 
-    @Modifying(clearAutomatically = true)
+    // 학생 소유 수강 이력 삭제 (동기화에서 빠진 이력, 관리자 테스트 계정 수정). student_id(파티션 키)를 함께 걸어 파티션 하나만 읽는다.
+    // 두 호출부 모두 삭제 뒤 같은 영속성 컨텍스트에서 수강 이력을 다시 읽지 않으므로 컨텍스트는 비우지 않는다.
+    @Modifying
     @Query("DELETE FROM StudentCourse sc WHERE sc.student.id = :studentId AND sc.id IN :ids")
     void deleteOwnedByStudentIdAndIdIn(@Param("studentId") UUID studentId, @Param("ids") List<Long> ids);
 
@@ -70,34 +70,20 @@ public class SemesterAcademicRecordService {
     }
 
     public List<SemesterSummaryResponse> getSemesterSummaries(UUID studentId) {
-        try {
-            List<SemesterSummaryResponse> cached = academicCache.getSemesterSummaries(studentId);
-            if (cached != null) {
-                return cached;
-            }
-        } catch (Exception e) {
-            log.warn("[BIZ] semester.summaries.cache.get.fail studentId={} ex={}", studentId, e.getClass().getSimpleName(), e);
-        }
+        return academicCache.getOrLoadSemesterSummaries(studentId, () -> loadSemesterSummaries(studentId));
+    }
 
+    private List<SemesterSummaryResponse> loadSemesterSummaries(UUID studentId) {
         List<SemesterAcademicRecord> records = semesterAcademicRecordRepository
                 .findByStudentIdOrderByYearDescSemesterDesc(studentId);
 
-        List<SemesterSummaryResponse> summaries = records.stream()
-                .map(SemesterSummaryResponse::from)
-                .toList();
-
         if (records.isEmpty()) {
             log.warn("[BIZ] semester.summaries.empty studentId={}", studentId);
-            return summaries;
         }
 
-        try {
-            academicCache.setSemesterSummaries(studentId, summaries);
-        } catch (Exception e) {
-            log.warn("[BIZ] semester.summaries.cache.set.fail studentId={} ex={}", studentId, e.getClass().getSimpleName(), e);
-        }
-
-        return summaries;
+        return records.stream()
+                .map(SemesterSummaryResponse::from)
+                .toList();
     }
 
 }
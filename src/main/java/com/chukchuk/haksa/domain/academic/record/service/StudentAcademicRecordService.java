@@ -30,15 +30,10 @@ public class StudentAcademicRecordService {
     private static final String AREA_GENERAL_ELECTIVE = "일선";
 
     public StudentAcademicRecordDto.AcademicSummaryResponse getAcademicSummary(UUID studentId) {
-        try {
-            StudentAcademicRecordDto.AcademicSummaryResponse cached = academicCache.getAcademicSummary(studentId);
-            if (cached != null) {
-                return cached;
-            }
-        } catch (Exception e) {
-            log.warn("[BIZ] academic.summary.cache.get.fail studentId={} ex={}", studentId, e.getClass().getSimpleName(), e);
-        }
+        return academicCache.getOrLoadAcademicSummary(studentId, () -> loadAcademicSummary(studentId));
+    }
 
+    private StudentAcademicRecordDto.AcademicSummaryResponse loadAcademicSummary(UUID studentId) {
         StudentAcademicRecord studentAcademicRecord = getStudentAcademicRecordByStudentId(studentId);
         Student student = studentAcademicRecord.getStudent();
 
@@ -50,15 +45,7 @@ public class StudentAcademicRecordService {
 
         Integer totalRequiredGraduationCredits = getGraduationCreditsWithCache(effectiveDepartmentId, secondaryMajorId, admissionYear);
 
-        StudentAcademicRecordDto.AcademicSummaryResponse response = StudentAcademicRecordDto.AcademicSummaryResponse.from(studentAcademicRecord, totalRequiredGraduationCredits);
-
-        try {
-            academicCache.setAcademicSummary(studentId, response);
-        } catch (Exception e) {
-            log.warn("[BIZ] academic.summary.cache.set.fail studentId={} ex={}", studentId, e.getClass().getSimpleName(), e);
-        }
-
-        return response;
+        return StudentAcademicRecordDto.AcademicSummaryResponse.from(studentAcademicRecord, totalRequiredGraduationCredits);
     }
 
     public StudentAcademicRecord getStudentAcademicRecordByStudentId(UUID studentId) {
@@ -0,0 +1,277 @@
+package com.chukchuk.haksa.domain.academic.record.service;
+
+import com.chukchuk.haksa.global.logging.annotation.LogTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * student_courses 해시 파티션 전환 (V16 이후 단계, PostgreSQL 전용)
+ *
+ * - V16은 빈 파티션 테이블(student_courses_partitioned)을 만들고 기존 테이블의 변경을 트리거로 옮겨 적는다.
+ * - backfill(): 기존 row를 id 순서로 BATCH_SIZE씩 복사하고 배치마다 커밋한다. (STUDENT_COURSES_PARTITION_BACKFILL)
+ *   이미 있는 row는 건너뛰므로 여러 번 실행해도 되고, 중간에 끊기면 다시 실행한다.
+ * - swap(): 점검 시간에 두 테이블을 잠그고 남은 차이를 맞춘 뒤 이름을 바꾼다. (STUDENT_COURSES_PARTITION_SWAP)
+ *   이전 테이블은 student_courses_unpartitioned로 남고, 파티션 테이블의 변경을 트리거로 받아 되돌릴 수 있게 유지된다.
+ * - rollback(): 교체를 되돌려 V16 직후 상태로 돌아간다. (STUDENT_COURSES_PARTITION_ROLLBACK)
+ * - cleanup(): 교체 결과를 확인한 뒤 이전 테이블과 역방향 트리거를 지운다. 이후에는 되돌릴 수 없다. (STUDENT_COURSES_PARTITION_CLEANUP)
+ * - 교체 후 id는 BEFORE INSERT 트리거가 항상 시퀀스에서 준다. 파티션 테이블에는 id 단독 UNIQUE를 둘 수 없으므로 이 방식으로 유일성을 지킨다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudentCoursePartitionService {
+
+    static final int BATCH_SIZE = 5_000;
+
+    /** 교체 시 잠금 아래에서 복사할 수 있는 최대 row 수. 넘으면 백필부터 다시 실행한다. */
+    static final int MAX_SWAP_CATCH_UP = 10_000;
+
+    private static final String COLUMNS =
+            "id, grade, points, is_retake, original_score, created_at, is_retake_deleted, offering_id, student_id";
+
+    private static final String BACKFILL_SQL = """
+            WITH batch AS (
+                SELECT %1$s
+                FROM public.student_courses
+                WHERE id > ?
+                ORDER BY id
+                LIMIT ?
+            ), copied AS (
+                INSERT INTO public.student_courses_partitioned (%1$s)
+                SELECT %1$s FROM batch
+                ON CONFLICT (id, student_id) DO NOTHING
+                RETURNING 1
+            )
+            SELECT (SELECT MAX(id) FROM batch) AS last_id, (SELECT COUNT(*) FROM copied) AS copied
+            """.formatted(COLUMNS);
+
+    private static final String COUNT_MISSING_SQL = """
+            SELECT COUNT(*)
+            FROM public.student_courses s
+            WHERE NOT EXISTS (
+                SELECT 1 FROM public.student_courses_partitioned t
+                WHERE t.id = s.id AND t.student_id = s.student_id
+            )
+            """;
+
+    private static final List<String> SWAP_DDL = List.of(
+            "DROP TRIGGER student_courses_mirror_to_partitioned ON public.student_courses",
+            // 이전 테이블은 되돌리기용 사본이다. 삭제 CTE에서 트리거 삭제와 FK 검사 순서가 엇갈리지 않도록 FK를 뗀다.
+            """
+            ALTER TABLE public.student_courses
+                DROP CONSTRAINT fk_student_courses_offering_id,
+                DROP CONSTRAINT fk_student_courses_student_id
+            """,
+            "ALTER TABLE public.student_courses RENAME TO student_courses_unpartitioned",
+            "ALTER TABLE public.student_courses_unpartitioned RENAME CONSTRAINT pk_student_courses TO pk_student_courses_unpartitioned",
+            "ALTER INDEX public.idx_student_courses_student_id RENAME TO idx_student_courses_unpartitioned_student_id",
+            "ALTER INDEX public.idx_student_courses_student_valid RENAME TO idx_student_courses_unpartitioned_student_valid",
+            "ALTER TABLE public.student_courses_partitioned RENAME TO student_courses",
+            "ALTER TABLE public.student_courses RENAME CONSTRAINT pk_student_courses_partitioned TO pk_student_courses",
+            "ALTER INDEX public.idx_student_courses_partitioned_student_id RENAME TO idx_student_courses_student_id",
+            "ALTER INDEX public.idx_student_courses_partitioned_student_valid RENAME TO idx_student_courses_student_valid",
+            """
+            SELECT setval('public.student_courses_partitioned_id_seq', COALESCE(MAX(id), 0) + 1, false)
+            FROM public.student_courses
+            """,
+            """
+            CREATE TRIGGER student_courses_assign_id
+                BEFORE INSERT ON public.student_courses
+                FOR EACH ROW EXECUTE FUNCTION public.student_courses_assign_id()
+            """,
+            """
+            CREATE TRIGGER student_courses_mirror_to_unpartitioned
+                AFTER INSERT OR UPDATE OR DELETE ON public.student_courses
+                FOR EACH ROW EXECUTE FUNCTION public.student_courses_mirror_to_unpartitioned()
+            """,
+            """
+            ALTER TABLE public.student_courses
+                ADD CONSTRAINT fk_student_courses_offering_id
+                FOREIGN KEY (offering_id) REFERENCES public.course_offerings (id)
+            """,
+            """
+            ALTER TABLE public.student_courses
+                ADD CONSTRAINT fk_student_courses_student_id
+                FOREIGN KEY (student_id) REFERENCES public.students (student_id)
+            """,
+            "ANALYZE public.student_courses"
+    );
+
+    private static final List<String> ROLLBACK_DDL = List.of(
+            "DROP TRIGGER student_courses_mirror_to_unpartitioned ON public.student_courses",
+            "DROP TRIGGER student_courses_assign_id ON public.student_courses",
+            """
+            ALTER TABLE public.student_courses
+                DROP CONSTRAINT fk_student_courses_offering_id,
+                DROP CONSTRAINT fk_student_courses_student_id
+            """,
+            "ALTER TABLE public.student_courses RENAME TO student_courses_partitioned",
+            "ALTER TABLE public.student_courses_partitioned RENAME CONSTRAINT pk_student_courses TO pk_student_courses_partitioned",
+            "ALTER INDEX public.idx_student_courses_student_id RENAME TO idx_student_courses_partitioned_student_id",
+            "ALTER INDEX public.idx_student_courses_student_valid RENAME TO idx_student_courses_partitioned_student_valid",
+            "ALTER TABLE public.student_courses_unpartitioned RENAME TO student_courses",
+            "ALTER TABLE public.student_courses RENAME CONSTRAINT pk_student_courses_unpartitioned TO pk_student_courses",
+            "ALTER INDEX public.idx_student_courses_unpartitioned_student_id RENAME TO idx_student_courses_student_id",
+            "ALTER INDEX public.idx_student_courses_unpartitioned_student_valid RENAME TO idx_student_courses_student_valid",
+            // 교체 중 들어온 row는 파티션 테이블의 시퀀스 값을 받았으므로 IDENTITY를 그 다음으로 옮긴다.
+            """
+            SELECT setval(pg_get_serial_sequence('public.student_courses', 'id'), COALESCE(MAX(id), 0) + 1, false)
+            FROM public.student_courses
+            """,
+            """
+            ALTER TABLE public.student_courses
+                ADD CONSTRAINT fk_student_courses_offering_id
+                FOREIGN KEY (offering_id) REFERENCES public.course_offerings (id)
+            """,
+            """
+            ALTER TABLE public.student_courses
+                ADD CONSTRAINT fk_student_courses_student_id
+                FOREIGN KEY (student_id) REFERENCES public.students (student_id)
+            """,
+            """
+            CREATE TRIGGER student_courses_mirror_to_partitioned
+                AFTER INSERT OR UPDATE OR DELETE ON public.student_courses
+                FOR EACH ROW EXECUTE FUNCTION public.student_courses_mirror_to_partitioned()
+            """,
+            "ANALYZE public.student_courses"
+    );
+
+    private static final List<String> CLEANUP_DDL = List.of(
+            "DROP TRIGGER student_courses_mirror_to_unpartitioned ON public.student_courses",
+            "DROP TABLE public.student_courses_unpartitioned",
+            "DROP FUNCTION public.student_courses_mirror_to_partitioned()",
+            "DROP FUNCTION public.student_courses_mirror_to_unpartitioned()"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 복사한 row 수 (트리거가 먼저 옮긴 row는 빠진다)
+     */
+    public int backfill() {
+        requireStage(Stage.STAGED);
+        long t0 = LogTime.start();
+        int copied = 0;
+        long lastId = 0;
+        while (true) {
+            Batch batch = jdbcTemplate.queryForObject(BACKFILL_SQL,
+                    (rs, rowNum) -> new Batch(rs.getObject("last_id", Long.class), rs.getInt("copied")),
+                    lastId, BATCH_SIZE);
+            if (batch == null || batch.lastId() == null) {
+                break;
+            }
+            copied += batch.copied();
+            lastId = batch.lastId();
+        }
+        log.info("[BIZ] student.courses.partition.backfill rows={} took_ms={}", copied, LogTime.elapsedMs(t0));
+        return copied;
+    }
+
+    /**
+     * @return 잠금 아래에서 맞춘 row 수 (지운 row + 복사한 row)
+     */
+    @Transactional
+    public int swap() {
+        requireStage(Stage.STAGED);
+        long t0 = LogTime.start();
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+        Integer missing = jdbcTemplate.queryForObject(COUNT_MISSING_SQL, Integer.class);
+        if (missing != null && missing > MAX_SWAP_CATCH_UP) {
+            throw new IllegalStateException("student_courses_partitioned is missing " + missing
+                    + " rows; run STUDENT_COURSES_PARTITION_BACKFILL before the swap");
+        }
+
+        jdbcTemplate.execute(
+                "LOCK TABLE public.student_courses, public.student_courses_partitioned IN ACCESS EXCLUSIVE MODE");
+        int reconciled = reconcile("student_courses", "student_courses_partitioned");
+        SWAP_DDL.forEach(jdbcTemplate::execute);
+        log.info("[BIZ] student.courses.partition.swap reconciled={} took_ms={}", reconciled, LogTime.elapsedMs(t0));
+        return reconciled;
+    }
+
+    /**
+     * @return 잠금 아래에서 맞춘 row 수
+     */
+    @Transactional
+    public int rollback() {
+        requireStage(Stage.SWAPPED);
+        long t0 = LogTime.start();
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+        jdbcTemplate.execute(
+                "LOCK TABLE public.student_courses, public.student_courses_unpartitioned IN ACCESS EXCLUSIVE MODE");
+        int reconciled = reconcile("student_courses", "student_courses_unpartitioned");
+        ROLLBACK_DDL.forEach(jdbcTemplate::execute);
+        log.info("[BIZ] student.courses.partition.rollback reconciled={} took_ms={}", reconciled, LogTime.elapsedMs(t0));
+        return reconciled;
+    }
+
+    /**
+     * @return 지운 이전 테이블의 row 수
+     */
+    @Transactional
+    public int cleanup() {
+        requireStage(Stage.SWAPPED);
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+        Integer dropped = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM public.student_courses_unpartitioned", Integer.class);
+        CLEANUP_DDL.forEach(jdbcTemplate::execute);
+        log.info("[BIZ] student.courses.partition.cleanup rows={}", dropped);
+        return dropped == null ? 0 : dropped;
+    }
+
+    /**
+     * target을 source와 같게 맞춘다. 값이 다르거나 source에 없는 row는 지우고, 없는 row는 복사한다.
+     * 백필 중 지워진 row를 백필이 예전 스냅숏으로 다시 넣은 경우 등이 여기서 정리된다.
+     */
+    private int reconcile(String source, String target) {
+        int deleted = jdbcTemplate.update("""
+                DELETE FROM public.%2$s t
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM public.%1$s s
+                    WHERE s.id = t.id
+                      AND s.student_id = t.student_id
+                      AND s.grade IS NOT DISTINCT FROM t.grade
+                      AND s.points IS NOT DISTINCT FROM t.points
+                      AND s.is_retake IS NOT DISTINCT FROM t.is_retake
+                      AND s.original_score IS NOT DISTINCT FROM t.original_score
+                      AND s.created_at IS NOT DISTINCT FROM t.created_at
+                      AND s.is_retake_deleted = t.is_retake_deleted
+                      AND s.offering_id = t.offering_id
+                )
+                """.formatted(source, target));
+        int inserted = jdbcTemplate.update("""
+                INSERT INTO public.%2$s (%3$s)
+                SELECT %3$s
+                FROM public.%1$s s
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM public.%2$s t
+                    WHERE t.id = s.id AND t.student_id = s.student_id
+                )
+                """.formatted(source, target, COLUMNS));
+        return deleted + inserted;
+    }
+
+    private void requireStage(Stage expected) {
+        Stage stage = jdbcTemplate.queryForObject("""
+                SELECT CASE
+                           WHEN to_regclass('public.student_courses_unpartitioned') IS NOT NULL THEN 'SWAPPED'
+                           WHEN to_regclass('public.student_courses_partitioned') IS NOT NULL THEN 'STAGED'
+                           ELSE 'NONE'
+                       END
+                """, (rs, rowNum) -> Stage.valueOf(rs.getString(1)));
+        if (stage != expected) {
+            throw new IllegalStateException("student_courses partition stage is " + stage + ", expected " + expected);
+        }
+    }
+
+    /** NONE: V16 전 또는 정리 후, STAGED: V16 적용(교체 전), SWAPPED: 교체 후 정리 전 */
+    private enum Stage {
+        NONE, STAGED, SWAPPED
+    }
+
+    private record Batch(Long lastId, int copied) {}
+}
@@ -16,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -45,6 +46,12 @@ public class AdminTestController implements AdminTestControllerDocs {
         return ResponseEntity.ok(SuccessResponse.of(accountService.createTestUser(request)));
     }
 
+    @Override
+    @DeleteMapping("/test-users")
+    public ResponseEntity<SuccessResponse<AdminTestDto.DeleteTestUsersResponse>> deleteTestUsers() {
+        return ResponseEntity.ok(SuccessResponse.of(accountService.deleteTestUsers()));
+    }
+
     @Override
     @GetMapping("/test-options")
     public ResponseEntity<SuccessResponse<AdminTestDto.TestOptionsResponse>> getTestOptions() {
@@ -61,19 +68,23 @@ public class AdminTestController implements AdminTestControllerDocs {
 
     @Override
     @GetMapping("/course-offerings")
-    public ResponseEntity<SuccessResponse<List<AdminTestDto.CourseOfferingOption>>> searchCourseOfferings(
+    public ResponseEntity<SuccessResponse<AdminTestDto.CourseOfferingPage>> searchCourseOfferings(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) FacultyDivision area,
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) Integer semester,
-            @RequestParam(required = false) Long departmentId
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
         AdminTestDto.CourseOfferingSearchRequest request = new AdminTestDto.CourseOfferingSearchRequest(
                 keyword,
                 area,
                 year,
                 semester,
-                departmentId
+                departmentId,
+                cursor,
+                size
         );
         return ResponseEntity.ok(SuccessResponse.of(optionService.searchCourseOfferings(request)));
     }
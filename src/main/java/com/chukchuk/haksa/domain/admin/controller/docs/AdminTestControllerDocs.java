@@ -18,19 +18,24 @@ public interface AdminTestControllerDocs {
     @Operation(summary = "테스트 계정 생성", description = "dev 환경에서 테스트 계정을 생성하고 JWT 토큰을 발급합니다.")
     ResponseEntity<SuccessResponse<AdminTestDto.TestUserResponse>> createTestUser(AdminTestDto.CreateTestUserRequest request);
 
+    @Operation(summary = "테스트 계정 일괄 삭제", description = "dev 환경에서 만든 테스트 계정과 연결된 학생 데이터를 한 번에 삭제합니다.")
+    ResponseEntity<SuccessResponse<AdminTestDto.DeleteTestUsersResponse>> deleteTestUsers();
+
     @Operation(summary = "테스트 조작 옵션 조회", description = "dev 환경에서 토큰 없이 학과와 졸업요건 영역 선택지를 조회합니다.")
     ResponseEntity<SuccessResponse<AdminTestDto.TestOptionsResponse>> getTestOptions();
 
-    @Operation(summary = "학과 검색", description = "dev 환경에서 토큰 없이 학과 코드와 학과명으로 학과 선택지를 검색합니다.")
+    @Operation(summary = "학과 검색", description = "dev 환경에서 토큰 없이 학과 코드와 학과명으로 학과 선택지를 검색합니다. 띄어쓰기와 대소문자는 무시하고 관련도 순으로 반환합니다.")
     ResponseEntity<SuccessResponse<List<AdminTestDto.DepartmentOption>>> searchDepartments(String keyword);
 
-    @Operation(summary = "강의 후보 조회", description = "dev 환경에서 토큰 없이 테스트 데이터에 추가할 개설강의 후보를 검색합니다.")
-    ResponseEntity<SuccessResponse<List<AdminTestDto.CourseOfferingOption>>> searchCourseOfferings(
+    @Operation(summary = "강의 후보 조회", description = "dev 환경에서 토큰 없이 테스트 데이터에 추가할 개설강의 후보를 관련도 순으로 검색합니다. 다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회합니다.")
+    ResponseEntity<SuccessResponse<AdminTestDto.CourseOfferingPage>> searchCourseOfferings(
             String keyword,
             com.chukchuk.haksa.domain.course.model.FacultyDivision area,
             Integer year,
             Integer semester,
-            Long departmentId
+            Long departmentId,
+            String cursor,
+            Integer size
     );
 
     @Operation(summary = "현재 계정 강의 데이터 수정", description = "현재 인증 계정의 졸업요건 강의 데이터를 추가하거나 삭제합니다.")
@@ -40,6 +40,12 @@ public class AdminTestDto {
     ) {
     }
 
+    @Schema(description = "테스트 계정 일괄 삭제 응답")
+    public record DeleteTestUsersResponse(
+            @Schema(description = "삭제된 테스트 계정 수") int deletedUserCount
+    ) {
+    }
+
     @Schema(description = "테스트 조작 옵션 응답")
     public record TestOptionsResponse(
             @Schema(description = "학과 목록") List<DepartmentOption> departments,
@@ -68,7 +74,25 @@ public class AdminTestDto {
             @Schema(description = "졸업요건 영역") FacultyDivision area,
             @Schema(description = "연도") Integer year,
             @Schema(description = "학기") Integer semester,
-            @Schema(description = "학과 ID. 선교처럼 학과 필터가 필요 없는 영역은 생략합니다.") Long departmentId
+            @Schema(description = "학과 ID. 선교처럼 학과 필터가 필요 없는 영역은 생략합니다.") Long departmentId,
+            @Schema(description = "이전 페이지 응답의 nextCursor. 비어 있으면 첫 페이지") String cursor,
+            @Schema(description = "페이지 크기. 비어 있으면 50, 최대 100", example = "50") Integer size
+    ) {
+        public CourseOfferingSearchRequest(
+                String keyword,
+                FacultyDivision area,
+                Integer year,
+                Integer semester,
+                Long departmentId
+        ) {
+            this(keyword, area, year, semester, departmentId, null, null);
+        }
+    }
+
+    @Schema(description = "강의 후보 검색 결과 페이지. 관련도(학수번호 일치 > 학수번호 접두어 > 과목명 접두어 > 포함 > 띄어쓰기/어순 차이) → 최신 학기 순")
+    public record CourseOfferingPage(
+            @Schema(description = "강의 후보 목록") List<CourseOfferingOption> items,
+            @Schema(description = "다음 페이지 커서. 마지막 페이지면 null") String nextCursor
     ) {
     }
 
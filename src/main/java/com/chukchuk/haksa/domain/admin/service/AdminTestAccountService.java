@@ -9,6 +9,7 @@ import com.chukchuk.haksa.domain.department.repository.DepartmentRepository;
 import com.chukchuk.haksa.domain.student.model.Student;
 import com.chukchuk.haksa.domain.student.model.StudentStatus;
 import com.chukchuk.haksa.domain.student.repository.StudentRepository;
+import com.chukchuk.haksa.domain.student.service.StudentDeletionService;
 import com.chukchuk.haksa.domain.user.model.User;
 import com.chukchuk.haksa.domain.user.repository.UserRepository;
 import com.chukchuk.haksa.global.exception.code.ErrorCode;
@@ -23,6 +24,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -32,16 +34,19 @@ public class AdminTestAccountService {
 
     private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
     private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+    private static final String TEST_EMAIL_PREFIX = "test_";
+    private static final String TEST_EMAIL_DOMAIN = "@cchaksa.dev";
 
     private final UserRepository userRepository;
     private final StudentRepository studentRepository;
     private final DepartmentRepository departmentRepository;
     private final JwtProvider jwtProvider;
     private final RefreshTokenService refreshTokenService;
+    private final StudentDeletionService studentDeletionService;
 
     public AdminTestDto.TestUserResponse createTestUser(AdminTestDto.CreateTestUserRequest request) {
         String suffix = createSuffix();
-        String email = "test_" + suffix + "@cchaksa.dev";
+        String email = TEST_EMAIL_PREFIX + suffix + TEST_EMAIL_DOMAIN;
         String studentCode = "test_" + suffix;
         String name = request.name() == null || request.name().isBlank() ? "프론트테스트" : request.name().trim();
         Department department = resolveDepartment(request.departmentId());
@@ -94,6 +99,15 @@ public class AdminTestAccountService {
         );
     }
 
+    /**
+     * 테스트 계정(test_*@cchaksa.dev)과 연결된 학생 데이터를 한 번에 정리한다.
+     */
+    public AdminTestDto.DeleteTestUsersResponse deleteTestUsers() {
+        List<UUID> userIds = userRepository.findIdsByEmailLike("test\\_%" + TEST_EMAIL_DOMAIN);
+        int deleted = studentDeletionService.deleteUsers(userIds).size();
+        return new AdminTestDto.DeleteTestUsersResponse(deleted);
+    }
+
     private Department resolveDepartment(Long departmentId) {
         if (departmentId != null) {
             return departmentRepository.findById(departmentId)
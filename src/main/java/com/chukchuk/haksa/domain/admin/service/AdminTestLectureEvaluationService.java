@@ -12,6 +12,7 @@ import com.chukchuk.haksa.domain.lectureevaluations.model.CourseEvaluation;
 import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
 import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationRepository;
 import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationTagRepository;
+import com.chukchuk.haksa.domain.lectureevaluations.service.CourseEvaluationStatsService;
 import com.chukchuk.haksa.domain.student.model.Grade;
 import com.chukchuk.haksa.domain.student.model.GradeType;
 import com.chukchuk.haksa.domain.student.model.Student;
@@ -46,10 +47,12 @@ public class AdminTestLectureEvaluationService {
     private final CourseEvaluationRepository courseEvaluationRepository;
     private final CourseEvaluationTagRepository courseEvaluationTagRepository;
     private final AcademicCache academicCache;
+    private final CourseEvaluationStatsService courseEvaluationStatsService;
 
     public void setEmptySemester() {
         Student student = getTargetStudent();
         clearTargetSemester(student.getId());
+        courseEvaluationStatsService.rebuildSemester(TARGET_YEAR, TARGET_SEMESTER);
         academicCache.deleteAllByStudentId(student.getId());
     }
 
@@ -79,6 +82,9 @@ public class AdminTestLectureEvaluationService {
         if (createEvaluations) {
             courseEvaluationRepository.saveAll(toCourseEvaluations(student, offerings));
         }
+        // 강의평가 원본을 직접 지우고 만들었으므로 증분 대신 대상 학기 집계를 다시 만든다.
+        courseEvaluationRepository.flush();
+        courseEvaluationStatsService.rebuildSemester(TARGET_YEAR, TARGET_SEMESTER);
         academicCache.deleteAllByStudentId(student.getId());
     }
 
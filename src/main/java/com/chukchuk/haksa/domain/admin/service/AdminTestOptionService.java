@@ -2,18 +2,21 @@
 package com.chukchuk.haksa.domain.admin.service;
 
 import com.chukchuk.haksa.domain.admin.dto.AdminTestDto;
-import com.chukchuk.haksa.domain.course.model.CourseOffering;
 import com.chukchuk.haksa.domain.course.model.FacultyDivision;
-import com.chukchuk.haksa.domain.course.repository.CourseOfferingRepository;
+import com.chukchuk.haksa.domain.course.repository.CourseOfferingSearchRepository;
 import com.chukchuk.haksa.domain.department.model.Department;
 import com.chukchuk.haksa.domain.department.repository.DepartmentRepository;
+import com.chukchuk.haksa.domain.department.repository.DepartmentSearchRepository;
+import com.chukchuk.haksa.global.common.search.SearchText;
 import com.chukchuk.haksa.global.exception.code.ErrorCode;
 import com.chukchuk.haksa.global.exception.type.CommonException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 
 @Service
@@ -21,8 +24,12 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class AdminTestOptionService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final DepartmentRepository departmentRepository;
-    private final CourseOfferingRepository courseOfferingRepository;
+    private final DepartmentSearchRepository departmentSearchRepository;
+    private final CourseOfferingSearchRepository courseOfferingSearchRepository;
 
     public AdminTestDto.TestOptionsResponse getTestOptions() {
         List<AdminTestDto.DepartmentOption> departments = departmentRepository.findAll().stream()
@@ -35,27 +42,42 @@ public class AdminTestOptionService {
     }
 
     public List<AdminTestDto.DepartmentOption> searchDepartments(String keyword) {
-        String normalizedKeyword = normalize(keyword);
-        List<Department> departments = normalizedKeyword == null
-                ? departmentRepository.findAll()
-                : departmentRepository.searchAdminDepartments(normalizedKeyword);
-        return departments.stream()
-                .map(this::toDepartmentOption)
+        String normalizedKeyword = SearchText.normalize(keyword);
+        if (normalizedKeyword == null) {
+            return departmentRepository.findAll().stream()
+                    .map(this::toDepartmentOption)
+                    .toList();
+        }
+        return departmentSearchRepository.search(normalizedKeyword).stream()
+                .map(match -> new AdminTestDto.DepartmentOption(match.id(), match.code(), match.name()))
                 .toList();
     }
 
-    public List<AdminTestDto.CourseOfferingOption> searchCourseOfferings(AdminTestDto.CourseOfferingSearchRequest request) {
+    public AdminTestDto.CourseOfferingPage searchCourseOfferings(AdminTestDto.CourseOfferingSearchRequest request) {
         String departmentName = resolveDepartmentName(request.departmentId());
+        int size = resolvePageSize(request.size());
 
-        return courseOfferingRepository.searchAdminCandidates(
-                        normalize(request.keyword()),
+        // 한 건 더 읽어 다음 페이지 존재 여부를 판단한다.
+        List<CourseOfferingSearchRepository.Candidate> candidates = courseOfferingSearchRepository.search(
+                new CourseOfferingSearchRepository.Query(
+                        SearchText.normalize(request.keyword()),
                         request.area(),
                         request.year(),
                         request.semester(),
-                        departmentName
-                ).stream()
-                .map(this::toCourseOfferingOption)
-                .toList();
+                        departmentName,
+                        decodeCursor(request.cursor()),
+                        size + 1
+                ));
+        boolean hasNext = candidates.size() > size;
+        List<CourseOfferingSearchRepository.Candidate> page = hasNext ? candidates.subList(0, size) : candidates;
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1).toCursor()) : null;
+
+        return new AdminTestDto.CourseOfferingPage(
+                page.stream()
+                        .map(this::toCourseOfferingOption)
+                        .toList(),
+                nextCursor
+        );
     }
 
     private AdminTestDto.DepartmentOption toDepartmentOption(Department department) {
@@ -66,27 +88,20 @@ public class AdminTestOptionService {
         );
     }
 
-    private AdminTestDto.CourseOfferingOption toCourseOfferingOption(CourseOffering offering) {
+    private AdminTestDto.CourseOfferingOption toCourseOfferingOption(CourseOfferingSearchRepository.Candidate candidate) {
         return new AdminTestDto.CourseOfferingOption(
-                offering.getId(),
-                offering.getCourse().getCourseCode(),
-                offering.getCourse().getCourseName(),
-                offering.getYear(),
-                offering.getSemester(),
-                offering.getPoints(),
-                offering.getFacultyDivisionName(),
-                offering.getRawFacultyDivisionName(),
-                resolveDepartmentName(offering)
+                candidate.offeringId(),
+                candidate.courseCode(),
+                candidate.courseName(),
+                candidate.year(),
+                candidate.semester(),
+                candidate.points(),
+                candidate.area(),
+                candidate.rawArea(),
+                candidate.departmentName()
         );
     }
 
-    private String resolveDepartmentName(CourseOffering offering) {
-        if (offering.getDepartment() != null) {
-            return offering.getDepartment().getEstablishedDepartmentName();
-        }
-        return offering.getHostDepartment();
-    }
-
     private String resolveDepartmentName(Long departmentId) {
         if (departmentId == null) {
             return null;
@@ -96,10 +111,39 @@ public class AdminTestOptionService {
                 .orElseThrow(() -> new CommonException(ErrorCode.INVALID_ARGUMENT));
     }
 
-    private String normalize(String keyword) {
-        if (keyword == null || keyword.isBlank()) {
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new CommonException(ErrorCode.INVALID_ARGUMENT);
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /** 커서는 마지막 행의 정렬 키를 "관련도:연도:학기:개설강의ID:과목명" 형태로 담은 base64url 문자열이다. */
+    private String encodeCursor(CourseOfferingSearchRepository.Cursor cursor) {
+        String raw = cursor.matchRank() + ":" + cursor.year() + ":" + cursor.semester() + ":"
+                + cursor.offeringId() + ":" + cursor.courseName();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CourseOfferingSearchRepository.Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
             return null;
         }
-        return keyword.trim();
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 5);
+            return new CourseOfferingSearchRepository.Cursor(
+                    Integer.parseInt(parts[0]),
+                    Integer.parseInt(parts[1]),
+                    Integer.parseInt(parts[2]),
+                    parts[4],
+                    Long.parseLong(parts[3])
+            );
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new CommonException(ErrorCode.INVALID_ARGUMENT);
+        }
     }
 }
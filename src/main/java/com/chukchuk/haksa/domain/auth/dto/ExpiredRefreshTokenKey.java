@@ -0,0 +1,9 @@
+package com.chukchuk.haksa.domain.auth.dto;
+
+import java.util.Date;
+
+/**
+ * 만료 토큰 정리용 keyset 키 (expiry, session_id)
+ */
+public record ExpiredRefreshTokenKey(String sessionId, Date expiry) {
+}
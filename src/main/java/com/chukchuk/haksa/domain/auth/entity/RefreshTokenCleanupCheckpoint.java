@@ -0,0 +1,55 @@
+package com.chukchuk.haksa.domain.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 만료 refresh token 정리 작업의 재개 지점
+ * - (expiry, session_id) 순으로 마지막으로 처리한 키를 저장한다.
+ * - 커서가 비어 있으면 처음부터 정리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "refresh_token_cleanup_checkpoint")
+public class RefreshTokenCleanupCheckpoint {
+
+    public static final String DEFAULT_ID = "refresh_token";
+
+    @Id
+    @Column(name = "id", nullable = false, length = 64)
+    private String id;
+
+    @Column(name = "cursor_expiry")
+    private Date cursorExpiry;
+
+    @Column(name = "cursor_session_id")
+    private String cursorSessionId;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public boolean hasCursor() {
+        return cursorExpiry != null && cursorSessionId != null;
+    }
+
+    public void advance(Date expiry, String sessionId, Instant now) {
+        this.cursorExpiry = expiry;
+        this.cursorSessionId = sessionId;
+        this.updatedAt = now;
+    }
+
+    public void reset(Instant now) {
+        this.cursorExpiry = null;
+        this.cursorSessionId = null;
+        this.updatedAt = now;
+    }
+}
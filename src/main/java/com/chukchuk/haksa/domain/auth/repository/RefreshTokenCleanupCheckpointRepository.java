@@ -0,0 +1,21 @@
+package com.chukchuk.haksa.domain.auth.repository;
+
+import com.chukchuk.haksa.domain.auth.entity.RefreshTokenCleanupCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface RefreshTokenCleanupCheckpointRepository extends JpaRepository<RefreshTokenCleanupCheckpoint, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select checkpoint
+            from RefreshTokenCleanupCheckpoint checkpoint
+            where checkpoint.id = :id
+            """)
+    Optional<RefreshTokenCleanupCheckpoint> findForUpdateById(@Param("id") String id);
+}
@@ -1,12 +1,51 @@
 package com.chukchuk.haksa.domain.auth.repository;
 
+import com.chukchuk.haksa.domain.auth.dto.ExpiredRefreshTokenKey;
 import com.chukchuk.haksa.domain.auth.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
-    int deleteByExpiryBefore(Date now);
+
+    /**
+     * (expiry, session_id) 순으로 커서 이후의 만료 토큰 키를 조회한다.
+     * - idx_refresh_token_expiry_session 인덱스 범위 스캔으로 처리된다.
+     */
+    @Query("""
+            select new com.chukchuk.haksa.domain.auth.dto.ExpiredRefreshTokenKey(token.sessionId, token.expiry)
+            from RefreshToken token
+            where token.expiry < :cutoff
+              and (token.expiry > :cursorExpiry
+                   or (token.expiry = :cursorExpiry and token.sessionId > :cursorSessionId))
+            order by token.expiry asc, token.sessionId asc
+            """)
+    List<ExpiredRefreshTokenKey> findExpiredKeysAfter(
+            @Param("cutoff") Date cutoff,
+            @Param("cursorExpiry") Date cursorExpiry,
+            @Param("cursorSessionId") String cursorSessionId,
+            Pageable pageable
+    );
+
+    /**
+     * 조회 이후 재발급으로 만료가 연장된 토큰은 지우지 않도록 만료 조건을 다시 확인한다.
+     */
+    @Modifying
+    @Query("""
+            delete from RefreshToken token
+            where token.sessionId in :sessionIds
+              and token.expiry < :cutoff
+            """)
+    int deleteExpiredBySessionIds(
+            @Param("sessionIds") Collection<String> sessionIds,
+            @Param("cutoff") Date cutoff
+    );
 }
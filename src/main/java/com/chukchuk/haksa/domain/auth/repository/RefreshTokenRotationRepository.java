@@ -0,0 +1,39 @@
+package com.chukchuk.haksa.domain.auth.repository;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * refresh token 검증 + 회전을 한 번의 UPDATE ... RETURNING으로 처리한다.
+ * - PostgreSQL 전용이다. 지원하지 않는 DB에서는 supportsSingleStatement()가 false를 반환한다.
+ */
+public interface RefreshTokenRotationRepository {
+
+    boolean supportsSingleStatement();
+
+    /**
+     * 저장된 토큰이 요청 토큰과 일치하고 사용자가 존재하면 회전(또는 해시 갱신) 후 결과를 반환한다.
+     * 조건을 만족하지 않으면 아무것도 변경하지 않고 빈 값을 반환한다.
+     */
+    Optional<RefreshTokenRotation> rotate(RefreshTokenRotationCommand command);
+
+    /**
+     * @param presentedHash 요청 토큰의 해시 (token_hash와 비교, 갱신하지 않을 때 저장)
+     * @param presentedRaw  해시 도입 이전 row(token 컬럼)와 비교할 원문
+     * @param renewBefore   저장된 만료가 이 시각 이전(또는 없음)이면 새 토큰으로 교체
+     */
+    record RefreshTokenRotationCommand(
+            String sessionId,
+            UUID userId,
+            String presentedHash,
+            String presentedRaw,
+            String renewedHash,
+            Date renewedExpiry,
+            Date renewBefore
+    ) {
+    }
+
+    record RefreshTokenRotation(String email, boolean renewed) {
+    }
+}
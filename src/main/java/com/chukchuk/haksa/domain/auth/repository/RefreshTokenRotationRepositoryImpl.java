@@ -0,0 +1,64 @@
+package com.chukchuk.haksa.domain.auth.repository;
+
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class RefreshTokenRotationRepositoryImpl implements RefreshTokenRotationRepository {
+
+    /*
+     * users와 조인해 사용자 존재 여부와 email을 함께 돌려받는다.
+     * 갱신이 필요 없으면 token_hash만 요청 토큰 해시로 맞춘다(해시 도입 이전 row 이관 포함).
+     */
+    private static final String ROTATE_SQL = """
+            UPDATE refresh_token rt
+            SET token = NULL,
+                token_hash = CASE WHEN rt.expiry IS NULL OR rt.expiry <= ? THEN ? ELSE ? END,
+                expiry = CASE WHEN rt.expiry IS NULL OR rt.expiry <= ? THEN ? ELSE rt.expiry END
+            FROM users u
+            WHERE rt.session_id = ?
+              AND u.id = ?
+              AND (rt.token_hash = ? OR (rt.token_hash IS NULL AND rt.token = ?))
+            RETURNING u.email, rt.token_hash = ? AS renewed
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    public RefreshTokenRotationRepositoryImpl(JdbcTemplate jdbcTemplate, DatabaseDialect databaseDialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+    }
+
+    @Override
+    public boolean supportsSingleStatement() {
+        return databaseDialect.isPostgres();
+    }
+
+    @Override
+    public Optional<RefreshTokenRotation> rotate(RefreshTokenRotationCommand command) {
+        Timestamp renewBefore = new Timestamp(command.renewBefore().getTime());
+        Timestamp renewedExpiry = new Timestamp(command.renewedExpiry().getTime());
+
+        List<RefreshTokenRotation> rows = jdbcTemplate.query(
+                ROTATE_SQL,
+                (rs, rowNum) -> new RefreshTokenRotation(rs.getString("email"), rs.getBoolean("renewed")),
+                renewBefore,
+                command.renewedHash(),
+                command.presentedHash(),
+                renewBefore,
+                renewedExpiry,
+                command.sessionId(),
+                command.userId(),
+                command.presentedHash(),
+                command.presentedRaw(),
+                command.renewedHash()
+        );
+        return rows.stream().findFirst();
+    }
+}
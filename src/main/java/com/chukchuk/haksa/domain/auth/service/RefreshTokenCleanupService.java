@@ -0,0 +1,69 @@
+package com.chukchuk.haksa.domain.auth.service;
+
+import com.chukchuk.haksa.domain.auth.service.RefreshTokenCleanupTxService.RefreshTokenCleanupChunk;
+import com.chukchuk.haksa.global.logging.annotation.LogTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+
+/**
+ * 만료 refresh token 정리
+ *
+ * - (expiry, session_id) keyset 순서로 chunkSize씩 나눠 각각 별도 트랜잭션으로 삭제한다.
+ * - timeBudgetMs를 넘기면 현재 청크까지만 처리하고 멈춘다. 다음 실행은 체크포인트부터 이어서 진행한다.
+ * - 한 번의 실행에서 삭제 대상 기준 시각(cutoff)은 고정한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenCleanupService {
+
+    private final RefreshTokenCleanupTxService cleanupTxService;
+
+    @Value("${maintenance.refresh-token-cleanup.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${maintenance.refresh-token-cleanup.time-budget-ms:20000}")
+    private long timeBudgetMs = 20000L;
+
+    public RefreshTokenCleanupResult cleanupExpiredTokens() {
+        long t0 = LogTime.start();
+        Date cutoff = new Date();
+
+        int deleted = 0;
+        int chunks = 0;
+        boolean completed = false;
+        while (true) {
+            RefreshTokenCleanupChunk chunk = cleanupTxService.deleteNextChunk(cutoff, chunkSize);
+            chunks++;
+            deleted += chunk.deleted();
+
+            if (chunk.scanned() < chunkSize) {
+                completed = true;
+                break;
+            }
+            if (LogTime.elapsedMs(t0) >= timeBudgetMs) {
+                break;
+            }
+        }
+
+        long tookMs = LogTime.elapsedMs(t0);
+        RefreshTokenCleanupResult result = new RefreshTokenCleanupResult(deleted, chunks, completed, tookMs);
+        log.info("[BIZ] auth.refresh.cleanup.deleted count={} chunks={} chunkSize={} completed={} took_ms={} rows_per_sec={}",
+                deleted, chunks, chunkSize, completed, tookMs, String.format("%.1f", result.rowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * @param completed false면 시간 예산 때문에 중단된 것으로, 다음 실행이 체크포인트부터 이어서 처리한다.
+     */
+    public record RefreshTokenCleanupResult(int deleted, int chunks, boolean completed, long tookMs) {
+
+        public double rowsPerSecond() {
+            return tookMs == 0 ? deleted : deleted * 1000.0 / tookMs;
+        }
+    }
+}
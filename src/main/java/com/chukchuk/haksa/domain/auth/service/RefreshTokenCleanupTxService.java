@@ -0,0 +1,66 @@
+package com.chukchuk.haksa.domain.auth.service;
+
+import com.chukchuk.haksa.domain.auth.dto.ExpiredRefreshTokenKey;
+import com.chukchuk.haksa.domain.auth.entity.RefreshTokenCleanupCheckpoint;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenCleanupCheckpointRepository;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 만료 토큰 정리의 청크 단위 트랜잭션
+ * - 청크 하나 = 트랜잭션 하나. 행 잠금은 청크 크기만큼만, 커밋 시점까지만 유지된다.
+ * - 체크포인트 갱신도 같은 트랜잭션에서 처리하므로 삭제와 커서가 어긋나지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenCleanupTxService {
+
+    private static final Date CURSOR_START_EXPIRY = new Date(0L);
+    private static final String CURSOR_START_SESSION_ID = "";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenCleanupCheckpointRepository checkpointRepository;
+
+    /**
+     * @return 이번 청크에서 조회/삭제한 건수. 조회 건수가 chunkSize보다 작으면 커서 이후로 남은 만료 토큰이 없다.
+     */
+    @Transactional
+    public RefreshTokenCleanupChunk deleteNextChunk(Date cutoff, int chunkSize) {
+        Instant now = Instant.now();
+        // 행은 V15가 만들어 두므로 여기서는 잠그기만 한다. (동시 첫 실행의 INSERT 경합 방지)
+        RefreshTokenCleanupCheckpoint checkpoint = checkpointRepository
+                .findForUpdateById(RefreshTokenCleanupCheckpoint.DEFAULT_ID)
+                .orElseThrow(() -> new IllegalStateException("refresh token cleanup checkpoint row is missing"));
+
+        List<ExpiredRefreshTokenKey> keys = refreshTokenRepository.findExpiredKeysAfter(
+                cutoff,
+                checkpoint.hasCursor() ? checkpoint.getCursorExpiry() : CURSOR_START_EXPIRY,
+                checkpoint.hasCursor() ? checkpoint.getCursorSessionId() : CURSOR_START_SESSION_ID,
+                PageRequest.of(0, chunkSize)
+        );
+
+        if (keys.isEmpty()) {
+            // 커서 이전 구간은 모두 지워졌으므로 다음 실행은 처음부터 다시 훑는다.
+            checkpoint.reset(now);
+            return new RefreshTokenCleanupChunk(0, 0);
+        }
+
+        int deleted = refreshTokenRepository.deleteExpiredBySessionIds(
+                keys.stream().map(ExpiredRefreshTokenKey::sessionId).toList(),
+                cutoff
+        );
+        ExpiredRefreshTokenKey last = keys.get(keys.size() - 1);
+        checkpoint.advance(last.expiry(), last.sessionId(), now);
+        return new RefreshTokenCleanupChunk(keys.size(), deleted);
+    }
+
+    public record RefreshTokenCleanupChunk(int scanned, int deleted) {
+    }
+}
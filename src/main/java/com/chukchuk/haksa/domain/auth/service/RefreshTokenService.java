@@ -3,6 +3,9 @@ package com.chukchuk.haksa.domain.auth.service;
 import com.chukchuk.haksa.domain.auth.dto.AuthDto;
 import com.chukchuk.haksa.domain.auth.entity.RefreshToken;
 import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRepository;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRotationRepository;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRotationRepository.RefreshTokenRotation;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRotationRepository.RefreshTokenRotationCommand;
 import com.chukchuk.haksa.domain.user.model.User;
 import com.chukchuk.haksa.domain.user.repository.UserRepository;
 import com.chukchuk.haksa.global.exception.type.EntityNotFoundException;
@@ -18,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 import static com.chukchuk.haksa.global.logging.config.LoggingThresholds.SLOW_MS;
@@ -31,6 +35,8 @@ public class RefreshTokenService {
     private final JwtProvider jwtProvider;
     private final UserRepository userRepository;
     private final RefreshTokenHasher refreshTokenHasher;
+    private final RefreshTokenRotationRepository refreshTokenRotationRepository;
+    private final RevokedRefreshTokenCache revokedRefreshTokenCache;
 
     @Value("${security.jwt.refresh-renewal-threshold:604800000}")
     private long refreshTokenRenewalThresholdMs = 604800000L;
@@ -52,6 +58,54 @@ public class RefreshTokenService {
         String userId = claims.getSubject();
         String sessionId = resolveSessionId(claims, userId);
 
+        AuthDto.RefreshResponse response = refreshTokenRotationRepository.supportsSingleStatement()
+                ? reissueInSingleStatement(refreshToken, userId, sessionId)
+                : reissueWithLookups(refreshToken, userId, sessionId);
+
+        long tookMs = LogTime.elapsedMs(t0);
+        if (tookMs >= SLOW_MS) {
+            log.info("[BIZ] auth.refresh.issued userId={} took_ms={}", userId, tookMs);
+        }
+        return response;
+    }
+
+    /**
+     * 검증(토큰 일치 + 사용자 존재)과 회전을 UPDATE ... RETURNING 한 문장으로 처리한다.
+     * - 새 refresh token은 미리 만들어 두고, 갱신 대상일 때만 DB에 반영/응답한다.
+     * - 실패한 경우에만 원인 분류를 위해 추가 조회하고, 결과를 음성 캐시에 남긴다.
+     */
+    private AuthDto.RefreshResponse reissueInSingleStatement(String refreshToken, String userId, String sessionId) {
+        String presentedHash = refreshTokenHasher.hash(refreshToken);
+        Optional<ErrorCode> revoked = revokedRefreshTokenCache.find(presentedHash);
+        if (revoked.isPresent()) {
+            log.warn("[BIZ] auth.refresh.revoked_cached userId={} sessionId={} reason={}",
+                    userId, sessionId, revoked.get().code());
+            throw rejection(revoked.get());
+        }
+
+        AuthDto.RefreshTokenWithExpiry candidate = jwtProvider.createRefreshToken(userId, sessionId);
+        Optional<RefreshTokenRotation> rotation = refreshTokenRotationRepository.rotate(new RefreshTokenRotationCommand(
+                sessionId,
+                UUID.fromString(userId),
+                presentedHash,
+                refreshToken,
+                refreshTokenHasher.hash(candidate.token()),
+                candidate.expiry(),
+                new Date(System.currentTimeMillis() + refreshTokenRenewalThresholdMs)
+        ));
+
+        if (rotation.isEmpty()) {
+            ErrorCode reason = classifyRejection(refreshToken, userId, sessionId);
+            revokedRefreshTokenCache.put(presentedHash, reason);
+            throw rejection(reason);
+        }
+
+        String newAccessToken = jwtProvider.createAccessToken(userId, rotation.get().email(), "USER");
+        String responseRefreshToken = rotation.get().renewed() ? candidate.token() : refreshToken;
+        return new AuthDto.RefreshResponse(newAccessToken, responseRefreshToken);
+    }
+
+    private AuthDto.RefreshResponse reissueWithLookups(String refreshToken, String userId, String sessionId) {
         RefreshToken saved = refreshTokenRepository.findById(sessionId)
                 .orElseThrow(() -> {
                     log.warn("[BIZ] auth.refresh.not_found userId={} sessionId={}", userId, sessionId);
@@ -78,12 +132,29 @@ public class RefreshTokenService {
         } else if (!saved.hasTokenHash()) {
             save(sessionId, userId, refreshToken, saved.getExpiry());
         }
+        return new AuthDto.RefreshResponse(newAccessToken, responseRefreshToken);
+    }
 
-        long tookMs = LogTime.elapsedMs(t0);
-        if (tookMs >= SLOW_MS) {
-            log.info("[BIZ] auth.refresh.issued userId={} took_ms={}", userId, tookMs);
+    /* 단일 문장 회전이 0건일 때 실패 원인을 기존 에러 코드로 분류한다. */
+    private ErrorCode classifyRejection(String refreshToken, String userId, String sessionId) {
+        Optional<RefreshToken> saved = refreshTokenRepository.findById(sessionId);
+        if (saved.isEmpty()) {
+            log.warn("[BIZ] auth.refresh.not_found userId={} sessionId={}", userId, sessionId);
+            return ErrorCode.REFRESH_TOKEN_NOT_FOUND;
         }
-        return new AuthDto.RefreshResponse(newAccessToken, responseRefreshToken);
+        if (!matches(saved.get(), refreshToken)) {
+            log.warn("[BIZ] auth.refresh.mismatch userId={} sessionId={}", userId, sessionId);
+            return ErrorCode.REFRESH_TOKEN_MISMATCH;
+        }
+        log.warn("[BIZ] auth.refresh.user_not_found userId={}", userId);
+        return ErrorCode.USER_NOT_FOUND;
+    }
+
+    private RuntimeException rejection(ErrorCode reason) {
+        if (reason == ErrorCode.USER_NOT_FOUND) {
+            return new EntityNotFoundException(reason);
+        }
+        return new TokenException(reason);
     }
 
     private boolean shouldRenewRefreshToken(Date expiry) {
@@ -99,15 +170,6 @@ public class RefreshTokenService {
                 .orElseThrow(() -> new TokenException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
     }
 
-    /* 유효기간이 지난 RefreshToken 정보 삭제 */
-    @Transactional
-    public int deletedExpiredTokens() {
-        Date now = new Date();
-        int deleted = refreshTokenRepository.deleteByExpiryBefore(now);
-        log.info("[BIZ] auth.refresh.cleanup.deleted count={}", deleted);
-        return deleted;
-    }
-
     private String resolveSessionId(Claims claims, String userId) {
         String sessionId = claims.get("sid", String.class);
         if (sessionId == null || sessionId.isBlank()) {
@@ -0,0 +1,49 @@
+package com.chukchuk.haksa.domain.auth.service;
+
+import com.chukchuk.haksa.global.exception.code.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 재발급에 실패한 refresh token의 짧은 음성 캐시 (인스턴스 로컬)
+ *
+ * - 회전된 이전 토큰, 삭제된 세션/사용자의 토큰은 다시 유효해지지 않으므로 잠시 DB 조회 없이 거절한다.
+ * - 키는 토큰 원문이 아닌 RefreshTokenHasher 해시를 사용한다.
+ * - ttl-ms가 0이면 비활성화된다.
+ */
+@Component
+public class RevokedRefreshTokenCache {
+
+    private static final long MAX_ENTRIES = 10_000L;
+
+    private final Cache<String, ErrorCode> revoked;
+
+    public RevokedRefreshTokenCache(
+            @Value("${security.jwt.refresh-reissue.negative-cache-ttl-ms:30000}") long ttlMs
+    ) {
+        this.revoked = ttlMs > 0
+                ? Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(MAX_ENTRIES)
+                .build()
+                : null;
+    }
+
+    public Optional<ErrorCode> find(String tokenHash) {
+        if (revoked == null || tokenHash == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(revoked.getIfPresent(tokenHash));
+    }
+
+    public void put(String tokenHash, ErrorCode reason) {
+        if (revoked != null && tokenHash != null) {
+            revoked.put(tokenHash, reason);
+        }
+    }
+}
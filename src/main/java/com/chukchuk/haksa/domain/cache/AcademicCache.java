@@ -3,32 +3,67 @@ package com.chukchuk.haksa.domain.cache;
 import com.chukchuk.haksa.domain.academic.record.dto.SemesterSummaryResponse;
 import com.chukchuk.haksa.domain.graduation.dto.AreaRequirementDto;
 import com.chukchuk.haksa.domain.graduation.dto.GraduationProgressResponse;
+import com.chukchuk.haksa.domain.graduation.dto.LanguageCertRequirementResponse;
 import com.chukchuk.haksa.domain.student.dto.StudentSemesterDto;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static com.chukchuk.haksa.domain.academic.record.dto.StudentAcademicRecordDto.AcademicSummaryResponse;
 
+/**
+ * 학업 데이터 캐시
+ *
+ * - getOrLoad* : 캐시 미스 시 loader를 실행하고 결과를 저장한다.
+ *                같은 키에 대한 동시 요청은 하나의 loader 실행 결과를 공유한다.
+ * - loader 예외는 저장되지 않고 대기 중인 요청에도 그대로 전파된다.
+ */
 public interface AcademicCache {
 
-    void setAcademicSummary(UUID studentId, AcademicSummaryResponse summary);
-    AcademicSummaryResponse getAcademicSummary(UUID studentId);
+    AcademicSummaryResponse getOrLoadAcademicSummary(UUID studentId, Supplier<AcademicSummaryResponse> loader);
 
-    void setSemesterList(UUID studentId, List<StudentSemesterDto.StudentSemesterInfoResponse> list);
-    List<StudentSemesterDto.StudentSemesterInfoResponse> getSemesterList(UUID studentId);
+    List<StudentSemesterDto.StudentSemesterInfoResponse> getOrLoadSemesterList(
+            UUID studentId,
+            Supplier<List<StudentSemesterDto.StudentSemesterInfoResponse>> loader
+    );
 
-    void setGraduationProgress(UUID studentId, GraduationProgressResponse progress);
-    GraduationProgressResponse getGraduationProgress(UUID studentId);
+    GraduationProgressResponse getOrLoadGraduationProgress(UUID studentId, Supplier<GraduationProgressResponse> loader);
 
-    void setGraduationRequirements(Long departmentId, Integer admissionYear, List<AreaRequirementDto> requirements);
-    List<AreaRequirementDto> getGraduationRequirements(Long departmentId, Integer admissionYear);
+    /** 빈 결과는 캐시하지 않는다. */
+    List<AreaRequirementDto> getOrLoadGraduationRequirements(
+            Long departmentId,
+            Integer admissionYear,
+            Supplier<List<AreaRequirementDto>> loader
+    );
 
-    void setDualMajorRequirements(Long primaryMajorId, Long secondaryMajorId, Integer admissionYear, List<AreaRequirementDto> requirements);
-    List<AreaRequirementDto> getDualMajorRequirements(Long primaryMajorId, Long secondaryMajorId, Integer admissionYear);
+    /** 빈 결과는 캐시하지 않는다. */
+    List<AreaRequirementDto> getOrLoadDualMajorRequirements(
+            Long primaryMajorId,
+            Long secondaryMajorId,
+            Integer admissionYear,
+            Supplier<List<AreaRequirementDto>> loader
+    );
 
-    void setSemesterSummaries(UUID studentId, List<SemesterSummaryResponse> list);
-    List<SemesterSummaryResponse> getSemesterSummaries(UUID studentId);
+    LanguageCertRequirementResponse getOrLoadLanguageCertRequirement(
+            String departmentCode,
+            Integer admissionYear,
+            Supplier<LanguageCertRequirementResponse> loader
+    );
+
+    /** 빈 결과는 캐시하지 않는다. */
+    List<SemesterSummaryResponse> getOrLoadSemesterSummaries(UUID studentId, Supplier<List<SemesterSummaryResponse>> loader);
+
+    /**
+     * 직렬화된 응답 본문 (학생 + 데이터 버전 + 라우트 단위)
+     * - deleteAllByStudentId 대상에 포함된다.
+     */
+    CachedResponseBody getOrLoadResponseBody(
+            UUID studentId,
+            long dataVersion,
+            String route,
+            Supplier<CachedResponseBody> loader
+    );
 
     void deleteAllByStudentId(UUID studentId);
-}
\ No newline at end of file
+}
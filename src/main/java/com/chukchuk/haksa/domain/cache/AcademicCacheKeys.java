@@ -1,25 +1,51 @@
 package com.chukchuk.haksa.domain.cache;
 
+import java.util.List;
 import java.util.UUID;
 
 public final class AcademicCacheKeys {
 
+    private static final String STUDENT_PREFIX = "student:";
+    private static final String GRADUATION_PREFIX = "graduation:";
+
+    /* 키 패밀리 (메트릭 태그로 사용) */
+    public static final String FAMILY_SUMMARY = "summary";
+    public static final String FAMILY_SEMESTERS = "semesters";
+    public static final String FAMILY_GRADUATION_PROGRESS = "graduation";
+    public static final String FAMILY_SEMESTER_SUMMARIES = "semester-summaries";
+    public static final String FAMILY_REQUIREMENTS = "requirements";
+    public static final String FAMILY_DUAL_REQUIREMENTS = "dual-requirements";
+    public static final String FAMILY_LANGUAGE_CERT = "language-cert";
+    public static final String FAMILY_RESPONSE = "response";
+    public static final String FAMILY_UNKNOWN = "unknown";
+
+    public static final List<String> FAMILIES = List.of(
+            FAMILY_SUMMARY,
+            FAMILY_SEMESTERS,
+            FAMILY_GRADUATION_PROGRESS,
+            FAMILY_SEMESTER_SUMMARIES,
+            FAMILY_REQUIREMENTS,
+            FAMILY_DUAL_REQUIREMENTS,
+            FAMILY_LANGUAGE_CERT,
+            FAMILY_RESPONSE
+    );
+
     private AcademicCacheKeys() {}
 
     public static String summary(UUID studentId) {
-        return "student:" + studentId + ":summary";
+        return studentPrefix(studentId) + FAMILY_SUMMARY;
     }
 
     public static String semesters(UUID studentId) {
-        return "student:" + studentId + ":semesters";
+        return studentPrefix(studentId) + FAMILY_SEMESTERS;
     }
 
     public static String graduation(UUID studentId) {
-        return "student:" + studentId + ":graduation";
+        return studentPrefix(studentId) + FAMILY_GRADUATION_PROGRESS;
     }
 
     public static String graduationRequirements(Long departmentId, Integer admissionYear) {
-        return "graduation:requirements:" + departmentId + ":" + admissionYear;
+        return GRADUATION_PREFIX + FAMILY_REQUIREMENTS + ":" + departmentId + ":" + admissionYear;
     }
 
     public static String dualGraduationRequirements(
@@ -27,15 +53,56 @@ public final class AcademicCacheKeys {
             Long secondaryMajorId,
             Integer admissionYear
     ) {
-        return "graduation:dual-requirements:"
+        return GRADUATION_PREFIX + FAMILY_DUAL_REQUIREMENTS + ":"
                 + primaryMajorId + ":" + secondaryMajorId + ":" + admissionYear;
     }
 
+    public static String languageCertRequirement(String departmentCode, Integer admissionYear) {
+        return GRADUATION_PREFIX + FAMILY_LANGUAGE_CERT + ":" + departmentCode + ":" + admissionYear;
+    }
+
     public static String semesterSummaries(UUID studentId) {
-        return "student:" + studentId + ":semester-summaries";
+        return studentPrefix(studentId) + FAMILY_SEMESTER_SUMMARIES;
+    }
+
+    /**
+     * 직렬화된 응답 본문 키
+     * - student:{id}:response:{route}:{dataVersion}
+     */
+    public static String responseBody(UUID studentId, long dataVersion, String route) {
+        return studentPrefix(studentId) + FAMILY_RESPONSE + ":" + route + ":" + dataVersion;
     }
 
     public static String studentPrefix(UUID studentId) {
-        return "student:" + studentId + ":";
+        return STUDENT_PREFIX + studentId + ":";
+    }
+
+    /**
+     * 학생 데이터와 무관한 정적 키 여부 (졸업 요건, 외국어 인증 기준)
+     * - refresh-ahead 및 스냅샷 대상이 된다.
+     */
+    public static boolean isStaticRequirement(String key) {
+        return key.startsWith(GRADUATION_PREFIX);
+    }
+
+    /**
+     * 키 → 패밀리
+     * - student:{id}:{family}[:{...}]
+     * - graduation:{family}:{...}
+     */
+    public static String family(String key) {
+        if (key.startsWith(STUDENT_PREFIX)) {
+            int start = key.indexOf(':', STUDENT_PREFIX.length());
+            if (start < 0) {
+                return FAMILY_UNKNOWN;
+            }
+            int end = key.indexOf(':', start + 1);
+            return end < 0 ? key.substring(start + 1) : key.substring(start + 1, end);
+        }
+        if (key.startsWith(GRADUATION_PREFIX)) {
+            int end = key.indexOf(':', GRADUATION_PREFIX.length());
+            return end < 0 ? FAMILY_UNKNOWN : key.substring(GRADUATION_PREFIX.length(), end);
+        }
+        return FAMILY_UNKNOWN;
     }
-}
\ No newline at end of file
+}
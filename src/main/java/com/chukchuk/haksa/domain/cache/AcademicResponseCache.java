@@ -0,0 +1,71 @@
+package com.chukchuk.haksa.domain.cache;
+
+import com.chukchuk.haksa.global.common.response.SuccessResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 학업 조회 API 응답 본문 캐시
+ *
+ * - 캐시 히트 시 Jackson 직렬화 없이 저장된 JSON 바이트를 그대로 내려준다.
+ * - ETag는 본문 해시이므로 인스턴스가 달라도 같은 본문이면 같은 값이 나온다.
+ * - If-None-Match 비교와 304 응답은 Spring MVC(HttpEntityMethodProcessor)가 처리한다.
+ * - 키에 데이터 버전(마지막 동기화 시각)이 포함되므로 재동기화 이후에는 이전 본문이 조회되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AcademicResponseCache {
+
+    /** SHA-256 앞 16바이트만 사용 (충돌 가능성 대비 충분) */
+    private static final int ETAG_HASH_BYTES = 16;
+
+    private final AcademicCache academicCache;
+    private final ObjectMapper objectMapper;
+
+    public ResponseEntity<byte[]> ok(UUID studentId, long dataVersion, String route, Supplier<?> dataLoader) {
+        CachedResponseBody body = academicCache.getOrLoadResponseBody(
+                studentId,
+                dataVersion,
+                route,
+                () -> render(SuccessResponse.of(dataLoader.get()))
+        );
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(body.etag())
+                .body(body.json());
+    }
+
+    private CachedResponseBody render(Object response) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("response body encode failed: " + response.getClass().getSimpleName(), e);
+        }
+        return new CachedResponseBody(json, etagOf(json));
+    }
+
+    static String etagOf(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Arrays.copyOf(hash, ETAG_HASH_BYTES)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.chukchuk.haksa.domain.cache;
+
+/**
+ * 직렬화가 끝난 응답 본문
+ *
+ * - json : UTF-8 JSON 바이트 (그대로 응답 본문으로 쓴다)
+ * - etag : 본문 해시 기반 strong ETag (따옴표 포함)
+ */
+public record CachedResponseBody(byte[] json, String etag) {
+}
@@ -0,0 +1,33 @@
+package com.chukchuk.haksa.domain.cache;
+
+import java.util.List;
+
+/**
+ * 기준 데이터 엔티티의 Hibernate 2차 캐시 영역 이름
+ *
+ * - 영역별 크기/만료는 application.conf(caffeine.jcache)에 같은 이름으로 둔다.
+ * - 영역 이름은 hibernate.second.level.cache.* 지표의 region 태그로 그대로 나간다.
+ * - *_ID_BY_* 는 Hibernate 영역이 아니라 ReferenceIdCache의 캐시 이름이다. (cache.* 지표의 cache 태그)
+ */
+public final class ReferenceCacheRegions {
+
+    public static final String DEPARTMENT = "reference.department";
+    public static final String DEPARTMENT_NATURAL_ID = "reference.department.natural-id";
+    public static final String DEPARTMENT_BY_CODE = "reference.department.by-code";
+    public static final String COURSE = "reference.course";
+    /** 학수번호 → id (ReferenceIdCache, Caffeine) */
+    public static final String COURSE_ID_BY_CODE = "reference.course.id-by-code";
+    public static final String PROFESSOR = "reference.professor";
+    /** 교수명 → id (ReferenceIdCache, Caffeine) */
+    public static final String PROFESSOR_ID_BY_NAME = "reference.professor.id-by-name";
+    public static final String LIBERAL_ARTS_AREA_CODE = "reference.liberal-arts-area-code";
+    public static final String DEPARTMENT_AREA_REQUIREMENT = "reference.department-area-requirement";
+    public static final String DUAL_MAJOR_REQUIREMENT = "reference.dual-major-requirement";
+
+    /** 쿼리 캐시 영역 (엔티티 영역 지표는 hibernate-micrometer가 영역별로 낸다) */
+    public static final List<String> QUERY_REGIONS = List.of(
+            DEPARTMENT_BY_CODE
+    );
+
+    private ReferenceCacheRegions() {}
+}
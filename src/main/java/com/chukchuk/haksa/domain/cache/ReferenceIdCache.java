@@ -0,0 +1,128 @@
+package com.chukchuk.haksa.domain.cache;
+
+import com.chukchuk.haksa.domain.course.model.Course;
+import com.chukchuk.haksa.domain.professor.model.Professor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 동기화의 학수번호/교수명 → id 캐시 (키마다 한 엔트리)
+ *
+ * - 목록 전체를 키로 쓰는 쿼리 캐시는 목록이 하나만 달라도 새 키가 되고, 테이블에 INSERT가 있으면 영역 전체가 무효화된다.
+ *   여기서는 키마다 id만 보관하고, 엔티티는 id로 2차 캐시 엔티티 영역(reference.course / reference.professor)에서 꺼낸다.
+ * - 캐시에 없는 키만 모아 DB에서 한 번에 읽고, 읽거나 새로 만든 엔티티를 키마다 넣는다.
+ *   "없음"은 저장하지 않으므로 다른 인스턴스가 만든 row는 다음 조회에서 DB로 찾는다.
+ * - 롤백된 저장 등으로 id에 해당하는 row가 없으면 그 키를 비우고 DB에서 다시 읽는다.
+ * - 인스턴스마다 따로 있고, 만료는 엔티티 영역(application.conf)과 같은 12시간이다.
+ */
+@Component
+public class ReferenceIdCache implements MeterBinder {
+
+    public static final Region<Course> COURSE_BY_CODE = new Region<>(
+            ReferenceCacheRegions.COURSE_ID_BY_CODE, Course.class, Course::getCourseCode, Course::getId, 10_000);
+    public static final Region<Professor> PROFESSOR_BY_NAME = new Region<>(
+            ReferenceCacheRegions.PROFESSOR_ID_BY_NAME, Professor.class, Professor::getProfessorName, Professor::getId, 5_000);
+
+    private static final List<Region<?>> REGIONS = List.of(COURSE_BY_CODE, PROFESSOR_BY_NAME);
+    private static final Duration TTL = Duration.ofHours(12);
+
+    private final EntityManager entityManager;
+    private final Map<String, Cache<String, Long>> caches = new HashMap<>();
+
+    public ReferenceIdCache(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        for (Region<?> region : REGIONS) {
+            caches.put(region.name(), Caffeine.newBuilder()
+                    .maximumSize(region.maximumSize())
+                    .expireAfterWrite(TTL)
+                    .recordStats()
+                    .build());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        caches.forEach((name, cache) -> CaffeineCacheMetrics.monitor(registry, cache, name));
+    }
+
+    /**
+     * 키별 엔티티를 찾는다. 캐시된 키는 id로 엔티티 캐시에서 꺼내고, 나머지 키만 loader로 한 번에 읽는다.
+     *
+     * @param loader 키 목록으로 DB를 읽는 조회 (쿼리 캐시를 쓰지 않는다)
+     * @return 찾은 키 → 엔티티 (없는 키는 빠진다)
+     */
+    public <E> Map<String, E> findAll(Region<E> region, Collection<String> keys, Function<Collection<String>, List<E>> loader) {
+        Cache<String, Long> ids = caches.get(region.name());
+        Map<String, E> result = new HashMap<>();
+
+        Map<String, Long> cached = ids.getAllPresent(keys);
+        if (!cached.isEmpty()) {
+            List<String> cachedKeys = new ArrayList<>(cached.keySet());
+            List<E> entities = entityManager.unwrap(Session.class)
+                    .byMultipleIds(region.type())
+                    .multiLoad(cachedKeys.stream().map(cached::get).toList());
+            for (int i = 0; i < cachedKeys.size(); i++) {
+                E entity = entities.get(i);
+                if (entity != null) {
+                    result.put(cachedKeys.get(i), entity);
+                } else {
+                    ids.invalidate(cachedKeys.get(i));
+                }
+            }
+        }
+
+        List<String> missing = keys.stream()
+                .filter(key -> !result.containsKey(key))
+                .toList();
+        if (!missing.isEmpty()) {
+            List<E> loaded = loader.apply(missing);
+            putAll(region, loaded);
+            for (E entity : loaded) {
+                result.put(region.keyOf().apply(entity), entity);
+            }
+        }
+        return result;
+    }
+
+    /** 새로 만든 엔티티를 키마다 넣는다. */
+    public <E> void putAll(Region<E> region, Collection<E> entities) {
+        Cache<String, Long> ids = caches.get(region.name());
+        for (E entity : entities) {
+            ids.put(region.keyOf().apply(entity), region.idOf().apply(entity));
+        }
+    }
+
+    CacheStats stats(Region<?> region) {
+        return caches.get(region.name()).stats();
+    }
+
+    void invalidateAll() {
+        caches.values().forEach(Cache::invalidateAll);
+    }
+
+    /**
+     * @param keyOf 캐시 키 (학수번호, 교수명)
+     */
+    public record Region<E>(
+            String name,
+            Class<E> type,
+            Function<E, String> keyOf,
+            Function<E, Long> idOf,
+            long maximumSize
+    ) {}
+}
@@ -1,10 +1,16 @@
 package com.chukchuk.haksa.domain.course.model;
 
 import com.chukchuk.haksa.domain.BaseEntity;
+import com.chukchuk.haksa.domain.cache.ReferenceCacheRegions;
+import com.chukchuk.haksa.global.common.search.SearchText;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
 
@@ -12,6 +18,8 @@ import java.time.Instant;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "courses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = ReferenceCacheRegions.COURSE)
 public class Course extends BaseEntity {
 
     @Id
@@ -31,10 +39,26 @@ public class Course extends BaseEntity {
     @Column(name = "deleted_at")
     private Instant deletedAt;
 
+    /** 학수번호/과목명 검색 문서와 bigram (SearchText). 이름이 바뀌지 않으므로 저장 시점에 한 번 채운다. */
+    @Getter(AccessLevel.NONE)
+    @Column(name = "search_text", length = 512)
+    private String searchText;
+
+    @Getter(AccessLevel.NONE)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "search_grams")
+    private String[] searchGrams;
+
     public Course(String courseCode, String courseName) {
         this.courseCode = courseCode;
         this.courseName = courseName;
         // deleteAt은 초기에는 null로 설정 (soft delete 사용 시 삭제 시점에 설정)
         this.deletedAt = null;
     }
+
+    @PrePersist
+    private void fillSearchIndex() {
+        this.searchText = SearchText.document(courseCode, courseName);
+        this.searchGrams = SearchText.grams(courseCode, courseName);
+    }
 }
@@ -1,15 +1,20 @@
 package com.chukchuk.haksa.domain.course.model;
 
 import com.chukchuk.haksa.domain.BaseEntity;
+import com.chukchuk.haksa.domain.cache.ReferenceCacheRegions;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "liberal_arts_area_codes")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = ReferenceCacheRegions.LIBERAL_ARTS_AREA_CODE)
 public class LiberalArtsAreaCode extends BaseEntity {
 
     @Id
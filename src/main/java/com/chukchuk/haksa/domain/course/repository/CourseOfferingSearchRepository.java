@@ -0,0 +1,60 @@
+package com.chukchuk.haksa.domain.course.repository;
+
+import com.chukchuk.haksa.domain.course.model.FacultyDivision;
+
+import java.util.List;
+
+/**
+ * 어드민 강의 후보 검색.
+ * - 검색어는 과목(courses)의 search_grams/search_text로 먼저 좁히고(SearchMatch), 개설강의는 course_id 인덱스로 찾는다.
+ * - 정렬: 관련도(SearchMatch.RANK_*) → 연도/학기 최신순 → 과목명 → 개설강의 ID. 이 순서 그대로 keyset 페이지를 넘긴다.
+ */
+public interface CourseOfferingSearchRepository {
+
+    /**
+     * @return 정렬 순서대로 최대 query.limit()개
+     */
+    List<Candidate> search(Query query);
+
+    /**
+     * @param keyword        SearchText.normalize를 거친 검색어. null이면 검색어 조건 없음
+     * @param departmentName 학과명. 개설 학과 또는 주관 학과명이 일치하는 개설강의
+     * @param after          이전 페이지 마지막 행. null이면 첫 페이지
+     */
+    record Query(
+            String keyword,
+            FacultyDivision area,
+            Integer year,
+            Integer semester,
+            String departmentName,
+            Cursor after,
+            int limit
+    ) {
+    }
+
+    record Cursor(
+            int matchRank,
+            int year,
+            int semester,
+            String courseName,
+            long offeringId
+    ) {
+    }
+
+    record Candidate(
+            Long offeringId,
+            String courseCode,
+            String courseName,
+            Integer year,
+            Integer semester,
+            Integer points,
+            FacultyDivision area,
+            String rawArea,
+            String departmentName,
+            int matchRank
+    ) {
+        public Cursor toCursor() {
+            return new Cursor(matchRank, year, semester, courseName == null ? "" : courseName, offeringId);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.chukchuk.haksa.domain.course.repository;
+
+import com.chukchuk.haksa.domain.course.model.FacultyDivision;
+import com.chukchuk.haksa.global.common.search.SearchMatch;
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+public class CourseOfferingSearchRepositoryImpl implements CourseOfferingSearchRepository {
+
+    private static final String KEYSET_SQL = """
+              AND (m.match_rank > ?
+                   OR (m.match_rank = ? AND (o.year < ?
+                   OR (o.year = ? AND (o.semester < ?
+                   OR (o.semester = ? AND (m.sort_name > ?
+                   OR (m.sort_name = ? AND o.id > ?))))))))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    public CourseOfferingSearchRepositoryImpl(JdbcTemplate jdbcTemplate, DatabaseDialect databaseDialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+    }
+
+    @Override
+    public List<Candidate> search(Query query) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("""
+                SELECT o.id AS offering_id, m.course_code, m.course_name, o.year, o.semester, o.points,
+                       o.faculty_division_name, o.raw_faculty_division_name,
+                       COALESCE(d.established_department_name, o.host_department) AS department_name,
+                       m.match_rank
+                FROM (
+                    SELECT c.id, c.course_code, c.course_name, COALESCE(c.course_name, '') AS sort_name,
+                """);
+        appendCourseMatch(sql, args, query.keyword());
+        sql.append("""
+                ) m
+                JOIN course_offerings o ON o.course_id = m.id
+                LEFT JOIN departments d ON d.id = o.department_id
+                WHERE o.deleted_at IS NULL
+                """);
+        if (query.area() != null) {
+            sql.append("  AND o.faculty_division_name = ?\n");
+            args.add(query.area().name());
+        }
+        if (query.year() != null) {
+            sql.append("  AND o.year = ?\n");
+            args.add(query.year());
+        }
+        if (query.semester() != null) {
+            sql.append("  AND o.semester = ?\n");
+            args.add(query.semester());
+        }
+        if (query.departmentName() != null) {
+            sql.append("  AND (d.established_department_name = ? OR o.host_department = ?)\n");
+            args.add(query.departmentName());
+            args.add(query.departmentName());
+        }
+        Cursor after = query.after();
+        if (after != null) {
+            sql.append(KEYSET_SQL);
+            args.add(after.matchRank());
+            args.add(after.matchRank());
+            args.add(after.year());
+            args.add(after.year());
+            args.add(after.semester());
+            args.add(after.semester());
+            args.add(after.courseName());
+            args.add(after.courseName());
+            args.add(after.offeringId());
+        }
+        sql.append("""
+                ORDER BY m.match_rank, o.year DESC, o.semester DESC, m.sort_name, o.id
+                LIMIT ?
+                """);
+        args.add(query.limit());
+
+        return jdbcTemplate.query(sql.toString(), ps -> SearchMatch.bind(ps, args), (rs, rowNum) -> {
+            String area = rs.getString("faculty_division_name");
+            return new Candidate(
+                    rs.getLong("offering_id"),
+                    rs.getString("course_code"),
+                    rs.getString("course_name"),
+                    rs.getInt("year"),
+                    rs.getInt("semester"),
+                    rs.getObject("points", Integer.class),
+                    area == null ? null : FacultyDivision.valueOf(area),
+                    rs.getString("raw_faculty_division_name"),
+                    rs.getString("department_name"),
+                    rs.getInt("match_rank")
+            );
+        });
+    }
+
+    private void appendCourseMatch(StringBuilder sql, List<Object> args, String keyword) {
+        if (keyword == null) {
+            sql.append("0 AS match_rank\nFROM courses c\n");
+            return;
+        }
+
+        SearchMatch match = SearchMatch.of(keyword, databaseDialect.isPostgres());
+        sql.append(match.rankSql("c")).append(" AS match_rank\nFROM courses c\nWHERE ")
+                .append(match.conditionSql("c")).append('\n');
+        args.addAll(match.rankArgs());
+        args.addAll(match.conditionArgs());
+    }
+}
@@ -10,7 +10,9 @@ import java.util.Optional;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
+
     Optional<Course> findByCourseCode(String courseCode);
 
+    // 학수번호 목록으로 찾기. ReferenceIdCache에 없는 학수번호만 넘어온다. (쿼리 캐시를 쓰지 않는다)
     List<Course> findByCourseCodeIn(Collection<String> courseCodes);
 }
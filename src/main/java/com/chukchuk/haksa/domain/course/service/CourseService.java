@@ -1,5 +1,6 @@
 package com.chukchuk.haksa.domain.course.service;
 
+import com.chukchuk.haksa.domain.cache.ReferenceIdCache;
 import com.chukchuk.haksa.domain.course.model.Course;
 import com.chukchuk.haksa.domain.course.repository.CourseRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,12 +13,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CourseService {
     private final CourseRepository courseRepository;
+    private final ReferenceIdCache referenceIdCache;
 
     @Transactional
     public Course getOrCreateCourse(String courseCode, String courseName) {
@@ -36,16 +39,14 @@ public class CourseService {
 
         Set<String> codes = courseCodeToName.keySet().stream()
                 .filter(code -> code != null && !code.isBlank())
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(TreeSet::new));
         if (codes.isEmpty()) {
             return Collections.emptyMap();
         }
 
-        List<Course> existing = courseRepository.findByCourseCodeIn(codes);
-        Map<String, Course> result = new HashMap<>();
-        for (Course course : existing) {
-            result.put(course.getCourseCode(), course);
-        }
+        // 학수번호마다 캐시된 id로 엔티티 캐시에서 꺼내고, 캐시에 없는 학수번호만 DB에서 한 번에 읽는다.
+        Map<String, Course> result = new HashMap<>(
+                referenceIdCache.findAll(ReferenceIdCache.COURSE_BY_CODE, codes, courseRepository::findByCourseCodeIn));
 
         List<Course> toCreate = codes.stream()
                 .filter(code -> !result.containsKey(code))
@@ -54,6 +55,7 @@ public class CourseService {
 
         if (!toCreate.isEmpty()) {
             List<Course> saved = courseRepository.saveAll(toCreate);
+            referenceIdCache.putAll(ReferenceIdCache.COURSE_BY_CODE, saved);
             for (Course course : saved) {
                 result.put(course.getCourseCode(), course);
             }
@@ -1,12 +1,20 @@
 package com.chukchuk.haksa.domain.department.model;
 
 import com.chukchuk.haksa.domain.BaseEntity;
+import com.chukchuk.haksa.domain.cache.ReferenceCacheRegions;
+import com.chukchuk.haksa.global.common.search.SearchText;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.type.SqlTypes;
 
 import static jakarta.persistence.GenerationType.IDENTITY;
 
@@ -14,20 +22,40 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "departments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = ReferenceCacheRegions.DEPARTMENT)
+@NaturalIdCache(region = ReferenceCacheRegions.DEPARTMENT_NATURAL_ID)
 public class Department extends BaseEntity {
 
     @Id
     @GeneratedValue(strategy = IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(name = "department_code", unique = true)
     private String departmentCode;
 
     @Column(name = "established_department_name")
     private String establishedDepartmentName;
 
+    /** 학과 코드/학과명 검색 문서와 bigram (SearchText). 이름이 바뀌지 않으므로 저장 시점에 한 번 채운다. */
+    @Getter(AccessLevel.NONE)
+    @Column(name = "search_text", length = 512)
+    private String searchText;
+
+    @Getter(AccessLevel.NONE)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "search_grams")
+    private String[] searchGrams;
+
     public Department(String departmentCode, String establishedDepartmentName) {
         this.departmentCode = departmentCode;
         this.establishedDepartmentName = establishedDepartmentName;
     }
-}
\ No newline at end of file
+
+    @PrePersist
+    private void fillSearchIndex() {
+        this.searchText = SearchText.document(departmentCode, establishedDepartmentName);
+        this.searchGrams = SearchText.grams(departmentCode, establishedDepartmentName);
+    }
+}
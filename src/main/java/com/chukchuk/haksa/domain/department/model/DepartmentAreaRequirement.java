@@ -1,17 +1,27 @@
 package com.chukchuk.haksa.domain.department.model;
 
 import com.chukchuk.haksa.domain.BaseEntity;
+import com.chukchuk.haksa.domain.cache.ReferenceCacheRegions;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "department_area_requirements")
+@Table(
+        name = "department_area_requirements",
+        indexes = {
+                @Index(name = "idx_department_area_requirements_lookup", columnList = "department_id, admission_year")
+        }
+)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = ReferenceCacheRegions.DEPARTMENT_AREA_REQUIREMENT)
 public class DepartmentAreaRequirement extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
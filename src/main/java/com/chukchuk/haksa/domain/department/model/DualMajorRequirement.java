@@ -1,16 +1,26 @@
 package com.chukchuk.haksa.domain.department.model;
 
+import com.chukchuk.haksa.domain.cache.ReferenceCacheRegions;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "dual_major_requirements")
+@Table(
+        name = "dual_major_requirements",
+        indexes = {
+                @Index(name = "idx_dual_major_requirements_lookup", columnList = "department_id, admission_year")
+        }
+)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = ReferenceCacheRegions.DUAL_MAJOR_REQUIREMENT)
 public class DualMajorRequirement {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
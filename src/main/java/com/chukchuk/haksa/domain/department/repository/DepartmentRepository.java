@@ -1,21 +1,41 @@
 package com.chukchuk.haksa.domain.department.repository;
 
+import com.chukchuk.haksa.domain.cache.ReferenceCacheRegions;
 import com.chukchuk.haksa.domain.department.model.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
-    Optional<Department> findByDepartmentCode(String departmentCode);  // departmentCode로 학과 찾기
-    List<Department> findAllByEstablishedDepartmentName(String establishedDepartmentName);
 
-    @Query("""
-        SELECT d FROM Department d
-        WHERE LOWER(d.departmentCode) LIKE LOWER(CONCAT('%', :keyword, '%'))
-           OR LOWER(d.establishedDepartmentName) LIKE LOWER(CONCAT('%', :keyword, '%'))
-        ORDER BY d.establishedDepartmentName ASC, d.departmentCode ASC
-    """)
-    List<Department> searchAdminDepartments(String keyword);
+    String BY_CODE = "SELECT d FROM Department d WHERE d.departmentCode = :departmentCode";
+
+    // departmentCode로 학과 찾기 (쿼리 캐시, 결과 엔티티는 2차 캐시에서 꺼낸다)
+    @Query(BY_CODE)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheRegions.DEPARTMENT_BY_CODE)
+    })
+    Optional<Department> findByDepartmentCode(@Param("departmentCode") String departmentCode);
+
+    /**
+     * 쿼리 캐시를 거치지 않고 DB에서 다시 읽어 캐시된 결과를 덮어쓴다.
+     * 2차 캐시는 인스턴스마다 따로 있어 다른 인스턴스가 만든 학과가 캐시에는 "없음"으로 남아 있을 수 있다.
+     * findByDepartmentCode와 같은 JPQL이어야 같은 캐시 키를 덮어쓴다.
+     */
+    @Query(BY_CODE)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheRegions.DEPARTMENT_BY_CODE),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH")
+    })
+    Optional<Department> refreshByDepartmentCode(@Param("departmentCode") String departmentCode);
+
+    List<Department> findAllByEstablishedDepartmentName(String establishedDepartmentName);
 }
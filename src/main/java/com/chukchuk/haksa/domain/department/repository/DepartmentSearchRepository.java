@@ -0,0 +1,23 @@
+package com.chukchuk.haksa.domain.department.repository;
+
+import java.util.List;
+
+/**
+ * 어드민 학과 검색. 학과 코드/학과명의 search_grams/search_text(SearchMatch)로 찾고 관련도 → 학과명 → 학과 코드 순으로 정렬한다.
+ * 학과 수가 적어 페이지 없이 전부 반환한다.
+ */
+public interface DepartmentSearchRepository {
+
+    /**
+     * @param keyword SearchText.normalize를 거친 검색어 (null 불가)
+     */
+    List<Match> search(String keyword);
+
+    record Match(
+            Long id,
+            String code,
+            String name,
+            int matchRank
+    ) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.chukchuk.haksa.domain.department.repository;
+
+import com.chukchuk.haksa.global.common.search.SearchMatch;
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+public class DepartmentSearchRepositoryImpl implements DepartmentSearchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    public DepartmentSearchRepositoryImpl(JdbcTemplate jdbcTemplate, DatabaseDialect databaseDialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+    }
+
+    @Override
+    public List<Match> search(String keyword) {
+        SearchMatch match = SearchMatch.of(keyword, databaseDialect.isPostgres());
+        String sql = """
+                SELECT d.id, d.department_code, d.established_department_name, %s AS match_rank
+                FROM departments d
+                WHERE %s
+                ORDER BY match_rank, d.established_department_name, d.department_code
+                """.formatted(match.rankSql("d"), match.conditionSql("d"));
+        List<Object> args = new ArrayList<>(match.rankArgs());
+        args.addAll(match.conditionArgs());
+
+        return jdbcTemplate.query(sql, ps -> SearchMatch.bind(ps, args), (rs, rowNum) -> new Match(
+                rs.getLong("id"),
+                rs.getString("department_code"),
+                rs.getString("established_department_name"),
+                rs.getInt("match_rank")
+        ));
+    }
+}
@@ -16,6 +16,8 @@ public class DepartmentService {
     @Transactional
     public Department getOrCreateDepartment(String departmentCode, String establishedDepartmentName) {
         return departmentRepository.findByDepartmentCode(departmentCode)
+                // 캐시된 "없음"은 다른 인스턴스가 만든 학과일 수 있으니 생성 전에 DB로 한 번 더 확인한다.
+                .or(() -> departmentRepository.refreshByDepartmentCode(departmentCode))
                 .orElseGet(() -> {
                     Department department = new Department(departmentCode, establishedDepartmentName);
                     return departmentRepository.save(department);
@@ -1,10 +1,11 @@
 package com.chukchuk.haksa.domain.graduation.controller;
 
+import com.chukchuk.haksa.domain.cache.AcademicResponseCache;
 import com.chukchuk.haksa.domain.graduation.controller.docs.GraduationControllerDocs;
-import com.chukchuk.haksa.domain.graduation.dto.GraduationProgressResponse;
 import com.chukchuk.haksa.domain.graduation.dto.LanguageCertRequirementResponse;
 import com.chukchuk.haksa.domain.graduation.service.GraduationService;
 import com.chukchuk.haksa.domain.graduation.service.LanguageCertRequirementService;
+import com.chukchuk.haksa.domain.student.dto.StudentDataVersion;
 import com.chukchuk.haksa.domain.student.service.StudentService;
 import com.chukchuk.haksa.global.common.response.SuccessResponse;
 import com.chukchuk.haksa.global.logging.annotation.LogTime;
@@ -30,19 +31,26 @@ public class GraduationController implements GraduationControllerDocs {
     private final GraduationService graduationService;
     private final LanguageCertRequirementService languageCertRequirementService;
     private final StudentService studentService;
+    private final AcademicResponseCache academicResponseCache;
 
     @GetMapping("/progress")
-    public ResponseEntity<SuccessResponse<GraduationProgressResponse>> getGraduationProgress(
+    public ResponseEntity<byte[]> getGraduationProgress(
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         long t0 = LogTime.start();
-        UUID studentId = studentService.getRequiredStudentIdByUserId(userDetails.getId());
-        GraduationProgressResponse response = graduationService.getGraduationProgress(studentId);
+        StudentDataVersion dataVersion = studentService.getRequiredStudentDataVersionByUserId(userDetails.getId());
+        UUID studentId = dataVersion.studentId();
+        ResponseEntity<byte[]> response = academicResponseCache.ok(
+                studentId,
+                dataVersion.version(),
+                "graduation-progress",
+                () -> graduationService.getGraduationProgress(studentId)
+        );
         long tookMS = LogTime.elapsedMs(t0);
         if (tookMS >= SLOW_MS) {
             log.info("[BIZ] graduation.progress.done took_ms={}", tookMS);
         }
-        return ResponseEntity.ok(SuccessResponse.of(response));
+        return response;
     }
 
     @GetMapping("/language-cert/requirement")
@@ -1,6 +1,5 @@
 package com.chukchuk.haksa.domain.graduation.controller.docs;
 
-import com.chukchuk.haksa.domain.graduation.dto.GraduationProgressResponse;
 import com.chukchuk.haksa.domain.graduation.dto.LanguageCertRequirementResponse;
 import com.chukchuk.haksa.domain.graduation.wrapper.GraduationProgressApiResponse;
 import com.chukchuk.haksa.domain.graduation.wrapper.LanguageCertRequirementApiResponse;
@@ -28,6 +27,10 @@ public interface GraduationControllerDocs {
                             description = "졸업 요건 충족 여부 조회 성공",
                             content = @Content(schema = @Schema(implementation = GraduationProgressApiResponse.class))
                     ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "If-None-Match의 ETag와 본문이 같음 (본문 없음)"
+                    ),
                     @ApiResponse(
                             responseCode = "404",
                             description = "사용자 정보 없음 (ErrorCode: S01, FRESHMAN_NO_SEMESTER)",
@@ -41,7 +44,7 @@ public interface GraduationControllerDocs {
             }
     )
     @SecurityRequirement(name = "bearerAuth")
-    ResponseEntity<SuccessResponse<GraduationProgressResponse>> getGraduationProgress(
+    ResponseEntity<byte[]> getGraduationProgress(
             @AuthenticationPrincipal CustomUserDetails userDetails
     );
 
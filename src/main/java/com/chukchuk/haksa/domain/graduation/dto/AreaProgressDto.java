@@ -2,13 +2,16 @@ package com.chukchuk.haksa.domain.graduation.dto;
 
 import com.chukchuk.haksa.domain.course.model.FacultyDivision;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE) // 캐시 compact 모드 역직렬화용
 @Schema(description = "졸업 요건 영역별 이수 현황")
 public class AreaProgressDto {
     @Schema(description = "영역 유형 (예: 전핵, 전선, 선교 등)", required = true)
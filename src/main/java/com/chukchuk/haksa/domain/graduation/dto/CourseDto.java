@@ -2,11 +2,14 @@ package com.chukchuk.haksa.domain.graduation.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE) // 캐시 compact 모드 역직렬화용
 @Schema(description = "이수 과목 정보")
 public class CourseDto {
     @Schema(description = "이수 연도", example = "2023", required = true)
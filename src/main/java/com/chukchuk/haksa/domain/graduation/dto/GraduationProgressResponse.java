@@ -1,11 +1,14 @@
 package com.chukchuk.haksa.domain.graduation.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE) // 캐시 compact 모드 역직렬화용
 @Schema(description = "졸업 요건 진행 상황 응답")
 public class GraduationProgressResponse {
     @Schema(description = "졸업 요건 영역별 이수 현황", required = true)
@@ -109,6 +109,7 @@ public class GraduationMajorResolver {
 
         String establishedName = baseDepartment.getEstablishedDepartmentName();
         if (establishedName != null && !establishedName.trim().isEmpty()) {
+            // 학과 생성은 다른 인스턴스에서도 일어나므로 인스턴스 로컬 캐시 없이 매번 DB에서 읽는다.
             List<Department> siblings =
                     departmentRepository.findAllByEstablishedDepartmentName(establishedName.trim());
             if (siblings != null) {
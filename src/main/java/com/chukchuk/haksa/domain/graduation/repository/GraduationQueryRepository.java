@@ -275,18 +275,11 @@ public class GraduationQueryRepository {
      * 학과 ID + 입학년도
      */
     public List<AreaRequirementDto> getAreaRequirementsWithCache(Long deptId, Integer admissionYear) {
-        try {
-            List<AreaRequirementDto> cached = academicCache.getGraduationRequirements(deptId, admissionYear);
-            if (cached != null && !cached.isEmpty()) return cached;
-
-            List<AreaRequirementDto> result = getAreaRequirements(deptId, admissionYear);
-            academicCache.setGraduationRequirements(deptId, admissionYear, result);
-            return result;
-
-        } catch (Exception e) {
-            log.warn("[BIZ] graduation.requirements.cache.fail deptId={} year={} ex={}", deptId, admissionYear, e.getClass().getSimpleName());
-            return getAreaRequirements(deptId, admissionYear);
-        }
+        return academicCache.getOrLoadGraduationRequirements(
+                deptId,
+                admissionYear,
+                () -> getAreaRequirements(deptId, admissionYear)
+        );
     }
 
     /**
@@ -294,19 +287,12 @@ public class GraduationQueryRepository {
      * 주전공 ID + 복수전공 ID + 입학년도
      */
     public List<AreaRequirementDto> getDualMajorRequirementsWithCache(Long primaryMajorId, Long secondaryMajorId, Integer admissionYear) {
-        try {
-            List<AreaRequirementDto> cached = academicCache.getDualMajorRequirements(primaryMajorId, secondaryMajorId, admissionYear);
-            if (cached != null && !cached.isEmpty()) return cached;
-
-            List<AreaRequirementDto> result = getDualMajorRequirements(primaryMajorId, secondaryMajorId, admissionYear);
-            academicCache.setDualMajorRequirements(primaryMajorId, secondaryMajorId, admissionYear, result);
-            return result;
-
-        } catch (Exception e) {
-            log.warn("[BIZ] graduation.dual.requirements.cache.fail primaryId={} secondaryId={} year={} ex={}",
-                    primaryMajorId, secondaryMajorId, admissionYear, e.getClass().getSimpleName());
-            return getDualMajorRequirements(primaryMajorId, secondaryMajorId, admissionYear);
-        }
+        return academicCache.getOrLoadDualMajorRequirements(
+                primaryMajorId,
+                secondaryMajorId,
+                admissionYear,
+                () -> getDualMajorRequirements(primaryMajorId, secondaryMajorId, admissionYear)
+        );
     }
 
     /** Number/문자열 숫자 → Integer (null 허용) */
@@ -40,21 +40,13 @@ public class GraduationService {
 
     /* 졸업 요건 진행 상황 조회 */
     public GraduationProgressResponse getGraduationProgress(UUID studentId) {
-        // 1. 캐시 조회
-        try {
-            GraduationProgressResponse cached = academicCache.getGraduationProgress(studentId);
-            if (cached != null) {
-                return cached;
-            }
-        } catch (Exception e) {
-            log.warn(
-                    "[BIZ] graduation.progress.cache.get.fail studentId={} ex={}",
-                    studentId,
-                    e.getClass().getSimpleName(),
-                    e
-            );
-        }
+        return academicCache.getOrLoadGraduationProgress(
+                studentId,
+                () -> loadGraduationProgress(studentId)
+        );
+    }
 
+    private GraduationProgressResponse loadGraduationProgress(UUID studentId) {
         Student student = studentService.getStudentById(studentId);
         validateTransferStudent(student);
 
@@ -80,7 +72,7 @@ public class GraduationService {
                                 .orElse(null)
                 );
 
-        // 5. 특이 졸업 요건 여부 표시
+        // 특이 졸업 요건 여부 표시
         if (isDifferentGradRequirement(
                 majorResolution.primaryMajorId(),
                 admissionYear
@@ -88,18 +80,6 @@ public class GraduationService {
             response.setHasDifferentGraduationRequirement();
         }
 
-        // 6. 캐시 저장
-        try {
-            academicCache.setGraduationProgress(studentId, response);
-        } catch (Exception e) {
-            log.warn(
-                    "[BIZ] graduation.progress.cache.set.fail studentId={} ex={}",
-                    studentId,
-                    e.getClass().getSimpleName(),
-                    e
-            );
-        }
-
         return response;
     }
 
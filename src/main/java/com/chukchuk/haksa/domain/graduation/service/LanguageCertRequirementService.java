@@ -1,6 +1,7 @@
 // 로그인 학생에게 적용되는 외국어 인증 기준을 조회하는 서비스
 package com.chukchuk.haksa.domain.graduation.service;
 
+import com.chukchuk.haksa.domain.cache.AcademicCache;
 import com.chukchuk.haksa.domain.department.model.Department;
 import com.chukchuk.haksa.domain.graduation.dto.LanguageCertRequirementResponse;
 import com.chukchuk.haksa.domain.graduation.model.DepartmentLanguageCertPolicyMapping;
@@ -27,6 +28,7 @@ public class LanguageCertRequirementService {
     private final StudentService studentService;
     private final DepartmentLanguageCertPolicyMappingRepository mappingRepository;
     private final LanguageCertRequirementRepository requirementRepository;
+    private final AcademicCache academicCache;
 
     public LanguageCertRequirementResponse getRequirement(UUID studentId) {
         Student student = studentService.getStudentById(studentId);
@@ -35,6 +37,19 @@ public class LanguageCertRequirementService {
         String departmentCode = baseDepartment.getDepartmentCode();
         String departmentName = baseDepartment.getEstablishedDepartmentName();
 
+        // 학과 코드 + 입학년도 단위 정적 데이터이므로 캐시(및 스냅샷) 대상
+        return academicCache.getOrLoadLanguageCertRequirement(
+                departmentCode,
+                admissionYear,
+                () -> loadRequirement(departmentCode, departmentName, admissionYear)
+        );
+    }
+
+    private LanguageCertRequirementResponse loadRequirement(
+            String departmentCode,
+            String departmentName,
+            Integer admissionYear
+    ) {
         List<DepartmentLanguageCertPolicyMapping> mappings =
                 mappingRepository.findApplicableMappings(departmentCode, admissionYear);
 
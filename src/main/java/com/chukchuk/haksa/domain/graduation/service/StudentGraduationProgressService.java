@@ -5,6 +5,7 @@ import com.chukchuk.haksa.domain.cache.AcademicCache;
 import com.chukchuk.haksa.domain.graduation.model.StudentGraduationProgress;
 import com.chukchuk.haksa.domain.graduation.repository.StudentGraduationProgressRepository;
 import com.chukchuk.haksa.domain.student.model.Student;
+import com.chukchuk.haksa.global.metrics.StageObserver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +20,7 @@ public class StudentGraduationProgressService {
 
     private final StudentGraduationProgressRepository repository;
     private final AcademicCache academicCache;
+    private final StageObserver stageObserver;
 
     @Transactional
     public void syncLanguageCert(Student student, Boolean languageCertFulfilled) {
@@ -38,7 +40,7 @@ public class StudentGraduationProgressService {
                 ));
 
         repository.save(progress);
-        academicCache.deleteAllByStudentId(studentId);
+        stageObserver.run(StageObserver.SYNC, "cache_evict", () -> academicCache.deleteAllByStudentId(studentId));
     }
 
     public Optional<Boolean> getLanguageCertFulfilled(UUID studentId) {
@@ -3,12 +3,15 @@ package com.chukchuk.haksa.domain.lectureevaluations.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "lecture-evaluation")
 public class LectureEvaluationProperties {
 
     private Integer targetYear;
     private Integer targetSemester;
+    private final Stats stats = new Stats();
 
     public LectureEvaluationProperties() {
     }
@@ -33,4 +36,34 @@ public class LectureEvaluationProperties {
     public void setTargetSemester(Integer targetSemester) {
         this.targetSemester = targetSemester;
     }
+
+    public Stats getStats() {
+        return stats;
+    }
+
+    /**
+     * 강의평가 통계 조회 캐시
+     * - 인스턴스 로컬 캐시이므로 다른 인스턴스의 제출은 cacheTtl 이후 반영된다.
+     */
+    public static class Stats {
+
+        private long cacheMaxSize = 2_000;
+        private Duration cacheTtl = Duration.ofMinutes(5);
+
+        public long getCacheMaxSize() {
+            return cacheMaxSize;
+        }
+
+        public void setCacheMaxSize(long cacheMaxSize) {
+            this.cacheMaxSize = cacheMaxSize;
+        }
+
+        public Duration getCacheTtl() {
+            return cacheTtl;
+        }
+
+        public void setCacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+        }
+    }
 }
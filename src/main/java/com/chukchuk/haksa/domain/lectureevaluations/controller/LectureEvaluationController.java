@@ -1,7 +1,9 @@
 package com.chukchuk.haksa.domain.lectureevaluations.controller;
 
 import com.chukchuk.haksa.domain.lectureevaluations.controller.docs.LectureEvaluationControllerDocs;
+import com.chukchuk.haksa.domain.lectureevaluations.dto.CourseEvaluationStatsDto;
 import com.chukchuk.haksa.domain.lectureevaluations.dto.LectureEvaluationDto;
+import com.chukchuk.haksa.domain.lectureevaluations.service.CourseEvaluationStatsService;
 import com.chukchuk.haksa.domain.lectureevaluations.service.LectureEvaluationService;
 import com.chukchuk.haksa.global.common.response.MessageOnlyResponse;
 import com.chukchuk.haksa.global.common.response.SuccessResponse;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import static com.chukchuk.haksa.global.logging.config.LoggingThresholds.SLOW_MS;
@@ -27,6 +30,7 @@ import static com.chukchuk.haksa.global.logging.config.LoggingThresholds.SLOW_MS
 public class LectureEvaluationController implements LectureEvaluationControllerDocs {
 
     private final LectureEvaluationService lectureEvaluationService;
+    private final CourseEvaluationStatsService courseEvaluationStatsService;
 
     @GetMapping("/required")
     public ResponseEntity<SuccessResponse<LectureEvaluationDto.RequiredResponse>> getRequired(
@@ -42,6 +46,21 @@ public class LectureEvaluationController implements LectureEvaluationControllerD
         return ResponseEntity.ok(SuccessResponse.of(response));
     }
 
+    @GetMapping("/stats")
+    public ResponseEntity<SuccessResponse<CourseEvaluationStatsDto.StatsResponse>> getStats(
+            @RequestParam Long courseId,
+            @RequestParam Long professorId
+    ) {
+        long t0 = LogTime.start();
+        CourseEvaluationStatsDto.StatsResponse response = courseEvaluationStatsService.getStats(courseId, professorId);
+        long tookMs = LogTime.elapsedMs(t0);
+        if (tookMs >= SLOW_MS) {
+            log.info("[BIZ] lecture_evaluation.stats.get.done courseId={} professorId={} took_ms={}",
+                    courseId, professorId, tookMs);
+        }
+        return ResponseEntity.ok(SuccessResponse.of(response));
+    }
+
     @PostMapping
     public ResponseEntity<SuccessResponse<MessageOnlyResponse>> submit(
             @AuthenticationPrincipal CustomUserDetails userDetails,
@@ -1,8 +1,10 @@
 package com.chukchuk.haksa.domain.lectureevaluations.controller.docs;
 
+import com.chukchuk.haksa.domain.lectureevaluations.dto.CourseEvaluationStatsDto;
 import com.chukchuk.haksa.domain.lectureevaluations.dto.LectureEvaluationDto;
 import com.chukchuk.haksa.domain.lectureevaluations.wrapper.LectureEvaluationRequiredApiResponse;
 import com.chukchuk.haksa.domain.lectureevaluations.wrapper.LectureEvaluationSkipApiResponse;
+import com.chukchuk.haksa.domain.lectureevaluations.wrapper.LectureEvaluationStatsApiResponse;
 import com.chukchuk.haksa.domain.lectureevaluations.wrapper.LectureEvaluationSubmitApiResponse;
 import com.chukchuk.haksa.global.common.response.MessageOnlyResponse;
 import com.chukchuk.haksa.global.common.response.SuccessResponse;
@@ -18,6 +20,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "Lecture Evaluations", description = "강의평가 API")
 public interface LectureEvaluationControllerDocs {
@@ -39,6 +42,26 @@ public interface LectureEvaluationControllerDocs {
             @AuthenticationPrincipal CustomUserDetails userDetails
     );
 
+    @Operation(
+            summary = "강의평가 통계 조회",
+            description = "과목/교수별 강의평가 수와 태그 선택 수를 전체 학기 합계와 학기별로 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "강의평가 통계 조회 성공",
+                            content = @Content(schema = @Schema(implementation = LectureEvaluationStatsApiResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "courseId/professorId 누락 또는 형식 오류",
+                            content = @Content(schema = @Schema(implementation = ErrorResponseWrapper.class))),
+                    @ApiResponse(responseCode = "401", description = "인증 실패",
+                            content = @Content(schema = @Schema(implementation = ErrorResponseWrapper.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                            content = @Content(schema = @Schema(implementation = ErrorResponseWrapper.class)))
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    ResponseEntity<SuccessResponse<CourseEvaluationStatsDto.StatsResponse>> getStats(
+            @RequestParam Long courseId,
+            @RequestParam Long professorId
+    );
+
     @Operation(
             summary = "강의평가 제출",
             description = "설정된 대상 학기의 강의평가 데이터를 일괄 제출합니다.",
@@ -0,0 +1,60 @@
+package com.chukchuk.haksa.domain.lectureevaluations.dto;
+
+import com.chukchuk.haksa.domain.lectureevaluations.model.CourseEvaluationStat;
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CourseEvaluationStatsDto {
+
+    public record StatsResponse(
+            @Schema(description = "과목 ID") Long courseId,
+            @Schema(description = "교수 ID") Long professorId,
+            @Schema(description = "전체 학기 강의평가 수") int evaluationCount,
+            @Schema(description = "전체 학기 태그별 선택 수") List<TagCount> tags,
+            @Schema(description = "학기별 집계 (최근 학기 순)") List<SemesterStats> semesters
+    ) {
+        public static StatsResponse of(Long courseId, Long professorId, List<CourseEvaluationStat> stats) {
+            LectureEvaluationTag[] values = LectureEvaluationTag.values();
+            int[] totals = new int[values.length];
+            int evaluationCount = 0;
+            List<SemesterStats> semesters = new ArrayList<>(stats.size());
+            for (CourseEvaluationStat stat : stats) {
+                evaluationCount += stat.getEvaluationCount();
+                for (LectureEvaluationTag tag : values) {
+                    totals[tag.ordinal()] += stat.countOf(tag);
+                }
+                semesters.add(SemesterStats.from(stat));
+            }
+
+            List<TagCount> tags = new ArrayList<>(values.length);
+            for (LectureEvaluationTag tag : values) {
+                tags.add(new TagCount(tag, tag.getLabel(), totals[tag.ordinal()]));
+            }
+            return new StatsResponse(courseId, professorId, evaluationCount, tags, semesters);
+        }
+    }
+
+    public record SemesterStats(
+            @Schema(description = "연도") Integer year,
+            @Schema(description = "학기 코드") Integer semester,
+            @Schema(description = "강의평가 수") int evaluationCount,
+            @Schema(description = "태그별 선택 수") List<TagCount> tags
+    ) {
+        static SemesterStats from(CourseEvaluationStat stat) {
+            List<TagCount> tags = new ArrayList<>();
+            for (LectureEvaluationTag tag : LectureEvaluationTag.values()) {
+                tags.add(new TagCount(tag, tag.getLabel(), stat.countOf(tag)));
+            }
+            return new SemesterStats(stat.getId().getYear(), stat.getId().getSemester(), stat.getEvaluationCount(), tags);
+        }
+    }
+
+    public record TagCount(
+            @Schema(description = "태그") LectureEvaluationTag tag,
+            @Schema(description = "태그 표시 이름") String label,
+            @Schema(description = "선택 수") int count
+    ) {}
+}
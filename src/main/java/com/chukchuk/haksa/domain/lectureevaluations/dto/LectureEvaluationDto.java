@@ -1,9 +1,7 @@
 package com.chukchuk.haksa.domain.lectureevaluations.dto;
 
 import com.chukchuk.haksa.domain.academic.record.model.LectureEvaluationStatus;
-import com.chukchuk.haksa.domain.academic.record.model.StudentCourse;
 import com.chukchuk.haksa.domain.course.model.FacultyDivision;
-import com.chukchuk.haksa.domain.course.model.LiberalArtsAreaCode;
 import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -44,35 +42,20 @@ public class LectureEvaluationDto {
             @JsonInclude(JsonInclude.Include.NON_NULL)
             Integer liberalAreaCode
     ) {
-        public static GradeCard from(StudentCourse studentCourse) {
+        public static GradeCard from(LectureEvaluationTarget target) {
             return new GradeCard(
-                    studentCourse.getOffering().getCourse().getCourseName(),
-                    studentCourse.getOffering().getCourse().getCourseCode(),
-                    studentCourse.getOffering().getCourse().getId(),
-                    studentCourse.getOffering().getFacultyDivisionName(),
-                    studentCourse.getOffering().getPoints(),
-                    studentCourse.getOffering().getProfessor() != null
-                            ? studentCourse.getOffering().getProfessor().getProfessorName()
-                            : "미지정",
-                    studentCourse.getOffering().getProfessor() != null
-                            ? studentCourse.getOffering().getProfessor().getId()
-                            : null,
-                    studentCourse.getGrade() != null && studentCourse.getGrade().getValue() != null
-                            ? studentCourse.getGrade().getValue().getValue()
-                            : null,
-                    studentCourse.getOriginalScore(),
-                    missionLiberalAreaCode(studentCourse)
+                    target.courseName(),
+                    target.courseCode(),
+                    target.courseId(),
+                    target.facultyDivision(),
+                    target.points(),
+                    target.professorName() != null ? target.professorName() : "미지정",
+                    target.professorId(),
+                    target.grade() != null ? target.grade().getValue() : null,
+                    target.originalScore(),
+                    target.facultyDivision() == FacultyDivision.선교 ? target.liberalAreaCode() : null
             );
         }
-
-        private static Integer missionLiberalAreaCode(StudentCourse studentCourse) {
-            if (studentCourse.getOffering().getFacultyDivisionName() != FacultyDivision.선교) {
-                return null;
-            }
-
-            LiberalArtsAreaCode areaCode = studentCourse.getOffering().getLiberalArtsAreaCode();
-            return areaCode != null ? areaCode.getCode() : null;
-        }
     }
 
     public record SubmitRequest(
@@ -0,0 +1,21 @@
+package com.chukchuk.haksa.domain.lectureevaluations.dto;
+
+import com.chukchuk.haksa.domain.course.model.FacultyDivision;
+import com.chukchuk.haksa.domain.student.model.GradeType;
+
+/**
+ * 강의평가 대상 과목 (성적 카드 + 제출 검증에 필요한 값만 담은 조회 전용 projection)
+ */
+public record LectureEvaluationTarget(
+        Long courseId,
+        String courseCode,
+        String courseName,
+        FacultyDivision facultyDivision,
+        Integer points,
+        Long professorId,
+        String professorName,
+        GradeType grade,
+        Integer originalScore,
+        Integer liberalAreaCode
+) {
+}
@@ -0,0 +1,77 @@
+package com.chukchuk.haksa.domain.lectureevaluations.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * 과목/교수/학기별 강의평가 태그 집계 (읽기 모델)
+ *
+ * - 쓰기는 CourseEvaluationStatBulkRepository의 증분 upsert / 재집계 SQL로만 한다.
+ * - 태그 컬럼 이름은 countColumn(tag) 규칙(LOW_HOMEWORK → low_homework_count)을 따른다.
+ */
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "course_evaluation_stats")
+public class CourseEvaluationStat {
+
+    @EmbeddedId
+    private CourseEvaluationStatId id;
+
+    @Column(name = "evaluation_count", nullable = false)
+    private int evaluationCount;
+
+    @Column(name = "low_homework_count", nullable = false)
+    private int lowHomeworkCount;
+
+    @Column(name = "low_team_project_count", nullable = false)
+    private int lowTeamProjectCount;
+
+    @Column(name = "online_exam_count", nullable = false)
+    private int onlineExamCount;
+
+    @Column(name = "exam_replaced_by_homework_count", nullable = false)
+    private int examReplacedByHomeworkCount;
+
+    @Column(name = "interesting_lecture_count", nullable = false)
+    private int interestingLectureCount;
+
+    @Column(name = "informative_lecture_count", nullable = false)
+    private int informativeLectureCount;
+
+    @Column(name = "absolute_exam_count", nullable = false)
+    private int absoluteExamCount;
+
+    @Column(name = "easy_grade_count", nullable = false)
+    private int easyGradeCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public static String countColumn(LectureEvaluationTag tag) {
+        return tag.name().toLowerCase(Locale.ROOT) + "_count";
+    }
+
+    public int countOf(LectureEvaluationTag tag) {
+        return switch (tag) {
+            case LOW_HOMEWORK -> lowHomeworkCount;
+            case LOW_TEAM_PROJECT -> lowTeamProjectCount;
+            case ONLINE_EXAM -> onlineExamCount;
+            case EXAM_REPLACED_BY_HOMEWORK -> examReplacedByHomeworkCount;
+            case INTERESTING_LECTURE -> interestingLectureCount;
+            case INFORMATIVE_LECTURE -> informativeLectureCount;
+            case ABSOLUTE_EXAM -> absoluteExamCount;
+            case EASY_GRADE -> easyGradeCount;
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.chukchuk.haksa.domain.lectureevaluations.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CourseEvaluationStatId implements Serializable {
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @Column(name = "professor_id", nullable = false)
+    private Long professorId;
+
+    @Column(name = "year", nullable = false)
+    private Integer year;
+
+    @Column(name = "semester", nullable = false)
+    private Integer semester;
+
+    public CourseEvaluationStatId(Long courseId, Long professorId, Integer year, Integer semester) {
+        this.courseId = courseId;
+        this.professorId = professorId;
+        this.year = year;
+        this.semester = semester;
+    }
+}
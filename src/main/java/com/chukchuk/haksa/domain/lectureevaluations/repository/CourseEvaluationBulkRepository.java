@@ -0,0 +1,39 @@
+package com.chukchuk.haksa.domain.lectureevaluations.repository;
+
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 강의평가 제출을 엔티티 없이 일괄 SQL로 저장한다.
+ * - 학기 강의평가 상태 전환(PENDING → COMPLETED)을 저장 조건으로 함께 처리한다. 동시에 들어온 제출/건너뛰기 중
+ *   상태를 먼저 바꾼 요청만 저장된다.
+ * - PostgreSQL: 상태 전환 + 강의평가 INSERT ... RETURNING 한 문장, 태그 batch INSERT 한 번
+ * - 그 외 DB(H2 테스트): 상태 UPDATE → 강의평가 batch INSERT → id 조회 → 태그 batch INSERT
+ */
+public interface CourseEvaluationBulkRepository {
+
+    /**
+     * @return 저장한 강의평가 수. 학기가 이미 PENDING이 아니면 아무것도 저장하지 않고 0을 반환한다.
+     */
+    int insertSubmission(Submission submission);
+
+    record Submission(
+            UUID semesterRecordId,
+            UUID studentId,
+            Integer year,
+            Integer semester,
+            List<SubmittedEvaluation> evaluations
+    ) {
+    }
+
+    /** 태그는 중복 없이 전달한다. */
+    record SubmittedEvaluation(
+            Long courseId,
+            Long professorId,
+            String review,
+            List<LectureEvaluationTag> tags
+    ) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.chukchuk.haksa.domain.lectureevaluations.repository;
+
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class CourseEvaluationBulkRepositoryImpl implements CourseEvaluationBulkRepository {
+
+    private static final String COMPLETE_SEMESTER_SQL = """
+            UPDATE semester_academic_records
+            SET lecture_evaluation_status = 'COMPLETED', updated_at = ?
+            WHERE id = ? AND lecture_evaluation_status = 'PENDING'
+            """;
+
+    /*
+     * PostgreSQL: 상태 전환 CTE가 row를 돌려줄 때만(= 아직 PENDING) 강의평가를 넣는다.
+     * 학생/연도/학기/시각은 전환된 학기 row에서 가져오고, 과목별 값만 VALUES로 넘긴다.
+     */
+    private static final String COMPLETE_AND_INSERT_SQL_PREFIX = """
+            WITH completed AS (
+                UPDATE semester_academic_records
+                SET lecture_evaluation_status = 'COMPLETED', updated_at = ?
+                WHERE id = ? AND lecture_evaluation_status = 'PENDING'
+                RETURNING student_id, year, semester, updated_at
+            )
+            INSERT INTO course_evaluations
+            (student_id, course_id, professor_id, year, semester, review, created_at, updated_at)
+            SELECT c.student_id, v.course_id, v.professor_id, c.year, c.semester, v.review, c.updated_at, c.updated_at
+            FROM completed c
+            CROSS JOIN (VALUES
+            """;
+    private static final String COMPLETE_AND_INSERT_VALUES_ROW = "(CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS VARCHAR))";
+    private static final String COMPLETE_AND_INSERT_SQL_SUFFIX = """
+            ) AS v(course_id, professor_id, review)
+            RETURNING id, course_id, professor_id
+            """;
+
+    private static final String INSERT_EVALUATION_SQL = """
+            INSERT INTO course_evaluations
+            (student_id, course_id, professor_id, year, semester, review, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String SELECT_EVALUATION_IDS_SQL = """
+            SELECT id, course_id, professor_id
+            FROM course_evaluations
+            WHERE student_id = ? AND year = ? AND semester = ?
+            """;
+    private static final String INSERT_TAG_SQL = """
+            INSERT INTO course_evaluation_tags (course_evaluation_id, tag)
+            VALUES (?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    public CourseEvaluationBulkRepositoryImpl(JdbcTemplate jdbcTemplate, DatabaseDialect databaseDialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+    }
+
+    @Override
+    public int insertSubmission(Submission submission) {
+        List<SubmittedEvaluation> evaluations = submission.evaluations();
+        if (evaluations == null || evaluations.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        Map<EvaluationKey, Long> ids = databaseDialect.isPostgres()
+                ? completeAndInsert(submission, now)
+                : completeThenInsert(submission, now);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        insertTags(evaluations, ids);
+        return evaluations.size();
+    }
+
+    private Map<EvaluationKey, Long> completeAndInsert(Submission submission, Timestamp now) {
+        List<SubmittedEvaluation> evaluations = submission.evaluations();
+        String sql = COMPLETE_AND_INSERT_SQL_PREFIX
+                + String.join(", ", Collections.nCopies(evaluations.size(), COMPLETE_AND_INSERT_VALUES_ROW))
+                + COMPLETE_AND_INSERT_SQL_SUFFIX;
+
+        Map<EvaluationKey, Long> ids = new HashMap<>();
+        jdbcTemplate.query(
+                sql,
+                ps -> {
+                    int index = 1;
+                    ps.setTimestamp(index++, now);
+                    ps.setObject(index++, submission.semesterRecordId());
+                    for (SubmittedEvaluation evaluation : evaluations) {
+                        ps.setLong(index++, evaluation.courseId());
+                        ps.setLong(index++, evaluation.professorId());
+                        ps.setString(index++, evaluation.review());
+                    }
+                },
+                rs -> {
+                    ids.put(new EvaluationKey(rs.getLong("course_id"), rs.getLong("professor_id")), rs.getLong("id"));
+                }
+        );
+        return ids;
+    }
+
+    private Map<EvaluationKey, Long> completeThenInsert(Submission submission, Timestamp now) {
+        int completed = jdbcTemplate.update(COMPLETE_SEMESTER_SQL, now, submission.semesterRecordId());
+        if (completed == 0) {
+            return Map.of();
+        }
+
+        List<SubmittedEvaluation> evaluations = submission.evaluations();
+        jdbcTemplate.batchUpdate(INSERT_EVALUATION_SQL, evaluations, evaluations.size(), (ps, evaluation) -> {
+            ps.setObject(1, submission.studentId());
+            ps.setLong(2, evaluation.courseId());
+            ps.setLong(3, evaluation.professorId());
+            ps.setInt(4, submission.year());
+            ps.setInt(5, submission.semester());
+            ps.setString(6, evaluation.review());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+
+        Map<EvaluationKey, Long> ids = new HashMap<>();
+        jdbcTemplate.query(
+                SELECT_EVALUATION_IDS_SQL,
+                rs -> {
+                    ids.put(new EvaluationKey(rs.getLong("course_id"), rs.getLong("professor_id")), rs.getLong("id"));
+                },
+                submission.studentId(),
+                submission.year(),
+                submission.semester()
+        );
+        return ids;
+    }
+
+    private void insertTags(List<SubmittedEvaluation> evaluations, Map<EvaluationKey, Long> ids) {
+        List<TagRow> rows = new ArrayList<>();
+        for (SubmittedEvaluation evaluation : evaluations) {
+            Long evaluationId = ids.get(new EvaluationKey(evaluation.courseId(), evaluation.professorId()));
+            if (evaluationId == null) {
+                throw new IllegalStateException("inserted course evaluation not returned: course_id="
+                        + evaluation.courseId() + " professor_id=" + evaluation.professorId());
+            }
+            if (evaluation.tags() == null) {
+                continue;
+            }
+            for (LectureEvaluationTag tag : evaluation.tags()) {
+                rows.add(new TagRow(evaluationId, tag));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TAG_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.evaluationId());
+            ps.setString(2, row.tag().name());
+        });
+    }
+
+
+    private record EvaluationKey(Long courseId, Long professorId) {}
+
+    private record TagRow(Long evaluationId, LectureEvaluationTag tag) {}
+}
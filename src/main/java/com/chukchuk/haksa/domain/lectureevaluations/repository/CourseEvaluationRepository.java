@@ -1,17 +1,49 @@
 package com.chukchuk.haksa.domain.lectureevaluations.repository;
 
+import com.chukchuk.haksa.domain.lectureevaluations.dto.LectureEvaluationTarget;
 import com.chukchuk.haksa.domain.lectureevaluations.model.CourseEvaluation;
+import com.chukchuk.haksa.domain.student.model.GradeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface CourseEvaluationRepository extends JpaRepository<CourseEvaluation, Long> {
 
+    /**
+     * 학생의 해당 학기 강의평가 대상 과목을 한 번에 조회한다.
+     * - 성적이 확정되지 않은 과목(excludedGrade = IP, 성적 없음)과 교수 미지정 과목은 SQL에서 제외한다.
+     * - 엔티티 대신 필요한 컬럼만 읽어 과목 수와 무관하게 한 문장으로 끝난다.
+     */
+    @Query("""
+        SELECT new com.chukchuk.haksa.domain.lectureevaluations.dto.LectureEvaluationTarget(
+            c.id, c.courseCode, c.courseName, co.facultyDivisionName, co.points,
+            p.id, p.professorName, sc.grade.value, sc.originalScore, lac.code
+        )
+        FROM StudentCourse sc
+        JOIN sc.offering co
+        JOIN co.course c
+        JOIN co.professor p
+        LEFT JOIN co.liberalArtsAreaCode lac
+        WHERE sc.student.id = :studentId
+          AND co.year = :year
+          AND co.semester = :semester
+          AND sc.grade.value IS NOT NULL
+          AND sc.grade.value <> :excludedGrade
+        ORDER BY sc.id
+    """)
+    List<LectureEvaluationTarget> findEvaluationTargets(
+            @Param("studentId") UUID studentId,
+            @Param("year") Integer year,
+            @Param("semester") Integer semester,
+            @Param("excludedGrade") GradeType excludedGrade
+    );
+
     @Modifying
     @Query("""
         DELETE FROM CourseEvaluation ce
@@ -0,0 +1,24 @@
+package com.chukchuk.haksa.domain.lectureevaluations.repository;
+
+import java.util.List;
+
+/**
+ * course_evaluation_stats 쓰기 전용 저장소
+ * - 증분 갱신은 키 순서로 정렬해 적용한다. (동시 제출 간 row lock 순서를 맞춰 교착을 피한다)
+ */
+public interface CourseEvaluationStatBulkRepository {
+
+    /** 키별 증감분을 더한다. 없는 키는 새 row로 만든다. */
+    void applyDeltas(List<CourseEvaluationStatDelta> deltas);
+
+    /** 키별 감소분을 뺀다. 0 아래로 내려가지 않으며 없는 키는 건너뛴다. (강의평가 원본 삭제 시) */
+    void subtractDeltas(List<CourseEvaluationStatDelta> deltas);
+
+    /**
+     * course_evaluations / course_evaluation_tags에서 집계를 다시 만든다.
+     * year, semester가 null이면 전체를, 아니면 해당 학기만 재집계한다.
+     *
+     * @return 재집계된 row 수
+     */
+    int rebuild(Integer year, Integer semester);
+}
@@ -0,0 +1,158 @@
+package com.chukchuk.haksa.domain.lectureevaluations.repository;
+
+import com.chukchuk.haksa.domain.lectureevaluations.model.CourseEvaluationStat;
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+public class CourseEvaluationStatBulkRepositoryImpl implements CourseEvaluationStatBulkRepository {
+
+    private static final LectureEvaluationTag[] TAGS = LectureEvaluationTag.values();
+    private static final String KEY_COLUMNS = "course_id, professor_id, year, semester";
+    private static final String COUNT_COLUMNS = "evaluation_count, " + Arrays.stream(TAGS)
+            .map(CourseEvaluationStat::countColumn)
+            .collect(Collectors.joining(", "));
+    private static final String INSERT_COLUMNS = KEY_COLUMNS + ", " + COUNT_COLUMNS + ", updated_at";
+    private static final String INSERT_VALUES = "?, ".repeat(4 + 1 + TAGS.length) + "?";
+
+    /* PostgreSQL: 한 문장으로 없으면 생성, 있으면 증감분을 더한다. */
+    private static final String UPSERT_SQL = "INSERT INTO course_evaluation_stats (" + INSERT_COLUMNS + ") "
+            + "VALUES (" + INSERT_VALUES + ") "
+            + "ON CONFLICT (" + KEY_COLUMNS + ") DO UPDATE SET "
+            + Arrays.stream(COUNT_COLUMNS.split(", "))
+            .map(column -> column + " = course_evaluation_stats." + column + " + EXCLUDED." + column)
+            .collect(Collectors.joining(", "))
+            + ", updated_at = EXCLUDED.updated_at";
+
+    /* 그 외 DB: UPDATE 후 갱신되지 않은 키만 INSERT */
+    private static final String UPDATE_SQL = "UPDATE course_evaluation_stats SET "
+            + Arrays.stream(COUNT_COLUMNS.split(", "))
+            .map(column -> column + " = " + column + " + ?")
+            .collect(Collectors.joining(", "))
+            + ", updated_at = ? "
+            + "WHERE course_id = ? AND professor_id = ? AND year = ? AND semester = ?";
+    private static final String SUBTRACT_SQL = "UPDATE course_evaluation_stats SET "
+            + Arrays.stream(COUNT_COLUMNS.split(", "))
+            .map(column -> column + " = GREATEST(" + column + " - ?, 0)")
+            .collect(Collectors.joining(", "))
+            + ", updated_at = ? "
+            + "WHERE course_id = ? AND professor_id = ? AND year = ? AND semester = ?";
+    private static final String INSERT_SQL = "INSERT INTO course_evaluation_stats (" + INSERT_COLUMNS + ") "
+            + "VALUES (" + INSERT_VALUES + ")";
+
+    private static final String REBUILD_SELECT = "SELECT ce.course_id, ce.professor_id, ce.year, ce.semester, "
+            + "COUNT(DISTINCT ce.id), "
+            + Arrays.stream(TAGS)
+            .map(tag -> "SUM(CASE WHEN t.tag = '" + tag.name() + "' THEN 1 ELSE 0 END)")
+            .collect(Collectors.joining(", "))
+            + ", CURRENT_TIMESTAMP "
+            + "FROM course_evaluations ce "
+            + "LEFT JOIN course_evaluation_tags t ON t.course_evaluation_id = ce.id ";
+    private static final String REBUILD_GROUP_BY = "GROUP BY ce.course_id, ce.professor_id, ce.year, ce.semester";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    public CourseEvaluationStatBulkRepositoryImpl(JdbcTemplate jdbcTemplate, DatabaseDialect databaseDialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+    }
+
+    @Override
+    public void applyDeltas(List<CourseEvaluationStatDelta> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+
+        List<CourseEvaluationStatDelta> ordered = new ArrayList<>(deltas);
+        ordered.sort(CourseEvaluationStatDelta.KEY_ORDER);
+        Timestamp now = Timestamp.from(Instant.now());
+
+        if (databaseDialect.isPostgres()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, ordered, ordered.size(), (ps, delta) -> bindInsert(ps, delta, now));
+            return;
+        }
+
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, ordered, ordered.size(),
+                (ps, delta) -> bindUpdate(ps, delta, now));
+
+        List<CourseEvaluationStatDelta> missing = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (updated[0][i] == 0) {
+                missing.add(ordered.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, missing, missing.size(), (ps, delta) -> bindInsert(ps, delta, now));
+        }
+    }
+
+    @Override
+    public void subtractDeltas(List<CourseEvaluationStatDelta> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+
+        List<CourseEvaluationStatDelta> ordered = new ArrayList<>(deltas);
+        ordered.sort(CourseEvaluationStatDelta.KEY_ORDER);
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(SUBTRACT_SQL, ordered, ordered.size(), (ps, delta) -> bindUpdate(ps, delta, now));
+    }
+
+    @Override
+    public int rebuild(Integer year, Integer semester) {
+        boolean scoped = year != null && semester != null;
+        if (databaseDialect.isPostgres()) {
+            // 재집계 중 증분 upsert를 막는다. (읽기는 허용, 진행 중인 제출은 커밋 후 반영된 상태로 집계)
+            jdbcTemplate.execute("LOCK TABLE course_evaluation_stats IN SHARE ROW EXCLUSIVE MODE");
+        }
+
+        if (scoped) {
+            jdbcTemplate.update("DELETE FROM course_evaluation_stats WHERE year = ? AND semester = ?", year, semester);
+            return jdbcTemplate.update(
+                    "INSERT INTO course_evaluation_stats (" + INSERT_COLUMNS + ") " + REBUILD_SELECT
+                            + "WHERE ce.year = ? AND ce.semester = ? " + REBUILD_GROUP_BY,
+                    year, semester);
+        }
+        jdbcTemplate.update("DELETE FROM course_evaluation_stats");
+        return jdbcTemplate.update(
+                "INSERT INTO course_evaluation_stats (" + INSERT_COLUMNS + ") " + REBUILD_SELECT + REBUILD_GROUP_BY);
+    }
+
+    private void bindUpdate(PreparedStatement ps, CourseEvaluationStatDelta delta, Timestamp now) throws SQLException {
+        int index = 1;
+        ps.setInt(index++, delta.evaluationCount());
+        for (LectureEvaluationTag tag : TAGS) {
+            ps.setInt(index++, delta.tagCount(tag));
+        }
+        ps.setTimestamp(index++, now);
+        ps.setLong(index++, delta.courseId());
+        ps.setLong(index++, delta.professorId());
+        ps.setInt(index++, delta.year());
+        ps.setInt(index, delta.semester());
+    }
+
+    private void bindInsert(PreparedStatement ps, CourseEvaluationStatDelta delta, Timestamp now) throws SQLException {
+        int index = 1;
+        ps.setLong(index++, delta.courseId());
+        ps.setLong(index++, delta.professorId());
+        ps.setInt(index++, delta.year());
+        ps.setInt(index++, delta.semester());
+        ps.setInt(index++, delta.evaluationCount());
+        for (LectureEvaluationTag tag : TAGS) {
+            ps.setInt(index++, delta.tagCount(tag));
+        }
+        ps.setTimestamp(index, now);
+    }
+}
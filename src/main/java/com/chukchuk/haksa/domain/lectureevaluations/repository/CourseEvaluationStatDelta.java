@@ -0,0 +1,30 @@
+package com.chukchuk.haksa.domain.lectureevaluations.repository;
+
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+
+import java.util.Comparator;
+
+/**
+ * 집계 키 하나에 대한 증감분
+ *
+ * @param tagCounts LectureEvaluationTag.ordinal() 위치의 증감분
+ */
+public record CourseEvaluationStatDelta(
+        Long courseId,
+        Long professorId,
+        Integer year,
+        Integer semester,
+        int evaluationCount,
+        int[] tagCounts
+) {
+
+    static final Comparator<CourseEvaluationStatDelta> KEY_ORDER = Comparator
+            .comparing(CourseEvaluationStatDelta::courseId)
+            .thenComparing(CourseEvaluationStatDelta::professorId)
+            .thenComparing(CourseEvaluationStatDelta::year)
+            .thenComparing(CourseEvaluationStatDelta::semester);
+
+    public int tagCount(LectureEvaluationTag tag) {
+        return tagCounts[tag.ordinal()];
+    }
+}
@@ -0,0 +1,26 @@
+package com.chukchuk.haksa.domain.lectureevaluations.repository;
+
+import com.chukchuk.haksa.domain.lectureevaluations.model.CourseEvaluationStat;
+import com.chukchuk.haksa.domain.lectureevaluations.model.CourseEvaluationStatId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CourseEvaluationStatRepository extends JpaRepository<CourseEvaluationStat, CourseEvaluationStatId> {
+
+    @Query("""
+        SELECT stat
+        FROM CourseEvaluationStat stat
+        WHERE stat.id.courseId = :courseId
+          AND stat.id.professorId = :professorId
+        ORDER BY stat.id.year DESC, stat.id.semester DESC
+    """)
+    List<CourseEvaluationStat> findByCourseIdAndProfessorId(
+            @Param("courseId") Long courseId,
+            @Param("professorId") Long professorId
+    );
+}
@@ -0,0 +1,171 @@
+package com.chukchuk.haksa.domain.lectureevaluations.service;
+
+import com.chukchuk.haksa.domain.lectureevaluations.config.LectureEvaluationProperties;
+import com.chukchuk.haksa.domain.lectureevaluations.dto.CourseEvaluationStatsDto;
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationBulkRepository.SubmittedEvaluation;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationStatBulkRepository;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationStatDelta;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationStatRepository;
+import com.chukchuk.haksa.global.logging.annotation.LogTime;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 과목/교수별 강의평가 통계
+ *
+ * - 제출 트랜잭션 안에서 (과목, 교수, 연도, 학기) 집계 row에 증감분을 더하고, 조회는 집계 row만 읽는다.
+ * - 조회 결과는 (과목, 교수) 단위로 인스턴스 로컬 캐시에 둔다. 자주 조회되는 키만 남도록 크기로 제한하고,
+ *   이 인스턴스의 제출은 커밋 후 즉시, 다른 인스턴스의 제출은 TTL 이후 반영된다.
+ * - 집계가 원본과 어긋나면 rebuildAll()(유지보수 작업 COURSE_EVALUATION_STATS_REBUILD)로 다시 만든다.
+ */
+@Slf4j
+@Service
+public class CourseEvaluationStatsService implements MeterBinder {
+
+    static final String CACHE_NAME = "lecture_evaluation_stats";
+
+    private final CourseEvaluationStatRepository statRepository;
+    private final CourseEvaluationStatBulkRepository statBulkRepository;
+    private final Cache<StatsKey, CourseEvaluationStatsDto.StatsResponse> cache;
+
+    public CourseEvaluationStatsService(
+            CourseEvaluationStatRepository statRepository,
+            CourseEvaluationStatBulkRepository statBulkRepository,
+            LectureEvaluationProperties properties
+    ) {
+        this.statRepository = statRepository;
+        this.statBulkRepository = statBulkRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getStats().getCacheMaxSize())
+                .expireAfterWrite(properties.getStats().getCacheTtl())
+                .recordStats()
+                .build();
+    }
+
+    public CourseEvaluationStatsDto.StatsResponse getStats(Long courseId, Long professorId) {
+        return cache.get(new StatsKey(courseId, professorId), key -> CourseEvaluationStatsDto.StatsResponse.of(
+                key.courseId(),
+                key.professorId(),
+                statRepository.findByCourseIdAndProfessorId(key.courseId(), key.professorId())
+        ));
+    }
+
+    /** 한 학기에 새로 저장한 강의평가를 집계에 더한다. 호출한 트랜잭션에 참여한다. */
+    @Transactional
+    public void recordSubmitted(Integer year, Integer semester, List<SubmittedEvaluation> evaluations) {
+        if (evaluations == null || evaluations.isEmpty()) {
+            return;
+        }
+
+        Map<DeltaKey, int[]> counts = new LinkedHashMap<>();
+        for (SubmittedEvaluation evaluation : evaluations) {
+            DeltaKey key = new DeltaKey(evaluation.courseId(), evaluation.professorId(), year, semester);
+            int[] row = counts.computeIfAbsent(key, k -> new int[LectureEvaluationTag.values().length + 1]);
+            row[0]++;
+            if (evaluation.tags() != null) {
+                for (LectureEvaluationTag tag : evaluation.tags()) {
+                    row[tag.ordinal() + 1]++;
+                }
+            }
+        }
+
+        List<CourseEvaluationStatDelta> deltas = new ArrayList<>(counts.size());
+        counts.forEach((key, row) -> deltas.add(new CourseEvaluationStatDelta(
+                key.courseId(),
+                key.professorId(),
+                key.year(),
+                key.semester(),
+                row[0],
+                Arrays.copyOfRange(row, 1, row.length)
+        )));
+        statBulkRepository.applyDeltas(deltas);
+
+        Set<StatsKey> touched = counts.keySet().stream()
+                .map(key -> new StatsKey(key.courseId(), key.professorId()))
+                .collect(Collectors.toSet());
+        evictAfterCommit(touched);
+    }
+
+    /**
+     * 삭제된 강의평가만큼 집계에서 뺀다. 호출한 트랜잭션에 참여한다.
+     *
+     * @param removed 키별 삭제 건수 (양수)
+     */
+    @Transactional
+    public void recordDeleted(List<CourseEvaluationStatDelta> removed) {
+        if (removed == null || removed.isEmpty()) {
+            return;
+        }
+
+        statBulkRepository.subtractDeltas(removed);
+        Set<StatsKey> touched = removed.stream()
+                .map(delta -> new StatsKey(delta.courseId(), delta.professorId()))
+                .collect(Collectors.toSet());
+        evictAfterCommit(touched);
+    }
+
+    /** 전체 재집계 (백필/복구용) */
+    @Transactional
+    public int rebuildAll() {
+        long t0 = LogTime.start();
+        int rows = statBulkRepository.rebuild(null, null);
+        evictAllAfterCommit();
+        log.info("[BIZ] lecture_evaluation.stats.rebuild scope=all rows={} took_ms={}", rows, LogTime.elapsedMs(t0));
+        return rows;
+    }
+
+    /** 한 학기 재집계 (강의평가 원본을 직접 지우거나 만든 뒤 호출) */
+    @Transactional
+    public int rebuildSemester(Integer year, Integer semester) {
+        int rows = statBulkRepository.rebuild(year, semester);
+        evictAllAfterCommit();
+        return rows;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    private void evictAfterCommit(Set<StatsKey> keys) {
+        runAfterCommit(() -> cache.invalidateAll(keys));
+    }
+
+    private void evictAllAfterCommit() {
+        runAfterCommit(cache::invalidateAll);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record StatsKey(Long courseId, Long professorId) {}
+
+    private record DeltaKey(Long courseId, Long professorId, Integer year, Integer semester) {}
+}
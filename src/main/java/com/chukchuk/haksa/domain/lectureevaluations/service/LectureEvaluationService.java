@@ -2,12 +2,14 @@ package com.chukchuk.haksa.domain.lectureevaluations.service;
 
 import com.chukchuk.haksa.domain.academic.record.model.LectureEvaluationStatus;
 import com.chukchuk.haksa.domain.academic.record.model.SemesterAcademicRecord;
-import com.chukchuk.haksa.domain.academic.record.model.StudentCourse;
 import com.chukchuk.haksa.domain.academic.record.repository.SemesterAcademicRecordRepository;
-import com.chukchuk.haksa.domain.academic.record.repository.StudentCourseRepository;
 import com.chukchuk.haksa.domain.lectureevaluations.config.LectureEvaluationProperties;
 import com.chukchuk.haksa.domain.lectureevaluations.dto.LectureEvaluationDto;
-import com.chukchuk.haksa.domain.lectureevaluations.model.CourseEvaluation;
+import com.chukchuk.haksa.domain.lectureevaluations.dto.LectureEvaluationTarget;
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationBulkRepository;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationBulkRepository.Submission;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationBulkRepository.SubmittedEvaluation;
 import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationRepository;
 import com.chukchuk.haksa.domain.student.model.GradeType;
 import com.chukchuk.haksa.domain.student.model.Student;
@@ -18,13 +20,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,9 +33,10 @@ public class LectureEvaluationService {
 
     private final StudentService studentService;
     private final SemesterAcademicRecordRepository semesterAcademicRecordRepository;
-    private final StudentCourseRepository studentCourseRepository;
     private final CourseEvaluationRepository courseEvaluationRepository;
+    private final CourseEvaluationBulkRepository courseEvaluationBulkRepository;
     private final LectureEvaluationProperties properties;
+    private final CourseEvaluationStatsService courseEvaluationStatsService;
 
     public LectureEvaluationDto.RequiredResponse getRequired(UUID userId) {
         Student student = studentService.getStudentByUserId(userId);
@@ -72,18 +73,26 @@ public class LectureEvaluationService {
             throw new CommonException(ErrorCode.LECTURE_EVALUATION_NOT_REQUIRED);
         }
 
-        List<StudentCourse> targets = findEvaluationTargets(student.getId(), request.year(), request.semester());
+        List<LectureEvaluationTarget> targets = findEvaluationTargets(student.getId(), request.year(), request.semester());
         validateSubmittedCourses(targets, request.evaluations());
 
-        Map<CourseProfessorKey, StudentCourse> targetMap = targets.stream()
-                .collect(Collectors.toMap(CourseProfessorKey::from, Function.identity()));
-
-        List<CourseEvaluation> evaluations = request.evaluations().stream()
-                .map(submitted -> toEntity(student, request.year(), request.semester(), targetMap, submitted))
+        List<SubmittedEvaluation> evaluations = request.evaluations().stream()
+                .map(this::toSubmitted)
                 .toList();
 
-        courseEvaluationRepository.saveAll(evaluations);
-        semesterRecord.markLectureEvaluationCompleted();
+        // 학기 상태 전환(PENDING → COMPLETED)은 저장 SQL이 함께 처리한다. 0건이면 동시 요청이 먼저 상태를 바꾼 것이다.
+        int saved = courseEvaluationBulkRepository.insertSubmission(new Submission(
+                semesterRecord.getId(),
+                student.getId(),
+                request.year(),
+                request.semester(),
+                evaluations
+        ));
+        if (saved == 0) {
+            throw new CommonException(ErrorCode.LECTURE_EVALUATION_NOT_REQUIRED);
+        }
+
+        courseEvaluationStatsService.recordSubmitted(request.year(), request.semester(), evaluations);
     }
 
     @Transactional
@@ -99,7 +108,16 @@ public class LectureEvaluationService {
             throw new CommonException(ErrorCode.LECTURE_EVALUATION_NOT_REQUIRED);
         }
 
-        semesterRecord.markLectureEvaluationSkipped();
+        // 제출과 같이 PENDING일 때만 바꾼다. 0건이면 동시 제출/건너뛰기가 먼저 상태를 바꾼 것이다.
+        int skipped = semesterAcademicRecordRepository.updateLectureEvaluationStatus(
+                semesterRecord.getId(),
+                LectureEvaluationStatus.PENDING,
+                LectureEvaluationStatus.SKIPPED,
+                Instant.now()
+        );
+        if (skipped == 0) {
+            throw new CommonException(ErrorCode.LECTURE_EVALUATION_NOT_REQUIRED);
+        }
     }
 
     private void validateTargetSemester(LectureEvaluationDto.SubmitRequest request) {
@@ -116,27 +134,12 @@ public class LectureEvaluationService {
         return semesterRecord.isLectureEvaluationPending();
     }
 
-    private List<StudentCourse> findEvaluationTargets(UUID studentId, Integer year, Integer semester) {
-        return studentCourseRepository.findByStudentIdAndYearAndSemester(studentId, year, semester).stream()
-                .filter(this::isCompletedGrade)
-                .filter(this::hasProfessor)
-                .toList();
-    }
-
-    private boolean isCompletedGrade(StudentCourse studentCourse) {
-        return studentCourse.getGrade() != null
-                && studentCourse.getGrade().getValue() != null
-                && studentCourse.getGrade().getValue() != GradeType.IP;
-    }
-
-    private boolean hasProfessor(StudentCourse studentCourse) {
-        return studentCourse.getOffering() != null
-                && studentCourse.getOffering().getProfessor() != null
-                && studentCourse.getOffering().getProfessor().getId() != null;
+    private List<LectureEvaluationTarget> findEvaluationTargets(UUID studentId, Integer year, Integer semester) {
+        return courseEvaluationRepository.findEvaluationTargets(studentId, year, semester, GradeType.IP);
     }
 
     private void validateSubmittedCourses(
-            List<StudentCourse> targets,
+            List<LectureEvaluationTarget> targets,
             List<LectureEvaluationDto.SubmitEvaluation> submitted
     ) {
         Set<CourseProfessorKey> targetKeys = new HashSet<>(targets.stream()
@@ -153,37 +156,16 @@ public class LectureEvaluationService {
         }
     }
 
-    private CourseEvaluation toEntity(
-            Student student,
-            Integer year,
-            Integer semester,
-            Map<CourseProfessorKey, StudentCourse> targetMap,
-            LectureEvaluationDto.SubmitEvaluation submitted
-    ) {
-        StudentCourse target = targetMap.get(CourseProfessorKey.from(submitted));
-        if (target == null) {
-            throw new CommonException(ErrorCode.LECTURE_EVALUATION_COURSE_MISMATCH);
-        }
-
-        return new CourseEvaluation(
-                student,
-                target.getOffering().getCourse(),
-                target.getOffering().getProfessor(),
-                year,
-                semester,
-                submitted.review(),
-                submitted.selectedTags()
-        );
+    private SubmittedEvaluation toSubmitted(LectureEvaluationDto.SubmitEvaluation submitted) {
+        List<LectureEvaluationTag> tags = submitted.selectedTags() != null
+                ? submitted.selectedTags().stream().distinct().toList()
+                : List.of();
+        return new SubmittedEvaluation(submitted.courseId(), submitted.professorId(), submitted.review(), tags);
     }
 
     private record CourseProfessorKey(Long courseId, Long professorId) {
-        static CourseProfessorKey from(StudentCourse studentCourse) {
-            return new CourseProfessorKey(
-                    studentCourse.getOffering().getCourse().getId(),
-                    studentCourse.getOffering().getProfessor() != null
-                            ? studentCourse.getOffering().getProfessor().getId()
-                            : null
-            );
+        static CourseProfessorKey from(LectureEvaluationTarget target) {
+            return new CourseProfessorKey(target.courseId(), target.professorId());
         }
 
         static CourseProfessorKey from(LectureEvaluationDto.SubmitEvaluation evaluation) {
@@ -0,0 +1,15 @@
+package com.chukchuk.haksa.domain.lectureevaluations.wrapper;
+
+import com.chukchuk.haksa.domain.lectureevaluations.dto.CourseEvaluationStatsDto;
+import com.chukchuk.haksa.global.common.response.SuccessResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(name = "LectureEvaluationStatsApiResponse", description = "강의평가 통계 응답")
+public class LectureEvaluationStatsApiResponse extends SuccessResponse<CourseEvaluationStatsDto.StatsResponse> {
+
+    public LectureEvaluationStatsApiResponse() {
+        super(CourseEvaluationStatsDto.StatsResponse.of(1L, 11L, List.of()), "요청 성공");
+    }
+}
@@ -23,7 +23,7 @@ public class InternalScrapeResultController implements PortalLinkCallbackControl
 
     @PostMapping
     public ResponseEntity<SuccessResponse<MessageOnlyResponse>> handleCallback(
-            @RequestBody String rawBody,
+            @RequestBody byte[] rawBody,
             @RequestHeader("X-Timestamp") String timestamp,
             @RequestHeader("X-Signature") String signature
     ) {
@@ -40,7 +40,7 @@ public interface PortalLinkCallbackControllerDocs {
             }
     )
     ResponseEntity<SuccessResponse<MessageOnlyResponse>> handleCallback(
-            @RequestBody String rawBody,
+            @RequestBody byte[] rawBody,
             @RequestHeader("X-Timestamp")
             @Parameter(name = "X-Timestamp", description = "epoch millis (UTC)", in = ParameterIn.HEADER, required = true)
             String timestamp,
@@ -1,10 +1,14 @@
 package com.chukchuk.haksa.domain.professor.model;
 
+import com.chukchuk.haksa.domain.cache.ReferenceCacheRegions;
 import com.chukchuk.haksa.domain.department.model.Department;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
 import org.springframework.data.annotation.CreatedDate;
 
 import java.time.Instant;
@@ -13,6 +17,8 @@ import java.time.Instant;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "professor")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = ReferenceCacheRegions.PROFESSOR)
 public class Professor {
 
     @Id
@@ -22,6 +28,7 @@ public class Professor {
     @Column(name = "professor_code")
     private String professorCode;
 
+    @NaturalId
     @Column(name = "professor_name", nullable = false, unique = true)
     private String professorName;
 
@@ -10,7 +10,9 @@ import java.util.Optional;
 
 @Repository
 public interface ProfessorRepository extends JpaRepository<Professor, Long> {
+
     Optional<Professor> findByProfessorName(String name);
 
+    // 교수명 목록으로 찾기. ReferenceIdCache에 없는 교수명만 넘어온다. (쿼리 캐시를 쓰지 않는다)
     List<Professor> findByProfessorNameIn(Collection<String> names);
 }
@@ -1,5 +1,6 @@
 package com.chukchuk.haksa.domain.professor.service;
 
+import com.chukchuk.haksa.domain.cache.ReferenceIdCache;
 import com.chukchuk.haksa.domain.professor.model.Professor;
 import com.chukchuk.haksa.domain.professor.repository.ProfessorRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,12 +13,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProfessorService {
     private final ProfessorRepository professorRepository;
+    private final ReferenceIdCache referenceIdCache;
 
     @Transactional
     public Professor getOrCreate(String professorName) {
@@ -36,16 +39,14 @@ public class ProfessorService {
 
         Set<String> uniqueNames = professorNames.stream()
                 .filter(name -> name != null && !name.isBlank())
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(TreeSet::new));
         if (uniqueNames.isEmpty()) {
             return Collections.emptyMap();
         }
 
-        List<Professor> existing = professorRepository.findByProfessorNameIn(uniqueNames);
-        Map<String, Professor> result = new HashMap<>();
-        for (Professor professor : existing) {
-            result.put(professor.getProfessorName(), professor);
-        }
+        // 교수명마다 캐시된 id로 엔티티 캐시에서 꺼내고, 캐시에 없는 교수명만 DB에서 한 번에 읽는다.
+        Map<String, Professor> result = new HashMap<>(
+                referenceIdCache.findAll(ReferenceIdCache.PROFESSOR_BY_NAME, uniqueNames, professorRepository::findByProfessorNameIn));
 
         List<Professor> toCreate = uniqueNames.stream()
                 .filter(name -> !result.containsKey(name))
@@ -54,6 +55,7 @@ public class ProfessorService {
 
         if (!toCreate.isEmpty()) {
             List<Professor> saved = professorRepository.saveAll(toCreate);
+            referenceIdCache.putAll(ReferenceIdCache.PROFESSOR_BY_NAME, saved);
             for (Professor professor : saved) {
                 result.put(professor.getProfessorName(), professor);
             }
@@ -0,0 +1,15 @@
+package com.chukchuk.haksa.domain.student.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 응답 캐시 조회에 필요한 학생 id와 데이터 버전 (학생 미연동이면 studentId가 null)
+ * - 포털 연동/재동기화 시 lastSyncedAt이 갱신되므로 이전 버전의 캐시 본문은 더 이상 조회되지 않는다.
+ */
+public record StudentDataVersion(UUID studentId, Instant lastSyncedAt) {
+
+    public long version() {
+        return lastSyncedAt == null ? 0L : lastSyncedAt.toEpochMilli();
+    }
+}
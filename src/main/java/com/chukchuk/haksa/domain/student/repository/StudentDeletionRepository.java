@@ -0,0 +1,40 @@
+package com.chukchuk.haksa.domain.student.repository;
+
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationStatDelta;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 학생/사용자 삭제 전용 저장소
+ * - 영속성 컨텍스트를 거치지 않고 사용자 묶음을 집합 단위로 지운다. 문장 수는 사용자 수와 무관하다.
+ *   (PostgreSQL: data-modifying CTE 한 문장, 그 외 DB: 테이블당 한 문장)
+ * - 자식 row는 students/users/course_evaluations를 참조하는 FK 컬럼으로 찾는다. 인덱스 누락은 ForeignKeyIndexAuditTest(index-audit)가 점검한다.
+ * - 호출 전에 영속성 컨텍스트를 flush해야 한다.
+ */
+public interface StudentDeletionRepository {
+
+    /**
+     * 사용자들의 강의평가가 지워질 때 집계에서 빠질 키별 건수 (deleteUsers 전에 같은 트랜잭션에서 호출)
+     */
+    List<CourseEvaluationStatDelta> countEvaluations(Collection<UUID> userIds);
+
+    /**
+     * 사용자와 연결된 학생, 학적/수강/졸업 진행/강의평가, 소셜 계정을 모두 지운다.
+     *
+     * @return 실제로 지운 사용자와 학생. 없는 사용자는 결과에 포함되지 않는다.
+     */
+    List<DeletedUser> deleteUsers(Collection<UUID> userIds);
+
+    /**
+     * 포털 재연동/초기화: 학생 row는 두고 수강 이력, 학기 성적, 학적 요약만 지운다.
+     */
+    void resetStudent(UUID studentId);
+
+    /**
+     * @param studentId 연동하지 않은 사용자면 null
+     */
+    record DeletedUser(UUID userId, UUID studentId) {
+    }
+}
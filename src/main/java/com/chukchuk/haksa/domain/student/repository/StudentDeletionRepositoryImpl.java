@@ -0,0 +1,197 @@
+package com.chukchuk.haksa.domain.student.repository;
+
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationStatDelta;
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+public class StudentDeletionRepositoryImpl implements StudentDeletionRepository {
+
+    private static final LectureEvaluationTag[] TAGS = LectureEvaluationTag.values();
+
+    /* 학생 id로 지우는 자식 테이블. 태그 → 강의평가 → 학적 순으로 지운 뒤 학생을 지운다. */
+    private static final List<String> STUDENT_CHILD_DELETES = List.of(
+            "DELETE FROM course_evaluation_tags WHERE course_evaluation_id IN "
+                    + "(SELECT id FROM course_evaluations WHERE student_id IN (%s))",
+            "DELETE FROM course_evaluations WHERE student_id IN (%s)",
+            "DELETE FROM student_courses WHERE student_id IN (%s)",
+            "DELETE FROM semester_academic_records WHERE student_id IN (%s)",
+            "DELETE FROM student_academic_records WHERE student_id IN (%s)",
+            "DELETE FROM student_graduation_progress WHERE student_id IN (%s)",
+            "DELETE FROM students WHERE student_id IN (%s)"
+    );
+
+    private static final String COUNT_EVALUATIONS_SQL = "SELECT ce.course_id, ce.professor_id, ce.year, ce.semester, "
+            + "COUNT(DISTINCT ce.id), "
+            + Arrays.stream(TAGS)
+            .map(tag -> "SUM(CASE WHEN t.tag = '" + tag.name() + "' THEN 1 ELSE 0 END)")
+            .collect(Collectors.joining(", "))
+            + " FROM course_evaluations ce "
+            + "JOIN students s ON s.student_id = ce.student_id "
+            + "LEFT JOIN course_evaluation_tags t ON t.course_evaluation_id = ce.id "
+            + "WHERE s.user_id %s "
+            + "GROUP BY ce.course_id, ce.professor_id, ce.year, ce.semester";
+
+    /* PostgreSQL: 같은 스냅샷에서 모든 DELETE가 실행되고 FK는 문장 끝에서 검사된다. 지운 사용자/학생만 돌려준다. */
+    private static final String DELETE_USERS_CTE = """
+            WITH target_users AS (
+                SELECT id FROM users WHERE id = ANY(?)
+            ), target_students AS (
+                SELECT student_id, user_id FROM students WHERE user_id IN (SELECT id FROM target_users)
+            ), deleted_tags AS (
+                DELETE FROM course_evaluation_tags t
+                USING course_evaluations ce
+                WHERE t.course_evaluation_id = ce.id
+                  AND ce.student_id IN (SELECT student_id FROM target_students)
+            ), deleted_evaluations AS (
+                DELETE FROM course_evaluations WHERE student_id IN (SELECT student_id FROM target_students)
+            ), deleted_courses AS (
+                DELETE FROM student_courses WHERE student_id IN (SELECT student_id FROM target_students)
+            ), deleted_semesters AS (
+                DELETE FROM semester_academic_records WHERE student_id IN (SELECT student_id FROM target_students)
+            ), deleted_records AS (
+                DELETE FROM student_academic_records WHERE student_id IN (SELECT student_id FROM target_students)
+            ), deleted_progress AS (
+                DELETE FROM student_graduation_progress WHERE student_id IN (SELECT student_id FROM target_students)
+            ), deleted_students AS (
+                DELETE FROM students WHERE student_id IN (SELECT student_id FROM target_students)
+            ), deleted_accounts AS (
+                DELETE FROM social_accounts WHERE user_id IN (SELECT id FROM target_users)
+            ), deleted_users AS (
+                DELETE FROM users WHERE id IN (SELECT id FROM target_users) RETURNING id
+            )
+            SELECT u.id AS user_id, s.student_id
+            FROM deleted_users u
+            LEFT JOIN target_students s ON s.user_id = u.id
+            """;
+
+    private static final String RESET_STUDENT_CTE = """
+            WITH deleted_courses AS (
+                DELETE FROM student_courses WHERE student_id = ?
+            ), deleted_semesters AS (
+                DELETE FROM semester_academic_records WHERE student_id = ?
+            )
+            DELETE FROM student_academic_records WHERE student_id = ?
+            """;
+
+    private static final List<String> RESET_STUDENT_DELETES = List.of(
+            "DELETE FROM student_courses WHERE student_id = ?",
+            "DELETE FROM semester_academic_records WHERE student_id = ?",
+            "DELETE FROM student_academic_records WHERE student_id = ?"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    public StudentDeletionRepositoryImpl(JdbcTemplate jdbcTemplate, DatabaseDialect databaseDialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+    }
+
+    @Override
+    public List<CourseEvaluationStatDelta> countEvaluations(Collection<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        boolean pg = databaseDialect.isPostgres();
+        String predicate = pg ? "= ANY(?)" : "IN (" + placeholders(userIds.size()) + ")";
+        return jdbcTemplate.query(COUNT_EVALUATIONS_SQL.formatted(predicate), ps -> bindIds(ps, userIds, pg), (rs, rowNum) -> {
+            int[] tagCounts = new int[TAGS.length];
+            for (int i = 0; i < TAGS.length; i++) {
+                tagCounts[i] = rs.getInt(6 + i);
+            }
+            return new CourseEvaluationStatDelta(
+                    rs.getLong(1),
+                    rs.getLong(2),
+                    rs.getInt(3),
+                    rs.getInt(4),
+                    rs.getInt(5),
+                    tagCounts
+            );
+        });
+    }
+
+    @Override
+    public List<DeletedUser> deleteUsers(Collection<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        if (databaseDialect.isPostgres()) {
+            return jdbcTemplate.query(DELETE_USERS_CTE, ps -> bindIds(ps, userIds, true), (rs, rowNum) -> new DeletedUser(
+                    rs.getObject("user_id", UUID.class),
+                    rs.getObject("student_id", UUID.class)
+            ));
+        }
+
+        String userIn = placeholders(userIds.size());
+        List<DeletedUser> targets = jdbcTemplate.query(
+                "SELECT u.id AS user_id, s.student_id FROM users u "
+                        + "LEFT JOIN students s ON s.user_id = u.id WHERE u.id IN (" + userIn + ")",
+                ps -> bindIds(ps, userIds, false),
+                (rs, rowNum) -> new DeletedUser(
+                        rs.getObject("user_id", UUID.class),
+                        rs.getObject("student_id", UUID.class)
+                ));
+        if (targets.isEmpty()) {
+            return targets;
+        }
+
+        List<UUID> studentIds = targets.stream()
+                .map(DeletedUser::studentId)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!studentIds.isEmpty()) {
+            String studentIn = placeholders(studentIds.size());
+            for (String sql : STUDENT_CHILD_DELETES) {
+                jdbcTemplate.update(sql.formatted(studentIn), ps -> bindIds(ps, studentIds, false));
+            }
+        }
+
+        List<UUID> targetUserIds = targets.stream().map(DeletedUser::userId).toList();
+        String targetIn = placeholders(targetUserIds.size());
+        jdbcTemplate.update("DELETE FROM social_accounts WHERE user_id IN (" + targetIn + ")",
+                ps -> bindIds(ps, targetUserIds, false));
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (" + targetIn + ")",
+                ps -> bindIds(ps, targetUserIds, false));
+        return targets;
+    }
+
+    @Override
+    public void resetStudent(UUID studentId) {
+        if (databaseDialect.isPostgres()) {
+            jdbcTemplate.update(RESET_STUDENT_CTE, studentId, studentId, studentId);
+            return;
+        }
+        for (String sql : RESET_STUDENT_DELETES) {
+            jdbcTemplate.update(sql, studentId);
+        }
+    }
+
+    private static void bindIds(PreparedStatement ps, Collection<UUID> ids, boolean asArray) throws SQLException {
+        if (asArray) {
+            ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray()));
+            return;
+        }
+        int index = 1;
+        for (UUID id : ids) {
+            ps.setObject(index++, id);
+        }
+    }
+
+    private static String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+}
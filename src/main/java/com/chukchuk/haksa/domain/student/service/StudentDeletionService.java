@@ -1,43 +1,95 @@
 package com.chukchuk.haksa.domain.student.service;
 
-import com.chukchuk.haksa.domain.academic.record.repository.SemesterAcademicRecordRepository;
-import com.chukchuk.haksa.domain.academic.record.repository.StudentAcademicRecordRepository;
-import com.chukchuk.haksa.domain.academic.record.repository.StudentCourseRepository;
-import com.chukchuk.haksa.domain.graduation.repository.StudentGraduationProgressRepository;
-import com.chukchuk.haksa.domain.student.model.Student;
-import com.chukchuk.haksa.domain.student.repository.StudentRepository;
+import com.chukchuk.haksa.domain.cache.AcademicCache;
+import com.chukchuk.haksa.domain.lectureevaluations.service.CourseEvaluationStatsService;
+import com.chukchuk.haksa.domain.student.repository.StudentDeletionRepository;
+import com.chukchuk.haksa.domain.student.repository.StudentDeletionRepository.DeletedUser;
+import com.chukchuk.haksa.global.logging.annotation.LogTime;
+import com.chukchuk.haksa.global.security.cache.AuthTokenCache;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * 회원 탈퇴/학생 초기화
+ *
+ * - 사용자 묶음(최대 DELETE_CHUNK_SIZE명)마다 고정된 문장 수로 지운다. (StudentDeletionRepository)
+ * - 지운 강의평가는 통계 집계에서 뺀다.
+ * - 학업/인증 캐시는 모든 묶음을 지운 뒤 한 번에 비운다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class StudentDeletionService {
 
-    private final StudentAcademicRecordRepository studentAcademicRecordRepository;
-    private final SemesterAcademicRecordRepository semesterAcademicRecordRepository;
-    private final StudentCourseRepository studentCourseRepository;
-    private final StudentGraduationProgressRepository studentGraduationProgressRepository;
-    private final StudentRepository studentRepository;
+    static final int DELETE_CHUNK_SIZE = 500;
 
+    private final StudentDeletionRepository studentDeletionRepository;
+    private final CourseEvaluationStatsService courseEvaluationStatsService;
+    private final AcademicCache academicCache;
+    private final AuthTokenCache authTokenCache;
+    private final EntityManager entityManager;
+
+    /**
+     * @return 사용자가 있어서 지웠으면 true
+     */
+    @Transactional
+    public boolean deleteUser(UUID userId) {
+        return !deleteUsers(List.of(userId)).isEmpty();
+    }
+
+    /**
+     * 사용자와 연결된 학생 데이터 전체를 지운다. (어드민 일괄 정리는 여러 사용자를 한 번에 넘긴다)
+     *
+     * @return 실제로 지운 사용자
+     */
     @Transactional
-    public void deleteByStudent(Student student) {
-        if (student == null) {
-            log.warn("[BIZ] student.deletion.skip, reason=unconnected_user");
-            return;
+    public List<DeletedUser> deleteUsers(Collection<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
         }
 
-        UUID studentId = student.getId();
-        if (studentId != null) {
-            studentCourseRepository.deleteByStudentId(studentId);
-            semesterAcademicRecordRepository.deleteByStudentId(studentId);
-            studentAcademicRecordRepository.deleteByStudentId(studentId);
-            studentGraduationProgressRepository.deleteByStudentId(studentId);
+        long t0 = LogTime.start();
+        // JDBC 삭제가 아직 flush되지 않은 변경을 보도록 먼저 내보낸다.
+        entityManager.flush();
+
+        List<UUID> targets = new ArrayList<>(new LinkedHashSet<>(userIds));
+        List<DeletedUser> deleted = new ArrayList<>(targets.size());
+        for (int from = 0; from < targets.size(); from += DELETE_CHUNK_SIZE) {
+            List<UUID> chunk = targets.subList(from, Math.min(from + DELETE_CHUNK_SIZE, targets.size()));
+            courseEvaluationStatsService.recordDeleted(studentDeletionRepository.countEvaluations(chunk));
+            deleted.addAll(studentDeletionRepository.deleteUsers(chunk));
         }
-        studentRepository.delete(student);
+        // 지운 row의 엔티티가 남아 있으면 이후 flush에서 UPDATE/DELETE가 나가므로 비운다.
+        entityManager.clear();
+
+        for (DeletedUser user : deleted) {
+            if (user.studentId() != null) {
+                academicCache.deleteAllByStudentId(user.studentId());
+            }
+            authTokenCache.evictByUserId(user.userId().toString());
+        }
+
+        log.info("[BIZ] student.deletion.done requested={} deleted={} took_ms={}",
+                targets.size(), deleted.size(), LogTime.elapsedMs(t0));
+        return deleted;
+    }
+
+    /**
+     * 학생 row와 강의평가는 두고 수강 이력, 학기 성적, 학적 요약만 지운다. (포털 재연동/초기화)
+     */
+    @Transactional
+    public void resetStudent(UUID studentId) {
+        entityManager.flush();
+        studentDeletionRepository.resetStudent(studentId);
+        academicCache.deleteAllByStudentId(studentId);
     }
 }
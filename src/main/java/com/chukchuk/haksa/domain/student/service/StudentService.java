@@ -1,8 +1,6 @@
 package com.chukchuk.haksa.domain.student.service;
 
-import com.chukchuk.haksa.domain.academic.record.repository.SemesterAcademicRecordRepository;
-import com.chukchuk.haksa.domain.academic.record.repository.StudentAcademicRecordRepository;
-import com.chukchuk.haksa.domain.academic.record.repository.StudentCourseRepository;
+import com.chukchuk.haksa.domain.student.dto.StudentDataVersion;
 import com.chukchuk.haksa.domain.student.dto.StudentDto;
 import com.chukchuk.haksa.domain.student.model.Student;
 import com.chukchuk.haksa.domain.student.repository.StudentRepository;
@@ -29,9 +27,7 @@ public class StudentService {
     private final StudentRepository studentRepository;
     private final UserRepository userRepository;
     private final UserService userService;
-    private final StudentAcademicRecordRepository studentAcademicRecordRepository;
-    private final SemesterAcademicRecordRepository semesterAcademicRecordRepository;
-    private final StudentCourseRepository studentCourseRepository;
+    private final StudentDeletionService studentDeletionService;
 
     public Student getStudentById(UUID studentId) {
         return studentRepository.findById(studentId)
@@ -66,6 +62,19 @@ public class StudentService {
         return studentId;
     }
 
+    /**
+     * 응답 캐시를 쓰는 조회의 학생 id + 데이터 버전을 쿼리 한 번으로 읽는다.
+     * - 캐시 적중 요청도 거치는 경로이므로 User/Student 엔티티를 읽지 않는다.
+     */
+    public StudentDataVersion getRequiredStudentDataVersionByUserId(UUID userId) {
+        StudentDataVersion dataVersion = userRepository.findStudentDataVersion(userId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.USER_NOT_FOUND));
+        if (dataVersion.studentId() == null) {
+            throw new CommonException(ErrorCode.USER_NOT_CONNECTED);
+        }
+        return dataVersion;
+    }
+
     @Transactional
     public void markReconnectedByUser(User user) {
         Student student = studentRepository.findByUser(user)
@@ -100,9 +109,7 @@ public class StudentService {
 
     @Transactional
     public void resetBy(UUID studentId) {
-        studentCourseRepository.deleteByStudentId(studentId);
-        semesterAcademicRecordRepository.deleteByStudentId(studentId);
-        studentAcademicRecordRepository.deleteByStudentId(studentId);
+        studentDeletionService.resetStudent(studentId);
 
         log.info("[BIZ] student.reset.done studentId={}", studentId);
     }
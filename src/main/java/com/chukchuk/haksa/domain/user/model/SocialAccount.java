@@ -15,6 +15,9 @@ import lombok.NoArgsConstructor;
                         name = "uk_provider_social_id",
                         columnNames = {"provider", "social_id"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_social_accounts_user_id", columnList = "user_id")
         }
 )
 @Getter
@@ -0,0 +1,35 @@
+package com.chukchuk.haksa.domain.user.repository;
+
+import java.util.UUID;
+
+/**
+ * 사용자 병합 전용 저장소 (중복 소셜 로그인 → 포털 연동 시 기존 사용자를 현재 사용자로 합친다)
+ * - 기존 사용자를 참조하는 row(social_accounts, students, refresh_token)를 테이블당 UPDATE 한 번으로 옮긴다.
+ *   이력 길이와 관계없이 문장 수가 같다. (PostgreSQL: data-modifying CTE 한 문장)
+ * - 영속성 컨텍스트를 거치지 않으므로 호출 전에 flush하고, 호출 후 대상 사용자를 다시 읽어야 한다.
+ */
+public interface UserMergeRepository {
+
+    /**
+     * 두 사용자에 대한 트랜잭션 범위 잠금을 고정된 순서로 잡는다. 같은 사용자가 걸린 병합끼리는 직렬화된다.
+     * (PostgreSQL: advisory lock, 그 외 DB: users row lock)
+     */
+    void lockUsers(UUID first, UUID second);
+
+    /**
+     * source 사용자의 프로필/연동 상태를 target에 덮어쓰고, source를 참조하는 row를 target으로 옮긴 뒤 source를 지운다.
+     *
+     * @return source가 없으면(이미 병합됨) merged=false
+     */
+    MergeResult merge(UUID sourceUserId, UUID targetUserId);
+
+    /**
+     * @param studentId target으로 옮겨진 학생. 없으면 null
+     */
+    record MergeResult(boolean merged, UUID studentId) {
+
+        public static MergeResult notMerged() {
+            return new MergeResult(false, null);
+        }
+    }
+}
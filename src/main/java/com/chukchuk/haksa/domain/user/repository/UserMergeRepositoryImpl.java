@@ -0,0 +1,122 @@
+package com.chukchuk.haksa.domain.user.repository;
+
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+public class UserMergeRepositoryImpl implements UserMergeRepository {
+
+    /* advisory lock 2-key 형식의 첫 번째 키. 다른 용도의 advisory lock과 키 공간을 나눈다. ('user') */
+    private static final int LOCK_NAMESPACE = 0x75736572;
+
+    /* 병합 시 기존 사용자 값으로 덮어쓰는 프로필/연동 상태 컬럼 */
+    private static final List<String> ABSORBED_COLUMNS = List.of(
+            "email", "profile_nickname", "profile_image", "is_deleted",
+            "portal_connected", "connected_at", "deleted_at", "last_synced_at"
+    );
+
+    /*
+     * PostgreSQL: source를 지우면서 RETURNING으로 프로필 값을 넘겨받아 target에 덮어쓴다.
+     * 참조 row 이동과 source 삭제가 한 문장이므로 FK는 문장 끝에서 한 번만 검사된다.
+     */
+    private static final String MERGE_CTE = """
+            WITH source AS (
+                DELETE FROM users WHERE id = ?
+                RETURNING %1$s
+            ), moved_accounts AS (
+                UPDATE social_accounts SET user_id = ? WHERE user_id = ?
+            ), moved_students AS (
+                UPDATE students SET user_id = ? WHERE user_id = ?
+                RETURNING student_id
+            ), moved_tokens AS (
+                UPDATE refresh_token SET user_id = ? WHERE user_id = ?
+            ), absorbed AS (
+                UPDATE users u SET %2$s, updated_at = CURRENT_TIMESTAMP
+                FROM source s
+                WHERE u.id = ?
+                RETURNING u.id
+            )
+            SELECT (SELECT COUNT(*) FROM absorbed) AS merged,
+                   (SELECT student_id FROM moved_students LIMIT 1) AS student_id
+            """.formatted(
+            String.join(", ", ABSORBED_COLUMNS),
+            ABSORBED_COLUMNS.stream().map(column -> column + " = s." + column).collect(Collectors.joining(", "))
+    );
+
+    private static final String SELECT_SOURCE_SQL = "SELECT s.student_id, "
+            + ABSORBED_COLUMNS.stream().map(column -> "u." + column).collect(Collectors.joining(", "))
+            + " FROM users u LEFT JOIN students s ON s.user_id = u.id WHERE u.id = ?";
+    private static final String ABSORB_SQL = "UPDATE users SET "
+            + ABSORBED_COLUMNS.stream().map(column -> column + " = ?").collect(Collectors.joining(", "))
+            + ", updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    public UserMergeRepositoryImpl(JdbcTemplate jdbcTemplate, DatabaseDialect databaseDialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+    }
+
+    @Override
+    public void lockUsers(UUID first, UUID second) {
+        if (databaseDialect.isPostgres()) {
+            // 두 병합이 같은 사용자를 반대 순서로 잡지 않도록 키 순서로 잠근다.
+            int low = Math.min(first.hashCode(), second.hashCode());
+            int high = Math.max(first.hashCode(), second.hashCode());
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?), pg_advisory_xact_lock(?, ?)",
+                    (RowCallbackHandler) rs -> { },
+                    LOCK_NAMESPACE, low, LOCK_NAMESPACE, high);
+            return;
+        }
+        jdbcTemplate.query("SELECT id FROM users WHERE id IN (?, ?) FOR UPDATE",
+                (RowCallbackHandler) rs -> { },
+                first, second);
+    }
+
+    @Override
+    public MergeResult merge(UUID sourceUserId, UUID targetUserId) {
+        if (databaseDialect.isPostgres()) {
+            return jdbcTemplate.queryForObject(MERGE_CTE, (rs, rowNum) -> new MergeResult(
+                            rs.getLong("merged") > 0,
+                            rs.getObject("student_id", UUID.class)
+                    ),
+                    sourceUserId,
+                    targetUserId, sourceUserId,
+                    targetUserId, sourceUserId,
+                    targetUserId.toString(), sourceUserId.toString(),
+                    targetUserId);
+        }
+
+        List<Object[]> sources = jdbcTemplate.query(SELECT_SOURCE_SQL, (rs, rowNum) -> {
+            Object[] row = new Object[ABSORBED_COLUMNS.size() + 1];
+            row[0] = rs.getObject("student_id", UUID.class);
+            for (int i = 0; i < ABSORBED_COLUMNS.size(); i++) {
+                row[i + 1] = rs.getObject(ABSORBED_COLUMNS.get(i));
+            }
+            return row;
+        }, sourceUserId);
+        if (sources.isEmpty()) {
+            return MergeResult.notMerged();
+        }
+
+        Object[] source = sources.get(0);
+        jdbcTemplate.update("UPDATE social_accounts SET user_id = ? WHERE user_id = ?", targetUserId, sourceUserId);
+        jdbcTemplate.update("UPDATE students SET user_id = ? WHERE user_id = ?", targetUserId, sourceUserId);
+        jdbcTemplate.update("UPDATE refresh_token SET user_id = ? WHERE user_id = ?",
+                targetUserId.toString(), sourceUserId.toString());
+
+        Object[] absorbArgs = new Object[ABSORBED_COLUMNS.size() + 1];
+        System.arraycopy(source, 1, absorbArgs, 0, ABSORBED_COLUMNS.size());
+        absorbArgs[ABSORBED_COLUMNS.size()] = targetUserId;
+        jdbcTemplate.update(ABSORB_SQL, absorbArgs);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", sourceUserId);
+        return new MergeResult(true, (UUID) source[0]);
+    }
+}
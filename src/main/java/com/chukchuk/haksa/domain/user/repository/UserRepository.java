@@ -1,11 +1,13 @@
 package com.chukchuk.haksa.domain.user.repository;
 
+import com.chukchuk.haksa.domain.student.dto.StudentDataVersion;
 import com.chukchuk.haksa.domain.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,7 +16,9 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
-    Optional<User> findByStudent_StudentCode(String studentCode);
+
+    @Query("SELECT s.user.id FROM Student s WHERE s.studentCode = :studentCode")
+    Optional<UUID> findUserIdByStudentCode(@Param("studentCode") String studentCode);
 
     @Query("""
             SELECT u FROM User u
@@ -25,4 +29,15 @@ public interface UserRepository extends JpaRepository<User, UUID> {
             WHERE u.id = :userId
             """)
     Optional<User> findProfileByIdWithAssociations(@Param("userId") UUID userId);
+
+    @Query("""
+            SELECT new com.chukchuk.haksa.domain.student.dto.StudentDataVersion(s.id, u.lastSyncedAt)
+            FROM User u
+            LEFT JOIN u.student s
+            WHERE u.id = :userId
+            """)
+    Optional<StudentDataVersion> findStudentDataVersion(@Param("userId") UUID userId);
+
+    @Query("SELECT u.id FROM User u WHERE u.email LIKE :pattern ESCAPE '\\'")
+    List<UUID> findIdsByEmailLike(@Param("pattern") String pattern);
 }
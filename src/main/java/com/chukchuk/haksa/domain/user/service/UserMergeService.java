@@ -0,0 +1,65 @@
+package com.chukchuk.haksa.domain.user.service;
+
+import com.chukchuk.haksa.domain.cache.AcademicCache;
+import com.chukchuk.haksa.domain.user.model.User;
+import com.chukchuk.haksa.domain.user.repository.UserMergeRepository;
+import com.chukchuk.haksa.domain.user.repository.UserMergeRepository.MergeResult;
+import com.chukchuk.haksa.global.logging.annotation.LogTime;
+import com.chukchuk.haksa.global.security.cache.AuthTokenCache;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * 중복 소셜 로그인 사용자 병합
+ *
+ * - 두 사용자를 잠근 뒤 참조 row를 집합 단위 UPDATE로 옮긴다. (UserMergeRepository)
+ *   기존 사용자의 소셜 계정/수강 이력 길이와 관계없이 문장 수가 같다.
+ * - 인증/학업 캐시는 두 사용자 모두에 대해 병합이 끝난 뒤 한 번 비운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserMergeService {
+
+    private final UserMergeRepository userMergeRepository;
+    private final AuthTokenCache authTokenCache;
+    private final AcademicCache academicCache;
+    private final EntityManager entityManager;
+
+    /**
+     * source 사용자를 target에 합친다.
+     *
+     * @return 병합된 상태로 다시 읽은 target
+     */
+    @Transactional
+    public User merge(UUID sourceUserId, User target) {
+        long t0 = LogTime.start();
+        UUID targetUserId = target.getId();
+
+        // JDBC UPDATE가 아직 flush되지 않은 변경을 보도록 먼저 내보낸다.
+        entityManager.flush();
+        userMergeRepository.lockUsers(sourceUserId, targetUserId);
+        MergeResult result = userMergeRepository.merge(sourceUserId, targetUserId);
+        if (!result.merged()) {
+            // 잠금을 기다리는 동안 다른 요청이 같은 사용자를 먼저 병합했다.
+            log.info("[BIZ] user.merge.skip.gone existingUserId={} currentUserId={}", sourceUserId, targetUserId);
+            return target;
+        }
+
+        entityManager.refresh(target);
+        authTokenCache.evictByUserId(sourceUserId.toString());
+        authTokenCache.evictByUserId(targetUserId.toString());
+        if (result.studentId() != null) {
+            academicCache.deleteAllByStudentId(result.studentId());
+        }
+
+        log.info("[BIZ] user.merged existingUserId={} into currentUserId={} took_ms={}",
+                sourceUserId, targetUserId, LogTime.elapsedMs(t0));
+        return target;
+    }
+}
@@ -2,8 +2,6 @@ package com.chukchuk.haksa.domain.user.service;
 
 import com.chukchuk.haksa.domain.auth.dto.AuthDto;
 import com.chukchuk.haksa.domain.auth.service.RefreshTokenService;
-import com.chukchuk.haksa.domain.cache.AcademicCache;
-import com.chukchuk.haksa.domain.student.model.Student;
 import com.chukchuk.haksa.domain.student.service.StudentDeletionService;
 import com.chukchuk.haksa.domain.user.dto.UserDto;
 import com.chukchuk.haksa.domain.user.model.SocialAccount;
@@ -34,9 +32,9 @@ public class UserService {
     private final SocialAccountRepository socialAccountRepository;
     private final JwtProvider jwtProvider;
     private final RefreshTokenService refreshTokenService;
-    private final AcademicCache academicCache;
     private final AuthTokenCache authTokenCache;
     private final StudentDeletionService studentDeletionService;
+    private final UserMergeService userMergeService;
 
     private final Map<OidcProvider, OidcService> oidcServices;
 
@@ -73,62 +71,35 @@ public class UserService {
 
     @Transactional
     public void deleteUserById(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.USER_NOT_FOUND));
-        Student student = user.getStudent();
-        UUID studentId = student != null ? student.getId() : null;
-
-        studentDeletionService.deleteByStudent(student);
-        if (studentId != null) {
-            academicCache.deleteAllByStudentId(studentId);
+        if (!studentDeletionService.deleteUser(userId)) {
+            throw new EntityNotFoundException(ErrorCode.USER_NOT_FOUND);
         }
-        authTokenCache.evictByUserId(userId.toString());
-        socialAccountRepository.deleteByUser(user);
-        userRepository.delete(user);
         log.info("[BIZ] user.delete.done userId={}", userId);
     }
 
     /**
      * 소셜 로그인 후 포털 연동 시, studentCode 기반으로 기존 User가 있는지 탐색하여 병합 시도.
      * - 기존 User가 없다면: currentUser를 그대로 사용
-     * - 기존 User가 있다면:
-     *   - 기존 User의 SocialAccount들을 currentUser에 연결
-     *   - 기존 User의 필드값들을 currentUser에 할당
-     *   - student에 연결된 기존 User를 currentUser로 변경
-     *   - 기존 User 삭제 후 currentUser 리턴
+     * - 기존 User가 있다면 UserMergeService가 한 트랜잭션에서 일괄 병합한다.
+     *   - 기존 User의 SocialAccount/Student/리프레시 토큰을 currentUser로 옮긴다.
+     *   - 기존 User의 필드값들을 currentUser에 할당한다.
+     *   - 기존 User 삭제 후 다시 읽은 currentUser 리턴
      */
     @Transactional
     public User tryMergeWithExistingUser(UUID currentUserId, String studentCode) {
         User currentUser = getUserById(currentUserId);
-        Optional<User> existingUserOpt = userRepository.findByStudent_StudentCode(studentCode);
+        Optional<UUID> existingUserId = userRepository.findUserIdByStudentCode(studentCode);
 
-        if (existingUserOpt.isEmpty()) {
+        if (existingUserId.isEmpty()) {
             return currentUser;
         }
 
-        User existingUser = existingUserOpt.get();
-        if (existingUser.getId().equals(currentUserId)) {
+        if (existingUserId.get().equals(currentUserId)) {
             log.info("[BIZ] user.merge.skip.self userId={} studentCode={}", currentUserId, studentCode);
             return currentUser;
         }
 
-        // 소셜 계정 모두 이전
-        List<SocialAccount> accounts = socialAccountRepository.findAllByUserId(existingUser.getId());
-        for (SocialAccount sa : accounts) {
-            sa.updateUser(currentUser);
-        }
-
-        currentUser.absorbFrom(existingUser);
-
-        Student student = existingUser.getStudent();
-        student.updateUser(currentUser);
-        existingUser.setStudent(null);
-
-        userRepository.delete(existingUser);
-        log.info("[BIZ] user.merged existingUserId={} into currentUserId={}", existingUser.getId(), currentUserId);
-
-        authTokenCache.evictByUserId(currentUserId.toString());
-        return currentUser;
+        return userMergeService.merge(existingUserId.get(), currentUser);
     }
 
     /* private method */
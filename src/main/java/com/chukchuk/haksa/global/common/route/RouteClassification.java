@@ -0,0 +1,25 @@
+package com.chukchuk.haksa.global.common.route;
+
+/**
+ * 요청 경로 분류 결과 (요청당 한 번 계산)
+ *
+ * @param path  분류에 사용한 requestURI. 에러 디스패치처럼 URI가 바뀌면 다시 계산한다.
+ * @param flags RouteClassifier의 플래그 비트
+ */
+public record RouteClassification(String path, int flags) {
+
+    /** JWT 인증 필터를 건너뛰는 경로 (swagger, /error 등) */
+    public boolean authBypass() {
+        return (flags & RouteClassifier.AUTH_BYPASS) != 0;
+    }
+
+    /** http_summary 로그를 남기지 않는 경로 (헬스체크, 문서, 정적 리소스) */
+    public boolean summaryLogSkipped() {
+        return (flags & RouteClassifier.SUMMARY_LOG_SKIP) != 0;
+    }
+
+    /** 확장자 기준 정적 리소스 */
+    public boolean staticAsset() {
+        return (flags & RouteClassifier.STATIC_ASSET) != 0;
+    }
+}
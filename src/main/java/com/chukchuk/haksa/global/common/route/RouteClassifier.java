@@ -0,0 +1,127 @@
+package com.chukchuk.haksa.global.common.route;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 필터 공통 경로 분류기
+ *
+ * - JwtAuthenticationFilter / MdcUserEnricherFilter / HttpSummaryLoggingFilter가 각자 목록을 순회하던 판단을
+ *   정확 일치 Map + 접두사 트라이 한 번의 순회로 계산한다.
+ * - 결과는 요청 속성(ATTRIBUTE)에 저장되어, 뒤따르는 필터는 속성 조회만 한다.
+ * - 빈으로 만들지 않는다. 필터가 @WebMvcTest 슬라이스에 자동 포함되기 때문에 의존성을 늘리지 않기 위함.
+ */
+public final class RouteClassifier {
+
+    public static final String ATTRIBUTE = RouteClassifier.class.getName() + ".CLASSIFICATION";
+
+    static final int AUTH_BYPASS = 1;
+    static final int SUMMARY_LOG_SKIP = 1 << 1;
+    static final int STATIC_ASSET = 1 << 2;
+
+    /* JWT 필터 화이트리스트 ("/"는 정확 일치, 나머지는 접두사) */
+    private static final List<String> AUTH_BYPASS_PREFIXES = List.of(
+            "/v3/api-docs", "/swagger", "/webjars", "/swagger-config", "/error"
+    );
+
+    /* http_summary 제외 경로 */
+    private static final List<String> SUMMARY_SKIP_PREFIXES = List.of(
+            "/swagger-ui", "/v3/api-docs", "/swagger-resources", "/webjars/swagger-ui",
+            "/health", "/actuator/health", "/error"
+    );
+
+    private static final Set<String> STATIC_EXTENSIONS = Set.of(
+            ".ico", ".css", ".js", ".map", ".png", ".jpg", ".jpeg", ".svg", ".gif",
+            ".woff", ".woff2", ".ttf", ".eot"
+    );
+    private static final int MAX_EXTENSION_LENGTH = STATIC_EXTENSIONS.stream().mapToInt(String::length).max().orElse(0);
+
+    private static final Map<String, Integer> EXACT = Map.of(
+            "/", AUTH_BYPASS,
+            "/favicon.ico", SUMMARY_LOG_SKIP,
+            "/swagger-ui.html", SUMMARY_LOG_SKIP
+    );
+    private static final PrefixNode ROOT = new PrefixNode();
+
+    static {
+        AUTH_BYPASS_PREFIXES.forEach(p -> ROOT.insert(p, AUTH_BYPASS));
+        SUMMARY_SKIP_PREFIXES.forEach(p -> ROOT.insert(p, SUMMARY_LOG_SKIP));
+    }
+
+    private RouteClassifier() {}
+
+    /**
+     * 요청 속성에 저장된 분류를 반환하고, 없거나 URI가 달라졌으면 새로 계산해 저장한다.
+     */
+    public static RouteClassification classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        Object cached = request.getAttribute(ATTRIBUTE);
+        if (cached instanceof RouteClassification c && c.path() != null && c.path().equals(path)) {
+            return c;
+        }
+
+        RouteClassification classification = new RouteClassification(path, flagsOf(path));
+        request.setAttribute(ATTRIBUTE, classification);
+        return classification;
+    }
+
+    static int flagsOf(String path) {
+        if (path == null || path.isBlank()) {
+            return SUMMARY_LOG_SKIP;
+        }
+
+        int flags = EXACT.getOrDefault(path, 0);
+        flags |= ROOT.match(path);
+
+        if (isStaticAsset(path)) {
+            flags |= STATIC_ASSET | SUMMARY_LOG_SKIP;
+        }
+        return flags;
+    }
+
+    private static boolean isStaticAsset(String path) {
+        int dot = path.lastIndexOf('.');
+        if (dot < 0 || path.length() - dot > MAX_EXTENSION_LENGTH) {
+            return false;
+        }
+        return STATIC_EXTENSIONS.contains(path.substring(dot).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 문자 단위 접두사 트라이 (ASCII)
+     * - 경로를 앞에서부터 한 번 따라가며 지나간 노드의 플래그를 모두 합친다.
+     */
+    private static final class PrefixNode {
+        private final PrefixNode[] next = new PrefixNode[128];
+        private int flags;
+
+        void insert(String prefix, int flag) {
+            PrefixNode node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                char ch = prefix.charAt(i);
+                if (node.next[ch] == null) {
+                    node.next[ch] = new PrefixNode();
+                }
+                node = node.next[ch];
+            }
+            node.flags |= flag;
+        }
+
+        int match(String path) {
+            int matched = 0;
+            PrefixNode node = this;
+            for (int i = 0; i < path.length(); i++) {
+                char ch = path.charAt(i);
+                if (ch >= 128 || (node = node.next[ch]) == null) {
+                    break;
+                }
+                matched |= node.flags;
+            }
+            return matched;
+        }
+    }
+}
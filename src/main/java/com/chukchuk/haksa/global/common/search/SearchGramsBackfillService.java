@@ -0,0 +1,96 @@
+package com.chukchuk.haksa.global.common.search;
+
+import com.chukchuk.haksa.global.logging.annotation.LogTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * search_grams가 비어 있는 과목/학과 row를 SearchText로 채운다. (유지보수 작업 SEARCH_GRAMS_BACKFILL)
+ *
+ * - 대상은 V11 이전 row와, 배포 중 컬럼을 모르는 이전 Lambda가 넣은 row다. 엔티티 저장 시점과 같은 SearchText를 쓴다.
+ * - search_grams IS NULL인 row만 id 순서로 BATCH_SIZE씩 읽고 배치마다 커밋한다. 채운 row는 다시 고르지 않으므로
+ *   여러 번 실행해도 결과가 같고, 중간에 끊기면 다시 실행해 남은 row를 마저 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchGramsBackfillService {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("courses", "course_code", "course_name"),
+            new Target("departments", "department_code", "established_department_name")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 채운 row 수 (과목 + 학과)
+     */
+    public int backfillAll() {
+        long t0 = LogTime.start();
+        int total = 0;
+        for (Target target : TARGETS) {
+            int rows = backfill(target);
+            log.info("[BIZ] search.grams.backfill table={} rows={}", target.table(), rows);
+            total += rows;
+        }
+        log.info("[BIZ] search.grams.backfill scope=all rows={} took_ms={}", total, LogTime.elapsedMs(t0));
+        return total;
+    }
+
+    private int backfill(Target target) {
+        String selectSql = """
+                SELECT id, %s, %s
+                FROM %s
+                WHERE search_grams IS NULL AND id > ?
+                ORDER BY id
+                LIMIT ?
+                """.formatted(target.codeColumn(), target.nameColumn(), target.table());
+        // 그사이 엔티티 저장으로 채워진 row는 덮어쓰지 않는다.
+        String updateSql = """
+                UPDATE %s
+                SET search_text = ?, search_grams = ?
+                WHERE id = ? AND search_grams IS NULL
+                """.formatted(target.table());
+
+        int updated = 0;
+        long lastId = 0;
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(
+                    selectSql,
+                    (rs, rowNum) -> new Row(rs.getLong(1), rs.getString(2), rs.getString(3)),
+                    lastId,
+                    BATCH_SIZE
+            );
+            if (rows.isEmpty()) {
+                return updated;
+            }
+
+            int[][] counts = jdbcTemplate.batchUpdate(updateSql, rows, rows.size(), (ps, row) -> {
+                ps.setString(1, SearchText.document(row.code(), row.name()));
+                ps.setArray(2, ps.getConnection().createArrayOf("varchar", SearchText.grams(row.code(), row.name())));
+                ps.setLong(3, row.id());
+            });
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    updated += Math.max(count, 0);
+                }
+            }
+
+            if (rows.size() < BATCH_SIZE) {
+                return updated;
+            }
+            lastId = rows.get(rows.size() - 1).id();
+        }
+    }
+
+    private record Target(String table, String codeColumn, String nameColumn) {}
+
+    private record Row(long id, String code, String name) {}
+}
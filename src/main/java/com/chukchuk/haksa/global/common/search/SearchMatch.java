@@ -0,0 +1,81 @@
+package com.chukchuk.haksa.global.common.search;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * search_text/search_grams 컬럼을 가진 테이블의 검색 조건과 관련도 SQL 조각.
+ *
+ * - 조건: PostgreSQL이고 검색어 bigram이 있으면 search_grams @> (GIN), 아니면 search_text 포함 검색
+ * - 관련도: 코드 일치 → 코드 접두어 → 이름 접두어 → 포함 → bigram만 일치(띄어쓰기/어순 차이) 순으로 작은 값
+ * - 배열 인자는 String[]로 담긴다. bind가 Connection#createArrayOf("varchar", ...)로 넘긴다.
+ */
+public final class SearchMatch {
+
+    public static final int RANK_CODE_EXACT = 0;
+    public static final int RANK_CODE_PREFIX = 1;
+    public static final int RANK_NAME_PREFIX = 2;
+    public static final int RANK_CONTAINS = 3;
+    public static final int RANK_GRAMS = 4;
+
+    private final String keyword;
+    private final String escaped;
+    private final String[] grams;
+    private final boolean useGrams;
+
+    private SearchMatch(String keyword, boolean postgres) {
+        this.keyword = keyword;
+        this.escaped = SearchText.escapeLike(keyword);
+        this.grams = SearchText.keywordGrams(keyword);
+        this.useGrams = postgres && grams.length > 0;
+    }
+
+    /**
+     * @param normalizedKeyword SearchText.normalize를 거친 검색어 (null 불가)
+     * @param postgres          GIN(@>) 경로를 쓸 수 있는지
+     */
+    public static SearchMatch of(String normalizedKeyword, boolean postgres) {
+        return new SearchMatch(normalizedKeyword, postgres);
+    }
+
+    public String rankSql(String alias) {
+        String text = alias + ".search_text";
+        return """
+                CASE
+                    WHEN %1$s = ? OR %1$s LIKE ? ESCAPE '\\' THEN %2$d
+                    WHEN %1$s LIKE ? ESCAPE '\\' THEN %3$d
+                    WHEN %1$s LIKE ? ESCAPE '\\' THEN %4$d
+                    WHEN %1$s LIKE ? ESCAPE '\\' THEN %5$d
+                    ELSE %6$d
+                END""".formatted(text, RANK_CODE_EXACT, RANK_CODE_PREFIX, RANK_NAME_PREFIX, RANK_CONTAINS, RANK_GRAMS);
+    }
+
+    public List<Object> rankArgs() {
+        return List.of(keyword, escaped + " %", escaped + "%", "% " + escaped + "%", "%" + escaped + "%");
+    }
+
+    public String conditionSql(String alias) {
+        return useGrams
+                ? alias + ".search_grams @> ?"
+                : alias + ".search_text LIKE ? ESCAPE '\\'";
+    }
+
+    public List<Object> conditionArgs() {
+        return useGrams
+                ? List.of((Object) grams)
+                : List.of("%" + escaped + "%");
+    }
+
+    /** 인자를 순서대로 바인딩한다. String[]는 varchar 배열로 넘긴다. */
+    public static void bind(PreparedStatement ps, List<Object> args) throws SQLException {
+        for (int i = 0; i < args.size(); i++) {
+            Object arg = args.get(i);
+            if (arg instanceof String[] values) {
+                ps.setArray(i + 1, ps.getConnection().createArrayOf("varchar", values));
+            } else {
+                ps.setObject(i + 1, arg);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.chukchuk.haksa.global.common.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 과목/학과 검색용 정규화와 토큰화.
+ *
+ * - 정규화: NFC → 소문자 → 공백 제거. "자료 구조"와 "자료구조", 자모가 분리된 입력을 같은 문자열로 본다.
+ * - 토큰: 정규화한 문자열의 글자 단위 bigram. 한글 과목명은 2~4음절 단어가 대부분이라 pg_trgm(3-gram)으로는
+ *   2음절 검색어("회계", "체육")를 인덱스로 찾을 수 없고, DB 로케일(LC_CTYPE)에 따라 한글이 토큰에서 빠지기도 한다.
+ *   bigram을 애플리케이션에서 만들어 배열 컬럼에 저장하면 로케일과 무관하게 GIN(@>)으로 찾을 수 있다.
+ * - 저장 문서(search_text)는 "코드 이름" 순서로 두어 코드 접두어/이름 접두어를 LIKE 한 번으로 구분한다.
+ */
+public final class SearchText {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SearchText() {
+    }
+
+    /**
+     * @return 정규화한 문자열. 비어 있으면 null
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = WHITESPACE.matcher(
+                Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT)
+        ).replaceAll("");
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * 여러 필드를 정규화해 공백 하나로 이어 붙인 검색 문서. 필드 안의 공백은 제거되므로 구분자와 겹치지 않는다.
+     */
+    public static String document(String... fields) {
+        String document = Arrays.stream(fields)
+                .map(SearchText::normalize)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" "));
+        return document.isEmpty() ? null : document;
+    }
+
+    /**
+     * 필드별 bigram 합집합. 필드 경계를 넘는 bigram은 만들지 않는다.
+     */
+    public static String[] grams(String... fields) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String field : fields) {
+            addGrams(normalize(field), grams);
+        }
+        return grams.toArray(String[]::new);
+    }
+
+    /**
+     * 검색어의 bigram. 한 글자 검색어는 빈 배열이며, 이때는 인덱스 없이 포함 검색으로 처리한다.
+     */
+    public static String[] keywordGrams(String normalizedKeyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        addGrams(normalizedKeyword, grams);
+        return grams.toArray(String[]::new);
+    }
+
+    /** LIKE 패턴용 이스케이프 (ESCAPE '\') */
+    public static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private static void addGrams(String normalized, Set<String> grams) {
+        if (normalized == null) {
+            return;
+        }
+        int[] codePoints = normalized.codePoints().toArray();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.chukchuk.haksa.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "academic.cache")
+public class AcademicCacheProperties {
+
+    /** 정적 졸업 요건 키의 refresh-ahead 기준 나이 (0이면 비활성) */
+    private Duration refreshAhead = Duration.ZERO;
+
+    /** 캐시 전체 가중치 상한 (값의 JSON 크기 기준, CacheValueCodec.weigh) */
+    private long maxWeightBytes = 64L * 1024 * 1024;
+
+    private final Compact compact = new Compact();
+
+    private final Snapshot snapshot = new Snapshot();
+
+    @Getter
+    @Setter
+    public static class Compact {
+        /** 큰 값을 JSON 바이트로 저장할지 여부 */
+        private boolean enabled = false;
+        /** 이 크기 이상인 값만 JSON 바이트로 저장 */
+        private int thresholdBytes = 4096;
+    }
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+        /** 기동 시 정적 캐시 스냅샷 복원 / 종료 시 저장 여부 */
+        private boolean enabled = false;
+        /** 스냅샷 파일 경로 (Lambda에서는 /tmp만 쓰기 가능) */
+        private String path = "/tmp/academic-cache-snapshot.json.gz";
+        /** 배포 아티팩트에 포함된 스냅샷 (path에 유효한 파일이 없을 때 사용) */
+        private String bundledResource = "cache/academic-cache-snapshot.json.gz";
+    }
+}
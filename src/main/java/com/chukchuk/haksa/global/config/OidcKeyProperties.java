@@ -0,0 +1,21 @@
+package com.chukchuk.haksa.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.oidc.jwks")
+public class OidcKeyProperties {
+
+    /** 키 세트를 받은 뒤 이 시간이 지나면 다음 조회 시 백그라운드로 갱신 */
+    private Duration refreshAfter = Duration.ofHours(1);
+
+    /** 알 수 없는 kid / 백그라운드 갱신으로 JWKS를 다시 받는 최소 간격 */
+    private Duration minRefetchInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,45 @@
+package com.chukchuk.haksa.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /** 읽기 전용 트랜잭션을 복제본 풀로 보낼지 여부 (false면 기본 DataSource 자동 구성을 그대로 쓴다) */
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /** 비우면 spring.datasource.driver-class-name을 쓴다. */
+    private String driverClassName;
+
+    /** 복제본 풀 크기. 나머지 Hikari 설정은 datasource.replica.hikari.* 로 덮어쓴다. */
+    private int maximumPoolSize = 2;
+
+    /** 이 값보다 복제 지연이 크면 읽기 전용 트랜잭션도 주 DB로 보낸다. */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /** 복제 지연을 다시 확인하는 최소 간격 (요청 스레드에서 필요할 때만 확인한다) */
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    /** 복제 지연(초)을 한 행 한 열로 돌려주는 쿼리. 기본값은 PostgreSQL 스트리밍 복제 기준 */
+    private String lagQuery = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+}
@@ -0,0 +1,36 @@
+package com.chukchuk.haksa.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "metrics.request")
+public class RequestMetricsProperties {
+
+    /** 라우트별 지연/DB 시간 측정 여부 (false면 DataSource 래핑과 필터 모두 비활성) */
+    private boolean enabled = true;
+
+    /** SLO 버킷 (Prometheus histogram bucket / OTLP explicit bucket) */
+    private List<Duration> slo = List.of(
+            Duration.ofMillis(50),
+            Duration.ofMillis(100),
+            Duration.ofMillis(250),
+            Duration.ofMillis(500),
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(2),
+            Duration.ofSeconds(5)
+    );
+
+    /** 클라이언트 측 백분위수 (라우트 간 집계 불가, 비우면 비활성) */
+    private List<Double> percentiles = List.of(0.5, 0.95, 0.99);
+
+    /** 요청/QueryCounter 범위 밖에서 얻은 커넥션도 감싼다. (테스트 트랜잭션 안에서 쿼리 수를 셀 때) */
+    private boolean instrumentAllConnections = false;
+}
@@ -30,6 +30,7 @@ public class ScrapingProperties {
     public static class Callback {
         private String hmacSecret = "";
         private long allowedSkewSeconds = 300;
+        private long diagnosticsIntervalMs = 10000;
     }
 
     @Getter
@@ -0,0 +1,11 @@
+package com.chukchuk.haksa.global.datasource;
+
+import java.util.Locale;
+
+public enum DataSourceRoute {
+    PRIMARY, REPLICA;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
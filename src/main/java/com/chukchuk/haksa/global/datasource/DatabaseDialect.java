@@ -0,0 +1,42 @@
+package com.chukchuk.haksa.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 연결된 DB 종류 판별
+ *
+ * - PostgreSQL 전용 SQL 경로를 가진 저장소들이 함께 쓴다. 처음 판별한 결과를 계속 쓴다.
+ * - 판별 실패는 캐시하지 않고 그 호출만 false(이식 가능한 경로)로 답한다.
+ * - 복제본 라우팅을 켜도 주 DB와 복제본은 같은 종류이므로 어느 연결로 판별해도 같다.
+ */
+@Slf4j
+@Component
+public class DatabaseDialect {
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public DatabaseDialect(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean isPostgres() {
+        Boolean cached = postgres;
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            boolean detected = "PostgreSQL".equalsIgnoreCase(product);
+            postgres = detected;
+            return detected;
+        } catch (RuntimeException e) {
+            log.warn("[BIZ] db.dialect.detect.fail ex={}", e.getClass().getSimpleName());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.chukchuk.haksa.global.datasource;
+
+import com.chukchuk.haksa.global.config.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * datasource.replica.enabled=true일 때 기본 DataSource 자동 구성을 대신한다.
+ *
+ * - 주 DB 풀은 spring.datasource.*(hikari 포함), 복제본 풀은 datasource.replica.*(hikari 포함)로 만든다.
+ * - 두 풀 모두 hikaricp.* 지표를 풀 이름으로 구분해 남긴다. 복제본 풀 이름 기본값은 "<주 DB 풀 이름>-Replica"
+ * - 노출되는 DataSource는 LazyConnectionDataSourceProxy(ReadWriteRoutingDataSource) 하나이며,
+ *   요청 지표 래핑(MeteredDataSource)은 기존처럼 이 빈에 적용된다.
+ * - Hibernate 커넥션은 트랜잭션이 끝날 때마다 반납한다. (routingConnectionHandling)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig implements DisposableBean {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public DataSource dataSource(
+            DataSourceProperties dataSourceProperties,
+            ReplicaDataSourceProperties replicaProperties,
+            Environment environment,
+            MeterRegistry registry
+    ) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setJdbcUrl(replicaProperties.getUrl());
+        replica.setUsername(replicaProperties.getUsername());
+        replica.setPassword(replicaProperties.getPassword());
+        replica.setDriverClassName(StringUtils.hasText(replicaProperties.getDriverClassName())
+                ? replicaProperties.getDriverClassName()
+                : dataSourceProperties.determineDriverClassName());
+        replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        replica.setMinimumIdle(0);
+        replica.setReadOnly(true);
+        replica.setPoolName((primary.getPoolName() != null ? primary.getPoolName() : "HikariPool") + "-Replica");
+        binder.bind("datasource.replica.hikari", Bindable.ofInstance(replica));
+
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(registry);
+        primary.setMetricsTrackerFactory(metrics);
+        replica.setMetricsTrackerFactory(metrics);
+        pools.add(primary);
+        pools.add(replica);
+
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(
+                replica,
+                replicaProperties.getLagQuery(),
+                replicaProperties.getMaxLag(),
+                replicaProperties.getLagCheckInterval(),
+                registry
+        );
+        log.info("[BIZ] db.route.enabled primaryPool={} replicaPool={} replicaMaxPool={} maxLag={}",
+                primary.getPoolName(), replica.getPoolName(), replica.getMaximumPoolSize(), replicaProperties.getMaxLag());
+        return lazy(new ReadWriteRoutingDataSource(primary, replica, lagMonitor, registry), primary.isAutoCommit());
+    }
+
+    /**
+     * open-in-view에서는 요청 하나가 EntityManager 하나를 쓰는데, Spring 기본값(DELAYED_ACQUISITION_AND_HOLD)은
+     * 처음 잡은 커넥션을 요청 끝까지 쥐고 있다. 그러면 읽기 전용 트랜잭션에서 잡은 복제본 커넥션으로 뒤이은 쓰기 트랜잭션이 실행되므로,
+     * 트랜잭션이 끝날 때 커넥션을 반납해 트랜잭션마다 경로를 다시 정하게 한다.
+     */
+    @Bean
+    public static HibernatePropertiesCustomizer routingConnectionHandling() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    /**
+     * 첫 Statement까지 물리 커넥션 획득을 미룬다.
+     * 기본 autoCommit/격리 수준을 미리 넣어 두어 이를 알아내려고 트랜잭션 시작 전에 주 DB 커넥션을 잡지 않게 한다.
+     */
+    static DataSource lazy(ReadWriteRoutingDataSource routing, boolean defaultAutoCommit) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setDefaultAutoCommit(defaultAutoCommit);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.setTargetDataSource(routing);
+        proxy.afterPropertiesSet();
+        return proxy;
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
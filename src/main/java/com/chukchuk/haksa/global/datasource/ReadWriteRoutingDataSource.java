@@ -0,0 +1,122 @@
+package com.chukchuk.haksa.global.datasource;
+
+import com.chukchuk.haksa.global.datasource.ReplicaLagMonitor.FallbackReason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 주 DB로 보내는 DataSource
+ *
+ * - 트랜잭션 시작 시점에는 readOnly 여부가 아직 등록되지 않으므로 LazyConnectionDataSourceProxy 뒤에 두어
+ *   첫 Statement 시점에 경로를 정한다. 이미 열린 쓰기 트랜잭션에 합류한 readOnly 메서드는 주 DB 커넥션을 그대로 쓴다.
+ * - 복제 지연이 maxLag를 넘거나 지연을 확인할 수 없으면(ReplicaLagMonitor), 또는 복제본 커넥션을 얻지 못하면 주 DB로 보낸다.
+ * - onPrimary 범위 안에서 잡는 커넥션은 읽기 전용이라도 주 DB로 보낸다. 캐시를 채우는 조회가 maxLag 이내의
+ *   지연 데이터(동기화 직후 무효화된 값)를 다시 캐시에 넣지 않게 하기 위함이다.
+ * - db.route.connections{route}, db.route.fallbacks{reason}로 경로별 커넥션 수와 주 DB 우회 수를 남긴다.
+ *   풀 자체 지표는 풀 이름별 hikaricp.* 지표로 나온다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Map<DataSourceRoute, Counter> routed = new EnumMap<>(DataSourceRoute.class);
+    private final Map<FallbackReason, Counter> fallbacks = new EnumMap<>(FallbackReason.class);
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                      MeterRegistry registry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        for (DataSourceRoute route : DataSourceRoute.values()) {
+            routed.put(route, Counter.builder("db.route.connections")
+                    .tag("route", route.tag())
+                    .description("Physical connections handed out per read/write route")
+                    .register(registry));
+        }
+        for (FallbackReason reason : FallbackReason.values()) {
+            fallbacks.put(reason, Counter.builder("db.route.fallbacks")
+                    .tag("reason", reason.tag())
+                    .description("Read-only transactions sent to the primary instead of the replica")
+                    .register(registry));
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (useReplica()) {
+            try {
+                Connection connection = replica.getConnection();
+                routed.get(DataSourceRoute.REPLICA).increment();
+                return connection;
+            } catch (SQLException e) {
+                fallbacks.get(FallbackReason.UNAVAILABLE).increment();
+                log.warn("[BIZ] db.route.replica.connect.fail ex={}", e.getClass().getSimpleName());
+            }
+        }
+        routed.get(DataSourceRoute.PRIMARY).increment();
+        return primary.getConnection();
+    }
+
+    /** 계정을 지정한 요청은 라우팅하지 않고 주 DB로 보낸다. */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        routed.get(DataSourceRoute.PRIMARY).increment();
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * work 안에서 새로 잡는 커넥션을 주 DB로 보낸다. 복제본 라우팅이 꺼져 있으면 아무 영향이 없다.
+     * 이미 커넥션을 잡은 트랜잭션 안에서는 그 커넥션을 그대로 쓰므로, 트랜잭션의 첫 조회보다 먼저 감싸야 한다.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (PRIMARY_PINNED.get() != null) {
+            return work.get();
+        }
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_PINNED.remove();
+        }
+    }
+
+    private boolean useReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PRIMARY_PINNED.get() != null) {
+            return false;
+        }
+        FallbackReason reason = lagMonitor.fallbackReason();
+        if (reason != null) {
+            fallbacks.get(reason).increment();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+}
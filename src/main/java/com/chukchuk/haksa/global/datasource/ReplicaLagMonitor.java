@@ -0,0 +1,102 @@
+package com.chukchuk.haksa.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 복제본 지연 확인
+ *
+ * - 스케줄러 없이 라우팅 시점에 마지막 확인이 lagCheckInterval보다 오래됐으면 그 스레드가 한 번 다시 확인한다.
+ *   다른 스레드가 확인 중이면 기다리지 않고 마지막 값을 쓴다. (Lambda처럼 호출 사이에 멈추는 환경 기준)
+ * - 확인 실패(복제본 접속 불가 포함)는 "알 수 없음"으로 두고 주 DB로 보낸다.
+ * - db.replica.lag 게이지로 마지막 지연(초)을 노출한다. 알 수 없으면 NaN
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final long checkIntervalNanos;
+    private final AtomicBoolean checking = new AtomicBoolean();
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean checked;
+    private volatile long checkedAt;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, Duration checkInterval,
+                             MeterRegistry registry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.checkIntervalNanos = checkInterval.toNanos();
+        Gauge.builder("db.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .description("Last observed replica replay lag (NaN when unknown)")
+                .register(registry);
+    }
+
+    /**
+     * @return 복제본을 쓰면 안 되는 이유. 쓸 수 있으면 null
+     */
+    public FallbackReason fallbackReason() {
+        refreshIfStale();
+        double lag = lagSeconds;
+        if (Double.isNaN(lag)) {
+            return FallbackReason.UNAVAILABLE;
+        }
+        return lag > maxLagSeconds ? FallbackReason.LAG : null;
+    }
+
+    private void refreshIfStale() {
+        long now = System.nanoTime();
+        if (checked && now - checkedAt < checkIntervalNanos) {
+            return;
+        }
+        if (!checking.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            lagSeconds = queryLag();
+        } catch (Exception e) {
+            // 실패가 이어지는 동안에는 처음 한 번만 남긴다.
+            if (!checked || !Double.isNaN(lagSeconds)) {
+                log.warn("[BIZ] db.replica.lag.check.fail ex={}", e.getClass().getSimpleName());
+            }
+            lagSeconds = Double.NaN;
+        } finally {
+            checkedAt = System.nanoTime();
+            checked = true;
+            checking.set(false);
+        }
+    }
+
+    private double queryLag() throws Exception {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return Double.NaN;
+            }
+            double lag = resultSet.getDouble(1);
+            return resultSet.wasNull() ? Double.NaN : lag;
+        }
+    }
+
+    public enum FallbackReason {
+        LAG, UNAVAILABLE;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
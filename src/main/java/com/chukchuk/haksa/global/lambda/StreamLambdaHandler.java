@@ -12,6 +12,7 @@ import com.chukchuk.haksa.ChukchukHaksaApplication;
 import com.chukchuk.haksa.application.maintenance.MaintenanceTaskHandler;
 import com.chukchuk.haksa.application.maintenance.MaintenanceTaskRequest;
 import com.chukchuk.haksa.application.maintenance.MaintenanceTaskResult;
+import com.chukchuk.haksa.global.logging.appender.RingBufferAsyncAppender;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,8 @@ public class StreamLambdaHandler implements RequestStreamHandler {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final String EVENTBRIDGE_SCHEDULER_SOURCE = "eventbridge.scheduler";
+    private static final long LOG_FLUSH_TIMEOUT_MS = 200;
+    private static final long LOG_FLUSH_RESERVED_MS = 50;
     private static final SpringBootLambdaContainerHandler<HttpApiV2ProxyRequest, AwsProxyResponse> HANDLER;
 
     static {
@@ -54,14 +57,30 @@ public class StreamLambdaHandler implements RequestStreamHandler {
 
     @Override
     public void handleRequest(InputStream input, OutputStream output, Context context) throws IOException {
-        byte[] payload = input.readAllBytes();
-        JsonNode jsonNode = readJsonNode(payload);
-        if (jsonNode != null && isMaintenanceEvent(jsonNode)) {
-            handleMaintenanceEvent(jsonNode, output);
-            return;
+        try {
+            byte[] payload = input.readAllBytes();
+            JsonNode jsonNode = readJsonNode(payload);
+            if (jsonNode != null && isMaintenanceEvent(jsonNode)) {
+                handleMaintenanceEvent(jsonNode, output);
+                return;
+            }
+
+            HANDLER.proxyStream(new ByteArrayInputStream(payload), output, context);
+        } finally {
+            flushLogs(context);
         }
+    }
 
-        HANDLER.proxyStream(new ByteArrayInputStream(payload), output, context);
+    /**
+     * 응답 후에는 실행 환경이 멈추므로 비동기 로그 버퍼를 호출마다 비운다.
+     * 남은 실행 시간을 넘기지 않도록 제한 시간을 둔다. (async-json 프로필이 아니면 즉시 반환)
+     */
+    private void flushLogs(Context context) {
+        long timeoutMs = LOG_FLUSH_TIMEOUT_MS;
+        if (context != null) {
+            timeoutMs = Math.min(timeoutMs, Math.max(0, context.getRemainingTimeInMillis() - LOG_FLUSH_RESERVED_MS));
+        }
+        RingBufferAsyncAppender.flushAll(timeoutMs);
     }
 
     private JsonNode readJsonNode(byte[] payload) {
@@ -0,0 +1,29 @@
+package com.chukchuk.haksa.global.logging.appender;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * RingBufferAsyncAppender 지표
+ * - logging.async.dropped: 버퍼가 가득 차 버린 이벤트 누적 수
+ * - logging.async.queued: 아직 기록되지 않은 이벤트 수
+ *
+ * async-json 프로필이 아니면 두 값 모두 0으로 유지된다.
+ */
+@Component
+public class AsyncLogMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logging.async.dropped", RingBufferAsyncAppender.class,
+                        ignored -> RingBufferAsyncAppender.totalDropped())
+                .description("Log events dropped because the async ring buffer was full")
+                .register(registry);
+        Gauge.builder("logging.async.queued", RingBufferAsyncAppender::totalQueued)
+                .description("Log events waiting in the async ring buffer")
+                .register(registry);
+    }
+}
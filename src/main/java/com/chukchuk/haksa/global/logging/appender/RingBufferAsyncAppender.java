@@ -0,0 +1,276 @@
+package com.chukchuk.haksa.global.logging.appender;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 크기 링 버퍼 기반 비동기 appender
+ *
+ * - 요청 스레드는 버퍼에 넣기만 하고 절대 대기하지 않는다. 가득 차면 dropPolicy에 따라 버린다.
+ * - 버린 이벤트 수는 인스턴스/전역 카운터로 남기고 AsyncLogMetrics가 Micrometer로 노출한다.
+ * - Lambda는 응답 후 실행 환경이 멈추므로 StreamLambdaHandler가 호출마다 flushAll로 버퍼를 비운다.
+ */
+public class RingBufferAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    public enum DropPolicy {
+        /** 가득 차면 새 이벤트를 버린다. */
+        DROP_NEWEST,
+        /** 가득 차면 가장 오래된 이벤트를 버리고 새 이벤트를 넣는다. */
+        DROP_OLDEST,
+        /** 여유가 20% 미만이면 WARN 미만을 버리고, WARN 이상은 가장 오래된 이벤트를 밀어내고 넣는다. */
+        DISCARD_BELOW_WARN
+    }
+
+    private static final Set<RingBufferAsyncAppender> ACTIVE = ConcurrentHashMap.newKeySet();
+    private static final LongAdder DROPPED_TOTAL = new LongAdder();
+    private static final int BATCH_SIZE = 256;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+
+    private int queueSize = 8192;
+    private DropPolicy dropPolicy = DropPolicy.DISCARD_BELOW_WARN;
+    private boolean includeCallerData = false;
+    private long maxStopFlushMs = 1000;
+
+    private ArrayBlockingQueue<ILoggingEvent> buffer;
+    private int discardThreshold;
+    private volatile Thread worker;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (queueSize < 1) {
+            addError("queueSize must be positive: " + queueSize);
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No attached appenders found for [" + name + "]");
+            return;
+        }
+
+        buffer = new ArrayBlockingQueue<>(queueSize);
+        discardThreshold = queueSize / 5;
+        Thread thread = new Thread(this::drainLoop, "log-ring-" + name);
+        thread.setDaemon(true);
+        worker = thread;
+        super.start();
+        thread.start();
+        ACTIVE.add(this);
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        ACTIVE.remove(this);
+
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(maxStopFlushMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drainRemaining();
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // 호출 스레드의 MDC / 포맷된 메시지를 고정한다.
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+
+        if (shouldDiscard(event) || !offer(event)) {
+            recordDrop();
+            return;
+        }
+        enqueued.incrementAndGet();
+    }
+
+    private boolean shouldDiscard(ILoggingEvent event) {
+        return dropPolicy == DropPolicy.DISCARD_BELOW_WARN
+                && buffer.remainingCapacity() < discardThreshold
+                && !event.getLevel().isGreaterOrEqual(Level.WARN);
+    }
+
+    private boolean offer(ILoggingEvent event) {
+        if (buffer.offer(event)) {
+            return true;
+        }
+        if (dropPolicy == DropPolicy.DROP_NEWEST) {
+            return false;
+        }
+
+        // 가장 오래된 이벤트를 밀어낸다. 경쟁으로 실패하면 새 이벤트를 버린다.
+        if (buffer.poll() != null) {
+            completed.incrementAndGet();
+            recordDrop();
+        }
+        return buffer.offer(event);
+    }
+
+    private void recordDrop() {
+        dropped.increment();
+        DROPPED_TOTAL.increment();
+    }
+
+    private void drainLoop() {
+        List<ILoggingEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (isStarted()) {
+            try {
+                batch.add(buffer.take());
+                buffer.drainTo(batch, BATCH_SIZE - 1);
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void drainRemaining() {
+        List<ILoggingEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (buffer.drainTo(batch, BATCH_SIZE) > 0) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(List<ILoggingEvent> batch) {
+        for (ILoggingEvent event : batch) {
+            try {
+                appenders.appendLoopOnAppenders(event);
+            } catch (RuntimeException e) {
+                addError("Failed to append event", e);
+            }
+        }
+        completed.addAndGet(batch.size());
+        batch.clear();
+    }
+
+    /**
+     * 호출 시점까지 들어온 이벤트가 하위 appender에 기록될 때까지 기다린다.
+     *
+     * @return 제한 시간 안에 모두 기록했으면 true
+     */
+    public boolean flush(long timeoutMs) {
+        long target = enqueued.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (completed.get() < target) {
+            if (System.nanoTime() - deadline >= 0 || worker == null) {
+                return completed.get() >= target;
+            }
+            LockSupport.parkNanos(100_000);
+        }
+        return true;
+    }
+
+    /** 활성화된 모든 인스턴스를 flush한다. 전체 제한 시간은 timeoutMs. */
+    public static boolean flushAll(long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        boolean flushed = true;
+        for (RingBufferAsyncAppender appender : ACTIVE) {
+            flushed &= appender.flush(Math.max(0, deadline - System.currentTimeMillis()));
+        }
+        return flushed;
+    }
+
+    public static long totalDropped() {
+        return DROPPED_TOTAL.sum();
+    }
+
+    public static int totalQueued() {
+        int queued = 0;
+        for (RingBufferAsyncAppender appender : ACTIVE) {
+            queued += appender.getQueuedCount();
+        }
+        return queued;
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getQueuedCount() {
+        ArrayBlockingQueue<ILoggingEvent> current = buffer;
+        return current == null ? 0 : current.size();
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public void setDropPolicy(DropPolicy dropPolicy) {
+        this.dropPolicy = dropPolicy;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    public void setMaxStopFlushMs(long maxStopFlushMs) {
+        this.maxStopFlushMs = maxStopFlushMs;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -11,4 +11,10 @@ public final class LoggingThresholds {
 
     /** DB 쿼리 지연 기준 (ms) */
     public static final long DB_SLOW_MS = 200;
+
+    /** 한 범위(요청/콜백/동기화) 안에서 같은 형태의 쿼리 반복 경고 기준 (회) */
+    public static final int QUERY_REPEAT_WARN = 10;
+
+    /** 한 범위 안의 전체 Statement 실행 경고 기준 (회) */
+    public static final int QUERY_COUNT_WARN = 50;
 }
@@ -1,5 +1,6 @@
 package com.chukchuk.haksa.global.logging.filter;
 
+import com.chukchuk.haksa.global.common.route.RouteClassifier;
 import com.chukchuk.haksa.global.logging.sanitize.LogSanitizer;
 import com.chukchuk.haksa.global.logging.util.NetUtil;
 import jakarta.servlet.FilterChain;
@@ -14,8 +15,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.Set;
 
 /**
  * HTTP 요청 요약 breadcrumb 전용 필터 (Sentry-only)
@@ -26,16 +25,6 @@ public class HttpSummaryLoggingFilter extends OncePerRequestFilter {
 
     private static final Logger HTTP = LoggerFactory.getLogger("HTTP");
 
-    // 기본 제외 경로/확장자
-    private static final List<String> EXCLUDE_PREFIXES = List.of(
-            "/swagger-ui", "/v3/api-docs", "/swagger-resources", "/webjars/swagger-ui",
-            "/health", "/actuator/health", "/error"
-    );
-    private static final Set<String> EXCLUDE_EXTS = Set.of(
-            ".ico", ".css", ".js", ".map", ".png", ".jpg", ".jpeg", ".svg", ".gif",
-            ".woff", ".woff2", ".ttf", ".eot"
-    );
-
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
             throws ServletException, IOException {
@@ -49,8 +38,9 @@ public class HttpSummaryLoggingFilter extends OncePerRequestFilter {
     }
 
     private void writeSummary(HttpServletRequest req, HttpServletResponse res, long start) {
-        String uriRaw = nvl(req.getRequestURI());
-        if (shouldSkip(uriRaw)) return;
+        // 제외 경로/확장자 판단은 RouteClassifier 결과를 재사용한다.
+        if (RouteClassifier.classify(req).summaryLogSkipped()) return;
+        String uriRaw = req.getRequestURI();
 
         String uri = LogSanitizer.clean(
                 (req.getQueryString() == null || req.getQueryString().isBlank())
@@ -75,21 +65,6 @@ public class HttpSummaryLoggingFilter extends OncePerRequestFilter {
         );
     }
 
-    private boolean shouldSkip(String uri) {
-        if (uri == null || uri.isBlank()) return true;
-
-        int dot = uri.lastIndexOf('.');
-        if (dot > -1 && EXCLUDE_EXTS.contains(uri.substring(dot).toLowerCase())) {
-            return true;
-        }
-
-        for (String p : EXCLUDE_PREFIXES) {
-            if (uri.startsWith(p)) return true;
-        }
-
-        return uri.equals("/favicon.ico") || uri.equals("/swagger-ui.html");
-    }
-
     private String nvl(String s) {
         return s == null ? "" : s;
     }
@@ -1,5 +1,6 @@
 package com.chukchuk.haksa.global.logging.filter;
 
+import com.chukchuk.haksa.global.common.route.RouteClassifier;
 import com.chukchuk.haksa.global.logging.sentry.SentryDuplicateEventFilter;
 import com.chukchuk.haksa.global.logging.util.HashUtil;
 import io.sentry.Sentry;
@@ -22,6 +23,12 @@ import java.io.IOException;
 @Order(20) // SecurityFilterChain 이후, HttpSummaryLoggingFilter(30)보다 먼저
 public class MdcUserEnricherFilter extends OncePerRequestFilter {
 
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // 정적 리소스는 로그/이벤트를 남기지 않으므로 사용자 해시·Sentry 컨텍스트를 만들지 않는다.
+        return RouteClassifier.classify(request).staticAsset();
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
             throws ServletException, IOException {
@@ -0,0 +1,107 @@
+package com.chukchuk.haksa.global.logging.sanitize;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 키워드를 한 번의 순회로 찾는 Aho–Corasick 스캐너 (ASCII, 대소문자 무시)
+ *
+ * - 키워드마다 비트를 지정하고, scan 결과로 등장한 키워드 비트의 OR를 돌려준다.
+ * - 비 ASCII 문자는 어떤 키워드에도 포함되지 않으므로 루트 상태로 돌아간다.
+ *   정규식의 (?i)도 UNICODE_CASE 없이는 ASCII 범위에서만 대소문자를 무시하므로 판정이 일치한다.
+ */
+final class KeywordScanner {
+
+    private static final int ALPHABET = 128;
+
+    private final int[][] next;
+    private final int[] output;
+
+    /** @param keywords 소문자 ASCII 키워드 → 비트 마스크 */
+    KeywordScanner(Map<String, Integer> keywords) {
+        List<int[]> trie = new ArrayList<>();
+        List<Integer> out = new ArrayList<>();
+        trie.add(emptyRow());
+        out.add(0);
+
+        for (Map.Entry<String, Integer> keyword : keywords.entrySet()) {
+            String word = keyword.getKey();
+            if (word.isEmpty()) {
+                throw new IllegalArgumentException("keyword must not be empty");
+            }
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                if (c >= ALPHABET || (c >= 'A' && c <= 'Z')) {
+                    throw new IllegalArgumentException("keyword must be lower-case ASCII: " + word);
+                }
+                if (trie.get(state)[c] < 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(emptyRow());
+                    out.add(0);
+                }
+                state = trie.get(state)[c];
+            }
+            out.set(state, out.get(state) | keyword.getValue());
+        }
+
+        this.next = trie.toArray(new int[0][]);
+        this.output = out.stream().mapToInt(Integer::intValue).toArray();
+        link();
+    }
+
+    /* 실패 링크를 계산해 goto 표를 완전한 DFA 전이표로 채운다. */
+    private void link() {
+        int[] fail = new int[next.length];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int child = next[0][c];
+            if (child < 0) {
+                next[0][c] = 0;
+            } else {
+                fail[child] = 0;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            output[state] |= output[fail[state]];
+            for (int c = 0; c < ALPHABET; c++) {
+                int child = next[state][c];
+                if (child < 0) {
+                    next[state][c] = next[fail[state]][c];
+                } else {
+                    fail[child] = next[fail[state]][c];
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    int scan(CharSequence s) {
+        int state = 0;
+        int hits = 0;
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c >= ALPHABET) {
+                state = 0;
+                continue;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            }
+            state = next[state][c];
+            hits |= output[state];
+        }
+        return hits;
+    }
+
+    private static int[] emptyRow() {
+        int[] row = new int[ALPHABET];
+        Arrays.fill(row, -1);
+        return row;
+    }
+}
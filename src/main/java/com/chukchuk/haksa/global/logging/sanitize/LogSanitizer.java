@@ -1,9 +1,20 @@
 package com.chukchuk.haksa.global.logging.sanitize;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.regex.Pattern;
 
+/**
+ * 로그 문자열 마스킹
+ *
+ * 규칙은 아래 순서대로 적용한다. 각 규칙이 매치되려면 반드시 포함해야 하는 키워드/문자를
+ * KeywordScanner로 한 번에 찾고, 해당 키워드가 없는 규칙은 건너뛴다.
+ * 대부분의 로그(민감 키워드 없음)는 스캔 한 번 후 원본을 그대로 반환한다.
+ *
+ * 건너뛰어도 결과가 같은 이유: 모든 치환은 매치 안의 일부를 '*'로 바꾸기만 하므로
+ * 앞선 규칙이 뒤 규칙의 키워드/문자를 새로 만들어내지 않는다. (LogSanitizerTests에서 검증)
+ */
 public final class LogSanitizer {
 
     /* 공통 패턴 */
@@ -23,6 +34,38 @@ public final class LogSanitizer {
     private static final Pattern JSON_SECRET_KV = Pattern.compile(
             "(?i)\"(password|passwd|pwd|token|access_token|refresh_token|secret|authorization)\"\\s*:\\s*\"[^\"]*\"");
 
+    /* 규칙별 필수 키워드 (KeywordScanner 비트) */
+    private static final int K_STUDENT = 1;
+    private static final int K_PORTAL = 1 << 1;
+    private static final int K_PASS = 1 << 2;
+    private static final int K_USER = 1 << 3;
+    private static final int K_TOKEN = 1 << 4;
+    private static final int K_AUTH = 1 << 5;
+    private static final int K_SECRET = 1 << 6;
+    private static final int C_EQ = 1 << 7;
+    private static final int C_COLON = 1 << 8;
+    private static final int C_QUOTE = 1 << 9;
+    private static final int C_AT = 1 << 10;
+    private static final int ALL = (1 << 11) - 1;
+
+    private static final KeywordScanner SCANNER = new KeywordScanner(Map.ofEntries(
+            Map.entry("student", K_STUDENT),
+            Map.entry("portal", K_PORTAL),
+            Map.entry("jsessionid", K_PORTAL),
+            Map.entry("pass", K_PASS),       // password, passwd, pass
+            Map.entry("pwd", K_PASS),
+            Map.entry("user", K_USER),       // username, user
+            Map.entry("login", K_USER),
+            Map.entry("account", K_USER),
+            Map.entry("token", K_TOKEN),     // token, access_token, id_token, refresh_token
+            Map.entry("authorization", K_AUTH),
+            Map.entry("secret", K_SECRET),
+            Map.entry("=", C_EQ),
+            Map.entry(":", C_COLON),
+            Map.entry("\"", C_QUOTE),
+            Map.entry("@", C_AT)
+    ));
+
     /* 확장 규칙 (thread-safe) */
     private static final List<ReplaceRule> EXTRA_RULES = new CopyOnWriteArrayList<>();
 
@@ -30,23 +73,37 @@ public final class LogSanitizer {
 
     public static String clean(String s) {
         if (s == null) return null;
+        int hits = SCANNER.scan(s);
+        if (hits == 0 && EXTRA_RULES.isEmpty()) return s;
+        return apply(s, hits);
+    }
+
+    /** 사전 필터 없이 모든 규칙을 순서대로 적용한다. (동등성 테스트/벤치마크 기준값) */
+    static String cleanUnfiltered(String s) {
+        if (s == null) return null;
+        return apply(s, ALL);
+    }
+
+    private static String apply(String s, int hits) {
         String r = s;
 
         // 1) 쿼리 파라미터/세션/학번 등 도메인 우선
-        r = STUDENT_CODE.matcher(r).replaceAll("$1=***");
-        r = PORTAL_SESS .matcher(r).replaceAll("$1=***");
+        if (has(hits, K_STUDENT | C_EQ)) r = STUDENT_CODE.matcher(r).replaceAll("$1=***");
+        if (has(hits, K_PORTAL | C_EQ))  r = PORTAL_SESS .matcher(r).replaceAll("$1=***");
 
         // 2) 자격증명 (쿼리스트링, 토큰, 헤더)
-        r = PASSWORD_QS.matcher(r).replaceAll(m -> m.group(0).replace(m.group(2), "***"));
-        r = USERNAME_QS.matcher(r).replaceAll(m -> m.group(0).replace(m.group(2), maskMiddle(m.group(2))));
-        r = TOKEN_QS   .matcher(r).replaceAll(m -> m.group(0).replace(m.group(2), "***"));
-        r = AUTH_HEADER.matcher(r).replaceAll("$1 ***");
+        if (has(hits, K_PASS | C_EQ))    r = PASSWORD_QS.matcher(r).replaceAll(m -> m.group(0).replace(m.group(2), "***"));
+        if (has(hits, K_USER | C_EQ))    r = USERNAME_QS.matcher(r).replaceAll(m -> m.group(0).replace(m.group(2), maskMiddle(m.group(2))));
+        if (has(hits, K_TOKEN | C_EQ))   r = TOKEN_QS   .matcher(r).replaceAll(m -> m.group(0).replace(m.group(2), "***"));
+        if (has(hits, K_AUTH | C_COLON)) r = AUTH_HEADER.matcher(r).replaceAll("$1 ***");
 
         // 3) 일반 민감정보
-        r = EMAIL.matcher(r).replaceAll(m -> m.group(1) + "***" + m.group(3)); // a***@domain
+        if (has(hits, C_AT)) r = EMAIL.matcher(r).replaceAll(m -> m.group(1) + "***" + m.group(3)); // a***@domain
 
         // 4) JSON 본문 내 키-값
-        r = JSON_SECRET_KV.matcher(r).replaceAll(m -> "\"" + m.group(1) + "\": \"***\"");
+        if (has(hits, C_COLON | C_QUOTE) && (hits & (K_PASS | K_TOKEN | K_SECRET | K_AUTH)) != 0) {
+            r = JSON_SECRET_KV.matcher(r).replaceAll(m -> "\"" + m.group(1) + "\": \"***\"");
+        }
 
         // 5) 추가 규칙
         for (ReplaceRule rule : EXTRA_RULES) {
@@ -55,6 +112,10 @@ public final class LogSanitizer {
         return r;
     }
 
+    private static boolean has(int hits, int required) {
+        return (hits & required) == required;
+    }
+
     public static Object arg(Object o) {
         return (o == null) ? null : clean(String.valueOf(o));
     }
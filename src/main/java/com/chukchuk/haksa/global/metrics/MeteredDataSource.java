@@ -0,0 +1,164 @@
+package com.chukchuk.haksa.global.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 요청 단위 DB 시간 측정 / Statement 집계용 DataSource 래퍼
+ *
+ * - 커넥션 대기 시간(getConnection), 점유 시간(획득 ~ close)은 획득 시점의 RequestMetricsContext에 누적한다.
+ * - Statement execute* 실행 시간과 SQL은 실행 시점의 RequestMetricsContext / QueryCounter 범위에 누적한다.
+ * - 요청 컨텍스트와 QueryCounter 범위가 모두 없으면 원본 커넥션을 그대로 돌려준다. (스케줄러/기동 시 오버헤드 없음)
+ *   instrumentAll이면 항상 감싼다. (테스트 트랜잭션처럼 범위보다 먼저 커넥션을 잡는 경우)
+ * - DelegatingDataSource이므로 Hikari 풀 지표(DataSourceUnwrapper)는 그대로 동작한다.
+ */
+public class MeteredDataSource extends DelegatingDataSource {
+
+    private final boolean instrumentAll;
+
+    public MeteredDataSource(DataSource target) {
+        this(target, false);
+    }
+
+    public MeteredDataSource(DataSource target, boolean instrumentAll) {
+        super(target);
+        this.instrumentAll = instrumentAll;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        RequestMetricsContext context = RequestMetricsContext.current();
+        if (!shouldWrap(context)) {
+            return obtainTargetDataSource().getConnection();
+        }
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection();
+        return wrap(connection, context, start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        RequestMetricsContext context = RequestMetricsContext.current();
+        if (!shouldWrap(context)) {
+            return obtainTargetDataSource().getConnection(username, password);
+        }
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection(username, password);
+        return wrap(connection, context, start);
+    }
+
+    private boolean shouldWrap(RequestMetricsContext context) {
+        return context != null || instrumentAll || QueryCounter.current() != null;
+    }
+
+    private static Connection wrap(Connection connection, RequestMetricsContext context, long requestedAt) {
+        return (Connection) Proxy.newProxyInstance(
+                MeteredDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection, context, requestedAt, System.nanoTime()));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private final RequestMetricsContext context;
+        private final long requestedAt;
+        private final long acquiredAt;
+        private boolean closed;
+
+        private ConnectionHandler(Connection target, RequestMetricsContext context, long requestedAt, long acquiredAt) {
+            this.target = target;
+            this.context = context;
+            this.requestedAt = requestedAt;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        if (context != null) {
+                            context.recordConnection(acquiredAt - requestedAt, System.nanoTime() - acquiredAt);
+                        }
+                    }
+                    return MeteredDataSource.invoke(target, method, args);
+                }
+                case "createStatement", "prepareStatement", "prepareCall" -> {
+                    Object statement = MeteredDataSource.invoke(target, method, args);
+                    // prepare*는 첫 인자가 SQL, createStatement는 execute(sql) 시점에 받는다.
+                    String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                    return Proxy.newProxyInstance(
+                            MeteredDataSource.class.getClassLoader(),
+                            new Class<?>[]{method.getReturnType()},
+                            new StatementHandler((Statement) statement, sql));
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                    return MeteredDataSource.invoke(target, method, args);
+                }
+            }
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String sql;
+
+        private StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            // Hibernate는 Statement를 맵 키로 보관하므로 프록시 자체의 동일성을 유지한다.
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (!name.startsWith("execute")) {
+                return MeteredDataSource.invoke(target, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return MeteredDataSource.invoke(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                RequestMetricsContext context = RequestMetricsContext.current();
+                if (context != null) {
+                    context.recordStatement(elapsed);
+                }
+                QueryCounter.record(sql != null ? sql : executedSql(args));
+            }
+        }
+
+        private static String executedSql(Object[] args) {
+            return args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.chukchuk.haksa.global.metrics;
+
+import com.chukchuk.haksa.domain.cache.ReferenceCacheRegions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * 쿼리 캐시 영역(ReferenceCacheRegions.QUERY_REGIONS)별 지표
+ * - hibernate.cache.query.region.requests{region, result=hit|miss}
+ * - hibernate.cache.query.region.puts{region}
+ *
+ * 엔티티/natural-id 영역은 hibernate-micrometer(hibernate.second.level.cache.*)가 영역별로 내지만
+ * 쿼리 캐시는 전체 합계만 나오므로 영역별로 따로 남긴다.
+ * 쿼리 영역은 첫 조회 때 만들어지고, 그 전이나 통계가 꺼져 있으면 0이다.
+ * DataSource가 MeterRegistry를 쓰므로 EntityManagerFactory는 지표를 읽을 때 꺼낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCacheRegionMetrics implements MeterBinder {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : ReferenceCacheRegions.QUERY_REGIONS) {
+            FunctionCounter.builder("hibernate.cache.query.region.requests", this,
+                            metrics -> metrics.count(region, CacheRegionStatistics::getHitCount))
+                    .tag("region", region)
+                    .tag("result", "hit")
+                    .description("Query cache hits per region")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.cache.query.region.requests", this,
+                            metrics -> metrics.count(region, CacheRegionStatistics::getMissCount))
+                    .tag("region", region)
+                    .tag("result", "miss")
+                    .description("Query cache misses per region")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.cache.query.region.puts", this,
+                            metrics -> metrics.count(region, CacheRegionStatistics::getPutCount))
+                    .tag("region", region)
+                    .description("Query cache puts per region")
+                    .register(registry);
+        }
+    }
+
+    private double count(String region, ToLongFunction<CacheRegionStatistics> counter) {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            return 0;
+        }
+        Statistics statistics = factory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return 0;
+        }
+        CacheRegionStatistics regionStatistics = statistics.getQueryRegionStatistics(region);
+        return regionStatistics == null ? 0 : counter.applyAsLong(regionStatistics);
+    }
+}
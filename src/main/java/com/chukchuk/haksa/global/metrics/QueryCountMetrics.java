@@ -0,0 +1,36 @@
+package com.chukchuk.haksa.global.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * QueryCounter 범위 유형(scope=http|callback|sync|maintenance)별 지표
+ * - db.statements         : 닫힌 범위에서 실행된 Statement 누적 수
+ * - db.statements.scopes  : 닫힌 범위 수 (statements / scopes = 범위당 평균)
+ * - db.statements.repeated: 같은 SELECT 형태가 QUERY_REPEAT_WARN 이상 반복된 범위 수 (N+1 의심)
+ *
+ * 범위가 중첩되면(HTTP 요청 안의 콜백/동기화) 각 유형에 모두 누적된다.
+ */
+@Component
+public class QueryCountMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (QueryCounter.ScopeType type : QueryCounter.ScopeType.values()) {
+            FunctionCounter.builder("db.statements", type, QueryCounter::statements)
+                    .tag("scope", type.tag())
+                    .description("Statements executed inside closed query-count scopes")
+                    .register(registry);
+            FunctionCounter.builder("db.statements.scopes", type, QueryCounter::scopes)
+                    .tag("scope", type.tag())
+                    .description("Closed query-count scopes")
+                    .register(registry);
+            FunctionCounter.builder("db.statements.repeated", type, QueryCounter::repeated)
+                    .tag("scope", type.tag())
+                    .description("Scopes where one select shape repeated past the warn threshold")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.chukchuk.haksa.global.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.chukchuk.haksa.global.logging.config.LoggingThresholds.QUERY_COUNT_WARN;
+import static com.chukchuk.haksa.global.logging.config.LoggingThresholds.QUERY_REPEAT_WARN;
+
+/**
+ * 범위(HTTP 요청 / 콜백 / 포털 동기화 / 유지보수 작업)별 Statement 실행 수 집계 및 N+1 감지
+ *
+ * - MeteredDataSource가 execute* 호출마다 record()로 SQL을 넘기고, 열린 범위 전부(중첩 포함)에 형태별로 누적한다.
+ * - 범위를 닫을 때 같은 형태가 QUERY_REPEAT_WARN 이상 반복됐거나 전체가 QUERY_COUNT_WARN 이상이면 [PERF] 로그를 남긴다.
+ * - JDBC 배치(executeBatch)는 왕복 1회로 센다. 다른 스레드에서 실행된 Statement는 세지 않는다.
+ * - 범위 유형별 누적값은 QueryCountMetrics가 db.statements* 지표로 노출한다.
+ *
+ * 범위는 트랜잭션 밖에서 열어야 커밋 시 flush되는 INSERT/UPDATE까지 포함된다.
+ */
+@Slf4j
+public final class QueryCounter {
+
+    public enum ScopeType {
+        HTTP, CALLBACK, SYNC, MAINTENANCE;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final int LOG_SHAPE_LIMIT = 300;
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final int TYPES = ScopeType.values().length;
+    private static final LongAdder[] SCOPES = adders();
+    private static final LongAdder[] STATEMENTS = adders();
+    private static final LongAdder[] REPEATED = adders();
+
+    private QueryCounter() {}
+
+    /** 현재 스레드에 범위를 연다. 이미 열린 범위가 있으면 그 안에 중첩되고, 바깥 범위에도 함께 누적된다. */
+    public static Scope open(ScopeType type, String name) {
+        Scope scope = new Scope(type, name, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    static void record(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        String shape = SqlShape.of(sql);
+        for (; scope != null; scope = scope.parent) {
+            scope.add(shape);
+        }
+    }
+
+    static long scopes(ScopeType type) {
+        return SCOPES[type.ordinal()].sum();
+    }
+
+    static long statements(ScopeType type) {
+        return STATEMENTS[type.ordinal()].sum();
+    }
+
+    static long repeated(ScopeType type) {
+        return REPEATED[type.ordinal()].sum();
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[TYPES];
+        for (int i = 0; i < TYPES; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static String abbreviate(String shape) {
+        return shape.length() <= LOG_SHAPE_LIMIT ? shape : shape.substring(0, LOG_SHAPE_LIMIT) + "...";
+    }
+
+    /**
+     * 열린 범위 하나. 연 스레드에서만 사용하므로 동기화하지 않는다.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final ScopeType type;
+        private final Scope parent;
+        private final Map<String, int[]> shapes = new HashMap<>();
+        private String name;
+        private int total;
+        private boolean closed;
+
+        private Scope(ScopeType type, String name, Scope parent) {
+            this.type = type;
+            this.name = name;
+            this.parent = parent;
+        }
+
+        private void add(String shape) {
+            total++;
+            shapes.computeIfAbsent(shape, key -> new int[1])[0]++;
+        }
+
+        /** 라우트처럼 범위를 연 뒤에야 알 수 있는 이름으로 바꾼다. */
+        public void rename(String name) {
+            this.name = name;
+        }
+
+        public ScopeType type() {
+            return type;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public int total() {
+            return total;
+        }
+
+        /** 형태별 실행 수 (많은 순) */
+        public Map<String, Integer> countsByShape() {
+            Map<String, Integer> sorted = new LinkedHashMap<>();
+            shapes.entrySet().stream()
+                    .sorted(Comparator.comparingInt((Map.Entry<String, int[]> e) -> e.getValue()[0]).reversed())
+                    .forEach(e -> sorted.put(e.getKey(), e.getValue()[0]));
+            return sorted;
+        }
+
+        /** 가장 많이 반복된 SELECT 형태의 실행 수 (N+1 판단 기준) */
+        public int maxSelectRepeat() {
+            int max = 0;
+            for (Map.Entry<String, int[]> entry : shapes.entrySet()) {
+                if (SqlShape.isSelect(entry.getKey())) {
+                    max = Math.max(max, entry.getValue()[0]);
+                }
+            }
+            return max;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+            report();
+        }
+
+        private void report() {
+            int i = type.ordinal();
+            SCOPES[i].increment();
+            STATEMENTS[i].add(total);
+
+            Map.Entry<String, int[]> top = null;
+            for (Map.Entry<String, int[]> entry : shapes.entrySet()) {
+                if (SqlShape.isSelect(entry.getKey()) && (top == null || entry.getValue()[0] > top.getValue()[0])) {
+                    top = entry;
+                }
+            }
+            if (top != null && top.getValue()[0] >= QUERY_REPEAT_WARN) {
+                REPEATED[i].increment();
+                log.warn("[PERF] db.statements.repeated scope={} name={} count={} total={} shape={}",
+                        type.tag(), name, top.getValue()[0], total, abbreviate(top.getKey()));
+            }
+            if (total >= QUERY_COUNT_WARN) {
+                log.warn("[PERF] db.statements.high scope={} name={} total={} shapes={}",
+                        type.tag(), name, total, shapes.size());
+            }
+        }
+    }
+}
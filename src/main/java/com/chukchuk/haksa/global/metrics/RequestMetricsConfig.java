@@ -0,0 +1,46 @@
+package com.chukchuk.haksa.global.metrics;
+
+import com.chukchuk.haksa.global.config.RequestMetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "metrics.request", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestMetricsConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(
+            MeterRegistry registry,
+            RequestMetricsProperties properties
+    ) {
+        FilterRegistrationBean<RequestMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestMetricsFilter(registry, properties));
+        // SecurityFilterChain(-100)의 인증 조회까지 요청 시간/DB 시간에 포함한다.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor meteredDataSourcePostProcessor(Environment environment) {
+        // BeanPostProcessor는 일찍 생성되므로 프로퍼티 빈 대신 Environment에서 직접 읽는다.
+        boolean instrumentAll = environment.getProperty(
+                "metrics.request.instrument-all-connections", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof MeteredDataSource)) {
+                    return new MeteredDataSource(dataSource, instrumentAll);
+                }
+                return bean;
+            }
+        };
+    }
+}
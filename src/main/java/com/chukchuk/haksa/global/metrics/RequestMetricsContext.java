@@ -0,0 +1,86 @@
+package com.chukchuk.haksa.global.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나 동안 누적하는 DB / 캐시 사용량
+ *
+ * - RequestMetricsFilter가 요청 스레드에 열고 닫는다. 요청 밖(스케줄러, 비동기 refresh)에서는 current()가 null이다.
+ * - 한 요청은 한 스레드에서 처리되므로 동기화하지 않는다.
+ */
+public final class RequestMetricsContext {
+
+    private static final ThreadLocal<RequestMetricsContext> CURRENT = new ThreadLocal<>();
+
+    private long statementNanos;
+    private int statements;
+    private long connectionHoldNanos;
+    private long connectionWaitNanos;
+    private int connections;
+    /* 캐시 이름 → {hit, miss} */
+    private Map<String, long[]> cacheRequests;
+
+    RequestMetricsContext() {}
+
+    static RequestMetricsContext open() {
+        RequestMetricsContext context = new RequestMetricsContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    public static RequestMetricsContext current() {
+        return CURRENT.get();
+    }
+
+    /** 현재 요청이 있으면 캐시 조회 결과를 기록한다. */
+    public static void recordCache(String cacheName, boolean hit) {
+        RequestMetricsContext context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        if (context.cacheRequests == null) {
+            context.cacheRequests = new LinkedHashMap<>(4);
+        }
+        context.cacheRequests.computeIfAbsent(cacheName, name -> new long[2])[hit ? 0 : 1]++;
+    }
+
+    void recordStatement(long elapsedNanos) {
+        statements++;
+        statementNanos += elapsedNanos;
+    }
+
+    void recordConnection(long waitNanos, long holdNanos) {
+        connections++;
+        connectionWaitNanos += waitNanos;
+        connectionHoldNanos += holdNanos;
+    }
+
+    long statementNanos() {
+        return statementNanos;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long connectionHoldNanos() {
+        return connectionHoldNanos;
+    }
+
+    long connectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+
+    int connections() {
+        return connections;
+    }
+
+    Map<String, long[]> cacheRequests() {
+        return cacheRequests == null ? Map.of() : cacheRequests;
+    }
+}
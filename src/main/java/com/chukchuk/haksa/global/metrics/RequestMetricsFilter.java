@@ -0,0 +1,137 @@
+package com.chukchuk.haksa.global.metrics;
+
+import com.chukchuk.haksa.global.common.route.RouteClassifier;
+import com.chukchuk.haksa.global.config.RequestMetricsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트별 요청 지표
+ *
+ * - http.route.latency           : 전체 처리 시간 (SLO 버킷 + 백분위수), outcome으로 결과 분류
+ * - http.route.db                : 요청 중 Statement 실행 시간 합계
+ * - http.route.app               : 전체 - DB 실행 시간
+ * - http.route.db.connection     : 커넥션 점유 시간 합계 (풀 4개를 어느 라우트가 쓰는지)
+ * - http.route.db.connection.wait: 커넥션 획득 대기 시간 합계
+ * - http.route.db.statements     : 요청당 Statement 실행 수 (QueryCounter HTTP 범위도 함께 열어 N+1을 감지한다)
+ * - http.route.cache             : 캐시 조회 수 (cache, result=hit|miss)
+ *
+ * route 태그는 매칭된 핸들러 패턴이며, 핸들러에 도달하지 못한 요청(인증 실패, 404)은 UNMATCHED로 묶는다.
+ * 보안 필터 체인의 DB 조회까지 포함하도록 SecurityFilterChain보다 먼저 실행한다. (RequestMetricsConfig)
+ */
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String UNMATCHED = "UNMATCHED";
+
+    private final MeterRegistry registry;
+    private final Duration[] slo;
+    private final double[] percentiles;
+
+    public RequestMetricsFilter(MeterRegistry registry, RequestMetricsProperties properties) {
+        this.registry = registry;
+        this.slo = properties.getSlo().toArray(Duration[]::new);
+        this.percentiles = properties.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return RouteClassifier.classify(request).staticAsset();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+
+        RequestMetricsContext context = RequestMetricsContext.open();
+        QueryCounter.Scope scope = QueryCounter.open(QueryCounter.ScopeType.HTTP, req.getMethod());
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            chain.doFilter(req, res);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            RequestMetricsContext.close();
+            scope.rename(req.getMethod() + " " + route(req));
+            scope.close();
+            record(req, res, context, System.nanoTime() - start, failed);
+        }
+    }
+
+    private void record(HttpServletRequest req, HttpServletResponse res, RequestMetricsContext context,
+                        long elapsedNanos, boolean failed) {
+        // 필터 밖으로 예외가 전파되면 컨테이너가 500으로 응답한다.
+        int status = failed && res.getStatus() < 400 ? 500 : res.getStatus();
+        Tags route = Tags.of("method", req.getMethod(), "route", route(req));
+
+        timer("http.route.latency", route.and("outcome", outcome(status)), true)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        long dbNanos = context.statementNanos();
+        timer("http.route.db", route, true).record(dbNanos, TimeUnit.NANOSECONDS);
+        timer("http.route.app", route, true).record(Math.max(0, elapsedNanos - dbNanos), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("http.route.db.statements")
+                .tags(route)
+                .register(registry)
+                .record(context.statements());
+        if (context.connections() > 0) {
+            timer("http.route.db.connection", route, false)
+                    .record(context.connectionHoldNanos(), TimeUnit.NANOSECONDS);
+            timer("http.route.db.connection.wait", route, false)
+                    .record(context.connectionWaitNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        for (Map.Entry<String, long[]> cache : context.cacheRequests().entrySet()) {
+            long[] counts = cache.getValue();
+            cacheCounter(route, cache.getKey(), "hit").increment(counts[0]);
+            cacheCounter(route, cache.getKey(), "miss").increment(counts[1]);
+        }
+    }
+
+    private Timer timer(String name, Tags tags, boolean slo) {
+        Timer.Builder builder = Timer.builder(name).tags(tags);
+        if (slo) {
+            builder.serviceLevelObjectives(this.slo).publishPercentiles(percentiles);
+        }
+        return builder.register(registry);
+    }
+
+    private Counter cacheCounter(Tags route, String cache, String result) {
+        return Counter.builder("http.route.cache")
+                .tags(route.and("cache", cache, "result", result))
+                .register(registry);
+    }
+
+    static String route(HttpServletRequest req) {
+        Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNMATCHED : pattern.toString();
+    }
+
+    /**
+     * 응답 상태 분류
+     * success(2xx) / redirect(3xx) / auth_error(401, 403) / not_found(404) / client_error(기타 4xx) / server_error(5xx)
+     */
+    static String outcome(int status) {
+        if (status >= 500) return "server_error";
+        if (status == 401 || status == 403) return "auth_error";
+        if (status == 404) return "not_found";
+        if (status >= 400) return "client_error";
+        if (status >= 300) return "redirect";
+        return "success";
+    }
+}
@@ -0,0 +1,56 @@
+package com.chukchuk.haksa.global.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문자열을 "형태"로 정규화한다.
+ *
+ * - 문자열/숫자 리터럴 → ?
+ * - IN (?, ?, ...) → IN (?...) (배치 페치/IN 목록 크기가 달라도 같은 형태로 묶는다)
+ * - 공백 정리, 소문자화
+ *
+ * Hibernate/JdbcTemplate SQL은 대부분 바인드 변수를 쓰므로 종류가 적다. 결과를 상한이 있는 맵에 기억한다.
+ */
+final class SqlShape {
+
+    static final String UNKNOWN = "(unknown)";
+
+    private static final int CACHE_LIMIT = 1024;
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.$])-?\\d+(?:\\.\\d+)?");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlShape() {}
+
+    static String of(String sql) {
+        if (sql == null || sql.isBlank()) {
+            return UNKNOWN;
+        }
+        String cached = CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String shape = normalize(sql);
+        if (CACHE.size() < CACHE_LIMIT) {
+            CACHE.put(sql, shape);
+        }
+        return shape;
+    }
+
+    static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    static boolean isSelect(String shape) {
+        return shape.startsWith("select") || shape.startsWith("with");
+    }
+}
@@ -0,0 +1,71 @@
+package com.chukchuk.haksa.global.metrics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포털 콜백 / 동기화 단계별 Observation
+ *
+ * - 이름은 portal.stage 하나이고 저카디널리티 키 flow(callback|sync), stage로 구분한다.
+ *   DefaultMeterObservationHandler가 portal.stage 타이머(SLO 버킷: management.metrics.distribution.slo)를,
+ *   tracing 브리지가 "flow stage" 이름의 OTel span을 만든다. 바깥 단계가 열려 있으면 자식 span으로 중첩된다.
+ * - 과목 수, 학기 수, payload 크기처럼 값이 다양한 속성은 attribute()로 현재 단계 span에만 붙인다. (지표 태그 제외)
+ */
+@Component
+@RequiredArgsConstructor
+public class StageObserver {
+
+    public static final String NAME = "portal.stage";
+    public static final String CALLBACK = "callback";
+    public static final String SYNC = "sync";
+
+    private final ObservationRegistry registry;
+
+    @FunctionalInterface
+    public interface StageBody<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    @FunctionalInterface
+    public interface StageAction<E extends Exception> {
+        void run() throws E;
+    }
+
+    /** 단계를 열고 body를 실행한다. body의 예외는 error로 기록한 뒤 그대로 던진다. */
+    public <T, E extends Exception> T observe(String flow, String stage, StageBody<T, E> body) throws E {
+        Observation observation = Observation.createNotStarted(NAME, registry)
+                .contextualName(flow + " " + stage)
+                .lowCardinalityKeyValue("flow", flow)
+                .lowCardinalityKeyValue("stage", stage)
+                .start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            return body.run();
+        } catch (Exception e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    public <E extends Exception> void run(String flow, String stage, StageAction<E> action) throws E {
+        observe(flow, stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /** 현재 열린 단계의 span 속성 (단계 밖이거나 관측 비활성이면 무시) */
+    public void attribute(String key, long value) {
+        attribute(key, String.valueOf(value));
+    }
+
+    public void attribute(String key, String value) {
+        Observation current = registry.getCurrentObservation();
+        if (current != null && value != null) {
+            current.highCardinalityKeyValue(key, value);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.chukchuk.haksa.global.security.cache;
 
+import com.chukchuk.haksa.global.metrics.RequestMetricsContext;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -15,7 +19,9 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 @Component
-public class AuthTokenCache {
+public class AuthTokenCache implements MeterBinder {
+
+    static final String CACHE_NAME = "authToken";
 
     private final Cache<String, UserDetails> cache;
     private final Cache<String, Set<String>> userTokenIndex;
@@ -25,24 +31,38 @@ public class AuthTokenCache {
         this.cache = Caffeine.newBuilder()
                 .maximumSize(50_000)
                 .expireAfterWrite(ttl)
+                .recordStats()
                 .build();
         this.userTokenIndex = Caffeine.newBuilder()
                 .maximumSize(50_000)
                 .expireAfterWrite(ttl)
+                .recordStats()
                 .build();
     }
 
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(registry, userTokenIndex, "authTokenIndex");
+    }
+
     public UserDetails get(String tokenHash) {
-        return cache.getIfPresent(tokenHash);
+        UserDetails cached = cache.getIfPresent(tokenHash);
+        RequestMetricsContext.recordCache(CACHE_NAME, cached != null);
+        return cached;
     }
 
     public UserDetails getOrLoad(String userId, String token, Supplier<UserDetails> loader) {
         String tokenHash = hashToken(token);
-        return cache.get(tokenHash, key -> {
-            UserDetails loaded = loader.get();
+        boolean[] loaded = new boolean[1];
+        UserDetails userDetails = cache.get(tokenHash, key -> {
+            loaded[0] = true;
+            UserDetails value = loader.get();
             recordTokenHash(userId, key);
-            return loaded;
+            return value;
         });
+        RequestMetricsContext.recordCache(CACHE_NAME, !loaded[0]);
+        return userDetails;
     }
 
     public void evictByUserId(String userId) {
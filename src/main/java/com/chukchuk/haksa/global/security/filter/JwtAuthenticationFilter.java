@@ -1,5 +1,6 @@
 package com.chukchuk.haksa.global.security.filter;
 
+import com.chukchuk.haksa.global.common.route.RouteClassifier;
 import com.chukchuk.haksa.global.exception.type.TokenException;
 import com.chukchuk.haksa.global.security.cache.AuthTokenCache;
 import com.chukchuk.haksa.global.security.service.CustomUserDetailsService;
@@ -23,7 +24,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -35,17 +35,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final AuthTokenCache authTokenCache;
     private final AuthenticationEntryPoint authenticationEntryPoint;
 
-    private static final List<String> WHITELIST_PATHS = List.of(
-            "/", "/v3/api-docs", "/swagger", "/webjars", "/swagger-config", "/error"
-    );
-
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        String path = request.getRequestURI();
-
-        if (WHITELIST_PATHS.stream().anyMatch(p ->
-                p.equals("/") ? path.equals("/") : path.startsWith(p)
-        )) {
+        // 화이트리스트 판단은 RouteClassifier가 한 번 계산해 요청 속성으로 공유한다.
+        if (RouteClassifier.classify(request).authBypass()) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -0,0 +1,95 @@
+package com.chukchuk.haksa.infrastructure.cache.local;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키 패밀리 단위 캐시 통계
+ * - Caffeine stats는 캐시 전체 단위이므로 패밀리별 hit/miss/로딩 시간은 직접 집계한다.
+ * - 엔트리 수/가중치 합은 저장과 제거 때 갱신해 두고, 지표 수집 시 키 전체를 훑지 않는다.
+ */
+final class AcademicCacheFamilyStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder entries = new LongAdder();
+    private final LongAdder weight = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordLoad(long elapsedNanos, boolean success) {
+        loads.increment();
+        loadNanos.add(elapsedNanos);
+        if (!success) {
+            loadFailures.increment();
+        }
+    }
+
+    void recordPut(int entryWeight) {
+        entries.increment();
+        weight.add(entryWeight);
+    }
+
+    void recordRemove(int entryWeight) {
+        entries.decrement();
+        weight.add(-entryWeight);
+    }
+
+    /**
+     * 로딩 완료와 무효화가 겹치면 제거만 반영될 수 있으므로 0 아래로는 내리지 않는다.
+     */
+    long size() {
+        return Math.max(0, entries.sum());
+    }
+
+    long weight() {
+        return Math.max(0, weight.sum());
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    void bindTo(MeterRegistry registry, String cacheName, String family) {
+        FunctionCounter.builder("academic.cache.requests", hits, LongAdder::doubleValue)
+                .tags("cache", cacheName, "family", family, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("academic.cache.requests", misses, LongAdder::doubleValue)
+                .tags("cache", cacheName, "family", family, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("academic.cache.load.failures", loadFailures, LongAdder::doubleValue)
+                .tags("cache", cacheName, "family", family)
+                .register(registry);
+        FunctionTimer.builder("academic.cache.load", this,
+                        stats -> stats.loads.sum(),
+                        stats -> stats.loadNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .tags("cache", cacheName, "family", family)
+                .register(registry);
+        Gauge.builder("academic.cache.family.size", this, AcademicCacheFamilyStats::size)
+                .tags("cache", cacheName, "family", family)
+                .register(registry);
+        Gauge.builder("academic.cache.family.estimated.bytes", this, AcademicCacheFamilyStats::weight)
+                .tags("cache", cacheName, "family", family)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
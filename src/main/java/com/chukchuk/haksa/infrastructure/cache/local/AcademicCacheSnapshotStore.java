@@ -0,0 +1,172 @@
+package com.chukchuk.haksa.infrastructure.cache.local;
+
+import com.chukchuk.haksa.global.config.AcademicCacheProperties;
+import com.chukchuk.haksa.global.logging.annotation.LogTime;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 정적 학업 캐시 스냅샷 (Lambda 콜드 스타트 대응)
+ *
+ * - 기동 완료 시 스냅샷 파일(path → 번들 리소스 순)을 읽어 정적 키를 미리 채운다.
+ * - DB 버전 스탬프가 다르거나 포맷 버전이 다르면 스냅샷을 사용하지 않는다.
+ * - 종료 시 현재 정적 키를 path에 저장한다. 임시 파일에 쓴 뒤 교체하므로 읽는 쪽이 반쯤 쓰인 파일을 보지 않는다.
+ * - 스냅샷 관련 실패는 로그만 남기고 기동/종료를 막지 않는다.
+ * - 로컬 캐시가 다른 구현으로 대체된 경우(테스트 등)에는 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class AcademicCacheSnapshotStore {
+
+    static final int FORMAT_VERSION = 1;
+
+    private final ObjectProvider<LocalAcademicCache> academicCache;
+    private final StaticDataVersionReader versionReader;
+    private final AcademicCacheProperties.Snapshot properties;
+
+    public AcademicCacheSnapshotStore(
+            ObjectProvider<LocalAcademicCache> academicCache,
+            StaticDataVersionReader versionReader,
+            AcademicCacheProperties properties
+    ) {
+        this.academicCache = academicCache;
+        this.versionReader = versionReader;
+        this.properties = properties.getSnapshot();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (properties.isEnabled()) {
+            load();
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void saveOnShutdown() {
+        if (properties.isEnabled()) {
+            save();
+        }
+    }
+
+    /**
+     * @return 복원된 엔트리 수 (스냅샷이 없거나 유효하지 않으면 0)
+     */
+    public int load() {
+        LocalAcademicCache cache = academicCache.getIfAvailable();
+        if (cache == null) {
+            return 0;
+        }
+
+        long t0 = LogTime.start();
+        String stamp;
+        try {
+            stamp = versionReader.read();
+        } catch (RuntimeException e) {
+            log.warn("[PERF] academic.cache.snapshot.skip reason=stamp_unavailable ex={}", e.getClass().getSimpleName(), e);
+            return 0;
+        }
+
+        for (String source : new String[]{properties.getPath(), "classpath:" + properties.getBundledResource()}) {
+            Optional<Snapshot> snapshot = read(source);
+            if (snapshot.isEmpty()) {
+                continue;
+            }
+            if (snapshot.get().formatVersion() != FORMAT_VERSION || !stamp.equals(snapshot.get().stamp())) {
+                log.info("[PERF] academic.cache.snapshot.skip reason=stale source={} snapshotStamp={} dbStamp={}",
+                        source, snapshot.get().stamp(), stamp);
+                continue;
+            }
+
+            int imported = cache.importStaticEntries(snapshot.get().entries());
+            log.info("[PERF] academic.cache.snapshot.load source={} entries={} took_ms={}",
+                    source, imported, LogTime.elapsedMs(t0));
+            return imported;
+        }
+        return 0;
+    }
+
+    /**
+     * @return 저장된 엔트리 수 (실패 시 0)
+     */
+    public int save() {
+        LocalAcademicCache cache = academicCache.getIfAvailable();
+        if (cache == null) {
+            return 0;
+        }
+
+        long t0 = LogTime.start();
+        Map<String, JsonNode> entries = cache.exportStaticEntries();
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        Path target = Path.of(properties.getPath());
+        try {
+            Snapshot snapshot = new Snapshot(FORMAT_VERSION, versionReader.read(), System.currentTimeMillis(), entries);
+            Path parent = target.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                CacheValueCodec.mapper().writeValue(out, snapshot);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            log.warn("[PERF] academic.cache.snapshot.save.fail path={} ex={}", target, e.getClass().getSimpleName(), e);
+            return 0;
+        }
+
+        log.info("[PERF] academic.cache.snapshot.save path={} entries={} took_ms={}",
+                target, entries.size(), LogTime.elapsedMs(t0));
+        return entries.size();
+    }
+
+    private Optional<Snapshot> read(String source) {
+        try (InputStream in = open(source)) {
+            if (in == null) {
+                return Optional.empty();
+            }
+            try (InputStream gzip = new GZIPInputStream(in)) {
+                return Optional.of(CacheValueCodec.mapper().readValue(gzip, Snapshot.class));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("[PERF] academic.cache.snapshot.read.fail source={} ex={}", source, e.getClass().getSimpleName());
+            return Optional.empty();
+        }
+    }
+
+    private static InputStream open(String source) throws IOException {
+        if (source.startsWith("classpath:")) {
+            ClassPathResource resource = new ClassPathResource(source.substring("classpath:".length()));
+            return resource.exists() ? resource.getInputStream() : null;
+        }
+        Path path = Path.of(source);
+        return Files.isRegularFile(path) ? Files.newInputStream(path) : null;
+    }
+
+    /**
+     * 스냅샷 파일 포맷 (gzip JSON)
+     * - formatVersion: 엔트리 직렬화 형식이 바뀌면 올린다.
+     * - stamp        : 저장 시점의 DB 버전 스탬프
+     */
+    record Snapshot(int formatVersion, String stamp, long createdAtEpochMs, Map<String, JsonNode> entries) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.chukchuk.haksa.infrastructure.cache.local;
+
+import com.chukchuk.haksa.domain.cache.CachedResponseBody;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 값 직렬화 / 크기 추정
+ *
+ * - weight: compact 값과 응답 본문은 보관 중인 바이트 길이, 그 밖의 값은 직렬화 없이 필드를 따라가며
+ *           어림한 JSON 크기를 쓴다. 실제 힙 점유량은 객체 헤더/참조 때문에 더 크지만,
+ *           패밀리 간 상대 비교와 상한 설정에는 충분하다.
+ * - compact: 큰 값은 객체 그래프 대신 UTF-8 JSON 바이트로 보관하고 조회 시 역직렬화한다.
+ * - snapshot: 정적 키 값은 JSON 트리로 내보내고 같은 타입으로 복원한다.
+ */
+final class CacheValueCodec {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .build();
+
+    /** 키 문자열, future, 노드 등 엔트리 고정 비용 근사치 */
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    /** 숫자/불리언/enum 등 스칼라 한 개의 근사치 */
+    private static final int SCALAR_BYTES = 8;
+
+    /** 필드 추적 깊이 상한 (순환 참조 방지) */
+    private static final int MAX_DEPTH = 8;
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || !field.trySetAccessible()) {
+                        continue;
+                    }
+                    fields.add(field);
+                }
+            }
+            return fields.toArray(Field[]::new);
+        }
+    };
+
+    private CacheValueCodec() {}
+
+    static TypeFactory types() {
+        return MAPPER.getTypeFactory();
+    }
+
+    static byte[] encode(Object value) {
+        try {
+            return MAPPER.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("cache value encode failed: " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    static Object decode(byte[] bytes, JavaType type) {
+        try {
+            return MAPPER.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new IllegalStateException("cache value decode failed: " + type, e);
+        }
+    }
+
+    static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * 저장된 값(객체 또는 compact 바이트) → JSON 트리 (스냅샷용)
+     */
+    static JsonNode toTree(Object stored) {
+        if (stored instanceof CompactValue compact) {
+            try {
+                return MAPPER.readTree(compact.bytes());
+            } catch (IOException e) {
+                throw new IllegalStateException("cache value decode failed: compact", e);
+            }
+        }
+        try {
+            return MAPPER.valueToTree(stored);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("cache value encode failed: " + stored.getClass().getSimpleName(), e);
+        }
+    }
+
+    static Object fromTree(JsonNode node, JavaType type) {
+        try {
+            return MAPPER.readerFor(type).readValue(node);
+        } catch (IOException e) {
+            throw new IllegalStateException("cache value decode failed: " + type, e);
+        }
+    }
+
+    /**
+     * put마다 불리므로 직렬화하지 않는다.
+     */
+    static int weigh(String key, Object value) {
+        long bytes;
+        if (value instanceof CompactValue compact) {
+            bytes = compact.bytes().length;
+        } else if (value instanceof CachedResponseBody body) {
+            bytes = body.json().length + body.etag().length();
+        } else {
+            bytes = estimate(value, 0);
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes + key.length() + ENTRY_OVERHEAD_BYTES);
+    }
+
+    /**
+     * 값의 JSON 크기 어림값
+     * - 문자열은 UTF-8 한글 기준 글자당 3바이트, 스칼라는 고정값, 컬렉션/맵은 원소 합, 그 밖의 객체는 필드 합
+     * - 필드 목록은 클래스별로 한 번만 읽는다.
+     */
+    private static long estimate(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence text) {
+            return text.length() * 3L;
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (depth >= MAX_DEPTH) {
+            return SCALAR_BYTES;
+        }
+        long bytes = 0;
+        if (value instanceof Collection<?> collection) {
+            for (Object element : collection) {
+                bytes += estimate(element, depth + 1);
+            }
+            return bytes;
+        }
+        if (value instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                bytes += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            }
+            return bytes;
+        }
+        if (isScalar(value)) {
+            return SCALAR_BYTES;
+        }
+        for (Field field : FIELDS.get(value.getClass())) {
+            try {
+                bytes += estimate(field.get(value), depth + 1);
+            } catch (IllegalAccessException e) {
+                bytes += SCALAR_BYTES;
+            }
+        }
+        return bytes;
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof Number
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum<?>
+                || value.getClass().getName().startsWith("java.");
+    }
+
+    /**
+     * JSON 바이트로 보관된 캐시 값
+     */
+    record CompactValue(byte[] bytes) {
+    }
+}
@@ -3,157 +3,487 @@ package com.chukchuk.haksa.infrastructure.cache.local;
 import com.chukchuk.haksa.domain.academic.record.dto.SemesterSummaryResponse;
 import com.chukchuk.haksa.domain.cache.AcademicCache;
 import com.chukchuk.haksa.domain.cache.AcademicCacheKeys;
+import com.chukchuk.haksa.domain.cache.CachedResponseBody;
 import com.chukchuk.haksa.domain.graduation.dto.AreaRequirementDto;
 import com.chukchuk.haksa.domain.graduation.dto.GraduationProgressResponse;
+import com.chukchuk.haksa.domain.graduation.dto.LanguageCertRequirementResponse;
 import com.chukchuk.haksa.domain.student.dto.StudentSemesterDto;
-import com.github.benmanes.caffeine.cache.Cache;
+import com.chukchuk.haksa.global.config.AcademicCacheProperties;
+import com.chukchuk.haksa.global.datasource.ReadWriteRoutingDataSource;
+import com.chukchuk.haksa.global.metrics.RequestMetricsContext;
+import com.chukchuk.haksa.infrastructure.cache.local.CacheValueCodec.CompactValue;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static com.chukchuk.haksa.domain.academic.record.dto.StudentAcademicRecordDto.AcademicSummaryResponse;
 
+@Slf4j
 @Component
-public class LocalAcademicCache implements AcademicCache {
+public class LocalAcademicCache implements AcademicCache, MeterBinder {
+
+    static final String CACHE_NAME = "academic";
 
     private static final Duration DEFAULT_TTL = Duration.ofDays(30);
 
+    private static final JavaType SUMMARY_TYPE =
+            CacheValueCodec.types().constructType(AcademicSummaryResponse.class);
+    private static final JavaType SEMESTER_LIST_TYPE =
+            CacheValueCodec.types().constructCollectionType(List.class, StudentSemesterDto.StudentSemesterInfoResponse.class);
+    private static final JavaType GRADUATION_PROGRESS_TYPE =
+            CacheValueCodec.types().constructType(GraduationProgressResponse.class);
+    private static final JavaType REQUIREMENTS_TYPE =
+            CacheValueCodec.types().constructCollectionType(List.class, AreaRequirementDto.class);
+    private static final JavaType SEMESTER_SUMMARIES_TYPE =
+            CacheValueCodec.types().constructCollectionType(List.class, SemesterSummaryResponse.class);
+    private static final JavaType RESPONSE_BODY_TYPE =
+            CacheValueCodec.types().constructType(CachedResponseBody.class);
+    private static final JavaType LANGUAGE_CERT_TYPE =
+            CacheValueCodec.types().constructType(LanguageCertRequirementResponse.class);
+
+    /** 스냅샷으로 복원 가능한 정적 키 패밀리 → 값 타입 */
+    private static final Map<String, JavaType> STATIC_TYPES = Map.of(
+            AcademicCacheKeys.FAMILY_REQUIREMENTS, REQUIREMENTS_TYPE,
+            AcademicCacheKeys.FAMILY_DUAL_REQUIREMENTS, REQUIREMENTS_TYPE,
+            AcademicCacheKeys.FAMILY_LANGUAGE_CERT, LANGUAGE_CERT_TYPE
+    );
+
     /**
      * 주(Local) 캐시로 사용하기 위한 Caffeine 설정
      *
-     * - maximumSize      : OOM 방지 (가장 중요)
+     * - maximumWeight    : OOM 방지 (가장 중요). 값 크기가 제각각이므로 엔트리 수 대신 값의 JSON 크기(CacheValueCodec.weigh) 기준으로 제한
      * - expireAfterWrite: 오래된 캐시 자동 정리
      * - recordStats     : 필요 시 캐시 히트율 관찰 가능
+     * - buildAsync      : 값 대신 future를 저장해 같은 키의 동시 로딩을 하나로 합친다.
+     *                     loader는 호출 스레드에서 실행되므로 트랜잭션/EntityManager 바인딩이 유지되고,
+     *                     compute 내부에서 실행하지 않으므로 중첩 로딩(진행 현황 → 졸업 요건)도 안전하다.
+     *                     loader는 복제본 라우팅을 켜도 주 DB에서 읽는다. (동기화 직후 지연된 복제본 값이 다시 캐시되지 않게)
+     */
+    private final AsyncCache<String, Object> cache;
+
+    /**
+     * 정적 졸업 요건 키의 refresh-ahead 기준 나이 (0이면 비활성)
+     */
+    private final Duration refreshAhead;
+
+    /**
+     * compact 모드: thresholdBytes 이상인 값은 객체 그래프 대신 JSON 바이트로 보관
+     * - 힙 사용량은 줄고, 대신 조회 시 역직렬화 비용이 든다.
+     */
+    private final boolean compactEnabled;
+    private final int compactThresholdBytes;
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Map<String, AcademicCacheFamilyStats> familyStats = new HashMap<>();
+
+    public LocalAcademicCache(AcademicCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxWeightBytes())
+                .weigher(CacheValueCodec::weigh)
+                // 유지보수/제거 알림을 호출 스레드에서 처리해 패밀리 집계가 바로 맞고, Lambda에서 얼어 버릴 백그라운드 작업도 남지 않는다.
+                .executor(Runnable::run)
+                // 비동기 캐시에서는 로딩이 끝난 값만 전달되고, 로딩 중/실패한 future는 null로 온다.
+                .removalListener((String key, Object value, RemovalCause cause) -> {
+                    if (value != null) {
+                        statsOf(key).recordRemove(CacheValueCodec.weigh(key, value));
+                    }
+                })
+                .expireAfterWrite(DEFAULT_TTL)
+                .recordStats()
+                .buildAsync();
+        this.refreshAhead = properties.getRefreshAhead();
+        this.compactEnabled = properties.getCompact().isEnabled();
+        this.compactThresholdBytes = properties.getCompact().getThresholdBytes();
+        AcademicCacheKeys.FAMILIES.forEach(family -> familyStats.put(family, new AcademicCacheFamilyStats()));
+        familyStats.put(AcademicCacheKeys.FAMILY_UNKNOWN, new AcademicCacheFamilyStats());
+    }
+
+    // ──────────────── Metrics ──────────────── //
+
+    /**
+     * 캐시 전체(Caffeine stats) + 키 패밀리별 hit/miss, 로딩 시간, 엔트리 수, 추정 메모리 사용량
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), CACHE_NAME);
+        Gauge.builder("academic.cache.weighted.bytes", this, LocalAcademicCache::weightedSize)
+                .tags("cache", CACHE_NAME)
+                .baseUnit("bytes")
+                .register(registry);
+
+        familyStats.forEach((family, stats) -> stats.bindTo(registry, CACHE_NAME, family));
+    }
+
+    AcademicCacheFamilyStats statsOf(String key) {
+        return familyStats.getOrDefault(
+                AcademicCacheKeys.family(key),
+                familyStats.get(AcademicCacheKeys.FAMILY_UNKNOWN)
+        );
+    }
+
+    /**
+     * 대기 중인 쓰기 버퍼를 반영한 뒤 전체 가중치를 조회한다.
      */
-    private final Cache<String, Object> cache = Caffeine.newBuilder()
-            .maximumSize(20_000)
-            .expireAfterWrite(DEFAULT_TTL)
-            .recordStats()
-            .build();
+    double weightedSize() {
+        cache.synchronous().cleanUp();
+        return eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    private Optional<Policy.Eviction<String, Object>> eviction() {
+        return cache.synchronous().policy().eviction();
+    }
 
     // ──────────────── Low-level helpers (Caffeine 전용) ──────────────── //
 
-    private void put(String key, Object value) {
-        cache.put(key, value);
+    private <T> T getOrLoad(String key, JavaType type, Supplier<T> loader) {
+        return getOrLoad(key, type, loader, value -> true);
+    }
+
+    /**
+     * 단일 로딩(single-flight) 조회
+     *
+     * - 최초 요청만 loader를 실행하고, 나머지 동시 요청은 같은 future를 기다린다.
+     * - cacheable을 통과하지 못한 결과는 대기 요청에만 전달하고 저장하지 않는다.
+     * - 캐시 자체 오류는 loader 직접 실행으로 대체한다.
+     */
+    private <T> T getOrLoad(String key, JavaType type, Supplier<T> loader, Predicate<? super T> cacheable) {
+        CompletableFuture<Object> promise = new CompletableFuture<>();
+        CompletableFuture<Object> future;
+        try {
+            // 매핑 함수는 미완료 future만 등록하고, 실제 로딩은 compute 밖에서 수행한다.
+            future = cache.get(key, (k, executor) -> promise);
+        } catch (RuntimeException e) {
+            log.warn("[BIZ] academic.cache.fail key={} ex={}", key, e.getClass().getSimpleName(), e);
+            return loader.get();
+        }
+
+        AcademicCacheFamilyStats stats = statsOf(key);
+        if (future == promise) {
+            stats.recordMiss();
+            RequestMetricsContext.recordCache(CACHE_NAME, false);
+            return load(key, promise, loader, cacheable);
+        }
+
+        stats.recordHit();
+        RequestMetricsContext.recordCache(CACHE_NAME, true);
+        Object stored = await(future);
+        T value;
+        try {
+            value = decode(stored, type);
+        } catch (IllegalStateException e) {
+            log.warn("[BIZ] academic.cache.decode.fail key={} ex={}", key, e.getClass().getSimpleName(), e);
+            cache.asMap().remove(key, future);
+            return timedLoad(key, loader);
+        }
+        return refreshAheadIfStale(key, value, loader, cacheable);
+    }
+
+    private <T> T load(
+            String key,
+            CompletableFuture<Object> promise,
+            Supplier<T> loader,
+            Predicate<? super T> cacheable
+    ) {
+        T value;
+        try {
+            value = timedLoad(key, loader);
+        } catch (RuntimeException | Error e) {
+            // 실패한 future는 Caffeine이 자동으로 제거한다.
+            promise.completeExceptionally(e);
+            throw e;
+        }
+
+        if (value != null && !cacheable.test(value)) {
+            promise.complete(value);
+            cache.asMap().remove(key, promise);
+            return value;
+        }
+
+        // null로 완료된 future도 Caffeine이 자동으로 제거한다.
+        Object stored = encode(value);
+        promise.complete(stored);
+        // 완료 전에 무효화된 future는 세지 않는다.
+        if (stored != null && cache.asMap().get(key) == promise) {
+            recordPut(key, stored);
+        }
+        return value;
+    }
+
+    private <T> T timedLoad(String key, Supplier<T> loader) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T value = ReadWriteRoutingDataSource.onPrimary(loader);
+            success = true;
+            return value;
+        } finally {
+            statsOf(key).recordLoad(System.nanoTime() - start, success);
+        }
+    }
+
+    private void recordPut(String key, Object stored) {
+        statsOf(key).recordPut(CacheValueCodec.weigh(key, stored));
+    }
+
+    private Object encode(Object value) {
+        // 응답 본문은 이미 JSON 바이트이므로 다시 인코딩하지 않는다.
+        if (!compactEnabled || value == null || value instanceof CachedResponseBody) {
+            return value;
+        }
+        try {
+            byte[] bytes = CacheValueCodec.encode(value);
+            return bytes.length >= compactThresholdBytes ? new CompactValue(bytes) : value;
+        } catch (IllegalStateException e) {
+            log.warn("[BIZ] academic.cache.encode.fail type={}", value.getClass().getSimpleName(), e);
+            return value;
+        }
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T get(String key) {
-        return (T) cache.getIfPresent(key);
+    private static <T> T decode(Object stored, JavaType type) {
+        if (stored instanceof CompactValue compact) {
+            return (T) CacheValueCodec.decode(compact.bytes(), type);
+        }
+        return (T) stored;
     }
 
-    // ──────────────── AcademicCache 구현 ──────────────── //
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
-    @Override
-    public void setAcademicSummary(UUID studentId, AcademicSummaryResponse summary) {
-        put(AcademicCacheKeys.summary(studentId), summary);
+    /**
+     * 정적 졸업 요건은 TTL 만료 전에 조회한 요청이 직접 다시 읽어 갱신한다.
+     * - loader는 호출 스레드에서 실행되므로 요청의 트랜잭션/세션 안에서 읽는다.
+     *   (Lambda에서는 응답 이후 백그라운드 작업이 얼어 버리므로 별도 스레드를 쓰지 않는다.)
+     * - 키당 하나의 요청만 갱신하고, 그동안 다른 요청은 기존 값을 그대로 받는다.
+     * - 갱신에 실패하면 기존 값을 돌려주고 다음 조회에서 다시 시도한다.
+     */
+    private <T> T refreshAheadIfStale(String key, T current, Supplier<T> loader, Predicate<? super T> cacheable) {
+        if (refreshAhead.isZero() || !AcademicCacheKeys.isStaticRequirement(key)) {
+            return current;
+        }
+
+        boolean stale = cache.synchronous().policy().expireAfterWrite()
+                .flatMap(policy -> policy.ageOf(key))
+                .map(age -> age.compareTo(refreshAhead) >= 0)
+                .orElse(false);
+        if (!stale || !refreshing.add(key)) {
+            return current;
+        }
+
+        try {
+            T value = timedLoad(key, loader);
+            if (value == null || !cacheable.test(value)) {
+                return current;
+            }
+            Object stored = encode(value);
+            cache.put(key, CompletableFuture.completedFuture(stored));
+            recordPut(key, stored);
+            return value;
+        } catch (RuntimeException e) {
+            log.warn("[BIZ] academic.cache.refresh.fail key={} ex={}", key, e.getClass().getSimpleName());
+            return current;
+        } finally {
+            refreshing.remove(key);
+        }
     }
 
-    @Override
-    public AcademicSummaryResponse getAcademicSummary(UUID studentId) {
-        return get(AcademicCacheKeys.summary(studentId));
+    private static boolean isNotEmpty(List<?> list) {
+        return !list.isEmpty();
     }
 
-    @Override
-    public void setSemesterList(
-            UUID studentId,
-            List<StudentSemesterDto.StudentSemesterInfoResponse> list
-    ) {
-        put(AcademicCacheKeys.semesters(studentId), list);
+    // ──────────────── Snapshot ──────────────── //
+
+    /**
+     * 정적 키 엔트리를 스냅샷용 JSON 트리로 내보낸다.
+     * - 로딩이 끝난 엔트리만 포함하고, 학생 단위 키는 제외한다.
+     */
+    public Map<String, JsonNode> exportStaticEntries() {
+        Map<String, JsonNode> entries = new TreeMap<>();
+        cache.asMap().forEach((key, future) -> {
+            if (!AcademicCacheKeys.isStaticRequirement(key)
+                    || !STATIC_TYPES.containsKey(AcademicCacheKeys.family(key))
+                    || !future.isDone()
+                    || future.isCompletedExceptionally()) {
+                return;
+            }
+            Object stored = future.getNow(null);
+            if (stored == null) {
+                return;
+            }
+            try {
+                entries.put(key, CacheValueCodec.toTree(stored));
+            } catch (IllegalStateException e) {
+                log.warn("[BIZ] academic.cache.snapshot.export.fail key={}", key, e);
+            }
+        });
+        return entries;
     }
 
+    /**
+     * 스냅샷 엔트리를 캐시에 채운다.
+     * - 이미 로딩된 키는 덮어쓰지 않는다.
+     * - 조회 통계(hit/miss)에는 반영되지 않는다.
+     *
+     * @return 복원된 엔트리 수
+     */
+    public int importStaticEntries(Map<String, JsonNode> entries) {
+        int imported = 0;
+        for (Map.Entry<String, JsonNode> entry : entries.entrySet()) {
+            String key = entry.getKey();
+            JavaType type = STATIC_TYPES.get(AcademicCacheKeys.family(key));
+            if (type == null || !AcademicCacheKeys.isStaticRequirement(key)) {
+                continue;
+            }
+            try {
+                Object value = CacheValueCodec.fromTree(entry.getValue(), type);
+                Object stored = encode(value);
+                if (cache.asMap().putIfAbsent(key, CompletableFuture.completedFuture(stored)) == null) {
+                    recordPut(key, stored);
+                    imported++;
+                }
+            } catch (IllegalStateException e) {
+                log.warn("[BIZ] academic.cache.snapshot.import.fail key={}", key, e);
+            }
+        }
+        return imported;
+    }
+
+    // ──────────────── AcademicCache 구현 ──────────────── //
+
     @Override
-    public List<StudentSemesterDto.StudentSemesterInfoResponse> getSemesterList(UUID studentId) {
-        return get(AcademicCacheKeys.semesters(studentId));
+    public AcademicSummaryResponse getOrLoadAcademicSummary(UUID studentId, Supplier<AcademicSummaryResponse> loader) {
+        return getOrLoad(AcademicCacheKeys.summary(studentId), SUMMARY_TYPE, loader);
     }
 
     @Override
-    public void setGraduationProgress(UUID studentId, GraduationProgressResponse progress) {
-        put(AcademicCacheKeys.graduation(studentId), progress);
+    public List<StudentSemesterDto.StudentSemesterInfoResponse> getOrLoadSemesterList(
+            UUID studentId,
+            Supplier<List<StudentSemesterDto.StudentSemesterInfoResponse>> loader
+    ) {
+        return getOrLoad(AcademicCacheKeys.semesters(studentId), SEMESTER_LIST_TYPE, loader);
     }
 
     @Override
-    public GraduationProgressResponse getGraduationProgress(UUID studentId) {
-        return get(AcademicCacheKeys.graduation(studentId));
+    public GraduationProgressResponse getOrLoadGraduationProgress(
+            UUID studentId,
+            Supplier<GraduationProgressResponse> loader
+    ) {
+        return getOrLoad(AcademicCacheKeys.graduation(studentId), GRADUATION_PROGRESS_TYPE, loader);
     }
 
     /**
      * 졸업요건 / 복수전공 요건은 사실상 "정적 데이터" 성격
-     * → TTL은 걸려 있지만 size + LRU로 충분히 보호됨
+     * → TTL은 걸려 있지만 weight + LRU로 충분히 보호됨
      */
     @Override
-    public void setGraduationRequirements(
+    public List<AreaRequirementDto> getOrLoadGraduationRequirements(
             Long departmentId,
             Integer admissionYear,
-            List<AreaRequirementDto> requirements
+            Supplier<List<AreaRequirementDto>> loader
     ) {
-        put(
+        return getOrLoad(
                 AcademicCacheKeys.graduationRequirements(departmentId, admissionYear),
-                requirements
-        );
-    }
-
-    @Override
-    public List<AreaRequirementDto> getGraduationRequirements(
-            Long departmentId,
-            Integer admissionYear
-    ) {
-        return get(
-                AcademicCacheKeys.graduationRequirements(departmentId, admissionYear)
+                REQUIREMENTS_TYPE,
+                loader,
+                LocalAcademicCache::isNotEmpty
         );
     }
 
     @Override
-    public void setDualMajorRequirements(
+    public List<AreaRequirementDto> getOrLoadDualMajorRequirements(
             Long primaryMajorId,
             Long secondaryMajorId,
             Integer admissionYear,
-            List<AreaRequirementDto> requirements
+            Supplier<List<AreaRequirementDto>> loader
     ) {
-        put(
+        return getOrLoad(
                 AcademicCacheKeys.dualGraduationRequirements(
                         primaryMajorId,
                         secondaryMajorId,
                         admissionYear
                 ),
-                requirements
+                REQUIREMENTS_TYPE,
+                loader,
+                LocalAcademicCache::isNotEmpty
         );
     }
 
     @Override
-    public List<AreaRequirementDto> getDualMajorRequirements(
-            Long primaryMajorId,
-            Long secondaryMajorId,
-            Integer admissionYear
+    public LanguageCertRequirementResponse getOrLoadLanguageCertRequirement(
+            String departmentCode,
+            Integer admissionYear,
+            Supplier<LanguageCertRequirementResponse> loader
     ) {
-        return get(
-                AcademicCacheKeys.dualGraduationRequirements(
-                        primaryMajorId,
-                        secondaryMajorId,
-                        admissionYear
-                )
+        return getOrLoad(
+                AcademicCacheKeys.languageCertRequirement(departmentCode, admissionYear),
+                LANGUAGE_CERT_TYPE,
+                loader
         );
     }
 
     @Override
-    public void setSemesterSummaries(
+    public List<SemesterSummaryResponse> getOrLoadSemesterSummaries(
             UUID studentId,
-            List<SemesterSummaryResponse> list
+            Supplier<List<SemesterSummaryResponse>> loader
     ) {
-        put(AcademicCacheKeys.semesterSummaries(studentId), list);
+        return getOrLoad(
+                AcademicCacheKeys.semesterSummaries(studentId),
+                SEMESTER_SUMMARIES_TYPE,
+                loader,
+                LocalAcademicCache::isNotEmpty
+        );
     }
 
     @Override
-    public List<SemesterSummaryResponse> getSemesterSummaries(UUID studentId) {
-        return get(AcademicCacheKeys.semesterSummaries(studentId));
+    public CachedResponseBody getOrLoadResponseBody(
+            UUID studentId,
+            long dataVersion,
+            String route,
+            Supplier<CachedResponseBody> loader
+    ) {
+        return getOrLoad(AcademicCacheKeys.responseBody(studentId, dataVersion, route), RESPONSE_BODY_TYPE, loader);
     }
 
     /**
      * student 단위 무효화
      * - Caffeine에서는 keySet 순회가 합리적인 선택
+     * - 로딩 중인 future도 함께 제거되므로 무효화 이전 결과가 다시 저장되지 않는다.
      */
     @Override
     public void deleteAllByStudentId(UUID studentId) {
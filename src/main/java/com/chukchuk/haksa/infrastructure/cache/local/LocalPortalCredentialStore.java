@@ -3,6 +3,9 @@ package com.chukchuk.haksa.infrastructure.cache.local;
 import com.chukchuk.haksa.domain.portal.PortalCredentialStore;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -10,7 +13,7 @@ import java.time.Duration;
 
 @Component
 @RequiredArgsConstructor
-public class LocalPortalCredentialStore implements PortalCredentialStore {
+public class LocalPortalCredentialStore implements PortalCredentialStore, MeterBinder {
 
     private static final Duration TTL = Duration.ofMinutes(10);
 
@@ -18,8 +21,14 @@ public class LocalPortalCredentialStore implements PortalCredentialStore {
             Caffeine.newBuilder()
                     .expireAfterWrite(TTL)
                     .maximumSize(5_000)
+                    .recordStats()
                     .build();
 
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "portalCredentials");
+    }
+
     @Override
     public void save(String userId, String username, String password) {
         cache.put(key(userId), new Credential(username, password));
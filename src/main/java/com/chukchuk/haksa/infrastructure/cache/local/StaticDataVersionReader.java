@@ -0,0 +1,64 @@
+package com.chukchuk.haksa.infrastructure.cache.local;
+
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import com.chukchuk.haksa.global.logging.util.HashUtil;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 정적 캐시 데이터의 DB 버전 스탬프
+ *
+ * - 졸업 요건 / 외국어 인증 정책 테이블은 행 수와 최종 수정 시각을 한 번의 쿼리로 모아 해시한다.
+ * - 복수전공 요건 / 학과 테이블은 updated_at만으로는 값 수정과 학과명 변경을 놓치므로 행 내용 전체를 집계한다.
+ *   PostgreSQL에서는 md5로 줄여 받고, 그 밖의 DB(H2)에서는 집계 문자열을 그대로 받아 함께 해시한다.
+ * - 스냅샷에 기록된 스탬프와 다르면 스냅샷을 버리고 DB에서 다시 로딩한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StaticDataVersionReader {
+
+    private static final String VERSION_SQL = """
+            SELECT
+                (SELECT COUNT(*) FROM department_area_requirements),
+                (SELECT MAX(updated_at) FROM department_area_requirements),
+                (SELECT %s FROM dual_major_requirements),
+                (SELECT %s FROM departments),
+                (SELECT COUNT(*) FROM language_cert_policy_groups),
+                (SELECT MAX(updated_at) FROM language_cert_policy_groups),
+                (SELECT COUNT(*) FROM language_cert_requirements),
+                (SELECT MAX(updated_at) FROM language_cert_requirements),
+                (SELECT COUNT(*) FROM department_language_cert_policy_mappings),
+                (SELECT MAX(updated_at) FROM department_language_cert_policy_mappings)
+            """;
+
+    private static final String DUAL_MAJOR_CONTENT = """
+            STRING_AGG(CONCAT_WS(',', id, department_id, major_role, admission_year, area_type, required_credits), ';' ORDER BY id)""";
+
+    private static final String DEPARTMENT_CONTENT = """
+            STRING_AGG(CONCAT_WS(',', id, department_code, established_department_name), ';' ORDER BY id)""";
+
+    private final EntityManager em;
+    private final DatabaseDialect databaseDialect;
+
+    @Transactional(readOnly = true)
+    public String read() {
+        Object[] row = (Object[]) em.createNativeQuery(versionSql()).getSingleResult();
+        String raw = Arrays.stream(row)
+                .map(value -> Objects.toString(value, "-"))
+                .collect(Collectors.joining("|"));
+        return HashUtil.sha256Short(raw);
+    }
+
+    private String versionSql() {
+        if (databaseDialect.isPostgres()) {
+            return VERSION_SQL.formatted("md5(" + DUAL_MAJOR_CONTENT + ")", "md5(" + DEPARTMENT_CONTENT + ")");
+        }
+        return VERSION_SQL.formatted(DUAL_MAJOR_CONTENT, DEPARTMENT_CONTENT);
+    }
+}
@@ -6,19 +6,16 @@ import com.chukchuk.haksa.global.exception.type.TokenException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
-import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
-import java.security.KeyFactory;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.security.PublicKey;
-import java.security.spec.RSAPublicKeySpec;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Date;
@@ -29,9 +26,10 @@ import java.util.List;
 @Slf4j
 public class AppleOidcService implements OidcService {
 
-    private static final String APPLE_CACHE_KEY = "apple";
+    private static final String APPLE_PROVIDER = "apple";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    private final OidcJwksClient oidcJwksClient;
+    private final OidcKeyRegistry oidcKeyRegistry;
 
     @Value("${security.apple.client-id}")
     private String clientId;
@@ -45,29 +43,26 @@ public class AppleOidcService implements OidcService {
     @Value("${security.apple.keys-url}")
     private String keysUrl;
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpKeys() {
+        oidcKeyRegistry.warmUp(APPLE_PROVIDER, keysUrl);
+    }
+
     @Override
     public Claims verifyIdToken(String idToken, String expectedNonce) {
         try {
-            JsonNode jwks = oidcJwksClient.fetchKeys(APPLE_CACHE_KEY, keysUrl);
-
             String[] parts = idToken.split("\\.");
             if (parts.length != 3) {
                 throw new TokenException(ErrorCode.TOKEN_INVALID_FORMAT);
             }
 
             String headerJson = new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8);
-            JsonNode header = new ObjectMapper().readTree(headerJson);
+            JsonNode header = OBJECT_MAPPER.readTree(headerJson);
 
             String kid = header.get("kid").asText();
             String alg = header.get("alg").asText();
 
-            JsonNode keyNode = resolveKeyWithFallback(jwks, kid, alg);
-
-            PublicKey publicKey = createPublicKey(keyNode);
-
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(publicKey)
-                    .build()
+            Claims claims = oidcKeyRegistry.parserFor(APPLE_PROVIDER, keysUrl, kid, alg)
                     .parseClaimsJws(idToken)
                     .getBody();
 
@@ -82,41 +77,6 @@ public class AppleOidcService implements OidcService {
         }
     }
 
-    private JsonNode resolveKeyWithFallback(JsonNode jwks, String kid, String alg) {
-        JsonNode keyNode = findMatchingKey(jwks, kid, alg);
-        if (keyNode != null) {
-            return keyNode;
-        }
-
-        log.warn("Apple JWKS key not found in cache, refreshing. kid={}, alg={}", kid, alg);
-        JsonNode refreshedKeys = oidcJwksClient.refreshKeys(APPLE_CACHE_KEY, keysUrl);
-        keyNode = findMatchingKey(refreshedKeys, kid, alg);
-        if (keyNode == null) {
-            throw new TokenException(ErrorCode.TOKEN_NO_MATCHING_KEY);
-        }
-        return keyNode;
-    }
-
-    private JsonNode findMatchingKey(JsonNode jwks, String kid, String alg) {
-        for (JsonNode key : jwks.get("keys")) {
-            boolean kidMatches = key.get("kid").asText().equals(kid);
-            boolean algMatches = key.has("alg") && key.get("alg").asText().equals(alg);
-            if (kidMatches && algMatches) {
-                return key;
-            }
-        }
-        return null;
-    }
-
-    private PublicKey createPublicKey(JsonNode keyNode) throws Exception {
-        BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(keyNode.get("n").asText()));
-        BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(keyNode.get("e").asText()));
-
-        RSAPublicKeySpec spec = new RSAPublicKeySpec(modulus, exponent);
-        KeyFactory factory = KeyFactory.getInstance("RSA");
-        return factory.generatePublic(spec);
-    }
-
     private void validateClaims(String expectedNonce, Claims claims) {
         Date expiration = claims.getExpiration();
         if (expiration == null || expiration.before(new Date())) {
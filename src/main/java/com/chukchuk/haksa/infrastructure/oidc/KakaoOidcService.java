@@ -3,22 +3,18 @@ package com.chukchuk.haksa.infrastructure.oidc;
 import com.chukchuk.haksa.domain.user.service.OidcService;
 import com.chukchuk.haksa.global.exception.code.ErrorCode;
 import com.chukchuk.haksa.global.exception.type.TokenException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
-import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
-import java.security.KeyFactory;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.security.PublicKey;
-import java.security.spec.RSAPublicKeySpec;
 import java.util.Base64;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -29,10 +25,13 @@ import java.util.Date;
 @RequiredArgsConstructor
 @Slf4j
 public class KakaoOidcService implements OidcService {
-    private static final String KAKAO_JWKS_URL = "https://kauth.kakao.com/.well-known/jwks.json";
-    private static final String KAKAO_CACHE_KEY = "kakao";
+    private static final String KAKAO_PROVIDER = "kakao";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    private final OidcJwksClient oidcJwksClient;
+    private final OidcKeyRegistry oidcKeyRegistry;
+
+    @Value("${security.kakao.keys-url:https://kauth.kakao.com/.well-known/jwks.json}")
+    private String keysUrl;
 
     @Value("${security.appKey}")
     private String appKey;
@@ -40,25 +39,22 @@ public class KakaoOidcService implements OidcService {
     @Value("${security.nativeAppKey:}")
     private String nativeAppKey;
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpKeys() {
+        oidcKeyRegistry.warmUp(KAKAO_PROVIDER, keysUrl);
+    }
+
     public Claims verifyIdToken(String idToken, String expectedNonce) {
         try {
-            JsonNode jwks = oidcJwksClient.fetchKeys(KAKAO_CACHE_KEY, KAKAO_JWKS_URL);
-
             String[] parts = idToken.split("\\.");
             if (parts.length != 3) {
                 throw new TokenException(ErrorCode.TOKEN_INVALID_FORMAT);
             }
 
             String headerJson = new String(Base64.getDecoder().decode(parts[0]));
-            String kid = new ObjectMapper().readTree(headerJson).get("kid").asText();
-
-            JsonNode keyNode = resolveKeyWithFallback(jwks, kid);
+            String kid = OBJECT_MAPPER.readTree(headerJson).get("kid").asText();
 
-            PublicKey publicKey = createPublicKey(keyNode);
-
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(publicKey)
-                    .build()
+            Claims claims = oidcKeyRegistry.parserFor(KAKAO_PROVIDER, keysUrl, kid, null)
                     .parseClaimsJws(idToken)
                     .getBody();
 
@@ -71,17 +67,6 @@ public class KakaoOidcService implements OidcService {
         }
     }
 
-    private PublicKey createPublicKey(JsonNode keyNode) throws Exception{
-        // RSA 키 파라미터 추출
-        BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(keyNode.get("n").asText()));
-        BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(keyNode.get("e").asText()));
-
-        // RSA 공개키 생성
-        RSAPublicKeySpec spec = new RSAPublicKeySpec(modulus, exponent);
-        KeyFactory factory = KeyFactory.getInstance("RSA");
-        return factory.generatePublic(spec);
-    }
-
     private void validateClaims(String expectedNonce, Claims claims) {
         Date expiration = claims.getExpiration();
         if (expiration == null || expiration.before(new Date())) {
@@ -102,31 +87,6 @@ public class KakaoOidcService implements OidcService {
         }
     }
 
-    private JsonNode resolveKeyWithFallback(JsonNode jwks, String kid) {
-        JsonNode keyNode = findMatchingKey(jwks, kid);
-        if (keyNode != null) {
-            return keyNode;
-        }
-
-        log.warn("Kakao JWKS key not found in cache, refreshing. kid={}", kid);
-        JsonNode refreshed = oidcJwksClient.refreshKeys(KAKAO_CACHE_KEY, KAKAO_JWKS_URL);
-        keyNode = findMatchingKey(refreshed, kid);
-        if (keyNode == null) {
-            throw new TokenException(ErrorCode.TOKEN_NO_MATCHING_KEY);
-        }
-        return keyNode;
-    }
-
-    private JsonNode findMatchingKey(JsonNode jwks, String kid) {
-        // 일치하는 공개키가 있다면 반환
-        for (JsonNode key : jwks.get("keys")) {
-            if (key.get("kid").asText().equals(kid)) {
-                return key;
-            }
-        }
-        return null;
-    }
-
     private void validateAudience(Object audClaim) {
         Set<String> allowedAudiences = resolveAllowedAudiences();
 
@@ -0,0 +1,292 @@
+package com.chukchuk.haksa.infrastructure.oidc;
+
+import com.chukchuk.haksa.global.config.OidcKeyProperties;
+import com.chukchuk.haksa.global.exception.code.ErrorCode;
+import com.chukchuk.haksa.global.exception.type.TokenException;
+import com.chukchuk.haksa.global.logging.annotation.LogTime;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 소셜 로그인 검증 키 레지스트리
+ *
+ * - JWKS를 받으면 kid별 PublicKey / JwtParser를 미리 만들어 두고, 로그인 요청은 Map 조회만 한다.
+ * - refreshAfter가 지난 키 세트는 조회는 그대로 응답하고 백그라운드에서 한 번만 갱신한다.
+ * - 알 수 없는 kid는 키 교체로 보고 즉시 다시 받되, minRefetchInterval 안에서는 다시 받지 않는다.
+ * - 갱신이 실패하면 기존 키 세트를 계속 사용한다. 한 번도 받지 못한 경우에만 예외를 던진다.
+ * - provider별 키 hit, 알 수 없는 kid 재조회, 재조회 제한, 갱신 실패 횟수와 키 세트 나이를 oidc.jwks.* 지표로 내보낸다.
+ *   provider는 첫 조회 때 생기므로 지표도 그때 등록한다.
+ */
+@Slf4j
+@Component
+public class OidcKeyRegistry implements MeterBinder {
+
+    private final OidcJwksClient jwksClient;
+    private final long refreshAfterMs;
+    private final long minRefetchIntervalMs;
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+    private final Map<String, ProviderKeys> providers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    @Autowired
+    public OidcKeyRegistry(OidcJwksClient jwksClient, OidcKeyProperties properties) {
+        this(jwksClient, properties, ForkJoinPool.commonPool(), System::currentTimeMillis);
+    }
+
+    OidcKeyRegistry(
+            OidcJwksClient jwksClient,
+            OidcKeyProperties properties,
+            Executor refreshExecutor,
+            LongSupplier clock
+    ) {
+        this.jwksClient = jwksClient;
+        this.refreshAfterMs = properties.getRefreshAfter().toMillis();
+        this.minRefetchIntervalMs = properties.getMinRefetchInterval().toMillis();
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        providers.values().forEach(state -> state.bindTo(registry, clock));
+    }
+
+    /**
+     * kid(+alg)에 해당하는 서명 검증 파서
+     *
+     * @param alg null이면 alg를 비교하지 않는다.
+     */
+    public JwtParser parserFor(String provider, String url, String kid, String alg) {
+        ProviderKeys state = stateOf(provider, url);
+
+        KeySet current = state.keySet;
+        if (current == null) {
+            current = loadInitial(state);
+        }
+
+        VerifiedKey key = current.find(kid, alg);
+        if (key != null) {
+            state.hits.increment();
+            refreshInBackgroundIfStale(state, current);
+            return key.parser();
+        }
+
+        key = refetchForUnknownKid(state, current, kid).find(kid, alg);
+        if (key == null) {
+            throw new TokenException(ErrorCode.TOKEN_NO_MATCHING_KEY);
+        }
+        return key.parser();
+    }
+
+    /** 기동 직후 첫 로그인이 JWKS 조회를 기다리지 않도록 미리 받아 둔다. */
+    public void warmUp(String provider, String url) {
+        ProviderKeys state = stateOf(provider, url);
+        refreshExecutor.execute(() -> {
+            try {
+                loadInitial(state);
+            } catch (RuntimeException e) {
+                log.warn("[BIZ] oidc.jwks.warmup.fail provider={} ex={}", provider, e.getClass().getSimpleName());
+            }
+        });
+    }
+
+    private ProviderKeys stateOf(String provider, String url) {
+        return providers.computeIfAbsent(provider, p -> {
+            ProviderKeys state = new ProviderKeys(p, url);
+            MeterRegistry registry = meterRegistry;
+            if (registry != null) {
+                state.bindTo(registry, clock);
+            }
+            return state;
+        });
+    }
+
+    private KeySet loadInitial(ProviderKeys state) {
+        synchronized (state) {
+            if (state.keySet != null) {
+                return state.keySet;
+            }
+            return fetch(state);
+        }
+    }
+
+    private KeySet refetchForUnknownKid(ProviderKeys state, KeySet seen, String kid) {
+        synchronized (state) {
+            if (state.keySet != seen) {
+                return state.keySet;
+            }
+            if (clock.getAsLong() - state.lastFetchAttemptMs < minRefetchIntervalMs) {
+                state.refetchesThrottled.increment();
+                log.warn("[BIZ] oidc.jwks.refetch.throttled provider={} kid={}", state.provider, kid);
+                return seen;
+            }
+            state.refetches.increment();
+            log.warn("[BIZ] oidc.jwks.refetch provider={} kid={}", state.provider, kid);
+            return fetch(state);
+        }
+    }
+
+    private void refreshInBackgroundIfStale(ProviderKeys state, KeySet current) {
+        long now = clock.getAsLong();
+        if (now - current.fetchedAtMs < refreshAfterMs
+                || now - state.lastFetchAttemptMs < minRefetchIntervalMs
+                || !state.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    synchronized (state) {
+                        if (state.keySet == current) {
+                            fetch(state);
+                        }
+                    }
+                } finally {
+                    state.refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            state.refreshing.set(false);
+            log.warn("[BIZ] oidc.jwks.refresh.reject provider={} ex={}", state.provider, e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * state 락을 잡은 상태에서만 호출한다.
+     * 실패 시 기존 키 세트가 있으면 그대로 반환한다.
+     */
+    private KeySet fetch(ProviderKeys state) {
+        long t0 = LogTime.start();
+        state.lastFetchAttemptMs = clock.getAsLong();
+        try {
+            KeySet fetched = parse(state.provider, jwksClient.fetchKeys(state.url), clock.getAsLong());
+            state.keySet = fetched;
+            log.info("[PERF] oidc.jwks.fetch provider={} keys={} took_ms={}",
+                    state.provider, fetched.keys.size(), LogTime.elapsedMs(t0));
+            return fetched;
+        } catch (RuntimeException e) {
+            state.fetchFailures.increment();
+            if (state.keySet == null) {
+                throw e;
+            }
+            log.warn("[BIZ] oidc.jwks.fetch.fail provider={} serving=stale ex={}",
+                    state.provider, e.getClass().getSimpleName());
+            return state.keySet;
+        }
+    }
+
+    private static KeySet parse(String provider, JsonNode jwks, long fetchedAtMs) {
+        if (jwks == null || !jwks.path("keys").isArray()) {
+            throw new IllegalStateException("JWKS 응답에 keys 배열이 없습니다.");
+        }
+
+        Map<String, VerifiedKey> keys = new HashMap<>();
+        for (JsonNode node : jwks.get("keys")) {
+            String kid = node.path("kid").asText(null);
+            if (kid == null || !"RSA".equals(node.path("kty").asText("RSA"))) {
+                continue;
+            }
+            try {
+                PublicKey publicKey = createPublicKey(node);
+                String alg = node.hasNonNull("alg") ? node.get("alg").asText() : null;
+                keys.put(kid, new VerifiedKey(alg, Jwts.parserBuilder().setSigningKey(publicKey).build()));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                log.warn("[BIZ] oidc.jwks.key.skip provider={} kid={} ex={}", provider, kid, e.getClass().getSimpleName());
+            }
+        }
+        return new KeySet(Map.copyOf(keys), fetchedAtMs);
+    }
+
+    private static PublicKey createPublicKey(JsonNode keyNode) throws GeneralSecurityException {
+        BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(keyNode.path("n").asText()));
+        BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(keyNode.path("e").asText()));
+
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(modulus, exponent);
+        return KeyFactory.getInstance("RSA").generatePublic(spec);
+    }
+
+    private static final class ProviderKeys {
+        private final String provider;
+        private final String url;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder refetches = new LongAdder();
+        private final LongAdder refetchesThrottled = new LongAdder();
+        private final LongAdder fetchFailures = new LongAdder();
+        private volatile KeySet keySet;
+        private volatile long lastFetchAttemptMs = Long.MIN_VALUE / 2;
+
+        private ProviderKeys(String provider, String url) {
+            this.provider = provider;
+            this.url = url;
+        }
+
+        private void bindTo(MeterRegistry registry, LongSupplier clock) {
+            FunctionCounter.builder("oidc.jwks.key.hits", hits, LongAdder::doubleValue)
+                    .tags("provider", provider)
+                    .register(registry);
+            FunctionCounter.builder("oidc.jwks.refetches", refetches, LongAdder::doubleValue)
+                    .tags("provider", provider)
+                    .register(registry);
+            FunctionCounter.builder("oidc.jwks.refetch.throttled", refetchesThrottled, LongAdder::doubleValue)
+                    .tags("provider", provider)
+                    .register(registry);
+            FunctionCounter.builder("oidc.jwks.fetch.failures", fetchFailures, LongAdder::doubleValue)
+                    .tags("provider", provider)
+                    .register(registry);
+            Gauge.builder("oidc.jwks.key.age", this, state -> state.keyAgeSeconds(clock))
+                    .tags("provider", provider)
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+
+        /** 키 세트를 아직 받지 못했으면 NaN */
+        private double keyAgeSeconds(LongSupplier clock) {
+            KeySet current = keySet;
+            if (current == null) {
+                return Double.NaN;
+            }
+            return (clock.getAsLong() - current.fetchedAtMs) / 1000.0;
+        }
+    }
+
+    private record KeySet(Map<String, VerifiedKey> keys, long fetchedAtMs) {
+
+        VerifiedKey find(String kid, String alg) {
+            VerifiedKey key = keys.get(kid);
+            if (key == null || (alg != null && !alg.equals(key.alg()))) {
+                return null;
+            }
+            return key;
+        }
+    }
+
+    private record VerifiedKey(String alg, JwtParser parser) {
+    }
+}
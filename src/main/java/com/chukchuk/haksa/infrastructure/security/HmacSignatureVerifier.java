@@ -7,8 +7,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
@@ -17,10 +19,25 @@ import java.util.Base64;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Locale;
-
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 스크래핑 콜백 HMAC 검증
+ *
+ * - 후보 키(SecretKeySpec)는 생성 시 한 번만 만들고, Mac은 스레드별로 캐시해 재사용한다.
+ * - 요청 바이트를 그대로 Mac에 넣고, 서명도 스레드별 버퍼로 디코딩해 상수 시간 비교한다.
+ * - 실패 진단(diagnostics)은 대체 HMAC을 여러 번 계산하므로 sampleDiagnostics로 최소 간격마다 한 번만 만든다.
+ */
 @Component
 public class HmacSignatureVerifier {
 
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 32;
+    private static final String SIGNATURE_PREFIX = "sha256=";
+    private static final long DEFAULT_DIAGNOSTICS_INTERVAL_MS = 10_000;
+
     public enum VerificationFailureReason {
         OK,
         MISSING_TIMESTAMP,
@@ -37,6 +54,9 @@ public class HmacSignatureVerifier {
             VerificationFailureReason reason
     ) {}
 
+    /**
+     * @param suppressedFailures 직전 진단 이후 진단 없이 넘어간 실패 수 (sampleDiagnostics에서만 채워짐)
+     */
     public record VerificationDiagnostics(
             VerificationFailureReason reason,
             String parsedTimestamp,
@@ -46,40 +66,89 @@ public class HmacSignatureVerifier {
             Integer actualSignatureLength,
             String actualSignatureHash,
             String expectedUtf8SignatureHash,
-            String expectedHexSignatureHash
+            String expectedHexSignatureHash,
+            long suppressedFailures
     ) {}
 
-    private final String secret;
     private final long allowedSkewSeconds;
+    private final long diagnosticsIntervalMs;
+    private final LongSupplier clock;
+
+    /* 후보 키: [0] = UTF-8 원문, hex 형태면 [1] = hex 디코딩 값 (값이 같으면 생략) */
+    private final List<SecretKeySpec> candidateKeys;
+    private final int preferredKeyIndex;
+    private final int hexKeyIndex;
+    private final ThreadLocal<VerifierBuffers> buffers;
+
+    private final AtomicLong lastDiagnosticsAtMs = new AtomicLong(Long.MIN_VALUE / 2);
+    private final AtomicLong suppressedFailures = new AtomicLong();
 
     @Autowired
     public HmacSignatureVerifier(ScrapingProperties scrapingProperties) {
-        this(scrapingProperties.getCallback().getHmacSecret(), scrapingProperties.getCallback().getAllowedSkewSeconds());
+        this(
+                scrapingProperties.getCallback().getHmacSecret(),
+                scrapingProperties.getCallback().getAllowedSkewSeconds(),
+                scrapingProperties.getCallback().getDiagnosticsIntervalMs(),
+                System::currentTimeMillis
+        );
     }
 
     public HmacSignatureVerifier(String secret, long allowedSkewSeconds) {
-        this.secret = secret;
+        this(secret, allowedSkewSeconds, DEFAULT_DIAGNOSTICS_INTERVAL_MS, System::currentTimeMillis);
+    }
+
+    HmacSignatureVerifier(String secret, long allowedSkewSeconds, long diagnosticsIntervalMs, LongSupplier clock) {
         this.allowedSkewSeconds = allowedSkewSeconds;
+        this.diagnosticsIntervalMs = diagnosticsIntervalMs;
+        this.clock = clock;
+
+        List<SecretKeySpec> keys = new ArrayList<>();
+        int hexIndex = -1;
+        if (!isBlank(secret)) {
+            byte[] utf8 = secret.getBytes(StandardCharsets.UTF_8);
+            keys.add(new SecretKeySpec(utf8, HMAC_ALGORITHM));
+            if (looksLikeHex(secret)) {
+                byte[] hex = HexFormat.of().parseHex(secret);
+                if (MessageDigest.isEqual(hex, utf8)) {
+                    hexIndex = 0;
+                } else {
+                    keys.add(new SecretKeySpec(hex, HMAC_ALGORITHM));
+                    hexIndex = 1;
+                }
+            }
+        }
+        this.candidateKeys = List.copyOf(keys);
+        this.hexKeyIndex = hexIndex;
+        this.preferredKeyIndex = hexIndex >= 0 ? hexIndex : 0;
+        this.buffers = ThreadLocal.withInitial(() -> new VerifierBuffers(candidateKeys));
     }
 
-    public void verify(String timestamp, String rawBody, String signature) {
+    public void verify(String timestamp, byte[] rawBody, String signature) {
         VerificationResult result = inspect(timestamp, rawBody, signature);
         if (!result.valid()) {
             throw new CommonException(ErrorCode.INVALID_CALLBACK_SIGNATURE);
         }
     }
 
+    public void verify(String timestamp, String rawBody, String signature) {
+        verify(timestamp, utf8(rawBody), signature);
+    }
+
     public VerificationResult inspect(String timestamp, String rawBody, String signature) {
+        return inspect(timestamp, utf8(rawBody), signature);
+    }
+
+    public VerificationResult inspect(String timestamp, byte[] rawBody, String signature) {
         if (isBlank(timestamp)) {
             return invalid(VerificationFailureReason.MISSING_TIMESTAMP);
         }
-        if (isBlank(rawBody)) {
+        if (isBlankBody(rawBody)) {
             return invalid(VerificationFailureReason.MISSING_BODY);
         }
         if (isBlank(signature)) {
             return invalid(VerificationFailureReason.MISSING_SIGNATURE);
         }
-        if (isBlank(secret)) {
+        if (candidateKeys.isEmpty()) {
             return invalid(VerificationFailureReason.MISSING_SECRET);
         }
 
@@ -95,49 +164,49 @@ public class HmacSignatureVerifier {
             return invalid(VerificationFailureReason.TIMESTAMP_SKEW_EXCEEDED);
         }
 
-        byte[] actualSignature = decode(signature);
-        if (!matches(timestamp + "." + rawBody, actualSignature)) {
+        if (!matches(timestamp, rawBody, signature)) {
             return invalid(VerificationFailureReason.SIGNATURE_MISMATCH);
         }
 
         return new VerificationResult(true, VerificationFailureReason.OK);
     }
 
+    /**
+     * 최소 간격(diagnosticsIntervalMs) 안에서는 한 번만 진단을 만든다.
+     * 건너뛴 실패 수는 다음 진단의 suppressedFailures로 전달된다.
+     */
+    public Optional<VerificationDiagnostics> sampleDiagnostics(String timestamp, byte[] rawBody, String signature) {
+        long now = clock.getAsLong();
+        long last = lastDiagnosticsAtMs.get();
+        if (now - last < diagnosticsIntervalMs || !lastDiagnosticsAtMs.compareAndSet(last, now)) {
+            suppressedFailures.incrementAndGet();
+            return Optional.empty();
+        }
+        return Optional.of(diagnostics(timestamp, rawBody, signature, suppressedFailures.getAndSet(0)));
+    }
+
     public VerificationDiagnostics diagnostics(String timestamp, String rawBody, String signature) {
-        VerificationFailureReason reason;
+        return diagnostics(timestamp, rawBody == null ? null : utf8(rawBody), signature, 0);
+    }
+
+    private VerificationDiagnostics diagnostics(String timestamp, byte[] rawBody, String signature, long suppressed) {
+        VerificationFailureReason reason = inspect(timestamp, rawBody, signature).reason();
+
         Instant parsedTimestamp = null;
         Long delta = null;
-
-        if (isBlank(timestamp)) {
-            reason = VerificationFailureReason.MISSING_TIMESTAMP;
-        } else if (isBlank(rawBody)) {
-            reason = VerificationFailureReason.MISSING_BODY;
-        } else if (isBlank(signature)) {
-            reason = VerificationFailureReason.MISSING_SIGNATURE;
-        } else if (isBlank(secret)) {
-            reason = VerificationFailureReason.MISSING_SECRET;
-        } else {
+        if (!isBlank(timestamp)) {
             try {
                 parsedTimestamp = parseTimestamp(timestamp);
                 delta = Math.abs(Instant.now().getEpochSecond() - parsedTimestamp.getEpochSecond());
-                if (delta > allowedSkewSeconds) {
-                    reason = VerificationFailureReason.TIMESTAMP_SKEW_EXCEEDED;
-                } else {
-                    byte[] actualSignature = decode(signature);
-                    reason = matches(timestamp + "." + rawBody, actualSignature)
-                            ? VerificationFailureReason.OK
-                            : VerificationFailureReason.SIGNATURE_MISMATCH;
-                }
-            } catch (CommonException exception) {
-                reason = VerificationFailureReason.INVALID_TIMESTAMP;
+            } catch (CommonException ignored) {
+                // 사유는 inspect 결과(INVALID_TIMESTAMP)에 이미 반영됨
             }
         }
 
+        boolean canSign = !isBlank(timestamp) && rawBody != null && !candidateKeys.isEmpty();
         byte[] actualBytes = safeDecode(signature);
-        byte[] expectedUtf8 = safeHmac(timestamp + "." + rawBody, secret.getBytes(StandardCharsets.UTF_8));
-        byte[] expectedHex = looksLikeHex(secret)
-                ? safeHmac(timestamp + "." + rawBody, HexFormat.of().parseHex(secret))
-                : null;
+        byte[] expectedUtf8 = canSign ? hmacWith(0, timestamp, rawBody) : null;
+        byte[] expectedHex = canSign && hexKeyIndex >= 0 ? hmacWith(hexKeyIndex, timestamp, rawBody) : null;
 
         return new VerificationDiagnostics(
                 reason,
@@ -148,29 +217,152 @@ public class HmacSignatureVerifier {
                 actualBytes == null ? null : actualBytes.length,
                 hash(actualBytes),
                 hash(expectedUtf8),
-                hash(expectedHex)
+                hash(expectedHex),
+                suppressed
         );
     }
 
     public byte[] hmac(String canonicalString) {
-        try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(preferredSecretKeyBytes(), "HmacSHA256"));
-            return mac.doFinal(canonicalString.getBytes(StandardCharsets.UTF_8));
-        } catch (Exception e) {
-            throw new CommonException(ErrorCode.INVALID_CALLBACK_SIGNATURE, e);
+        if (candidateKeys.isEmpty()) {
+            throw new CommonException(ErrorCode.INVALID_CALLBACK_SIGNATURE);
         }
+        return buffers.get().macs[preferredKeyIndex].doFinal(utf8(canonicalString));
     }
 
-    private boolean matches(String canonicalString, byte[] actualSignature) {
-        for (byte[] secretBytes : candidateSecretKeyBytes()) {
-            if (MessageDigest.isEqual(hmac(canonicalString, secretBytes), actualSignature)) {
+    private boolean matches(String timestamp, byte[] rawBody, String signature) {
+        VerifierBuffers local = buffers.get();
+        int signatureLength = decodeSignature(signature, local.signature);
+        if (signatureLength != MAC_LENGTH) {
+            return false;
+        }
+
+        int timestampLength = encodeAscii(timestamp, local.timestamp);
+        byte[] timestampBytes = timestampLength < 0 ? utf8(timestamp) : local.timestamp;
+        if (timestampLength < 0) {
+            timestampLength = timestampBytes.length;
+        }
+
+        for (Mac mac : local.macs) {
+            mac.update(timestampBytes, 0, timestampLength);
+            mac.update((byte) '.');
+            mac.update(rawBody);
+            try {
+                mac.doFinal(local.expected, 0);
+            } catch (ShortBufferException e) {
+                throw new CommonException(ErrorCode.INVALID_CALLBACK_SIGNATURE, e);
+            }
+            if (constantTimeEquals(local.expected, local.signature, MAC_LENGTH)) {
                 return true;
             }
         }
         return false;
     }
 
+    private byte[] hmacWith(int keyIndex, String timestamp, byte[] rawBody) {
+        Mac mac = buffers.get().macs[keyIndex];
+        mac.update(utf8(timestamp));
+        mac.update((byte) '.');
+        return mac.doFinal(rawBody);
+    }
+
+    /**
+     * sha256= 접두사를 제거한 서명을 dst에 디코딩한다.
+     * hex 형태면 hex, 아니면 base64 / base64url로 해석한다. dst에 들어가지 않거나 형식이 틀리면 -1.
+     */
+    static int decodeSignature(String signature, byte[] dst) {
+        int start = 0;
+        int end = signature.length();
+        while (start < end && Character.isWhitespace(signature.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(signature.charAt(end - 1))) end--;
+        if (signature.regionMatches(true, start, SIGNATURE_PREFIX, 0, SIGNATURE_PREFIX.length())) {
+            start += SIGNATURE_PREFIX.length();
+        }
+
+        if (isHex(signature, start, end)) {
+            return decodeHex(signature, start, end, dst);
+        }
+        return decodeBase64(signature, start, end, dst);
+    }
+
+    private static int decodeHex(String value, int start, int end, byte[] dst) {
+        int length = (end - start) / 2;
+        if (length > dst.length) {
+            return -1;
+        }
+        for (int i = 0; i < length; i++) {
+            int high = Character.digit(value.charAt(start + 2 * i), 16);
+            int low = Character.digit(value.charAt(start + 2 * i + 1), 16);
+            dst[i] = (byte) ((high << 4) + low);
+        }
+        return length;
+    }
+
+    private static int decodeBase64(String value, int start, int end, byte[] dst) {
+        int padding = 0;
+        while (end > start && padding < 2 && value.charAt(end - 1) == '=') {
+            end--;
+            padding++;
+        }
+        int chars = end - start;
+        if (chars == 0 || chars % 4 == 1) {
+            return -1;
+        }
+        int length = chars * 3 / 4;
+        if (length > dst.length) {
+            return -1;
+        }
+
+        int bits = 0;
+        int bitCount = 0;
+        int out = 0;
+        for (int i = start; i < end; i++) {
+            int sextet = base64Value(value.charAt(i));
+            if (sextet < 0) {
+                return -1;
+            }
+            bits = ((bits << 6) | sextet) & 0xFFFF;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                dst[out++] = (byte) (bits >> bitCount);
+            }
+        }
+        return out;
+    }
+
+    private static int base64Value(char c) {
+        if (c >= 'A' && c <= 'Z') return c - 'A';
+        if (c >= 'a' && c <= 'z') return c - 'a' + 26;
+        if (c >= '0' && c <= '9') return c - '0' + 52;
+        if (c == '+' || c == '-') return 62;
+        if (c == '/' || c == '_') return 63;
+        return -1;
+    }
+
+    private static boolean constantTimeEquals(byte[] a, byte[] b, int length) {
+        int diff = 0;
+        for (int i = 0; i < length; i++) {
+            diff |= a[i] ^ b[i];
+        }
+        return diff == 0;
+    }
+
+    /** ASCII가 아니거나 버퍼보다 길면 -1 */
+    private static int encodeAscii(String value, byte[] dst) {
+        int length = value.length();
+        if (length > dst.length) {
+            return -1;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                return -1;
+            }
+            dst[i] = (byte) c;
+        }
+        return length;
+    }
+
     private byte[] decode(String signature) {
         String normalizedSignature = normalizeSignature(signature);
         if (looksLikeHex(normalizedSignature)) {
@@ -187,38 +379,23 @@ public class HmacSignatureVerifier {
         }
     }
 
-    private byte[] preferredSecretKeyBytes() {
-        if (looksLikeHex(secret)) {
-            return HexFormat.of().parseHex(secret);
-        }
-        return secret.getBytes(StandardCharsets.UTF_8);
-    }
-
-    private List<byte[]> candidateSecretKeyBytes() {
-        List<byte[]> candidates = new ArrayList<>();
-        candidates.add(secret.getBytes(StandardCharsets.UTF_8));
-        if (looksLikeHex(secret)) {
-            byte[] hexBytes = HexFormat.of().parseHex(secret);
-            if (!MessageDigest.isEqual(hexBytes, candidates.get(0))) {
-                candidates.add(hexBytes);
-            }
-        }
-        return candidates;
-    }
-
     private String normalizeSignature(String signature) {
         String trimmed = signature.trim();
-        if (trimmed.toLowerCase(Locale.ROOT).startsWith("sha256=")) {
-            return trimmed.substring("sha256=".length());
+        if (trimmed.toLowerCase(Locale.ROOT).startsWith(SIGNATURE_PREFIX)) {
+            return trimmed.substring(SIGNATURE_PREFIX.length());
         }
         return trimmed;
     }
 
-    private boolean looksLikeHex(String value) {
-        if (value == null || value.length() % 2 != 0) {
+    private static boolean looksLikeHex(String value) {
+        return value != null && isHex(value, 0, value.length());
+    }
+
+    private static boolean isHex(String value, int start, int end) {
+        if (end <= start || (end - start) % 2 != 0) {
             return false;
         }
-        for (int i = 0; i < value.length(); i++) {
+        for (int i = start; i < end; i++) {
             if (Character.digit(value.charAt(i), 16) < 0) {
                 return false;
             }
@@ -256,47 +433,38 @@ public class HmacSignatureVerifier {
         }
     }
 
-    private boolean isBlank(String value) {
+    private static boolean isBlank(String value) {
         return value == null || value.isBlank();
     }
 
-    private VerificationResult invalid(VerificationFailureReason reason) {
-        return new VerificationResult(false, reason);
+    private static boolean isBlankBody(byte[] rawBody) {
+        if (rawBody == null) {
+            return true;
+        }
+        for (byte b : rawBody) {
+            if (!Character.isWhitespace(b)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private byte[] hmac(String canonicalString, byte[] secretBytes) {
-        try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(secretBytes, "HmacSHA256"));
-            return mac.doFinal(canonicalString.getBytes(StandardCharsets.UTF_8));
-        } catch (Exception e) {
-            throw new CommonException(ErrorCode.INVALID_CALLBACK_SIGNATURE, e);
-        }
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
     }
 
-    private byte[] safeDecode(String signature) {
-        try {
-            return isBlank(signature) ? null : decode(signature);
-        } catch (CommonException exception) {
-            return null;
-        }
+    private VerificationResult invalid(VerificationFailureReason reason) {
+        return new VerificationResult(false, reason);
     }
 
-    private byte[] safeHmac(String canonicalString, byte[] secretBytes) {
+    private byte[] safeDecode(String signature) {
         try {
-            return hmac(canonicalString, secretBytes);
+            return isBlank(signature) ? null : decode(signature);
         } catch (CommonException exception) {
             return null;
         }
     }
 
-    private String hash(String value) {
-        if (value == null) {
-            return null;
-        }
-        return hash(value.getBytes(StandardCharsets.UTF_8));
-    }
-
     private String hash(byte[] value) {
         if (value == null) {
             return null;
@@ -328,4 +496,27 @@ public class HmacSignatureVerifier {
             }
         }
     }
+
+    /**
+     * 스레드별 Mac / 버퍼
+     * - Mac은 thread-safe하지 않으므로 스레드마다 후보 키 수만큼 초기화해 둔다. doFinal 후 자동 reset된다.
+     */
+    private static final class VerifierBuffers {
+        private final Mac[] macs;
+        private final byte[] expected = new byte[MAC_LENGTH];
+        private final byte[] signature = new byte[MAC_LENGTH];
+        private final byte[] timestamp = new byte[32];
+
+        private VerifierBuffers(List<SecretKeySpec> keys) {
+            macs = new Mac[keys.size()];
+            try {
+                for (int i = 0; i < macs.length; i++) {
+                    macs[i] = Mac.getInstance(HMAC_ALGORITHM);
+                    macs[i].init(keys.get(i));
+                }
+            } catch (GeneralSecurityException e) {
+                throw new CommonException(ErrorCode.INVALID_CALLBACK_SIGNATURE, e);
+            }
+        }
+    }
 }
@@ -0,0 +1,43 @@
+-- 과목/교수/학기별 강의평가 태그 집계 (강의평가 제출 트랜잭션에서 증분 갱신)
+CREATE TABLE IF NOT EXISTS public.course_evaluation_stats (
+    course_id BIGINT NOT NULL,
+    professor_id BIGINT NOT NULL,
+    year INTEGER NOT NULL,
+    semester INTEGER NOT NULL,
+    evaluation_count INTEGER NOT NULL DEFAULT 0,
+    low_homework_count INTEGER NOT NULL DEFAULT 0,
+    low_team_project_count INTEGER NOT NULL DEFAULT 0,
+    online_exam_count INTEGER NOT NULL DEFAULT 0,
+    exam_replaced_by_homework_count INTEGER NOT NULL DEFAULT 0,
+    interesting_lecture_count INTEGER NOT NULL DEFAULT 0,
+    informative_lecture_count INTEGER NOT NULL DEFAULT 0,
+    absolute_exam_count INTEGER NOT NULL DEFAULT 0,
+    easy_grade_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_course_evaluation_stats PRIMARY KEY (course_id, professor_id, year, semester)
+);
+
+-- 기존 강의평가 백필 (이후 재집계는 COURSE_EVALUATION_STATS_REBUILD 유지보수 작업)
+INSERT INTO public.course_evaluation_stats (
+    course_id, professor_id, year, semester, evaluation_count,
+    low_homework_count, low_team_project_count, online_exam_count, exam_replaced_by_homework_count,
+    interesting_lecture_count, informative_lecture_count, absolute_exam_count, easy_grade_count,
+    updated_at
+)
+SELECT ce.course_id,
+       ce.professor_id,
+       ce.year,
+       ce.semester,
+       COUNT(DISTINCT ce.id),
+       SUM(CASE WHEN t.tag = 'LOW_HOMEWORK' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.tag = 'LOW_TEAM_PROJECT' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.tag = 'ONLINE_EXAM' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.tag = 'EXAM_REPLACED_BY_HOMEWORK' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.tag = 'INTERESTING_LECTURE' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.tag = 'INFORMATIVE_LECTURE' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.tag = 'ABSOLUTE_EXAM' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.tag = 'EASY_GRADE' THEN 1 ELSE 0 END),
+       NOW()
+FROM public.course_evaluations ce
+LEFT JOIN public.course_evaluation_tags t ON t.course_evaluation_id = ce.id
+GROUP BY ce.course_id, ce.professor_id, ce.year, ce.semester;
@@ -0,0 +1,17 @@
+-- 과목/학과 검색 컬럼 (SearchText의 정규화 문서와 bigram)
+-- 새 row는 엔티티 저장 시점에 채운다. 기존 row와 이전 Lambda가 넣은 row는 SEARCH_GRAMS_BACKFILL 유지보수 작업으로 채운다.
+ALTER TABLE public.courses
+    ADD COLUMN IF NOT EXISTS search_text VARCHAR(512) NULL;
+
+ALTER TABLE public.courses
+    ADD COLUMN IF NOT EXISTS search_grams VARCHAR(8) ARRAY NULL;
+
+ALTER TABLE public.departments
+    ADD COLUMN IF NOT EXISTS search_text VARCHAR(512) NULL;
+
+ALTER TABLE public.departments
+    ADD COLUMN IF NOT EXISTS search_grams VARCHAR(8) ARRAY NULL;
+
+-- 검색은 과목을 먼저 좁힌 뒤 개설강의를 course_id로 찾는다.
+CREATE INDEX IF NOT EXISTS idx_course_offerings_course_id
+    ON public.course_offerings (course_id);
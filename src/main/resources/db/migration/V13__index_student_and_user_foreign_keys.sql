@@ -0,0 +1,8 @@
+-- 학생/사용자 삭제(StudentDeletionRepository)는 FK 컬럼으로 자식 row를 지운다.
+-- 인덱스가 없던 student_courses(student_id), social_accounts(user_id)에 인덱스를 만든다.
+-- 같은 대상을 참조하는 FK가 모두 선두 컬럼 인덱스를 갖는지는 ForeignKeyIndexAuditTest(index-audit)로 확인한다.
+CREATE INDEX IF NOT EXISTS idx_student_courses_student_id
+    ON public.student_courses (student_id);
+
+CREATE INDEX IF NOT EXISTS idx_social_accounts_user_id
+    ON public.social_accounts (user_id);
@@ -0,0 +1,7 @@
+-- 만료 refresh token 정리 체크포인트 행을 미리 만들어 둔다
+-- 정리 작업은 이 행을 잠그기만 하므로 첫 실행에서 여러 인스턴스가 동시에 행을 만들다 PK가 충돌하지 않는다
+INSERT INTO public.refresh_token_cleanup_checkpoint (id, updated_at)
+SELECT 'refresh_token', NOW()
+WHERE NOT EXISTS (
+    SELECT 1 FROM public.refresh_token_cleanup_checkpoint WHERE id = 'refresh_token'
+);
@@ -0,0 +1,12 @@
+-- 만료 refresh token 정리를 (expiry, session_id) keyset 청크 단위로 수행한다
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expiry_session
+    ON public.refresh_token (expiry, session_id);
+
+-- 시간 예산을 넘겨 중단된 정리 작업의 재개 지점
+CREATE TABLE IF NOT EXISTS public.refresh_token_cleanup_checkpoint (
+    id VARCHAR(64) NOT NULL,
+    cursor_expiry TIMESTAMP(6) NULL,
+    cursor_session_id VARCHAR(255) NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_refresh_token_cleanup_checkpoint PRIMARY KEY (id)
+);
@@ -0,0 +1,6 @@
+-- 과목/학과 bigram 검색(search_grams @> 검색어 bigram)용 GIN 인덱스
+CREATE INDEX IF NOT EXISTS idx_courses_search_grams
+    ON public.courses USING GIN (search_grams);
+
+CREATE INDEX IF NOT EXISTS idx_departments_search_grams
+    ON public.departments USING GIN (search_grams);
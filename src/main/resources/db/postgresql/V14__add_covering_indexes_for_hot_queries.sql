@@ -0,0 +1,21 @@
+-- 인덱스 점검(HotQueryIndexAuditTest)에서 순차 스캔으로 나온 조회 경로에 인덱스 추가
+
+-- 졸업 요건은 (학과, 입학년도) 조회뿐인데 인덱스가 없었다.
+CREATE INDEX IF NOT EXISTS idx_department_area_requirements_lookup
+    ON public.department_area_requirements (department_id, admission_year)
+    INCLUDE (area_type, required_credits, required_elective_courses, total_elective_courses);
+
+CREATE INDEX IF NOT EXISTS idx_dual_major_requirements_lookup
+    ON public.dual_major_requirements (department_id, admission_year)
+    INCLUDE (major_role, area_type, required_credits);
+
+-- 졸업 이수 현황(GraduationQueryRepository.getLatestValidCourses)은 재수강 삭제되지 않은 수강 이력만 읽는다.
+CREATE INDEX IF NOT EXISTS idx_student_courses_student_valid
+    ON public.student_courses (student_id)
+    INCLUDE (offering_id, grade, points, original_score)
+    WHERE is_retake_deleted = FALSE;
+
+-- 학기 단위 개설강의 조회(강의평가 테스트 과목, 평가 방식 정규화)는 삭제되지 않은 개설강의만 본다.
+CREATE INDEX IF NOT EXISTS idx_course_offerings_active_term
+    ON public.course_offerings (year, semester)
+    WHERE deleted_at IS NULL;
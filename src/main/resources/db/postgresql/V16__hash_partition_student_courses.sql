@@ -0,0 +1,120 @@
+-- student_courses를 student_id 해시 파티션 테이블로 옮기는 1단계 (배포 중 실행, 온라인)
+-- 동기화/졸업 요건/강의평가 조회가 모두 student_id로 거르므로 교체 후에는 학생 한 명의 조회와 변경이 파티션 하나만 읽는다.
+--
+-- 이 migration은 기존 테이블을 옮기거나 지우지 않는다.
+-- - 빈 파티션 테이블(student_courses_partitioned)과 인덱스를 만들고, 기존 테이블의 INSERT/UPDATE/DELETE를 트리거로 옮겨 적는다.
+--   배포 중 이전 Lambda도 기존 테이블을 그대로 읽고 쓴다. 트리거를 만드는 동안만 기존 테이블에 짧은 잠금(SHARE ROW EXCLUSIVE)을 잡는다.
+-- - 기존 row 복사는 유지보수 작업 STUDENT_COURSES_PARTITION_BACKFILL이 배치로 하고,
+--   테이블 교체는 점검 시간에 STUDENT_COURSES_PARTITION_SWAP으로 한다. (README 배포 후 작업, StudentCoursePartitionService)
+-- - 교체 전에는 아래 객체를 지우면 되돌아간다.
+--   DROP TRIGGER student_courses_mirror_to_partitioned ON public.student_courses; DROP TABLE public.student_courses_partitioned;
+--   DROP FUNCTION public.student_courses_mirror_to_partitioned(), public.student_courses_mirror_to_unpartitioned(),
+--   public.student_courses_assign_id();
+--
+-- 파티션 테이블의 PK는 파티션 키를 포함해야 하므로 (id, student_id)다. id 단독 UNIQUE는 둘 수 없으므로
+-- 교체 후에는 BEFORE INSERT 트리거(student_courses_assign_id)가 넘겨받은 값과 상관없이 항상 시퀀스에서 id를 준다. (GENERATED ALWAYS와 같다)
+-- 옮겨 적는 row는 기존 id를 그대로 쓴다. 기존 id는 기존 테이블의 PK로 이미 유일하다.
+SET LOCAL lock_timeout = '5s';
+
+CREATE TABLE public.student_courses_partitioned (
+    id BIGINT NOT NULL,
+    grade VARCHAR(255) NULL,
+    points INTEGER NULL,
+    is_retake BOOLEAN NULL,
+    original_score INTEGER NULL,
+    created_at TIMESTAMP WITH TIME ZONE NULL,
+    is_retake_deleted BOOLEAN NOT NULL,
+    offering_id BIGINT NOT NULL,
+    student_id UUID NOT NULL,
+    CONSTRAINT pk_student_courses_partitioned PRIMARY KEY (id, student_id)
+) PARTITION BY HASH (student_id);
+
+CREATE TABLE public.student_courses_p00 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 0);
+CREATE TABLE public.student_courses_p01 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 1);
+CREATE TABLE public.student_courses_p02 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 2);
+CREATE TABLE public.student_courses_p03 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 3);
+CREATE TABLE public.student_courses_p04 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 4);
+CREATE TABLE public.student_courses_p05 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 5);
+CREATE TABLE public.student_courses_p06 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 6);
+CREATE TABLE public.student_courses_p07 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 7);
+CREATE TABLE public.student_courses_p08 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 8);
+CREATE TABLE public.student_courses_p09 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 9);
+CREATE TABLE public.student_courses_p10 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 10);
+CREATE TABLE public.student_courses_p11 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 11);
+CREATE TABLE public.student_courses_p12 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 12);
+CREATE TABLE public.student_courses_p13 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 13);
+CREATE TABLE public.student_courses_p14 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 14);
+CREATE TABLE public.student_courses_p15 PARTITION OF public.student_courses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 15);
+
+-- 교체 후 새 row의 id. 교체 시점에 최댓값 다음으로 맞춘다.
+CREATE SEQUENCE public.student_courses_partitioned_id_seq OWNED BY public.student_courses_partitioned.id;
+
+CREATE INDEX idx_student_courses_partitioned_student_id
+    ON public.student_courses_partitioned (student_id);
+
+CREATE INDEX idx_student_courses_partitioned_student_valid
+    ON public.student_courses_partitioned (student_id)
+    INCLUDE (offering_id, grade, points, original_score)
+    WHERE is_retake_deleted = FALSE;
+
+-- 기존 테이블 → 파티션 테이블. 백필이 먼저 넣은 row는 최신 값으로 덮어쓴다.
+CREATE FUNCTION public.student_courses_mirror_to_partitioned() RETURNS trigger
+    LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        DELETE FROM public.student_courses_partitioned
+        WHERE id = OLD.id AND student_id = OLD.student_id;
+    END IF;
+    IF TG_OP <> 'DELETE' THEN
+        INSERT INTO public.student_courses_partitioned (
+            id, grade, points, is_retake, original_score, created_at, is_retake_deleted, offering_id, student_id
+        )
+        VALUES (
+            NEW.id, NEW.grade, NEW.points, NEW.is_retake, NEW.original_score, NEW.created_at,
+            NEW.is_retake_deleted, NEW.offering_id, NEW.student_id
+        )
+        ON CONFLICT (id, student_id) DO UPDATE
+        SET grade = EXCLUDED.grade,
+            points = EXCLUDED.points,
+            is_retake = EXCLUDED.is_retake,
+            original_score = EXCLUDED.original_score,
+            created_at = EXCLUDED.created_at,
+            is_retake_deleted = EXCLUDED.is_retake_deleted,
+            offering_id = EXCLUDED.offering_id;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+-- 교체 후 파티션 테이블 → 이전 테이블(student_courses_unpartitioned). 되돌리기(STUDENT_COURSES_PARTITION_ROLLBACK)를 위해 정리 전까지 맞춰 둔다.
+CREATE FUNCTION public.student_courses_mirror_to_unpartitioned() RETURNS trigger
+    LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        DELETE FROM public.student_courses_unpartitioned WHERE id = OLD.id;
+    END IF;
+    IF TG_OP <> 'DELETE' THEN
+        INSERT INTO public.student_courses_unpartitioned (
+            id, grade, points, is_retake, original_score, created_at, is_retake_deleted, offering_id, student_id
+        )
+        VALUES (
+            NEW.id, NEW.grade, NEW.points, NEW.is_retake, NEW.original_score, NEW.created_at,
+            NEW.is_retake_deleted, NEW.offering_id, NEW.student_id
+        );
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+-- 교체 후 파티션 테이블의 BEFORE INSERT 트리거. 넘겨받은 id는 무시한다.
+CREATE FUNCTION public.student_courses_assign_id() RETURNS trigger
+    LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.id := nextval('public.student_courses_partitioned_id_seq');
+    RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER student_courses_mirror_to_partitioned
+    AFTER INSERT OR UPDATE OR DELETE ON public.student_courses
+    FOR EACH ROW EXECUTE FUNCTION public.student_courses_mirror_to_partitioned();
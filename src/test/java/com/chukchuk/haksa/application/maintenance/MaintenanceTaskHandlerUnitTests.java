@@ -1,7 +1,12 @@
 package com.chukchuk.haksa.application.maintenance;
 
 import com.chukchuk.haksa.application.portal.ScrapeJobStaleReconciler;
-import com.chukchuk.haksa.domain.auth.service.RefreshTokenService;
+import com.chukchuk.haksa.domain.academic.record.service.StudentCoursePartitionService;
+import com.chukchuk.haksa.domain.auth.service.RefreshTokenCleanupService;
+import com.chukchuk.haksa.domain.auth.service.RefreshTokenCleanupService.RefreshTokenCleanupResult;
+import com.chukchuk.haksa.domain.lectureevaluations.service.CourseEvaluationStatsService;
+import com.chukchuk.haksa.global.common.search.SearchGramsBackfillService;
+import com.chukchuk.haksa.infrastructure.cache.local.AcademicCacheSnapshotStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,12 +25,31 @@ class MaintenanceTaskHandlerUnitTests {
     private ScrapeJobStaleReconciler scrapeJobStaleReconciler;
 
     @Mock
-    private RefreshTokenService refreshTokenService;
+    private RefreshTokenCleanupService refreshTokenCleanupService;
+
+    @Mock
+    private AcademicCacheSnapshotStore academicCacheSnapshotStore;
+
+    @Mock
+    private CourseEvaluationStatsService courseEvaluationStatsService;
+
+    @Mock
+    private SearchGramsBackfillService searchGramsBackfillService;
+
+    @Mock
+    private StudentCoursePartitionService studentCoursePartitionService;
 
     @Test
     @DisplayName("SCRAPE_JOB_RECONCILE_STALE 작업은 stale reconciler를 실행하고 처리 건수를 반환한다")
     void handle_reconcileStale_returnsAffectedCount() {
-        MaintenanceTaskHandler handler = new MaintenanceTaskHandler(scrapeJobStaleReconciler, refreshTokenService);
+        MaintenanceTaskHandler handler = new MaintenanceTaskHandler(
+                scrapeJobStaleReconciler,
+                refreshTokenCleanupService,
+                academicCacheSnapshotStore,
+                courseEvaluationStatsService,
+                searchGramsBackfillService,
+                studentCoursePartitionService
+        );
         when(scrapeJobStaleReconciler.reconcileStaleQueuedJobs()).thenReturn(2);
 
         MaintenanceTaskResult result = handler.handle(new MaintenanceTaskRequest(
@@ -44,8 +68,16 @@ class MaintenanceTaskHandlerUnitTests {
     @Test
     @DisplayName("REFRESH_TOKEN_CLEANUP 작업은 만료 토큰 정리를 실행하고 삭제 건수를 반환한다")
     void handle_refreshTokenCleanup_returnsDeletedCount() {
-        MaintenanceTaskHandler handler = new MaintenanceTaskHandler(scrapeJobStaleReconciler, refreshTokenService);
-        when(refreshTokenService.deletedExpiredTokens()).thenReturn(3);
+        MaintenanceTaskHandler handler = new MaintenanceTaskHandler(
+                scrapeJobStaleReconciler,
+                refreshTokenCleanupService,
+                academicCacheSnapshotStore,
+                courseEvaluationStatsService,
+                searchGramsBackfillService,
+                studentCoursePartitionService
+        );
+        when(refreshTokenCleanupService.cleanupExpiredTokens())
+                .thenReturn(new RefreshTokenCleanupResult(3, 1, true, 12L));
 
         MaintenanceTaskResult result = handler.handle(new MaintenanceTaskRequest(
                 "eventbridge.scheduler",
@@ -57,13 +89,140 @@ class MaintenanceTaskHandlerUnitTests {
         assertThat(result.task()).isEqualTo("REFRESH_TOKEN_CLEANUP");
         assertThat(result.affectedCount()).isEqualTo(3);
         assertThat(result.scheduledAt()).isEqualTo("2026-04-26T00:00:00Z");
-        verify(refreshTokenService).deletedExpiredTokens();
+        verify(refreshTokenCleanupService).cleanupExpiredTokens();
+    }
+
+    @Test
+    @DisplayName("ACADEMIC_CACHE_SNAPSHOT 작업은 정적 캐시 스냅샷을 저장하고 저장 건수를 반환한다")
+    void handle_academicCacheSnapshot_returnsSavedCount() {
+        MaintenanceTaskHandler handler = new MaintenanceTaskHandler(
+                scrapeJobStaleReconciler,
+                refreshTokenCleanupService,
+                academicCacheSnapshotStore,
+                courseEvaluationStatsService,
+                searchGramsBackfillService,
+                studentCoursePartitionService
+        );
+        when(academicCacheSnapshotStore.save()).thenReturn(42);
+
+        MaintenanceTaskResult result = handler.handle(new MaintenanceTaskRequest(
+                "eventbridge.scheduler",
+                "ACADEMIC_CACHE_SNAPSHOT",
+                "2026-04-26T00:00:00Z"
+        ));
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.affectedCount()).isEqualTo(42);
+        verify(academicCacheSnapshotStore).save();
+    }
+
+    @Test
+    @DisplayName("COURSE_EVALUATION_STATS_REBUILD 작업은 강의평가 통계를 전체 재집계하고 row 수를 반환한다")
+    void handle_courseEvaluationStatsRebuild_returnsRebuiltRows() {
+        MaintenanceTaskHandler handler = new MaintenanceTaskHandler(
+                scrapeJobStaleReconciler,
+                refreshTokenCleanupService,
+                academicCacheSnapshotStore,
+                courseEvaluationStatsService,
+                searchGramsBackfillService,
+                studentCoursePartitionService
+        );
+        when(courseEvaluationStatsService.rebuildAll()).thenReturn(7);
+
+        MaintenanceTaskResult result = handler.handle(new MaintenanceTaskRequest(
+                "eventbridge.scheduler",
+                "COURSE_EVALUATION_STATS_REBUILD",
+                "2026-04-26T00:00:00Z"
+        ));
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.affectedCount()).isEqualTo(7);
+        verify(courseEvaluationStatsService).rebuildAll();
+    }
+
+    @Test
+    @DisplayName("SEARCH_GRAMS_BACKFILL 작업은 비어 있는 과목/학과 검색 컬럼을 채우고 row 수를 반환한다")
+    void handle_searchGramsBackfill_returnsFilledRows() {
+        MaintenanceTaskHandler handler = new MaintenanceTaskHandler(
+                scrapeJobStaleReconciler,
+                refreshTokenCleanupService,
+                academicCacheSnapshotStore,
+                courseEvaluationStatsService,
+                searchGramsBackfillService,
+                studentCoursePartitionService
+        );
+        when(searchGramsBackfillService.backfillAll()).thenReturn(12);
+
+        MaintenanceTaskResult result = handler.handle(new MaintenanceTaskRequest(
+                "eventbridge.scheduler",
+                "SEARCH_GRAMS_BACKFILL",
+                "2026-04-26T00:00:00Z"
+        ));
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.affectedCount()).isEqualTo(12);
+        verify(searchGramsBackfillService).backfillAll();
+    }
+
+    @Test
+    @DisplayName("STUDENT_COURSES_PARTITION_BACKFILL 작업은 파티션 테이블로 기존 수강 row를 복사하고 row 수를 반환한다")
+    void handle_studentCoursesPartitionBackfill_returnsCopiedRows() {
+        MaintenanceTaskHandler handler = new MaintenanceTaskHandler(
+                scrapeJobStaleReconciler,
+                refreshTokenCleanupService,
+                academicCacheSnapshotStore,
+                courseEvaluationStatsService,
+                searchGramsBackfillService,
+                studentCoursePartitionService
+        );
+        when(studentCoursePartitionService.backfill()).thenReturn(5_001);
+
+        MaintenanceTaskResult result = handler.handle(new MaintenanceTaskRequest(
+                "eventbridge.scheduler",
+                "STUDENT_COURSES_PARTITION_BACKFILL",
+                "2026-04-26T00:00:00Z"
+        ));
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.affectedCount()).isEqualTo(5_001);
+        verify(studentCoursePartitionService).backfill();
+    }
+
+    @Test
+    @DisplayName("STUDENT_COURSES_PARTITION_SWAP 작업은 테이블을 교체하고 잠금 아래에서 맞춘 row 수를 반환한다")
+    void handle_studentCoursesPartitionSwap_returnsReconciledRows() {
+        MaintenanceTaskHandler handler = new MaintenanceTaskHandler(
+                scrapeJobStaleReconciler,
+                refreshTokenCleanupService,
+                academicCacheSnapshotStore,
+                courseEvaluationStatsService,
+                searchGramsBackfillService,
+                studentCoursePartitionService
+        );
+        when(studentCoursePartitionService.swap()).thenReturn(3);
+
+        MaintenanceTaskResult result = handler.handle(new MaintenanceTaskRequest(
+                "eventbridge.scheduler",
+                "STUDENT_COURSES_PARTITION_SWAP",
+                "2026-04-26T00:00:00Z"
+        ));
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.affectedCount()).isEqualTo(3);
+        verify(studentCoursePartitionService).swap();
     }
 
     @Test
     @DisplayName("알 수 없는 maintenance task는 실패한다")
     void handle_unknownTask_throws() {
-        MaintenanceTaskHandler handler = new MaintenanceTaskHandler(scrapeJobStaleReconciler, refreshTokenService);
+        MaintenanceTaskHandler handler = new MaintenanceTaskHandler(
+                scrapeJobStaleReconciler,
+                refreshTokenCleanupService,
+                academicCacheSnapshotStore,
+                courseEvaluationStatsService,
+                searchGramsBackfillService,
+                studentCoursePartitionService
+        );
 
         assertThatThrownBy(() -> handler.handle(new MaintenanceTaskRequest(
                 "eventbridge.scheduler",
@@ -7,12 +7,14 @@ import com.chukchuk.haksa.domain.student.model.Student;
 import com.chukchuk.haksa.domain.student.service.StudentService;
 import com.chukchuk.haksa.domain.user.model.User;
 import com.chukchuk.haksa.domain.user.service.UserService;
+import com.chukchuk.haksa.global.metrics.StageObserver;
 import com.chukchuk.haksa.infrastructure.portal.model.AdmissionInfo;
 import com.chukchuk.haksa.infrastructure.portal.model.CodeName;
 import com.chukchuk.haksa.infrastructure.portal.model.PortalAcademicInfo;
 import com.chukchuk.haksa.infrastructure.portal.model.PortalConnectionResult;
 import com.chukchuk.haksa.infrastructure.portal.model.PortalData;
 import com.chukchuk.haksa.infrastructure.portal.model.PortalStudentInfo;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -64,7 +66,8 @@ class PortalSyncServiceTests {
                 syncAcademicRecordService,
                 userService,
                 studentService,
-                studentGraduationProgressService
+                studentGraduationProgressService,
+                new StageObserver(ObservationRegistry.NOOP)
         );
     }
 
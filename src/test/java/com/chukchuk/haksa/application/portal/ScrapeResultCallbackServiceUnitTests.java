@@ -6,11 +6,13 @@ import com.chukchuk.haksa.domain.scrapejob.model.ScrapeJobStatus;
 import com.chukchuk.haksa.domain.scrapejob.repository.ScrapeJobRepository;
 import com.chukchuk.haksa.global.exception.code.ErrorCode;
 import com.chukchuk.haksa.global.exception.type.CommonException;
+import com.chukchuk.haksa.global.metrics.StageObserver;
 import com.chukchuk.haksa.infrastructure.portal.client.ScrapeResultStoreClient;
 import com.chukchuk.haksa.infrastructure.portal.exception.ScrapeResultPayloadAccessException;
 import com.chukchuk.haksa.infrastructure.security.HmacSignatureVerifier;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -447,7 +449,8 @@ class ScrapeResultCallbackServiceUnitTests {
                 resultStoreClient,
                 verifier,
                 meterRegistry,
-                new ObjectMapper().findAndRegisterModules()
+                new ObjectMapper().findAndRegisterModules(),
+                new StageObserver(ObservationRegistry.NOOP)
         );
     }
 
@@ -461,7 +464,8 @@ class ScrapeResultCallbackServiceUnitTests {
         PortalCallbackPostProcessor realPostProcessor = new PortalCallbackPostProcessor(
                 new ObjectMapper().findAndRegisterModules(),
                 meterRegistry,
-                txService
+                txService,
+                new StageObserver(ObservationRegistry.NOOP)
         );
         return new ScrapeResultCallbackService(
                 realPostProcessor,
@@ -469,7 +473,8 @@ class ScrapeResultCallbackServiceUnitTests {
                 resultStoreClient,
                 verifier,
                 meterRegistry,
-                new ObjectMapper().findAndRegisterModules()
+                new ObjectMapper().findAndRegisterModules(),
+                new StageObserver(ObservationRegistry.NOOP)
         );
     }
 
@@ -0,0 +1,140 @@
+package com.chukchuk.haksa.application.portal;
+
+import com.chukchuk.haksa.application.academic.dto.SyncAcademicRecordResult;
+import com.chukchuk.haksa.domain.academic.record.repository.StudentCourseRepository;
+import com.chukchuk.haksa.domain.department.model.Department;
+import com.chukchuk.haksa.domain.department.repository.DepartmentRepository;
+import com.chukchuk.haksa.domain.student.model.Student;
+import com.chukchuk.haksa.domain.student.repository.StudentRepository;
+import com.chukchuk.haksa.domain.user.model.User;
+import com.chukchuk.haksa.domain.user.repository.UserRepository;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.infrastructure.portal.model.AcademicSummary;
+import com.chukchuk.haksa.infrastructure.portal.model.CourseInfo;
+import com.chukchuk.haksa.infrastructure.portal.model.GradeSummary;
+import com.chukchuk.haksa.infrastructure.portal.model.PortalAcademicData;
+import com.chukchuk.haksa.infrastructure.portal.model.PortalCurriculumData;
+import com.chukchuk.haksa.infrastructure.portal.model.PortalData;
+import com.chukchuk.haksa.infrastructure.portal.model.Ranking;
+import com.chukchuk.haksa.infrastructure.portal.model.SemesterCourseInfo;
+import com.chukchuk.haksa.infrastructure.portal.model.SemesterGrade;
+import com.chukchuk.haksa.support.QueryBudget;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.chukchuk.haksa.support.StudentFixtures.enrolledStudent;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SyncAcademicRecordServiceIntegrationTest {
+
+    private static final int SEMESTERS = 3;
+    private static final int COURSES_PER_SEMESTER = 3;
+
+    @Autowired
+    private SyncAcademicRecordService syncAcademicRecordService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private StudentCourseRepository studentCourseRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("초기 동기화는 과목 수가 아닌 학기 수만큼만 같은 조회를 반복한다")
+    void executeWithPortalData_staysWithinQueryBudget() {
+        Student student = createStudent();
+        UUID userId = student.getUser().getId();
+        UUID studentId = student.getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // 과목/개설 강좌/교수는 IN 조회 + 배치 저장, 강의평가 상태 마킹만 학기별 조회(학기 수만큼 반복)
+        AtomicReference<SyncAcademicRecordResult> result = new AtomicReference<>();
+        QueryCounter.Scope scope = QueryBudget.of(QueryCounter.ScopeType.SYNC, "sync.initial")
+                .maxStatements(60)
+                .maxSelectRepeat(SEMESTERS)
+                .verify(() -> result.set(syncAcademicRecordService.executeWithPortalData(userId, portalData())));
+
+        assertThat(result.get().isSuccess()).as(result.get().getError()).isTrue();
+        assertThat(scope.total()).isPositive();
+
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(studentCourseRepository.findByStudent(entityManager.find(Student.class, studentId)))
+                .hasSize(SEMESTERS * COURSES_PER_SEMESTER);
+    }
+
+    private Student createStudent() {
+        User user = userRepository.save(User.builder()
+                .email("sync-budget@haksa.com")
+                .profileNickname("sync")
+                .build());
+        Department department = departmentRepository.save(new Department("2000703", "데이터과학과"));
+        Student student = studentRepository.save(enrolledStudent("20260103", department, user)
+                .admissionYear(2023)
+                .gradeLevel(2)
+                .build());
+        user.setStudent(student);
+        return student;
+    }
+
+    private PortalData portalData() {
+        List<SemesterCourseInfo> semesters = new ArrayList<>();
+        List<SemesterGrade> grades = new ArrayList<>();
+        for (int s = 0; s < SEMESTERS; s++) {
+            int year = 2023 + s / 2;
+            int semester = s % 2 + 1;
+            List<CourseInfo> courses = new ArrayList<>();
+            for (int i = 0; i < COURSES_PER_SEMESTER; i++) {
+                courses.add(course("QB3" + s + i, year * 10 + semester));
+            }
+            semesters.add(new SemesterCourseInfo(year, semester, courses));
+            grades.add(new SemesterGrade(year, semester, "9", "9", "4.3", 95.0, new Ranking(1, 30)));
+        }
+        int credits = SEMESTERS * COURSES_PER_SEMESTER * 3;
+        AcademicSummary summary = new AcademicSummary(credits, credits, 4.3, 95.0);
+        return new PortalData(
+                null,
+                new PortalAcademicData(semesters, new GradeSummary(grades, summary), summary),
+                new PortalCurriculumData(List.of(), List.of(), List.of())
+        );
+    }
+
+    private CourseInfo course(String code, int establishmentSemester) {
+        return new CourseInfo(
+                code,
+                "과목" + code,
+                "홍길동",
+                "컴퓨터공학과",
+                3,
+                "A+",
+                false,
+                "월1-2",
+                "전선",
+                null,
+                null,
+                establishmentSemester,
+                4.3,
+                false
+        );
+    }
+}
@@ -22,6 +22,7 @@ import com.chukchuk.haksa.infrastructure.portal.model.AcademicSummary;
 import com.chukchuk.haksa.infrastructure.portal.model.CourseInfo;
 import com.chukchuk.haksa.infrastructure.portal.model.GradeSummary;
 import com.chukchuk.haksa.infrastructure.portal.model.MergedOfferingAcademic;
+import com.chukchuk.haksa.global.metrics.StageObserver;
 import com.chukchuk.haksa.infrastructure.portal.model.OfferingInfo;
 import com.chukchuk.haksa.infrastructure.portal.model.PortalData;
 import com.chukchuk.haksa.infrastructure.portal.model.PortalAcademicData;
@@ -30,11 +31,13 @@ import com.chukchuk.haksa.infrastructure.portal.model.ProfessorInfo;
 import com.chukchuk.haksa.infrastructure.portal.model.Ranking;
 import com.chukchuk.haksa.infrastructure.portal.model.SemesterCourseInfo;
 import com.chukchuk.haksa.infrastructure.portal.model.SemesterGrade;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Method;
@@ -64,6 +67,8 @@ class SyncAcademicRecordServiceTest {
     private CourseService courseService;
     @Mock
     private StudentCourseBulkRepository studentCourseBulkRepository;
+    @Spy
+    private StageObserver stageObserver = new StageObserver(ObservationRegistry.NOOP);
 
     @InjectMocks
     private SyncAcademicRecordService service;
@@ -81,10 +86,14 @@ class SyncAcademicRecordServiceTest {
                 new CourseEnrollment(UUID.randomUUID(), 2L, new Grade(GradeType.A0), 3, false, 95.0, false)
         );
 
-        int removed = service.removeDeletedEnrollments(mock(Student.class), newEnrollments, existingEnrollments);
+        Student student = mock(Student.class);
+        UUID studentId = UUID.randomUUID();
+        when(student.getId()).thenReturn(studentId);
+
+        int removed = service.removeDeletedEnrollments(student, newEnrollments, existingEnrollments);
 
         ArgumentCaptor<List<Long>> captor = ArgumentCaptor.forClass(List.class);
-        verify(studentCourseRepository).deleteAllByIdInBatch(captor.capture());
+        verify(studentCourseRepository).deleteOwnedByStudentIdAndIdIn(eq(studentId), captor.capture());
         assertThat(captor.getValue()).containsExactly(10L);
         assertThat(removed).isEqualTo(1);
     }
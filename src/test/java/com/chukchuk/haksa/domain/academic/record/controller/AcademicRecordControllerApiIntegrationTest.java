@@ -3,9 +3,13 @@ package com.chukchuk.haksa.domain.academic.record.controller;
 import com.chukchuk.haksa.domain.academic.record.dto.AcademicRecordResponse;
 import com.chukchuk.haksa.domain.academic.record.service.AcademicRecordService;
 import com.chukchuk.haksa.domain.academic.record.service.StudentAcademicRecordService;
+import com.chukchuk.haksa.domain.cache.AcademicResponseCache;
+import com.chukchuk.haksa.domain.student.dto.StudentDataVersion;
 import com.chukchuk.haksa.domain.student.service.StudentService;
+import com.chukchuk.haksa.global.config.AcademicCacheProperties;
 import com.chukchuk.haksa.global.exception.code.ErrorCode;
 import com.chukchuk.haksa.global.exception.type.EntityNotFoundException;
+import com.chukchuk.haksa.infrastructure.cache.local.LocalAcademicCache;
 import com.chukchuk.haksa.support.ApiControllerWebMvcTestSupport;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,16 +17,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+@Import({AcademicResponseCache.class, LocalAcademicCache.class, AcademicCacheProperties.class})
 @WebMvcTest(AcademicRecordController.class)
 @AutoConfigureMockMvc(addFilters = false)
 class AcademicRecordControllerApiIntegrationTest extends ApiControllerWebMvcTestSupport {
@@ -45,7 +56,8 @@ class AcademicRecordControllerApiIntegrationTest extends ApiControllerWebMvcTest
         UUID userId = UUID.randomUUID();
         UUID studentId = UUID.randomUUID();
         authenticate(userId, studentId);
-        when(studentService.getRequiredStudentIdByUserId(userId)).thenReturn(studentId);
+        when(studentService.getRequiredStudentDataVersionByUserId(userId))
+                .thenReturn(new StudentDataVersion(studentId, null));
 
         when(academicRecordService.getAcademicRecord(studentId, 2024, 1))
                 .thenReturn(new AcademicRecordResponse(
@@ -66,7 +78,8 @@ class AcademicRecordControllerApiIntegrationTest extends ApiControllerWebMvcTest
         UUID userId = UUID.randomUUID();
         UUID studentId = UUID.randomUUID();
         authenticate(userId, studentId);
-        when(studentService.getRequiredStudentIdByUserId(userId)).thenReturn(studentId);
+        when(studentService.getRequiredStudentDataVersionByUserId(userId))
+                .thenReturn(new StudentDataVersion(studentId, null));
 
         when(studentAcademicRecordService.getAcademicSummary(studentId))
                 .thenThrow(new EntityNotFoundException(ErrorCode.STUDENT_ACADEMIC_RECORD_NOT_FOUND));
@@ -76,4 +89,45 @@ class AcademicRecordControllerApiIntegrationTest extends ApiControllerWebMvcTest
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.error.code").value("U02"));
     }
+
+    @Test
+    @DisplayName("academic record는 학기별로 본문을 캐시하고 데이터 버전이 바뀌면 다시 조회한다")
+    void getAcademicRecord_cachedPerSemesterAndVersion() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+        authenticate(userId, studentId);
+        when(studentService.getRequiredStudentDataVersionByUserId(userId))
+                .thenReturn(new StudentDataVersion(studentId, Instant.ofEpochMilli(1L)));
+        when(academicRecordService.getAcademicRecord(studentId, 2024, 10))
+                .thenReturn(new AcademicRecordResponse(
+                        null,
+                        new AcademicRecordResponse.Courses(List.of(), List.of(), List.of())
+                ));
+
+        String etag = mockMvc.perform(get("/api/academic/record")
+                        .param("year", "2024")
+                        .param("semester", "10"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/academic/record")
+                        .param("year", "2024")
+                        .param("semester", "10")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(academicRecordService, times(1)).getAcademicRecord(studentId, 2024, 10);
+
+        // 재동기화로 데이터 버전이 바뀌면 캐시를 사용하지 않는다. 본문이 같으면 ETag도 같다.
+        when(studentService.getRequiredStudentDataVersionByUserId(userId))
+                .thenReturn(new StudentDataVersion(studentId, Instant.ofEpochMilli(2L)));
+        mockMvc.perform(get("/api/academic/record")
+                        .param("year", "2024")
+                        .param("semester", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(jsonPath("$.success").value(true));
+        verify(academicRecordService, times(2)).getAcademicRecord(studentId, 2024, 10);
+    }
 }
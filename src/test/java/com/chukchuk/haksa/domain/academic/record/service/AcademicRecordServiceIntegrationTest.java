@@ -0,0 +1,144 @@
+package com.chukchuk.haksa.domain.academic.record.service;
+
+import com.chukchuk.haksa.domain.academic.record.dto.AcademicRecordResponse;
+import com.chukchuk.haksa.domain.academic.record.model.SemesterAcademicRecord;
+import com.chukchuk.haksa.domain.academic.record.model.StudentCourse;
+import com.chukchuk.haksa.domain.academic.record.repository.SemesterAcademicRecordRepository;
+import com.chukchuk.haksa.domain.academic.record.repository.StudentCourseRepository;
+import com.chukchuk.haksa.domain.course.model.Course;
+import com.chukchuk.haksa.domain.course.model.CourseOffering;
+import com.chukchuk.haksa.domain.course.model.EvaluationType;
+import com.chukchuk.haksa.domain.course.model.FacultyDivision;
+import com.chukchuk.haksa.domain.course.repository.CourseOfferingRepository;
+import com.chukchuk.haksa.domain.course.repository.CourseRepository;
+import com.chukchuk.haksa.domain.department.model.Department;
+import com.chukchuk.haksa.domain.department.repository.DepartmentRepository;
+import com.chukchuk.haksa.domain.professor.model.Professor;
+import com.chukchuk.haksa.domain.professor.repository.ProfessorRepository;
+import com.chukchuk.haksa.domain.student.model.Grade;
+import com.chukchuk.haksa.domain.student.model.GradeType;
+import com.chukchuk.haksa.domain.student.model.Student;
+import com.chukchuk.haksa.domain.student.repository.StudentRepository;
+import com.chukchuk.haksa.domain.user.model.User;
+import com.chukchuk.haksa.domain.user.repository.UserRepository;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.support.QueryBudget;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.chukchuk.haksa.support.StudentFixtures.enrolledStudent;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AcademicRecordServiceIntegrationTest {
+
+    private static final int COURSE_COUNT = 4;
+
+    @Autowired
+    private AcademicRecordService academicRecordService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private SemesterAcademicRecordRepository semesterAcademicRecordRepository;
+    @Autowired
+    private StudentCourseRepository studentCourseRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private CourseOfferingRepository courseOfferingRepository;
+    @Autowired
+    private ProfessorRepository professorRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("학기 성적 조회는 수강 과목 수와 무관하게 학기 성적 1회 + 수강 과목 1회로 끝난다")
+    void getAcademicRecord_staysWithinQueryBudget() {
+        Student student = createStudentWithCourses();
+        entityManager.flush();
+        entityManager.clear();
+
+        AtomicReference<AcademicRecordResponse> response = new AtomicReference<>();
+        QueryBudget.of(QueryCounter.ScopeType.HTTP, "academic.record")
+                .maxStatements(2)
+                .maxSelectRepeat(1)
+                .verify(() -> response.set(academicRecordService.getAcademicRecord(student.getId(), 2024, 1)));
+
+        assertThat(response.get().courses().major()).hasSize(COURSE_COUNT);
+    }
+
+    private Student createStudentWithCourses() {
+        User user = userRepository.save(User.builder()
+                .email("record-budget@haksa.com")
+                .profileNickname("record")
+                .build());
+        Department department = departmentRepository.save(new Department("2000701", "소프트웨어학과"));
+        Student student = studentRepository.save(enrolledStudent("20260101", department, user).build());
+
+        SemesterAcademicRecord semesterRecord = new SemesterAcademicRecord(
+                student,
+                2024,
+                1,
+                12,
+                12,
+                BigDecimal.valueOf(4.0),
+                BigDecimal.valueOf(90),
+                BigDecimal.valueOf(4.0),
+                1,
+                30
+        );
+        student.addSemesterRecord(semesterRecord);
+        semesterAcademicRecordRepository.save(semesterRecord);
+
+        // 과목마다 다른 교수/과목을 두어 연관 지연 로딩이 생기면 과목 수만큼 쿼리가 늘어나게 한다.
+        for (int i = 0; i < COURSE_COUNT; i++) {
+            Course course = courseRepository.save(new Course("QB10" + i, "과목" + i));
+            Professor professor = professorRepository.save(new Professor("교수" + i));
+            CourseOffering offering = courseOfferingRepository.save(new CourseOffering(
+                    20241,
+                    false,
+                    2024,
+                    1,
+                    "공과대학",
+                    "0" + i,
+                    "월" + i,
+                    null,
+                    3,
+                    EvaluationType.ABSOLUTE,
+                    FacultyDivision.전선,
+                    course,
+                    professor,
+                    department,
+                    null
+            ));
+            StudentCourse studentCourse = new StudentCourse(
+                    student,
+                    offering,
+                    new Grade(GradeType.A0),
+                    3,
+                    false,
+                    90,
+                    false
+            );
+            student.addStudentCourse(studentCourse);
+            studentCourseRepository.save(studentCourse);
+        }
+        return student;
+    }
+}
@@ -19,10 +19,12 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -70,7 +72,7 @@ class SemesterAcademicRecordServiceUnitTests {
     @DisplayName("전체 학기 성적이 비어 있으면 SEMESTER_RECORD_EMPTY 예외를 던진다")
     void getAllSemesterGrades_empty_throws() {
         UUID studentId = UUID.randomUUID();
-        when(academicCache.getSemesterSummaries(studentId)).thenReturn(List.of());
+        when(academicCache.getOrLoadSemesterSummaries(eq(studentId), any())).thenReturn(List.of());
 
         assertThatThrownBy(() -> semesterAcademicRecordService.getAllSemesterGrades(studentId))
                 .isInstanceOf(EntityNotFoundException.class)
@@ -81,7 +83,7 @@ class SemesterAcademicRecordServiceUnitTests {
     @DisplayName("학기 목록 조회 시 데이터가 비어 있으면 FRESHMAN_NO_SEMESTER 예외를 던진다")
     void getSemestersByStudentId_empty_throws() {
         UUID studentId = UUID.randomUUID();
-        when(academicCache.getSemesterSummaries(studentId)).thenReturn(List.of());
+        when(academicCache.getOrLoadSemesterSummaries(eq(studentId), any())).thenReturn(List.of());
 
         assertThatThrownBy(() -> semesterAcademicRecordService.getSemestersByStudentId(studentId))
                 .isInstanceOf(CommonException.class)
@@ -95,7 +97,7 @@ class SemesterAcademicRecordServiceUnitTests {
         List<SemesterSummaryResponse> cached = List.of(
                 new SemesterSummaryResponse(2024, 1, 15, 18, new BigDecimal("3.8"), 5, 120, new BigDecimal("92.4"))
         );
-        when(academicCache.getSemesterSummaries(studentId)).thenReturn(cached);
+        when(academicCache.getOrLoadSemesterSummaries(eq(studentId), any())).thenReturn(cached);
 
         List<SemesterSummaryResponse> result = semesterAcademicRecordService.getSemesterSummaries(studentId);
 
@@ -104,11 +106,11 @@ class SemesterAcademicRecordServiceUnitTests {
     }
 
     @Test
-    @DisplayName("캐시 조회 실패 시에도 저장소 데이터를 반환하고 캐시 저장을 시도한다")
-    void getSemesterSummaries_cacheGetFails_fallbacksToRepository() {
+    @DisplayName("캐시 미스 시 저장소 데이터를 로딩해 반환한다")
+    void getSemesterSummaries_cacheMiss_loadsFromRepository() {
         UUID studentId = UUID.randomUUID();
         SemesterAcademicRecord record = semesterRecord(2023, 2);
-        when(academicCache.getSemesterSummaries(studentId)).thenThrow(new RuntimeException("cache get fail"));
+        loadThroughCache(studentId);
         when(semesterAcademicRecordRepository.findByStudentIdOrderByYearDescSemesterDesc(studentId))
                 .thenReturn(List.of(record));
 
@@ -116,21 +118,25 @@ class SemesterAcademicRecordServiceUnitTests {
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).year()).isEqualTo(2023);
-        verify(academicCache).setSemesterSummaries(any(UUID.class), any(List.class));
+        verify(academicCache).getOrLoadSemesterSummaries(eq(studentId), any());
     }
 
     @Test
-    @DisplayName("저장소 결과가 비어 있으면 캐시에 저장하지 않고 빈 리스트를 반환한다")
+    @DisplayName("저장소 결과가 비어 있으면 빈 리스트를 반환한다")
     void getSemesterSummaries_repositoryEmpty_returnsEmpty() {
         UUID studentId = UUID.randomUUID();
-        when(academicCache.getSemesterSummaries(studentId)).thenReturn(null);
+        loadThroughCache(studentId);
         when(semesterAcademicRecordRepository.findByStudentIdOrderByYearDescSemesterDesc(studentId))
                 .thenReturn(List.of());
 
         List<SemesterSummaryResponse> result = semesterAcademicRecordService.getSemesterSummaries(studentId);
 
         assertThat(result).isEmpty();
-        verify(academicCache, never()).setSemesterSummaries(any(UUID.class), any(List.class));
+    }
+
+    private void loadThroughCache(UUID studentId) {
+        when(academicCache.getOrLoadSemesterSummaries(eq(studentId), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<List<SemesterSummaryResponse>>>getArgument(1).get());
     }
 
     private SemesterAcademicRecord semesterRecord(int year, int semester) {
@@ -0,0 +1,246 @@
+package com.chukchuk.haksa.domain.academic.record.service;
+
+import com.chukchuk.haksa.support.IndexAuditDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * student_courses 파티션 전환(V16 + StudentCoursePartitionService) 점검
+ *
+ * - V16 이전 row는 옮겨 적는 트리거를 잠시 끄고 넣어 흉내 낸다. 배치 크기보다 많이 넣어 여러 배치를 돈다.
+ * - 백필, 트리거, 교체, 되돌리기, 정리를 차례로 실행하고 두 테이블의 row가 같은지, id가 유일한지, 파티션 하나만 읽는지 본다.
+ * - 한 트랜잭션 안에서 실행하고 끝에서 롤백한다.
+ */
+@Tag("index-audit")
+@EnabledIfEnvironmentVariable(named = IndexAuditDatabase.URL_ENV, matches = ".+")
+class StudentCoursePartitionServicePostgresTest {
+
+    private static final long DEPARTMENT_ID = 2_000_905L;
+    private static final Pattern PARTITION_NAME = Pattern.compile("student_courses_p\\d+");
+
+    private Connection connection;
+    private JdbcTemplate jdbcTemplate;
+    private StudentCoursePartitionService service;
+
+    private long offeringId;
+    private UUID studentA;
+    private UUID studentB;
+
+    @BeforeAll
+    static void migrate() {
+        IndexAuditDatabase.migrate();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = IndexAuditDatabase.connect();
+        connection.setAutoCommit(false);
+        jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        service = new StudentCoursePartitionService(jdbcTemplate);
+
+        jdbcTemplate.update("""
+                INSERT INTO departments (id, department_code, established_department_name)
+                VALUES (?, 'PARTITION-PG', '파티션학과')
+                """, DEPARTMENT_ID);
+        long courseId = jdbcTemplate.queryForObject(
+                "INSERT INTO courses (course_code, course_name) VALUES ('PARTITION-PG', '파티션과목') RETURNING id", Long.class);
+        offeringId = jdbcTemplate.queryForObject("""
+                INSERT INTO course_offerings (year, semester, points, course_id)
+                VALUES (2025, 10, 3, ?) RETURNING id
+                """, Long.class, courseId);
+        studentA = insertStudent("partition-a");
+        studentB = insertStudent("partition-b");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try {
+            connection.rollback();
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("백필과 트리거로 채운 파티션 테이블로 교체하고, id를 유지한 채 되돌린다")
+    void backfillSwapRollback_keepsRowsAndIds() {
+        insertLegacyRows(studentA, StudentCoursePartitionService.BATCH_SIZE + 1);
+
+        assertThat(service.backfill()).isGreaterThanOrEqualTo(StudentCoursePartitionService.BATCH_SIZE + 1);
+        assertThat(service.backfill()).isZero();
+
+        long inserted = insertCourse(studentB, "B0");
+        jdbcTemplate.update("UPDATE student_courses SET grade = 'A+', is_retake_deleted = TRUE WHERE id = ?", inserted);
+        long deleted = insertCourse(studentB, "C0");
+        jdbcTemplate.update("DELETE FROM student_courses WHERE id = ?", deleted);
+        assertThat(difference("student_courses", "student_courses_partitioned")).isZero();
+
+        // 백필이 예전 스냅숏으로 넣은 row, 값이 어긋난 row, 트리거 없이 들어온 row
+        jdbcTemplate.update("""
+                INSERT INTO student_courses_partitioned (id, grade, points, is_retake_deleted, offering_id, student_id)
+                VALUES (-1, 'A0', 3, FALSE, ?, ?)
+                """, offeringId, studentB);
+        jdbcTemplate.update("UPDATE student_courses_partitioned SET grade = 'F' WHERE id = ?", inserted);
+        insertLegacyRows(studentB, 1);
+
+        assertThat(service.swap()).isEqualTo(4);
+
+        assertThat(relkind("student_courses")).isEqualTo("p");
+        assertThat(partitionCount("student_courses")).isEqualTo(16);
+        assertThat(relkind("student_courses_partitioned")).isNull();
+        assertThat(difference("student_courses", "student_courses_unpartitioned")).isZero();
+        assertThat(foreignKeyCount("student_courses")).isEqualTo(2);
+        assertThat(foreignKeyCount("student_courses_unpartitioned")).isZero();
+        assertThat(indexNames("student_courses"))
+                .contains("pk_student_courses", "idx_student_courses_student_id", "idx_student_courses_student_valid");
+        assertThat(scannedPartitions(studentA)).isEqualTo(1);
+
+        long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM student_courses", Long.class);
+        long generated = insertCourse(studentA, "B+");
+        long overridden = jdbcTemplate.queryForObject("""
+                INSERT INTO student_courses (id, grade, points, is_retake, original_score, is_retake_deleted, offering_id, student_id)
+                VALUES (?, 'B0', 3, FALSE, 80, FALSE, ?, ?)
+                RETURNING id
+                """, Long.class, inserted, offeringId, studentA);
+        assertThat(generated).isGreaterThan(maxId);
+        assertThat(overridden).isGreaterThan(generated);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) = COUNT(DISTINCT id) FROM student_courses", Boolean.class)).isTrue();
+        jdbcTemplate.update("UPDATE student_courses SET grade = 'D0' WHERE id = ? AND student_id = ?", generated, studentA);
+        assertThat(difference("student_courses", "student_courses_unpartitioned")).isZero();
+
+        assertThat(service.rollback()).isZero();
+
+        assertThat(relkind("student_courses")).isEqualTo("r");
+        assertThat(relkind("student_courses_unpartitioned")).isNull();
+        assertThat(foreignKeyCount("student_courses")).isEqualTo(2);
+        assertThat(foreignKeyCount("student_courses_partitioned")).isZero();
+        assertThat(difference("student_courses", "student_courses_partitioned")).isZero();
+        assertThat(insertCourse(studentB, "A0")).isGreaterThan(overridden);
+        assertThat(difference("student_courses", "student_courses_partitioned")).isZero();
+    }
+
+    @Test
+    @DisplayName("정리하면 이전 테이블과 역방향 트리거가 없어지고, 이후 변경은 파티션 테이블에만 남는다")
+    void swapCleanup_dropsUnpartitionedTable() {
+        insertLegacyRows(studentA, 3);
+        service.backfill();
+        service.swap();
+
+        assertThat(service.cleanup()).isGreaterThanOrEqualTo(3);
+
+        assertThat(relkind("student_courses_unpartitioned")).isNull();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT to_regprocedure('public.student_courses_mirror_to_unpartitioned()') IS NULL", Boolean.class))
+                .isTrue();
+        long id = insertCourse(studentA, "A0");
+        assertThat(jdbcTemplate.update("DELETE FROM student_courses WHERE id = ? AND student_id = ?", id, studentA))
+                .isEqualTo(1);
+        assertThatThrownBy(service::backfill).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("복사되지 않은 row가 많으면 잠그기 전에 교체를 거부한다")
+    void swap_refusesWhenBackfillIsBehind() {
+        insertLegacyRows(studentA, StudentCoursePartitionService.MAX_SWAP_CATCH_UP + 1);
+
+        assertThatThrownBy(service::swap)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("STUDENT_COURSES_PARTITION_BACKFILL");
+        assertThat(relkind("student_courses")).isEqualTo("r");
+    }
+
+    /**
+     * V16 전에 있던 row처럼, 옮겨 적는 트리거를 끄고 넣는다.
+     */
+    private void insertLegacyRows(UUID studentId, int rows) {
+        jdbcTemplate.execute("ALTER TABLE student_courses DISABLE TRIGGER student_courses_mirror_to_partitioned");
+        jdbcTemplate.update("""
+                INSERT INTO student_courses (grade, points, is_retake, original_score, is_retake_deleted, offering_id, student_id)
+                SELECT 'A0', 3, FALSE, 90, g % 20 = 0, ?, ?
+                FROM generate_series(1, ?) g
+                """, offeringId, studentId, rows);
+        jdbcTemplate.execute("ALTER TABLE student_courses ENABLE TRIGGER student_courses_mirror_to_partitioned");
+    }
+
+    private long insertCourse(UUID studentId, String grade) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO student_courses (grade, points, is_retake, original_score, is_retake_deleted, offering_id, student_id)
+                VALUES (?, 3, FALSE, 85, FALSE, ?, ?)
+                RETURNING id
+                """, Long.class, grade, offeringId, studentId);
+    }
+
+    private UUID insertStudent(String prefix) {
+        UUID userId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, email, is_deleted, portal_connected) VALUES (?, ?, FALSE, TRUE)",
+                userId, prefix + "@haksa.com");
+        jdbcTemplate.update("""
+                INSERT INTO students (student_id, student_code, reconnection_required, admission_year, department_id, user_id)
+                VALUES (?, ?, FALSE, 2024, ?, ?)
+                """, studentId, prefix.toUpperCase(), DEPARTMENT_ID, userId);
+        return studentId;
+    }
+
+    /**
+     * 한쪽에만 있거나 값이 다른 row 수 (양방향)
+     */
+    private int difference(String left, String right) {
+        String columns = "id, grade, points, is_retake, original_score, created_at, is_retake_deleted, offering_id, student_id";
+        return jdbcTemplate.queryForObject("""
+                SELECT (SELECT COUNT(*) FROM (SELECT %1$s FROM %2$s EXCEPT ALL SELECT %1$s FROM %3$s) l)
+                     + (SELECT COUNT(*) FROM (SELECT %1$s FROM %3$s EXCEPT ALL SELECT %1$s FROM %2$s) r)
+                """.formatted(columns, left, right), Integer.class);
+    }
+
+    private String relkind(String table) {
+        return jdbcTemplate.queryForObject(
+                "SELECT (SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?))", String.class, "public." + table);
+    }
+
+    private int partitionCount(String table) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_inherits WHERE inhparent = to_regclass(?)", Integer.class, "public." + table);
+    }
+
+    private int foreignKeyCount(String table) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_constraint WHERE conrelid = to_regclass(?) AND contype = 'f'",
+                Integer.class, "public." + table);
+    }
+
+    private List<String> indexNames(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE schemaname = 'public' AND tablename = ?", String.class, table);
+    }
+
+    /**
+     * 학생 한 명의 수강 조회 계획에 나오는 파티션 수
+     */
+    private long scannedPartitions(UUID studentId) {
+        return jdbcTemplate.queryForList(
+                        "EXPLAIN SELECT * FROM student_courses WHERE student_id = '" + studentId + "'", String.class)
+                .stream()
+                .flatMap(line -> PARTITION_NAME.matcher(line).results())
+                .map(MatchResult::group)
+                .distinct()
+                .count();
+    }
+}
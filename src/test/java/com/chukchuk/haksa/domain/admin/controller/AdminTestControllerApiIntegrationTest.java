@@ -137,20 +137,23 @@ class AdminTestControllerApiIntegrationTest extends ApiControllerWebMvcTestSuppo
                 null,
                 "컴퓨터학과"
         );
-        when(optionService.searchCourseOfferings(any())).thenReturn(List.of(option));
+        when(optionService.searchCourseOfferings(any()))
+                .thenReturn(new AdminTestDto.CourseOfferingPage(List.of(option), "next-cursor"));
 
         mockMvc.perform(get("/api/admin/course-offerings")
                         .param("keyword", "자료")
                         .param("area", "전핵")
                         .param("year", "2024")
                         .param("semester", "10")
-                        .param("departmentId", "1"))
+                        .param("departmentId", "1")
+                        .param("size", "20"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data[0].offeringId").value(10))
-                .andExpect(jsonPath("$.data[0].courseCode").value("CSE101"))
-                .andExpect(jsonPath("$.data[0].courseName").value("자료구조"))
-                .andExpect(jsonPath("$.data[0].area").value("전핵"));
+                .andExpect(jsonPath("$.data.items[0].offeringId").value(10))
+                .andExpect(jsonPath("$.data.items[0].courseCode").value("CSE101"))
+                .andExpect(jsonPath("$.data.items[0].courseName").value("자료구조"))
+                .andExpect(jsonPath("$.data.items[0].area").value("전핵"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"));
     }
 
     @Test
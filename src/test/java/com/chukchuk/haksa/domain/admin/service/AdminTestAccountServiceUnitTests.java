@@ -7,7 +7,9 @@ import com.chukchuk.haksa.domain.auth.service.RefreshTokenService;
 import com.chukchuk.haksa.domain.department.model.Department;
 import com.chukchuk.haksa.domain.department.repository.DepartmentRepository;
 import com.chukchuk.haksa.domain.student.model.Student;
+import com.chukchuk.haksa.domain.student.repository.StudentDeletionRepository.DeletedUser;
 import com.chukchuk.haksa.domain.student.repository.StudentRepository;
+import com.chukchuk.haksa.domain.student.service.StudentDeletionService;
 import com.chukchuk.haksa.domain.user.model.User;
 import com.chukchuk.haksa.domain.user.repository.UserRepository;
 import com.chukchuk.haksa.global.security.service.JwtProvider;
@@ -24,6 +26,7 @@ import org.springframework.data.domain.Pageable;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,6 +51,9 @@ class AdminTestAccountServiceUnitTests {
     @Mock
     private RefreshTokenService refreshTokenService;
 
+    @Mock
+    private StudentDeletionService studentDeletionService;
+
     @InjectMocks
     private AdminTestAccountService accountService;
 
@@ -145,4 +151,20 @@ class AdminTestAccountServiceUnitTests {
         assertThat(userCaptor.getValue().getConnectedAt()).isNull();
         assertThat(userCaptor.getValue().getLastSyncedAt()).isNull();
     }
+
+    @Test
+    @DisplayName("테스트 계정 일괄 삭제는 test_ 이메일 계정을 한 번에 삭제 서비스로 넘긴다")
+    void deleteTestUsers_deletesAllTestAccountsAtOnce() {
+        List<UUID> userIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(userRepository.findIdsByEmailLike("test\\_%@cchaksa.dev")).thenReturn(userIds);
+        when(studentDeletionService.deleteUsers(userIds)).thenReturn(List.of(
+                new DeletedUser(userIds.get(0), UUID.randomUUID()),
+                new DeletedUser(userIds.get(1), null)
+        ));
+
+        AdminTestDto.DeleteTestUsersResponse response = accountService.deleteTestUsers();
+
+        assertThat(response.deletedUserCount()).isEqualTo(2);
+        verify(studentDeletionService).deleteUsers(userIds);
+    }
 }
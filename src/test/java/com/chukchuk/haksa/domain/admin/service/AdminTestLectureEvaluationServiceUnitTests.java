@@ -15,6 +15,7 @@ import com.chukchuk.haksa.domain.department.model.Department;
 import com.chukchuk.haksa.domain.lectureevaluations.model.CourseEvaluation;
 import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationRepository;
 import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationTagRepository;
+import com.chukchuk.haksa.domain.lectureevaluations.service.CourseEvaluationStatsService;
 import com.chukchuk.haksa.domain.professor.model.Professor;
 import com.chukchuk.haksa.domain.student.model.GradeType;
 import com.chukchuk.haksa.domain.student.model.Student;
@@ -74,6 +75,9 @@ class AdminTestLectureEvaluationServiceUnitTests {
     @Mock
     private AcademicCache academicCache;
 
+    @Mock
+    private CourseEvaluationStatsService courseEvaluationStatsService;
+
     @InjectMocks
     private AdminTestLectureEvaluationService service;
 
@@ -101,6 +105,7 @@ class AdminTestLectureEvaluationServiceUnitTests {
                 .deleteByStudentIdAndYearAndSemester(TARGET_STUDENT_ID, TARGET_YEAR, TARGET_SEMESTER);
         verify(semesterAcademicRecordRepository, never()).save(any());
         verify(studentCourseRepository, never()).saveAll(any());
+        verify(courseEvaluationStatsService).rebuildSemester(TARGET_YEAR, TARGET_SEMESTER);
         verify(academicCache).deleteAllByStudentId(TARGET_STUDENT_ID);
     }
 
@@ -0,0 +1,139 @@
+package com.chukchuk.haksa.domain.admin.service;
+
+import com.chukchuk.haksa.domain.admin.dto.AdminTestDto;
+import com.chukchuk.haksa.domain.course.model.Course;
+import com.chukchuk.haksa.domain.course.model.CourseOffering;
+import com.chukchuk.haksa.domain.course.model.EvaluationType;
+import com.chukchuk.haksa.domain.course.model.FacultyDivision;
+import com.chukchuk.haksa.domain.course.repository.CourseOfferingRepository;
+import com.chukchuk.haksa.domain.course.repository.CourseRepository;
+import com.chukchuk.haksa.domain.department.model.Department;
+import com.chukchuk.haksa.domain.department.repository.DepartmentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AdminTestOptionServiceIntegrationTest {
+
+    private static final int YEAR = 2031;
+
+    @Autowired
+    private AdminTestOptionService optionService;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private CourseOfferingRepository courseOfferingRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Department department;
+    private Long databaseSpring;
+    private Long databaseFall;
+    private Long databaseLab;
+    private Long advancedDatabase;
+
+    @BeforeEach
+    void setUp() {
+        department = departmentRepository.save(new Department("QZDEPT", "퀴즈 검색학과"));
+        Course database = courseRepository.save(new Course("QZ101", "데이터베이스"));
+        Course lab = courseRepository.save(new Course("QZ1010", "데이터베이스 실습"));
+        Course advanced = courseRepository.save(new Course("ZZ900", "고급 데이터베이스"));
+        courseRepository.save(new Course("QZ200", "자료구조"));
+
+        databaseSpring = offer(database, 10).getId();
+        databaseFall = offer(database, 20).getId();
+        databaseLab = offer(lab, 10).getId();
+        advancedDatabase = offer(advanced, 10).getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("강의 후보 검색은 띄어쓰기와 무관하게 찾고 과목명 접두어 → 포함 → 최신 학기 순으로 정렬한다")
+    void searchCourseOfferings_ranksNamePrefixBeforeContains() {
+        AdminTestDto.CourseOfferingPage page = optionService.searchCourseOfferings(
+                new AdminTestDto.CourseOfferingSearchRequest("데이터 베이스", null, YEAR, null, null)
+        );
+
+        assertThat(page.items())
+                .extracting(AdminTestDto.CourseOfferingOption::offeringId)
+                .containsExactly(databaseFall, databaseSpring, databaseLab, advancedDatabase);
+        assertThat(page.items().get(0).departmentName()).isEqualTo("퀴즈 검색학과");
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("학수번호가 정확히 일치하는 과목이 접두어만 일치하는 과목보다 먼저 나온다")
+    void searchCourseOfferings_ranksExactCodeFirst() {
+        AdminTestDto.CourseOfferingPage page = optionService.searchCourseOfferings(
+                new AdminTestDto.CourseOfferingSearchRequest("qz101", null, YEAR, null, null)
+        );
+
+        assertThat(page.items())
+                .extracting(AdminTestDto.CourseOfferingOption::courseCode)
+                .containsExactly("QZ101", "QZ101", "QZ1010");
+    }
+
+    @Test
+    @DisplayName("커서로 한 건씩 넘겨도 한 번에 조회한 순서와 같은 결과를 중복 없이 돌려준다")
+    void searchCourseOfferings_keysetPagesMatchSinglePage() {
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            AdminTestDto.CourseOfferingPage page = optionService.searchCourseOfferings(
+                    new AdminTestDto.CourseOfferingSearchRequest("데이터베이스", null, YEAR, null, null, cursor, 1)
+            );
+            page.items().forEach(item -> paged.add(item.offeringId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(paged).containsExactly(databaseFall, databaseSpring, databaseLab, advancedDatabase);
+    }
+
+    @Test
+    @DisplayName("학과 검색은 띄어쓰기를 무시하고 학과명으로 찾는다")
+    void searchDepartments_ignoresWhitespace() {
+        List<AdminTestDto.DepartmentOption> departments = optionService.searchDepartments("퀴즈검색");
+
+        assertThat(departments)
+                .extracting(AdminTestDto.DepartmentOption::id)
+                .containsExactly(department.getId());
+    }
+
+    private CourseOffering offer(Course course, int semester) {
+        return courseOfferingRepository.save(new CourseOffering(
+                YEAR * 10 + semester,
+                false,
+                YEAR,
+                semester,
+                "퀴즈 검색학과",
+                "01",
+                "월1",
+                null,
+                3,
+                EvaluationType.ABSOLUTE,
+                FacultyDivision.전선,
+                course,
+                null,
+                department,
+                null
+        ));
+    }
+}
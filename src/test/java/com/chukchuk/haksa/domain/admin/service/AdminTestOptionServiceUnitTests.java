@@ -2,15 +2,15 @@
 package com.chukchuk.haksa.domain.admin.service;
 
 import com.chukchuk.haksa.domain.admin.dto.AdminTestDto;
-import com.chukchuk.haksa.domain.course.model.Course;
-import com.chukchuk.haksa.domain.course.model.CourseOffering;
 import com.chukchuk.haksa.domain.course.model.FacultyDivision;
-import com.chukchuk.haksa.domain.course.repository.CourseOfferingRepository;
+import com.chukchuk.haksa.domain.course.repository.CourseOfferingSearchRepository;
 import com.chukchuk.haksa.domain.department.model.Department;
 import com.chukchuk.haksa.domain.department.repository.DepartmentRepository;
+import com.chukchuk.haksa.domain.department.repository.DepartmentSearchRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,7 +20,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,7 +32,10 @@ class AdminTestOptionServiceUnitTests {
     private DepartmentRepository departmentRepository;
 
     @Mock
-    private CourseOfferingRepository courseOfferingRepository;
+    private DepartmentSearchRepository departmentSearchRepository;
+
+    @Mock
+    private CourseOfferingSearchRepository courseOfferingSearchRepository;
 
     @InjectMocks
     private AdminTestOptionService optionService;
@@ -51,10 +55,10 @@ class AdminTestOptionServiceUnitTests {
     }
 
     @Test
-    @DisplayName("학과 검색 시 keyword가 있으면 학과 코드와 학과명으로 검색한다")
+    @DisplayName("학과 검색 시 keyword가 있으면 정규화한 검색어로 학과 코드와 학과명을 검색한다")
     void searchDepartments_withKeyword_returnsMatchedDepartments() {
-        Department department = new Department("CSE", "컴퓨터학과");
-        when(departmentRepository.searchAdminDepartments("컴퓨터")).thenReturn(List.of(department));
+        when(departmentSearchRepository.search("컴퓨터"))
+                .thenReturn(List.of(new DepartmentSearchRepository.Match(1L, "CSE", "컴퓨터학과", 2)));
 
         List<AdminTestDto.DepartmentOption> response = optionService.searchDepartments(" 컴퓨터 ");
 
@@ -77,47 +81,73 @@ class AdminTestOptionServiceUnitTests {
     }
 
     @Test
-    @DisplayName("강의 후보 검색 시 개설강의 정보를 프론트 선택지로 변환한다")
+    @DisplayName("강의 후보 검색 시 검색 결과를 프론트 선택지로 변환한다")
     void searchCourseOfferings_returnsCourseOptions() {
-        CourseOffering offering = mock(CourseOffering.class);
-        Course course = new Course("CSE101", "자료구조");
         Department department = new Department("CSE", "컴퓨터학과");
-        when(offering.getId()).thenReturn(10L);
-        when(offering.getCourse()).thenReturn(course);
-        when(offering.getYear()).thenReturn(2024);
-        when(offering.getSemester()).thenReturn(10);
-        when(offering.getPoints()).thenReturn(3);
-        when(offering.getFacultyDivisionName()).thenReturn(FacultyDivision.전핵);
-        when(offering.getRawFacultyDivisionName()).thenReturn(null);
-        when(offering.getDepartment()).thenReturn(department);
         when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
-        when(courseOfferingRepository.searchAdminCandidates("자료", FacultyDivision.전핵, 2024, 10, "컴퓨터학과"))
-                .thenReturn(List.of(offering));
+        when(courseOfferingSearchRepository.search(any())).thenReturn(List.of(candidate(10L, "자료구조")));
 
-        List<AdminTestDto.CourseOfferingOption> response = optionService.searchCourseOfferings(
-                new AdminTestDto.CourseOfferingSearchRequest("자료", FacultyDivision.전핵, 2024, 10, 1L)
+        AdminTestDto.CourseOfferingPage response = optionService.searchCourseOfferings(
+                new AdminTestDto.CourseOfferingSearchRequest("자료 구조", FacultyDivision.전핵, 2024, 10, 1L)
         );
 
-        assertThat(response).hasSize(1);
-        assertThat(response.get(0).offeringId()).isEqualTo(10L);
-        assertThat(response.get(0).courseCode()).isEqualTo("CSE101");
-        assertThat(response.get(0).courseName()).isEqualTo("자료구조");
-        assertThat(response.get(0).area()).isEqualTo(FacultyDivision.전핵);
-        assertThat(response.get(0).departmentName()).isEqualTo("컴퓨터학과");
-        verify(courseOfferingRepository).searchAdminCandidates("자료", FacultyDivision.전핵, 2024, 10, "컴퓨터학과");
+        assertThat(response.items()).hasSize(1);
+        assertThat(response.items().get(0).offeringId()).isEqualTo(10L);
+        assertThat(response.items().get(0).courseCode()).isEqualTo("CSE101");
+        assertThat(response.items().get(0).courseName()).isEqualTo("자료구조");
+        assertThat(response.items().get(0).area()).isEqualTo(FacultyDivision.전핵);
+        assertThat(response.items().get(0).departmentName()).isEqualTo("컴퓨터학과");
+        assertThat(response.nextCursor()).isNull();
+
+        ArgumentCaptor<CourseOfferingSearchRepository.Query> query = ArgumentCaptor.forClass(CourseOfferingSearchRepository.Query.class);
+        verify(courseOfferingSearchRepository).search(query.capture());
+        assertThat(query.getValue()).isEqualTo(new CourseOfferingSearchRepository.Query(
+                "자료구조", FacultyDivision.전핵, 2024, 10, "컴퓨터학과", null, 51));
     }
 
     @Test
     @DisplayName("강의 후보 검색 시 학과 ID가 없으면 학과 필터 없이 검색한다")
     void searchCourseOfferings_withoutDepartmentId_usesNoDepartmentFilter() {
-        when(courseOfferingRepository.searchAdminCandidates(null, FacultyDivision.선교, null, null, null))
-                .thenReturn(List.of());
+        when(courseOfferingSearchRepository.search(any())).thenReturn(List.of());
 
         optionService.searchCourseOfferings(
                 new AdminTestDto.CourseOfferingSearchRequest(" ", FacultyDivision.선교, null, null, null)
         );
 
-        verify(courseOfferingRepository).searchAdminCandidates(null, FacultyDivision.선교, null, null, null);
+        verify(courseOfferingSearchRepository).search(new CourseOfferingSearchRepository.Query(
+                null, FacultyDivision.선교, null, null, null, null, 51));
+    }
+
+    @Test
+    @DisplayName("강의 후보 검색 결과가 페이지 크기를 넘으면 마지막 행 커서를 돌려주고, 그 커서로 다음 페이지를 이어서 조회한다")
+    void searchCourseOfferings_returnsNextCursorAndResumesFromIt() {
+        when(courseOfferingSearchRepository.search(any()))
+                .thenReturn(List.of(candidate(10L, "자료구조"), candidate(11L, "자료구조:실습"), candidate(12L, "자료분석")));
+
+        AdminTestDto.CourseOfferingPage first = optionService.searchCourseOfferings(
+                new AdminTestDto.CourseOfferingSearchRequest("자료", null, null, null, null, null, 2)
+        );
+
+        assertThat(first.items()).extracting(AdminTestDto.CourseOfferingOption::offeringId).containsExactly(10L, 11L);
+        assertThat(first.nextCursor()).isNotNull();
+
+        optionService.searchCourseOfferings(
+                new AdminTestDto.CourseOfferingSearchRequest("자료", null, null, null, null, first.nextCursor(), 2)
+        );
+
+        ArgumentCaptor<CourseOfferingSearchRepository.Query> query = ArgumentCaptor.forClass(CourseOfferingSearchRepository.Query.class);
+        verify(courseOfferingSearchRepository, times(2)).search(query.capture());
+        assertThat(query.getAllValues().get(1).after())
+                .isEqualTo(new CourseOfferingSearchRepository.Cursor(3, 2024, 10, "자료구조:실습", 11L));
+        assertThat(query.getAllValues().get(1).limit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("강의 후보 검색 시 해석할 수 없는 커서는 잘못된 요청으로 처리한다")
+    void searchCourseOfferings_withMalformedCursor_throwsInvalidArgument() {
+        assertThatThrownBy(() -> optionService.searchCourseOfferings(
+                new AdminTestDto.CourseOfferingSearchRequest("자료", null, null, null, null, "not-a-cursor", null)
+        )).hasMessage("잘못된 요청입니다.");
     }
 
     @Test
@@ -129,4 +159,19 @@ class AdminTestOptionServiceUnitTests {
                 new AdminTestDto.CourseOfferingSearchRequest(null, null, null, null, 999L)
         )).hasMessage("잘못된 요청입니다.");
     }
+
+    private CourseOfferingSearchRepository.Candidate candidate(Long offeringId, String courseName) {
+        return new CourseOfferingSearchRepository.Candidate(
+                offeringId,
+                "CSE101",
+                courseName,
+                2024,
+                10,
+                3,
+                FacultyDivision.전핵,
+                null,
+                "컴퓨터학과",
+                3
+        );
+    }
 }
@@ -0,0 +1,178 @@
+package com.chukchuk.haksa.domain.auth.repository;
+
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRotationRepository.RefreshTokenRotation;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRotationRepository.RefreshTokenRotationCommand;
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import com.chukchuk.haksa.support.IndexAuditDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * refresh token 회전 PostgreSQL 경로(UPDATE ... RETURNING) 점검
+ *
+ * - H2 테스트는 조회 후 저장하는 대체 경로만 타므로, indexAudit 태스크의 PostgreSQL에서 단일 문장 회전을 실행한다.
+ * - 동시 회전은 연결을 나눠 실제로 커밋해야 하므로, 테스트마다 만든 사용자와 세션을 끝에서 지운다.
+ */
+@Tag("index-audit")
+@EnabledIfEnvironmentVariable(named = IndexAuditDatabase.URL_ENV, matches = ".+")
+class RefreshTokenRotationRepositoryPostgresTest {
+
+    private static final Duration RENEWAL_THRESHOLD = Duration.ofDays(7);
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(IndexAuditDatabase.dataSource());
+    private final RefreshTokenRotationRepositoryImpl repository =
+            new RefreshTokenRotationRepositoryImpl(jdbcTemplate, new DatabaseDialect(jdbcTemplate));
+
+    private UUID userId;
+    private String sessionId;
+
+    @BeforeAll
+    static void migrate() {
+        IndexAuditDatabase.migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        sessionId = "rotation-" + userId;
+        jdbcTemplate.update("INSERT INTO users (id, email, is_deleted, portal_connected) VALUES (?, ?, FALSE, TRUE)",
+                userId, "rotation@haksa.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM refresh_token WHERE user_id = ?", userId.toString());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("만료가 가까운 토큰은 새 해시와 만료로 바꾸고 사용자 email을 함께 돌려준다")
+    void rotate_renewsTokenNearExpiry() {
+        saveToken("presented", Duration.ofDays(1));
+        Date renewedExpiry = inFuture(Duration.ofDays(30));
+
+        Optional<RefreshTokenRotation> rotation = repository.rotate(command("presented", "renewed", renewedExpiry));
+
+        assertThat(rotation).contains(new RefreshTokenRotation("rotation@haksa.com", true));
+        assertThat(storedHash()).isEqualTo("renewed");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT expiry FROM refresh_token WHERE session_id = ?", Timestamp.class, sessionId).getTime())
+                .isEqualTo(renewedExpiry.getTime());
+    }
+
+    @Test
+    @DisplayName("만료가 충분히 남은 토큰은 바꾸지 않고 요청 토큰 해시를 유지한다")
+    void rotate_keepsTokenFarFromExpiry() {
+        saveToken("presented", Duration.ofDays(20));
+
+        Optional<RefreshTokenRotation> rotation =
+                repository.rotate(command("presented", "renewed", inFuture(Duration.ofDays(30))));
+
+        assertThat(rotation).contains(new RefreshTokenRotation("rotation@haksa.com", false));
+        assertThat(storedHash()).isEqualTo("presented");
+    }
+
+    @Test
+    @DisplayName("회전으로 폐기된 토큰을 다시 쓰면 아무것도 바꾸지 않고 빈 값을 돌려준다")
+    void rotate_rejectsRevokedToken() {
+        saveToken("presented", Duration.ofDays(1));
+        assertThat(repository.rotate(command("presented", "renewed", inFuture(Duration.ofDays(30))))).isPresent();
+
+        Optional<RefreshTokenRotation> reused =
+                repository.rotate(command("presented", "stolen", inFuture(Duration.ofDays(30))));
+
+        assertThat(reused).isEmpty();
+        assertThat(storedHash()).isEqualTo("renewed");
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 동시에 회전하면 먼저 커밋한 쪽만 성공하고 나중 쪽은 바뀐 행을 다시 확인해 0건이 된다")
+    void rotate_allowsOnlyOneConcurrentRotation() throws Exception {
+        saveToken("presented", Duration.ofDays(1));
+        Date renewedExpiry = inFuture(Duration.ofDays(30));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try (Connection first = IndexAuditDatabase.connect()) {
+            first.setAutoCommit(false);
+            JdbcTemplate firstTemplate = new JdbcTemplate(new SingleConnectionDataSource(first, true));
+            RefreshTokenRotationRepositoryImpl firstRepository =
+                    new RefreshTokenRotationRepositoryImpl(firstTemplate, new DatabaseDialect(firstTemplate));
+
+            Optional<RefreshTokenRotation> winner = firstRepository.rotate(command("presented", "first", renewedExpiry));
+            Future<Optional<RefreshTokenRotation>> second =
+                    executor.submit(() -> repository.rotate(command("presented", "second", renewedExpiry)));
+            awaitRowLockWait();
+            first.commit();
+
+            assertThat(winner).contains(new RefreshTokenRotation("rotation@haksa.com", true));
+            assertThat(second.get(10, TimeUnit.SECONDS)).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(storedHash()).isEqualTo("first");
+    }
+
+    /**
+     * 두 번째 회전이 첫 번째 트랜잭션의 행 잠금을 기다리기 시작할 때까지 기다린다.
+     */
+    private void awaitRowLockWait() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM pg_stat_activity
+                    WHERE wait_event_type = 'Lock' AND query LIKE 'UPDATE refresh_token rt%'
+                    """, Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("second rotation never waited for the row lock");
+    }
+
+    private void saveToken(String tokenHash, Duration expiresIn) {
+        jdbcTemplate.update("INSERT INTO refresh_token (session_id, user_id, token_hash, expiry) VALUES (?, ?, ?, ?)",
+                sessionId, userId.toString(), tokenHash, new Timestamp(inFuture(expiresIn).getTime()));
+    }
+
+    private String storedHash() {
+        return jdbcTemplate.queryForObject(
+                "SELECT token_hash FROM refresh_token WHERE session_id = ?", String.class, sessionId);
+    }
+
+    private RefreshTokenRotationCommand command(String presentedHash, String renewedHash, Date renewedExpiry) {
+        return new RefreshTokenRotationCommand(
+                sessionId,
+                userId,
+                presentedHash,
+                "raw-" + presentedHash,
+                renewedHash,
+                renewedExpiry,
+                inFuture(RENEWAL_THRESHOLD)
+        );
+    }
+
+    private static Date inFuture(Duration duration) {
+        return new Date(System.currentTimeMillis() + duration.toMillis());
+    }
+}
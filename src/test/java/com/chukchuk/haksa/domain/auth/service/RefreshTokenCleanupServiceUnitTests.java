@@ -0,0 +1,84 @@
+package com.chukchuk.haksa.domain.auth.service;
+
+import com.chukchuk.haksa.domain.auth.service.RefreshTokenCleanupService.RefreshTokenCleanupResult;
+import com.chukchuk.haksa.domain.auth.service.RefreshTokenCleanupTxService.RefreshTokenCleanupChunk;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenCleanupServiceUnitTests {
+
+    @Mock
+    private RefreshTokenCleanupTxService cleanupTxService;
+
+    @InjectMocks
+    private RefreshTokenCleanupService cleanupService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cleanupService, "chunkSize", 100);
+        ReflectionTestUtils.setField(cleanupService, "timeBudgetMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("청크가 가득 차지 않을 때까지 같은 cutoff로 반복 삭제한다")
+    void cleanup_repeatsChunksUntilDrained() {
+        when(cleanupTxService.deleteNextChunk(any(Date.class), eq(100)))
+                .thenReturn(new RefreshTokenCleanupChunk(100, 100))
+                .thenReturn(new RefreshTokenCleanupChunk(100, 99))
+                .thenReturn(new RefreshTokenCleanupChunk(40, 40));
+
+        RefreshTokenCleanupResult result = cleanupService.cleanupExpiredTokens();
+
+        assertThat(result.deleted()).isEqualTo(239);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.completed()).isTrue();
+
+        ArgumentCaptor<Date> cutoffs = ArgumentCaptor.forClass(Date.class);
+        verify(cleanupTxService, times(3)).deleteNextChunk(cutoffs.capture(), eq(100));
+        assertThat(cutoffs.getAllValues()).containsOnly(cutoffs.getAllValues().get(0));
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘기면 남은 청크를 다음 실행으로 넘기고 미완료로 반환한다")
+    void cleanup_stopsWhenTimeBudgetExceeded() {
+        ReflectionTestUtils.setField(cleanupService, "timeBudgetMs", 0L);
+        when(cleanupTxService.deleteNextChunk(any(Date.class), eq(100)))
+                .thenReturn(new RefreshTokenCleanupChunk(100, 100));
+
+        RefreshTokenCleanupResult result = cleanupService.cleanupExpiredTokens();
+
+        assertThat(result.deleted()).isEqualTo(100);
+        assertThat(result.chunks()).isEqualTo(1);
+        assertThat(result.completed()).isFalse();
+        verify(cleanupTxService, times(1)).deleteNextChunk(any(Date.class), eq(100));
+    }
+
+    @Test
+    @DisplayName("청크 삭제 중 예외가 발생하면 호출자에게 전파한다")
+    void cleanup_propagatesException() {
+        when(cleanupTxService.deleteNextChunk(any(Date.class), eq(100)))
+                .thenThrow(new RuntimeException("db error"));
+
+        assertThatThrownBy(() -> cleanupService.cleanupExpiredTokens())
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("db error");
+    }
+}
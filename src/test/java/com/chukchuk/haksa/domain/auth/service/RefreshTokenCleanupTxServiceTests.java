@@ -0,0 +1,83 @@
+// 만료 토큰 keyset 청크 삭제와 체크포인트 재개를 H2에서 검증하는 테스트
+package com.chukchuk.haksa.domain.auth.service;
+
+import com.chukchuk.haksa.domain.auth.entity.RefreshToken;
+import com.chukchuk.haksa.domain.auth.entity.RefreshTokenCleanupCheckpoint;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenCleanupCheckpointRepository;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRepository;
+import com.chukchuk.haksa.domain.auth.service.RefreshTokenCleanupTxService.RefreshTokenCleanupChunk;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 테스트 DB는 Flyway 없이 스키마를 만들므로 V15 마이그레이션을 그대로 실행해 초기 행을 넣는다.
+@DataJpaTest
+@Import(RefreshTokenCleanupTxService.class)
+@Sql("/db/migration/V15__seed_refresh_token_cleanup_checkpoint.sql")
+class RefreshTokenCleanupTxServiceTests {
+
+    @Autowired
+    private RefreshTokenCleanupTxService cleanupTxService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RefreshTokenCleanupCheckpointRepository checkpointRepository;
+
+    @Test
+    @DisplayName("만료 토큰을 (expiry, session_id) 순서로 청크 단위 삭제하고 체크포인트를 남긴다")
+    void deleteNextChunk_deletesInKeysetOrderAndAdvancesCheckpoint() {
+        long base = System.currentTimeMillis() - 60_000;
+        refreshTokenRepository.save(token("s-3", base + 1));
+        refreshTokenRepository.save(token("s-1", base));
+        refreshTokenRepository.save(token("s-2", base));
+        refreshTokenRepository.save(token("alive", base + 120_000));
+        Date cutoff = new Date(base + 30_000);
+
+        RefreshTokenCleanupChunk first = cleanupTxService.deleteNextChunk(cutoff, 2);
+
+        assertThat(first.scanned()).isEqualTo(2);
+        assertThat(first.deleted()).isEqualTo(2);
+        assertThat(refreshTokenRepository.findAll())
+                .extracting(RefreshToken::getSessionId)
+                .containsExactlyInAnyOrder("s-3", "alive");
+        RefreshTokenCleanupCheckpoint checkpoint =
+                checkpointRepository.findById(RefreshTokenCleanupCheckpoint.DEFAULT_ID).orElseThrow();
+        assertThat(checkpoint.getCursorSessionId()).isEqualTo("s-2");
+
+        RefreshTokenCleanupChunk second = cleanupTxService.deleteNextChunk(cutoff, 2);
+
+        assertThat(second.scanned()).isEqualTo(1);
+        assertThat(refreshTokenRepository.findAll())
+                .extracting(RefreshToken::getSessionId)
+                .containsExactly("alive");
+        assertThat(checkpoint.getCursorSessionId()).isEqualTo("s-3");
+    }
+
+    @Test
+    @DisplayName("커서 이후에 남은 만료 토큰이 없으면 체크포인트를 처음으로 되돌린다")
+    void deleteNextChunk_resetsCheckpointWhenDrained() {
+        long base = System.currentTimeMillis() - 60_000;
+        refreshTokenRepository.save(token("s-1", base));
+        Date cutoff = new Date(base + 30_000);
+
+        cleanupTxService.deleteNextChunk(cutoff, 10);
+        RefreshTokenCleanupChunk drained = cleanupTxService.deleteNextChunk(cutoff, 10);
+
+        assertThat(drained.scanned()).isZero();
+        assertThat(checkpointRepository.findById(RefreshTokenCleanupCheckpoint.DEFAULT_ID).orElseThrow().hasCursor())
+                .isFalse();
+    }
+
+    private RefreshToken token(String sessionId, long expiryMillis) {
+        return new RefreshToken(sessionId, "user-" + sessionId, null, "hash-" + sessionId, new Date(expiryMillis));
+    }
+}
@@ -3,6 +3,9 @@ package com.chukchuk.haksa.domain.auth.service;
 import com.chukchuk.haksa.domain.auth.dto.AuthDto;
 import com.chukchuk.haksa.domain.auth.entity.RefreshToken;
 import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRepository;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRotationRepository;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRotationRepository.RefreshTokenRotation;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRotationRepository.RefreshTokenRotationCommand;
 import com.chukchuk.haksa.domain.user.model.User;
 import com.chukchuk.haksa.domain.user.repository.UserRepository;
 import com.chukchuk.haksa.global.exception.code.ErrorCode;
@@ -27,7 +30,6 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -47,6 +49,12 @@ class RefreshTokenServiceUnitTests {
     @Mock
     private RefreshTokenHasher refreshTokenHasher;
 
+    @Mock
+    private RefreshTokenRotationRepository refreshTokenRotationRepository;
+
+    @Mock
+    private RevokedRefreshTokenCache revokedRefreshTokenCache;
+
     @InjectMocks
     private RefreshTokenService refreshTokenService;
 
@@ -312,25 +320,109 @@ class RefreshTokenServiceUnitTests {
     }
 
     @Test
-    @DisplayName("만료 토큰 정리 작업은 삭제 쿼리를 호출한다")
-    void deletedExpiredTokens_executesDelete() {
-        when(refreshTokenRepository.deleteByExpiryBefore(any(Date.class))).thenReturn(3);
+    @DisplayName("단일 문장 재발급은 회전 결과가 갱신이면 미리 만든 refresh token을 반환하고 추가 조회하지 않는다")
+    void reissue_singleStatement_renewed_returnsCandidateToken() {
+        UUID userId = UUID.randomUUID();
+        String userIdText = userId.toString();
+        String sessionId = "session-1";
+        Date newExpiry = new Date(System.currentTimeMillis() + Duration.ofDays(14).toMillis());
+        Claims claims = sessionClaims(userIdText, sessionId);
+
+        when(refreshTokenRotationRepository.supportsSingleStatement()).thenReturn(true);
+        when(jwtProvider.parseToken("old-refresh")).thenReturn(claims);
+        when(refreshTokenHasher.hash("old-refresh")).thenReturn("old-hash");
+        when(jwtProvider.createRefreshToken(userIdText, sessionId))
+                .thenReturn(new AuthDto.RefreshTokenWithExpiry("new-refresh", newExpiry, sessionId));
+        when(refreshTokenHasher.hash("new-refresh")).thenReturn("new-hash");
+        when(refreshTokenRotationRepository.rotate(any(RefreshTokenRotationCommand.class)))
+                .thenReturn(Optional.of(new RefreshTokenRotation("user@example.com", true)));
+        when(jwtProvider.createAccessToken(userIdText, "user@example.com", "USER")).thenReturn("new-access");
+
+        AuthDto.RefreshResponse response = refreshTokenService.reissue("old-refresh");
+
+        assertThat(response.accessToken()).isEqualTo("new-access");
+        assertThat(response.refreshToken()).isEqualTo("new-refresh");
+        ArgumentCaptor<RefreshTokenRotationCommand> captor = ArgumentCaptor.forClass(RefreshTokenRotationCommand.class);
+        verify(refreshTokenRotationRepository).rotate(captor.capture());
+        assertThat(captor.getValue().sessionId()).isEqualTo(sessionId);
+        assertThat(captor.getValue().userId()).isEqualTo(userId);
+        assertThat(captor.getValue().presentedHash()).isEqualTo("old-hash");
+        assertThat(captor.getValue().renewedHash()).isEqualTo("new-hash");
+        assertThat(captor.getValue().renewedExpiry()).isEqualTo(newExpiry);
+        verify(refreshTokenRepository, never()).findById(any());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("단일 문장 재발급은 갱신 대상이 아니면 요청한 refresh token을 그대로 반환한다")
+    void reissue_singleStatement_notRenewed_returnsPresentedToken() {
+        UUID userId = UUID.randomUUID();
+        String userIdText = userId.toString();
+        String sessionId = "session-1";
+        Claims claims = sessionClaims(userIdText, sessionId);
+
+        when(refreshTokenRotationRepository.supportsSingleStatement()).thenReturn(true);
+        when(jwtProvider.parseToken("old-refresh")).thenReturn(claims);
+        when(refreshTokenHasher.hash("old-refresh")).thenReturn("old-hash");
+        when(jwtProvider.createRefreshToken(userIdText, sessionId))
+                .thenReturn(new AuthDto.RefreshTokenWithExpiry("unused-refresh", new Date(), sessionId));
+        when(refreshTokenHasher.hash("unused-refresh")).thenReturn("unused-hash");
+        when(refreshTokenRotationRepository.rotate(any(RefreshTokenRotationCommand.class)))
+                .thenReturn(Optional.of(new RefreshTokenRotation("user@example.com", false)));
+        when(jwtProvider.createAccessToken(userIdText, "user@example.com", "USER")).thenReturn("new-access");
+
+        AuthDto.RefreshResponse response = refreshTokenService.reissue("old-refresh");
+
+        assertThat(response.refreshToken()).isEqualTo("old-refresh");
+    }
+
+    @Test
+    @DisplayName("단일 문장 재발급이 0건이면 원인을 분류해 음성 캐시에 남기고 예외를 던진다")
+    void reissue_singleStatement_rejected_classifiesAndCachesReason() {
+        UUID userId = UUID.randomUUID();
+        String userIdText = userId.toString();
+        String sessionId = "session-1";
+        Claims claims = sessionClaims(userIdText, sessionId);
 
-        int deleted = refreshTokenService.deletedExpiredTokens();
+        when(refreshTokenRotationRepository.supportsSingleStatement()).thenReturn(true);
+        when(jwtProvider.parseToken("rotated-refresh")).thenReturn(claims);
+        when(refreshTokenHasher.hash("rotated-refresh")).thenReturn("rotated-hash");
+        when(jwtProvider.createRefreshToken(userIdText, sessionId))
+                .thenReturn(new AuthDto.RefreshTokenWithExpiry("unused-refresh", new Date(), sessionId));
+        when(refreshTokenHasher.hash("unused-refresh")).thenReturn("unused-hash");
+        when(refreshTokenRotationRepository.rotate(any(RefreshTokenRotationCommand.class))).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findById(sessionId))
+                .thenReturn(Optional.of(new RefreshToken(sessionId, userIdText, null, "current-hash", new Date())));
+        when(refreshTokenHasher.matches("rotated-refresh", "current-hash")).thenReturn(false);
 
-        assertThat(deleted).isEqualTo(3);
-        verify(refreshTokenRepository).deleteByExpiryBefore(any(Date.class));
+        assertThatThrownBy(() -> refreshTokenService.reissue("rotated-refresh"))
+                .isInstanceOf(TokenException.class)
+                .hasMessage(ErrorCode.REFRESH_TOKEN_MISMATCH.message());
+        verify(revokedRefreshTokenCache).put("rotated-hash", ErrorCode.REFRESH_TOKEN_MISMATCH);
     }
 
     @Test
-    @DisplayName("만료 토큰 정리 중 예외가 발생하면 호출자에게 전파한다")
-    void deletedExpiredTokens_propagatesException() {
-        doThrow(new RuntimeException("db error"))
-                .when(refreshTokenRepository).deleteByExpiryBefore(any(Date.class));
-
-        assertThatThrownBy(() -> refreshTokenService.deletedExpiredTokens())
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("db error");
-        verify(refreshTokenRepository).deleteByExpiryBefore(any(Date.class));
+    @DisplayName("음성 캐시에 있는 refresh token은 DB를 조회하지 않고 거절한다")
+    void reissue_singleStatement_cachedRevoked_skipsDatabase() {
+        UUID userId = UUID.randomUUID();
+        Claims claims = sessionClaims(userId.toString(), "session-1");
+
+        when(refreshTokenRotationRepository.supportsSingleStatement()).thenReturn(true);
+        when(jwtProvider.parseToken("revoked-refresh")).thenReturn(claims);
+        when(refreshTokenHasher.hash("revoked-refresh")).thenReturn("revoked-hash");
+        when(revokedRefreshTokenCache.find("revoked-hash")).thenReturn(Optional.of(ErrorCode.USER_NOT_FOUND));
+
+        assertThatThrownBy(() -> refreshTokenService.reissue("revoked-refresh"))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage(ErrorCode.USER_NOT_FOUND.message());
+        verify(refreshTokenRotationRepository, never()).rotate(any());
+        verify(refreshTokenRepository, never()).findById(any());
+    }
+
+    private Claims sessionClaims(String userId, String sessionId) {
+        Claims claims = Jwts.claims();
+        claims.setSubject(userId);
+        claims.put("sid", sessionId);
+        return claims;
     }
 }
@@ -0,0 +1,214 @@
+package com.chukchuk.haksa.domain.cache;
+
+import com.chukchuk.haksa.domain.course.model.Course;
+import com.chukchuk.haksa.domain.course.service.CourseService;
+import com.chukchuk.haksa.domain.department.model.Department;
+import com.chukchuk.haksa.domain.department.repository.DepartmentRepository;
+import com.chukchuk.haksa.domain.department.service.DepartmentService;
+import com.chukchuk.haksa.domain.professor.model.Professor;
+import com.chukchuk.haksa.domain.professor.service.ProfessorService;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.global.security.cache.AuthTokenCache;
+import com.chukchuk.haksa.support.QueryBudget;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시는 커밋된 데이터만 담으므로 테스트 트랜잭션 없이 커밋하고 끝나면 직접 지운다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReferenceCacheIntegrationTest {
+
+    private static final int SYNCS = 5;
+    private static final String DEPARTMENT_CODE = "2000801";
+    private static final String DEPARTMENT_NAME = "캐시학과";
+    private static final String COURSE_CODE = "L2C0001";
+    private static final String COURSE_NAME = "캐시과목";
+    private static final String PROFESSOR_NAME = "캐시교수";
+
+    @Autowired
+    private DepartmentService departmentService;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private ProfessorService professorService;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private ReferenceIdCache referenceIdCache;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AcademicCache academicCache;
+    @MockBean
+    private AuthTokenCache authTokenCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private CacheStats courseIdsBefore;
+    private CacheStats professorIdsBefore;
+
+    @BeforeEach
+    void setUp() {
+        evictAll();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.persist(new Department(DEPARTMENT_CODE, DEPARTMENT_NAME));
+            entityManager.persist(new Course(COURSE_CODE, COURSE_NAME));
+            entityManager.persist(new Professor(PROFESSOR_NAME));
+        });
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        courseIdsBefore = referenceIdCache.stats(ReferenceIdCache.COURSE_BY_CODE);
+        professorIdsBefore = referenceIdCache.stats(ReferenceIdCache.PROFESSOR_BY_NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM courses WHERE course_code = ?", COURSE_CODE);
+        jdbcTemplate.update("DELETE FROM professor WHERE professor_name = ?", PROFESSOR_NAME);
+        jdbcTemplate.update("DELETE FROM departments WHERE department_code = ?", DEPARTMENT_CODE);
+        evictAll();
+    }
+
+    @Test
+    @DisplayName("반복 동기화의 학과/과목/교수 조회는 첫 회 이후 2차 캐시에서 끝난다")
+    void repeatedSyncs_hitSecondLevelCache() {
+        syncReferenceLookups();
+
+        QueryBudget.of(QueryCounter.ScopeType.SYNC, "sync.reference.cached")
+                .maxStatements(0)
+                .verify(() -> {
+                    for (int i = 1; i < SYNCS; i++) {
+                        syncReferenceLookups();
+                    }
+                });
+
+        assertQueryRegionHitAfterFirstSync(ReferenceCacheRegions.DEPARTMENT_BY_CODE);
+        assertIdCacheHitAfterFirstSync(ReferenceIdCache.COURSE_BY_CODE, courseIdsBefore);
+        assertIdCacheHitAfterFirstSync(ReferenceIdCache.PROFESSOR_BY_NAME, professorIdsBefore);
+
+        assertThat(hitRatio(ReferenceCacheRegions.COURSE)).isGreaterThanOrEqualTo(minHitRatio());
+        assertThat(hitRatio(ReferenceCacheRegions.PROFESSOR)).isGreaterThanOrEqualTo(minHitRatio());
+    }
+
+    @Test
+    @DisplayName("새 교수가 생겨도 이미 캐시된 교수는 다시 읽지 않고, 새 교수만 읽고 만든다")
+    void newProfessor_loadsOnlyMissingName() {
+        String newName = "캐시교수2";
+        try {
+            professorService.getOrCreateAll(Set.of(PROFESSOR_NAME));
+
+            // 캐시에 없는 교수명 조회 1회 + 생성 1회. 캐시된 교수명은 목록 조회에 들어가지 않는다.
+            QueryBudget.of(QueryCounter.ScopeType.SYNC, "sync.reference.new-professor")
+                    .maxStatements(2)
+                    .verify(() -> assertThat(professorService.getOrCreateAll(Set.of(PROFESSOR_NAME, newName)))
+                            .containsOnlyKeys(PROFESSOR_NAME, newName));
+            // INSERT가 있었어도 두 교수 모두 캐시에서 끝난다.
+            QueryBudget.of(QueryCounter.ScopeType.SYNC, "sync.reference.cached-professors")
+                    .maxStatements(0)
+                    .verify(() -> assertThat(professorService.getOrCreateAll(Set.of(PROFESSOR_NAME, newName)))
+                            .containsOnlyKeys(PROFESSOR_NAME, newName));
+
+            CacheStats ids = referenceIdCache.stats(ReferenceIdCache.PROFESSOR_BY_NAME).minus(professorIdsBefore);
+            assertThat(ids.hitCount()).isEqualTo(3);
+            assertThat(ids.missCount()).isEqualTo(2);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM professor WHERE professor_name = ?", Integer.class, newName))
+                    .isEqualTo(1);
+        } finally {
+            jdbcTemplate.update("DELETE FROM professor WHERE professor_name = ?", newName);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 만든 학과는 캐시에 없음으로 남아 있어도 DB를 다시 확인해 중복 생성하지 않는다")
+    void cachedMissingDepartment_rechecksDatabaseBeforeCreate() {
+        String otherCode = "2000802";
+        try {
+            assertThat(departmentRepository.findByDepartmentCode(otherCode)).isEmpty();
+            // Hibernate를 거치지 않은 저장이라 이 인스턴스의 쿼리 캐시는 무효화되지 않는다.
+            jdbcTemplate.update("INSERT INTO departments (department_code, established_department_name) VALUES (?, ?)",
+                    otherCode, DEPARTMENT_NAME);
+            assertThat(departmentRepository.findByDepartmentCode(otherCode)).isEmpty();
+
+            Department department = departmentService.getOrCreateDepartment(otherCode, DEPARTMENT_NAME);
+
+            assertThat(department.getDepartmentCode()).isEqualTo(otherCode);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM departments WHERE department_code = ?", Integer.class, otherCode))
+                    .isEqualTo(1);
+            assertThat(departmentRepository.findByDepartmentCode(otherCode)).isPresent();
+        } finally {
+            jdbcTemplate.update("DELETE FROM departments WHERE department_code = ?", otherCode);
+        }
+    }
+
+    /**
+     * 포털 동기화가 매번 하는 기준 데이터 조회 (학과 코드, 학수번호 목록, 교수명 목록)
+     * 동기화 서비스를 그대로 호출하고, 이미 있는 데이터라 새로 만드는 것은 없어야 한다.
+     */
+    private void syncReferenceLookups() {
+        departmentService.getOrCreateDepartment(DEPARTMENT_CODE, DEPARTMENT_NAME);
+        assertThat(courseService.getOrCreateCourses(Map.of(COURSE_CODE, COURSE_NAME)))
+                .containsOnlyKeys(COURSE_CODE);
+        assertThat(professorService.getOrCreateAll(Set.of(PROFESSOR_NAME)))
+                .containsOnlyKeys(PROFESSOR_NAME);
+    }
+
+    private void assertQueryRegionHitAfterFirstSync(String region) {
+        CacheRegionStatistics regionStatistics = statistics.getQueryRegionStatistics(region);
+        assertThat(regionStatistics.getMissCount()).as(region + " miss").isEqualTo(1);
+        assertThat(regionStatistics.getHitCount()).as(region + " hit").isEqualTo(SYNCS - 1);
+    }
+
+    private void assertIdCacheHitAfterFirstSync(ReferenceIdCache.Region<?> region, CacheStats before) {
+        CacheStats stats = referenceIdCache.stats(region).minus(before);
+        assertThat(stats.missCount()).as(region.name() + " miss").isEqualTo(1);
+        assertThat(stats.hitCount()).as(region.name() + " hit").isEqualTo(SYNCS - 1);
+    }
+
+    private double hitRatio(String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        long requests = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+        return requests == 0 ? 0 : (double) regionStatistics.getHitCount() / requests;
+    }
+
+    // 저장 직후 캐시에 들어가지 않는 경우까지 첫 회 한 번의 miss는 허용한다.
+    private static double minHitRatio() {
+        return (double) (SYNCS - 1) / SYNCS;
+    }
+
+    private void evictAll() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        referenceIdCache.invalidateAll();
+    }
+}
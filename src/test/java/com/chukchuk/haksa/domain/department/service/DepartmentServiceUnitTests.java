@@ -38,11 +38,25 @@ class DepartmentServiceUnitTests {
         verify(departmentRepository, never()).save(any(Department.class));
     }
 
+    @Test
+    @DisplayName("캐시된 조회에 없던 학과도 DB에 있으면 새로 만들지 않는다")
+    void getOrCreateDepartment_whenCachedMissButStored_returnsStored() {
+        Department stored = new Department("ME", "기계공학과");
+        when(departmentRepository.findByDepartmentCode("ME")).thenReturn(Optional.empty());
+        when(departmentRepository.refreshByDepartmentCode("ME")).thenReturn(Optional.of(stored));
+
+        Department result = departmentService.getOrCreateDepartment("ME", "기계공학과");
+
+        assertThat(result).isSameAs(stored);
+        verify(departmentRepository, never()).save(any(Department.class));
+    }
+
     @Test
     @DisplayName("기존 학과가 없으면 새 학과를 생성해 저장한다")
     void getOrCreateDepartment_whenMissing_createsAndSaves() {
         Department saved = new Department("EE", "전자공학과");
         when(departmentRepository.findByDepartmentCode("EE")).thenReturn(Optional.empty());
+        when(departmentRepository.refreshByDepartmentCode("EE")).thenReturn(Optional.empty());
         when(departmentRepository.save(any(Department.class))).thenReturn(saved);
 
         Department result = departmentService.getOrCreateDepartment("EE", "전자공학과");
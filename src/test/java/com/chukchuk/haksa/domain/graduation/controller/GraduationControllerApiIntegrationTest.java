@@ -1,14 +1,18 @@
 package com.chukchuk.haksa.domain.graduation.controller;
 
+import com.chukchuk.haksa.domain.cache.AcademicResponseCache;
 import com.chukchuk.haksa.domain.graduation.dto.GraduationProgressResponse;
 import com.chukchuk.haksa.domain.graduation.dto.LanguageCertRequirementResponse;
 import com.chukchuk.haksa.domain.graduation.model.LanguageCertMatchStatus;
 import com.chukchuk.haksa.domain.graduation.model.LanguageCertTestType;
 import com.chukchuk.haksa.domain.graduation.service.GraduationService;
 import com.chukchuk.haksa.domain.graduation.service.LanguageCertRequirementService;
+import com.chukchuk.haksa.domain.student.dto.StudentDataVersion;
 import com.chukchuk.haksa.domain.student.service.StudentService;
+import com.chukchuk.haksa.global.config.AcademicCacheProperties;
 import com.chukchuk.haksa.global.exception.code.ErrorCode;
 import com.chukchuk.haksa.global.exception.type.CommonException;
+import com.chukchuk.haksa.infrastructure.cache.local.LocalAcademicCache;
 import com.chukchuk.haksa.support.ApiControllerWebMvcTestSupport;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,16 +20,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+@Import({AcademicResponseCache.class, LocalAcademicCache.class, AcademicCacheProperties.class})
 @WebMvcTest(GraduationController.class)
 @AutoConfigureMockMvc(addFilters = false)
 class GraduationControllerApiIntegrationTest extends ApiControllerWebMvcTestSupport {
@@ -48,7 +58,8 @@ class GraduationControllerApiIntegrationTest extends ApiControllerWebMvcTestSupp
         UUID userId = UUID.randomUUID();
         UUID studentId = UUID.randomUUID();
         authenticate(userId, studentId);
-        when(studentService.getRequiredStudentIdByUserId(userId)).thenReturn(studentId);
+        when(studentService.getRequiredStudentDataVersionByUserId(userId))
+                .thenReturn(new StudentDataVersion(studentId, null));
 
         when(graduationService.getGraduationProgress(studentId))
                 .thenReturn(new GraduationProgressResponse(List.of(), true));
@@ -66,7 +77,8 @@ class GraduationControllerApiIntegrationTest extends ApiControllerWebMvcTestSupp
         UUID userId = UUID.randomUUID();
         UUID studentId = UUID.randomUUID();
         authenticate(userId, studentId);
-        when(studentService.getRequiredStudentIdByUserId(userId)).thenReturn(studentId);
+        when(studentService.getRequiredStudentDataVersionByUserId(userId))
+                .thenReturn(new StudentDataVersion(studentId, null));
 
         when(graduationService.getGraduationProgress(studentId))
                 .thenThrow(new CommonException(ErrorCode.GRADUATION_REQUIREMENTS_DATA_NOT_FOUND));
@@ -83,7 +95,8 @@ class GraduationControllerApiIntegrationTest extends ApiControllerWebMvcTestSupp
         UUID userId = UUID.randomUUID();
         UUID studentId = UUID.randomUUID();
         authenticate(userId, studentId);
-        when(studentService.getRequiredStudentIdByUserId(userId)).thenReturn(studentId);
+        when(studentService.getRequiredStudentDataVersionByUserId(userId))
+                .thenReturn(new StudentDataVersion(studentId, null));
         when(languageCertRequirementService.getRequirement(studentId))
                 .thenReturn(new LanguageCertRequirementResponse(
                         "2000514",
@@ -134,4 +147,29 @@ class GraduationControllerApiIntegrationTest extends ApiControllerWebMvcTestSupp
                 .andExpect(jsonPath("$.data.matchStatus").value("UNMAPPED"))
                 .andExpect(jsonPath("$.data.requirements").isEmpty());
     }
+
+    @Test
+    @DisplayName("graduation progress 재요청 시 ETag가 같으면 본문 없이 304를 반환한다")
+    void getGraduationProgress_notModified() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+        authenticate(userId, studentId);
+        when(studentService.getRequiredStudentIdByUserId(userId)).thenReturn(studentId);
+        when(graduationService.getGraduationProgress(studentId))
+                .thenReturn(new GraduationProgressResponse(List.of(), true));
+
+        String etag = mockMvc.perform(get("/api/graduation/progress"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/graduation/progress").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        // 두 번째 요청은 캐시된 본문을 사용한다.
+        verify(graduationService, times(1)).getGraduationProgress(studentId);
+    }
 }
@@ -0,0 +1,142 @@
+package com.chukchuk.haksa.domain.graduation.service;
+
+import com.chukchuk.haksa.domain.academic.record.model.StudentCourse;
+import com.chukchuk.haksa.domain.academic.record.repository.StudentCourseRepository;
+import com.chukchuk.haksa.domain.course.model.Course;
+import com.chukchuk.haksa.domain.course.model.CourseOffering;
+import com.chukchuk.haksa.domain.course.model.EvaluationType;
+import com.chukchuk.haksa.domain.course.model.FacultyDivision;
+import com.chukchuk.haksa.domain.course.repository.CourseOfferingRepository;
+import com.chukchuk.haksa.domain.course.repository.CourseRepository;
+import com.chukchuk.haksa.domain.department.model.Department;
+import com.chukchuk.haksa.domain.department.repository.DepartmentRepository;
+import com.chukchuk.haksa.domain.graduation.dto.GraduationProgressResponse;
+import com.chukchuk.haksa.domain.graduation.model.StudentGraduationProgress;
+import com.chukchuk.haksa.domain.graduation.repository.StudentGraduationProgressRepository;
+import com.chukchuk.haksa.domain.student.model.Grade;
+import com.chukchuk.haksa.domain.student.model.GradeType;
+import com.chukchuk.haksa.domain.student.model.Student;
+import com.chukchuk.haksa.domain.student.repository.StudentRepository;
+import com.chukchuk.haksa.domain.user.model.User;
+import com.chukchuk.haksa.domain.user.repository.UserRepository;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.support.QueryBudget;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.chukchuk.haksa.support.StudentFixtures.enrolledStudent;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class GraduationServiceIntegrationTest {
+
+    private static final int COURSE_COUNT = 5;
+
+    @Autowired
+    private GraduationService graduationService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private StudentCourseRepository studentCourseRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private CourseOfferingRepository courseOfferingRepository;
+    @Autowired
+    private StudentGraduationProgressRepository studentGraduationProgressRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("졸업 요건 진행 조회는 이수 과목 수와 무관한 쿼리 예산 안에서 끝나고, 두 번째 조회는 캐시로 DB를 타지 않는다")
+    void getGraduationProgress_staysWithinQueryBudget() {
+        Student student = createStudentWithCourses();
+        entityManager.flush();
+        entityManager.clear();
+
+        // 학생, 학과, 같은 개설 학과, 졸업 요건, 이수 과목, 외국어 인증 각 1회
+        AtomicReference<GraduationProgressResponse> response = new AtomicReference<>();
+        QueryBudget.of(QueryCounter.ScopeType.HTTP, "graduation.progress")
+                .maxStatements(8)
+                .maxSelectRepeat(1)
+                .verify(() -> response.set(graduationService.getGraduationProgress(student.getId())));
+
+        assertThat(response.get().getGraduationProgress()).isNotEmpty();
+
+        QueryCounter.Scope cached = QueryBudget.measure(QueryCounter.ScopeType.HTTP, "graduation.progress.cached",
+                () -> graduationService.getGraduationProgress(student.getId()));
+        assertThat(cached.total()).as(QueryBudget.describe(cached)).isZero();
+    }
+
+    private Student createStudentWithCourses() {
+        User user = userRepository.save(User.builder()
+                .email("graduation-budget@haksa.com")
+                .profileNickname("graduation")
+                .build());
+        Department department = departmentRepository.save(new Department("2000702", "정보통신학과"));
+        Student student = studentRepository.save(enrolledStudent("20260102", department, user).build());
+
+        // DepartmentAreaRequirement는 공개 생성자가 없어 운영과 같이 SQL로 적재한다.
+        entityManager.createNativeQuery("""
+                        INSERT INTO department_area_requirements
+                            (id, department_id, admission_year, area_type, required_credits, created_at, updated_at)
+                        VALUES (:id, :departmentId, 2024, '전선', 30, :now, :now)
+                        """)
+                .setParameter("id", UUID.randomUUID())
+                .setParameter("departmentId", department.getId())
+                .setParameter("now", Instant.now())
+                .executeUpdate();
+
+        for (int i = 0; i < COURSE_COUNT; i++) {
+            Course course = courseRepository.save(new Course("QB20" + i, "전공" + i));
+            CourseOffering offering = courseOfferingRepository.save(new CourseOffering(
+                    20241,
+                    false,
+                    2024,
+                    1,
+                    "공과대학",
+                    "01",
+                    "화" + i,
+                    null,
+                    3,
+                    EvaluationType.ABSOLUTE,
+                    FacultyDivision.전선,
+                    course,
+                    null,
+                    department,
+                    null
+            ));
+            StudentCourse studentCourse = new StudentCourse(
+                    student,
+                    offering,
+                    new Grade(GradeType.A0),
+                    3,
+                    false,
+                    90,
+                    false
+            );
+            student.addStudentCourse(studentCourse);
+            studentCourseRepository.save(studentCourse);
+        }
+
+        studentGraduationProgressRepository.save(StudentGraduationProgress.createForLanguageCert(student, true));
+        return student;
+    }
+}
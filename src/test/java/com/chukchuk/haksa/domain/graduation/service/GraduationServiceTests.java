@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -57,7 +58,7 @@ class GraduationServiceTests {
         Student student = mockStudent(10L, null);
 
         when(studentService.getStudentById(STUDENT_ID)).thenReturn(student);
-        when(academicCache.getGraduationProgress(STUDENT_ID)).thenReturn(null);
+        loadThroughCache();
         when(graduationMajorResolver.resolve(student, ADMISSION_YEAR))
                 .thenReturn(new MajorResolutionResult(10L, null));
 
@@ -69,7 +70,7 @@ class GraduationServiceTests {
 
         assertThat(response.getGraduationProgress()).isEqualTo(progressDtos);
         verify(graduationQueryRepository).getStudentAreaProgress(STUDENT_ID, 10L, ADMISSION_YEAR);
-        verify(academicCache).setGraduationProgress(eq(STUDENT_ID), any(GraduationProgressResponse.class));
+        verify(academicCache).getOrLoadGraduationProgress(eq(STUDENT_ID), any());
     }
 
     @Test
@@ -78,7 +79,7 @@ class GraduationServiceTests {
         Student student = mockStudent(1L, null);
 
         when(studentService.getStudentById(STUDENT_ID)).thenReturn(student);
-        when(academicCache.getGraduationProgress(STUDENT_ID)).thenReturn(null);
+        loadThroughCache();
         when(graduationMajorResolver.resolve(student, ADMISSION_YEAR))
                 .thenReturn(new MajorResolutionResult(1L, null));
 
@@ -96,7 +97,7 @@ class GraduationServiceTests {
         Student student = mockStudent(5L, null);
 
         when(studentService.getStudentById(STUDENT_ID)).thenReturn(student);
-        when(academicCache.getGraduationProgress(STUDENT_ID)).thenReturn(null);
+        loadThroughCache();
         when(graduationMajorResolver.resolve(student, ADMISSION_YEAR))
                 .thenThrow(new CommonException(ErrorCode.GRADUATION_REQUIREMENTS_DATA_NOT_FOUND));
 
@@ -111,7 +112,7 @@ class GraduationServiceTests {
         Student student = mockStudent(60L, 71L);
 
         when(studentService.getStudentById(STUDENT_ID)).thenReturn(student);
-        when(academicCache.getGraduationProgress(STUDENT_ID)).thenReturn(null);
+        loadThroughCache();
         when(graduationMajorResolver.resolve(student, ADMISSION_YEAR))
                 .thenReturn(new MajorResolutionResult(60L, 71L));
 
@@ -130,7 +131,7 @@ class GraduationServiceTests {
     void returnsCachedProgressWhenAvailable() {
         GraduationProgressResponse cached = new GraduationProgressResponse(sampleProgress());
 
-        when(academicCache.getGraduationProgress(STUDENT_ID)).thenReturn(cached);
+        when(academicCache.getOrLoadGraduationProgress(eq(STUDENT_ID), any())).thenReturn(cached);
 
         GraduationProgressResponse response = graduationService.getGraduationProgress(STUDENT_ID);
 
@@ -142,7 +143,7 @@ class GraduationServiceTests {
     @DisplayName("편입생이면 TRANSFER_STUDENT_UNSUPPORTED 예외를 던진다")
     void getGraduationProgressThrowsForTransferStudent() {
         Student student = mockStudent(10L, null, ADMISSION_YEAR, true);
-        when(academicCache.getGraduationProgress(STUDENT_ID)).thenReturn(null);
+        loadThroughCache();
         when(studentService.getStudentById(STUDENT_ID)).thenReturn(student);
 
         assertThatThrownBy(() -> graduationService.getGraduationProgress(STUDENT_ID))
@@ -159,7 +160,7 @@ class GraduationServiceTests {
         Student student = mockStudent(30L, null, specialYear, false);
 
         when(studentService.getStudentById(STUDENT_ID)).thenReturn(student);
-        when(academicCache.getGraduationProgress(STUDENT_ID)).thenReturn(null);
+        loadThroughCache();
         when(graduationMajorResolver.resolve(student, specialYear))
                 .thenReturn(new MajorResolutionResult(30L, null));
         when(graduationQueryRepository.getStudentAreaProgress(STUDENT_ID, 30L, specialYear))
@@ -170,48 +171,13 @@ class GraduationServiceTests {
         assertThat(response.isHasDifferentGraduationRequirement()).isTrue();
     }
 
-    @Test
-    @DisplayName("캐시 조회 예외가 나도 DB 조회로 정상 응답한다")
-    void getGraduationProgressCacheGetFailureFallsBack() {
-        Student student = mockStudent(10L, null);
-        when(studentService.getStudentById(STUDENT_ID)).thenReturn(student);
-        when(academicCache.getGraduationProgress(STUDENT_ID)).thenThrow(new RuntimeException("cache get fail"));
-        when(graduationMajorResolver.resolve(student, ADMISSION_YEAR))
-                .thenReturn(new MajorResolutionResult(10L, null));
-        when(graduationQueryRepository.getStudentAreaProgress(STUDENT_ID, 10L, ADMISSION_YEAR))
-                .thenReturn(sampleProgress());
-
-        GraduationProgressResponse response = graduationService.getGraduationProgress(STUDENT_ID);
-
-        assertThat(response.getGraduationProgress()).isNotEmpty();
-    }
-
-    @Test
-    @DisplayName("캐시 저장 예외가 나도 최종 응답은 정상 반환한다")
-    void getGraduationProgressCacheSetFailureStillReturns() {
-        Student student = mockStudent(10L, null);
-
-        when(studentService.getStudentById(STUDENT_ID)).thenReturn(student);
-        when(academicCache.getGraduationProgress(STUDENT_ID)).thenReturn(null);
-        when(graduationMajorResolver.resolve(student, ADMISSION_YEAR))
-                .thenReturn(new MajorResolutionResult(10L, null));
-        when(graduationQueryRepository.getStudentAreaProgress(STUDENT_ID, 10L, ADMISSION_YEAR))
-                .thenReturn(sampleProgress());
-        doThrow(new RuntimeException("cache set fail"))
-                .when(academicCache).setGraduationProgress(eq(STUDENT_ID), any(GraduationProgressResponse.class));
-
-        GraduationProgressResponse response = graduationService.getGraduationProgress(STUDENT_ID);
-
-        assertThat(response.getGraduationProgress()).hasSize(1);
-    }
-
     @Test
     @DisplayName("외국어 인증 값이 없으면 새로고침 필요 상태로 반환한다")
     void getGraduationProgressReturnsRefreshNeededWhenLanguageCertMissing() {
         Student student = mockStudent(10L, null);
 
         when(studentService.getStudentById(STUDENT_ID)).thenReturn(student);
-        when(academicCache.getGraduationProgress(STUDENT_ID)).thenReturn(null);
+        loadThroughCache();
         when(graduationMajorResolver.resolve(student, ADMISSION_YEAR))
                 .thenReturn(new MajorResolutionResult(10L, null));
         when(graduationQueryRepository.getStudentAreaProgress(STUDENT_ID, 10L, ADMISSION_YEAR))
@@ -231,7 +197,7 @@ class GraduationServiceTests {
         Student student = mockStudent(10L, null);
 
         when(studentService.getStudentById(STUDENT_ID)).thenReturn(student);
-        when(academicCache.getGraduationProgress(STUDENT_ID)).thenReturn(null);
+        loadThroughCache();
         when(graduationMajorResolver.resolve(student, ADMISSION_YEAR))
                 .thenReturn(new MajorResolutionResult(10L, null));
         when(graduationQueryRepository.getStudentAreaProgress(STUDENT_ID, 10L, ADMISSION_YEAR))
@@ -251,7 +217,7 @@ class GraduationServiceTests {
         Student student = mockStudent(10L, null);
 
         when(studentService.getStudentById(STUDENT_ID)).thenReturn(student);
-        when(academicCache.getGraduationProgress(STUDENT_ID)).thenReturn(null);
+        loadThroughCache();
         when(graduationMajorResolver.resolve(student, ADMISSION_YEAR))
                 .thenReturn(new MajorResolutionResult(10L, null));
         when(graduationQueryRepository.getStudentAreaProgress(STUDENT_ID, 10L, ADMISSION_YEAR))
@@ -265,6 +231,11 @@ class GraduationServiceTests {
         assertThat(response.isLanguageCertNeedsRefresh()).isFalse();
     }
 
+    private void loadThroughCache() {
+        when(academicCache.getOrLoadGraduationProgress(eq(STUDENT_ID), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<GraduationProgressResponse>>getArgument(1).get());
+    }
+
     private Student mockStudent(Long majorId, Long secondaryId) {
         return mockStudent(majorId, secondaryId, ADMISSION_YEAR, false);
     }
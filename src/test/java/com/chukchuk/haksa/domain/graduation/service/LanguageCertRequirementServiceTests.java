@@ -1,6 +1,7 @@
 // 사용자 학과별 외국어 인증 기준 조회 정책을 검증하는 테스트
 package com.chukchuk.haksa.domain.graduation.service;
 
+import com.chukchuk.haksa.domain.cache.AcademicCache;
 import com.chukchuk.haksa.domain.department.model.Department;
 import com.chukchuk.haksa.domain.graduation.dto.LanguageCertRequirementResponse;
 import com.chukchuk.haksa.domain.graduation.model.DepartmentLanguageCertPolicyMapping;
@@ -13,6 +14,7 @@ import com.chukchuk.haksa.domain.graduation.repository.LanguageCertRequirementRe
 import com.chukchuk.haksa.domain.student.model.Student;
 import com.chukchuk.haksa.domain.student.model.embeddable.AcademicInfo;
 import com.chukchuk.haksa.domain.student.service.StudentService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,8 +24,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -43,9 +47,18 @@ class LanguageCertRequirementServiceTests {
     @Mock
     private LanguageCertRequirementRepository requirementRepository;
 
+    @Mock
+    private AcademicCache academicCache;
+
     @InjectMocks
     private LanguageCertRequirementService service;
 
+    @BeforeEach
+    void loadThroughCache() {
+        lenient().when(academicCache.getOrLoadLanguageCertRequirement(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<LanguageCertRequirementResponse>>getArgument(2).get());
+    }
+
     @Test
     @DisplayName("전공 코드와 입학년도로 확정 매핑의 외국어 인증 기준을 반환한다")
     void getRequirementUsesMajorDepartmentCode() {
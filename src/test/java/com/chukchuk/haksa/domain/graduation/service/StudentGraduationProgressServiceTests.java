@@ -5,6 +5,8 @@ import com.chukchuk.haksa.domain.cache.AcademicCache;
 import com.chukchuk.haksa.domain.graduation.model.StudentGraduationProgress;
 import com.chukchuk.haksa.domain.graduation.repository.StudentGraduationProgressRepository;
 import com.chukchuk.haksa.domain.student.model.Student;
+import com.chukchuk.haksa.global.metrics.StageObserver;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,7 +38,7 @@ class StudentGraduationProgressServiceTests {
     @DisplayName("외국어 인증 row가 없으면 새로 생성하고 학생 캐시를 무효화한다")
     void syncLanguageCertCreatesProgressWhenMissing() {
         UUID studentId = UUID.randomUUID();
-        StudentGraduationProgressService service = new StudentGraduationProgressService(repository, academicCache);
+        StudentGraduationProgressService service = new StudentGraduationProgressService(repository, academicCache, new StageObserver(ObservationRegistry.NOOP));
 
         when(student.getId()).thenReturn(studentId);
         when(repository.findByStudentId(studentId)).thenReturn(Optional.empty());
@@ -60,7 +62,7 @@ class StudentGraduationProgressServiceTests {
                 StudentGraduationProgress.createForLanguageCert(student, false);
         ReflectionTestUtils.setField(existing, "checkedAt", java.time.Instant.parse("2026-05-01T00:00:00Z"));
         ReflectionTestUtils.setField(existing, "gpaFulfilled", Boolean.TRUE);
-        StudentGraduationProgressService service = new StudentGraduationProgressService(repository, academicCache);
+        StudentGraduationProgressService service = new StudentGraduationProgressService(repository, academicCache, new StageObserver(ObservationRegistry.NOOP));
 
         when(student.getId()).thenReturn(studentId);
         when(repository.findByStudentId(studentId)).thenReturn(Optional.of(existing));
@@ -77,7 +79,7 @@ class StudentGraduationProgressServiceTests {
     @Test
     @DisplayName("외국어 인증 값이 없으면 저장하지 않고 기존 캐시도 유지한다")
     void syncLanguageCertSkipsWhenValueIsNull() {
-        StudentGraduationProgressService service = new StudentGraduationProgressService(repository, academicCache);
+        StudentGraduationProgressService service = new StudentGraduationProgressService(repository, academicCache, new StageObserver(ObservationRegistry.NOOP));
 
         service.syncLanguageCert(student, null);
 
@@ -0,0 +1,115 @@
+package com.chukchuk.haksa.domain.lectureevaluations.controller;
+
+import com.chukchuk.haksa.domain.lectureevaluations.dto.CourseEvaluationStatsDto;
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import com.chukchuk.haksa.domain.lectureevaluations.service.CourseEvaluationStatsService;
+import com.chukchuk.haksa.domain.lectureevaluations.service.LectureEvaluationService;
+import com.chukchuk.haksa.support.ApiControllerWebMvcTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(LectureEvaluationController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class LectureEvaluationControllerApiIntegrationTest extends ApiControllerWebMvcTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LectureEvaluationService lectureEvaluationService;
+
+    @MockBean
+    private CourseEvaluationStatsService courseEvaluationStatsService;
+
+    @Test
+    @DisplayName("강의평가 통계 조회 성공 시 전체 합계와 학기별 집계를 반환한다")
+    void getStats_success() throws Exception {
+        authenticate(UUID.randomUUID());
+        List<CourseEvaluationStatsDto.TagCount> tags = List.of(
+                new CourseEvaluationStatsDto.TagCount(LectureEvaluationTag.LOW_HOMEWORK, "과제가 적어요", 2),
+                new CourseEvaluationStatsDto.TagCount(LectureEvaluationTag.EASY_GRADE, "학점 따기 쉬워요", 1)
+        );
+        when(courseEvaluationStatsService.getStats(10L, 20L))
+                .thenReturn(new CourseEvaluationStatsDto.StatsResponse(
+                        10L,
+                        20L,
+                        3,
+                        tags,
+                        List.of(new CourseEvaluationStatsDto.SemesterStats(2025, 10, 3, tags))
+                ));
+
+        mockMvc.perform(get("/api/lecture-evaluations/stats")
+                        .param("courseId", "10")
+                        .param("professorId", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.courseId").value(10))
+                .andExpect(jsonPath("$.data.professorId").value(20))
+                .andExpect(jsonPath("$.data.evaluationCount").value(3))
+                .andExpect(jsonPath("$.data.tags[0].tag").value("LOW_HOMEWORK"))
+                .andExpect(jsonPath("$.data.tags[0].label").value("과제가 적어요"))
+                .andExpect(jsonPath("$.data.tags[0].count").value(2))
+                .andExpect(jsonPath("$.data.semesters[0].year").value(2025))
+                .andExpect(jsonPath("$.data.semesters[0].semester").value(10))
+                .andExpect(jsonPath("$.data.semesters[0].evaluationCount").value(3));
+    }
+
+    @Test
+    @DisplayName("강의평가가 없는 과목/교수도 0건 통계로 200 응답을 반환한다")
+    void getStats_empty() throws Exception {
+        authenticate(UUID.randomUUID());
+        when(courseEvaluationStatsService.getStats(10L, 20L))
+                .thenReturn(CourseEvaluationStatsDto.StatsResponse.of(10L, 20L, List.of()));
+
+        mockMvc.perform(get("/api/lecture-evaluations/stats")
+                        .param("courseId", "10")
+                        .param("professorId", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.evaluationCount").value(0))
+                .andExpect(jsonPath("$.data.tags.length()").value(LectureEvaluationTag.values().length))
+                .andExpect(jsonPath("$.data.semesters").isEmpty());
+    }
+
+    @Test
+    @DisplayName("courseId 또는 professorId가 없으면 C01 예외를 반환한다")
+    void getStats_missingParameter() throws Exception {
+        authenticate(UUID.randomUUID());
+
+        mockMvc.perform(get("/api/lecture-evaluations/stats").param("courseId", "10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error.code").value("C01"));
+
+        verify(courseEvaluationStatsService, never()).getStats(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("courseId가 숫자가 아니면 C01 예외를 반환한다")
+    void getStats_invalidParameter() throws Exception {
+        authenticate(UUID.randomUUID());
+
+        mockMvc.perform(get("/api/lecture-evaluations/stats")
+                        .param("courseId", "abc")
+                        .param("professorId", "20"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error.code").value("C01"));
+    }
+}
@@ -0,0 +1,170 @@
+package com.chukchuk.haksa.domain.lectureevaluations.repository;
+
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationBulkRepository.Submission;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationBulkRepository.SubmittedEvaluation;
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import com.chukchuk.haksa.global.metrics.MeteredDataSource;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.support.IndexAuditDatabase;
+import com.chukchuk.haksa.support.QueryBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 강의평가 제출 PostgreSQL 경로(상태 전환 + INSERT ... RETURNING 한 문장) 점검
+ *
+ * - H2 테스트는 UPDATE 후 batch INSERT하는 대체 경로만 타므로, indexAudit 태스크의 PostgreSQL에서 CTE 경로를 실행한다.
+ * - 한 트랜잭션 안에서 실행하고 끝에서 롤백한다.
+ */
+@Tag("index-audit")
+@EnabledIfEnvironmentVariable(named = IndexAuditDatabase.URL_ENV, matches = ".+")
+class CourseEvaluationBulkRepositoryPostgresTest {
+
+    private static final long DEPARTMENT_ID = 2_000_902L;
+    private static final int YEAR = 2025;
+    private static final int SEMESTER = 10;
+
+    private Connection connection;
+    private JdbcTemplate jdbcTemplate;
+    private CourseEvaluationBulkRepositoryImpl repository;
+
+    private UUID studentId;
+    private UUID semesterRecordId;
+    private long firstCourseId;
+    private long secondCourseId;
+    private long professorId;
+
+    @BeforeAll
+    static void migrate() {
+        IndexAuditDatabase.migrate();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = IndexAuditDatabase.connect();
+        connection.setAutoCommit(false);
+        jdbcTemplate = new JdbcTemplate(new MeteredDataSource(new SingleConnectionDataSource(connection, true), true));
+        repository = new CourseEvaluationBulkRepositoryImpl(jdbcTemplate, new DatabaseDialect(jdbcTemplate));
+
+        UUID userId = UUID.randomUUID();
+        studentId = UUID.randomUUID();
+        semesterRecordId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO departments (id, department_code, established_department_name)
+                VALUES (?, 'SUBMIT-PG', '제출학과')
+                """, DEPARTMENT_ID);
+        jdbcTemplate.update("INSERT INTO users (id, email, is_deleted, portal_connected) VALUES (?, ?, FALSE, TRUE)",
+                userId, "submit@haksa.com");
+        jdbcTemplate.update("""
+                INSERT INTO students (student_id, student_code, reconnection_required, admission_year, department_id, user_id)
+                VALUES (?, 'SUBMIT-PG', FALSE, 2024, ?, ?)
+                """, studentId, DEPARTMENT_ID, userId);
+        jdbcTemplate.update("""
+                INSERT INTO semester_academic_records (id, student_id, year, semester, lecture_evaluation_status, updated_at)
+                VALUES (?, ?, ?, ?, 'PENDING', now() - interval '1 day')
+                """, semesterRecordId, studentId, YEAR, SEMESTER);
+        firstCourseId = insertReturningId("INSERT INTO courses (course_code, course_name) VALUES ('SUBMIT-PG-1', '제출과목1') RETURNING id");
+        secondCourseId = insertReturningId("INSERT INTO courses (course_code, course_name) VALUES ('SUBMIT-PG-2', '제출과목2') RETURNING id");
+        professorId = insertReturningId("INSERT INTO professor (professor_name) VALUES ('제출교수-PG') RETURNING id");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try {
+            connection.rollback();
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("PENDING 학기 제출은 상태 전환 + 강의평가 INSERT 1문장, 태그 batch 1문장으로 저장하고 학기 row 값을 쓴다")
+    void insertSubmission_completesSemesterAndInsertsEvaluations() {
+        Submission submission = submission(
+                new SubmittedEvaluation(firstCourseId, professorId, "좋아요",
+                        List.of(LectureEvaluationTag.LOW_HOMEWORK, LectureEvaluationTag.EASY_GRADE)),
+                new SubmittedEvaluation(secondCourseId, professorId, null, List.of(LectureEvaluationTag.ONLINE_EXAM))
+        );
+
+        AtomicInteger saved = new AtomicInteger();
+        QueryCounter.Scope scope = QueryBudget.measure(QueryCounter.ScopeType.SYNC, "lecture.evaluation.submit.pg",
+                () -> saved.set(repository.insertSubmission(submission)));
+
+        assertThat(saved.get()).isEqualTo(2);
+        assertThat(scope.total()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT lecture_evaluation_status FROM semester_academic_records WHERE id = ?",
+                String.class, semesterRecordId))
+                .isEqualTo("COMPLETED");
+        assertThat(count("SELECT COUNT(*) FROM course_evaluations WHERE student_id = ? AND year = ? AND semester = ?",
+                studentId, YEAR, SEMESTER))
+                .isEqualTo(2);
+        assertThat(count("""
+                SELECT COUNT(*) FROM course_evaluation_tags t
+                JOIN course_evaluations ce ON ce.id = t.course_evaluation_id
+                WHERE ce.student_id = ?
+                """, studentId))
+                .isEqualTo(3);
+        assertThat(count("""
+                SELECT COUNT(*) FROM course_evaluation_tags t
+                JOIN course_evaluations ce ON ce.id = t.course_evaluation_id
+                WHERE ce.course_id = ? AND t.tag = 'ONLINE_EXAM'
+                """, secondCourseId))
+                .isEqualTo(1);
+
+        Timestamp semesterUpdatedAt = jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM semester_academic_records WHERE id = ?", Timestamp.class, semesterRecordId);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT created_at FROM course_evaluations WHERE student_id = ?", Timestamp.class, studentId))
+                .containsOnly(semesterUpdatedAt);
+    }
+
+    @Test
+    @DisplayName("이미 COMPLETED인 학기에 다시 제출하면 0을 반환하고 강의평가/태그를 넣지 않는다")
+    void insertSubmission_returnsZeroWhenSemesterAlreadyCompleted() {
+        jdbcTemplate.update("UPDATE semester_academic_records SET lecture_evaluation_status = 'COMPLETED' WHERE id = ?",
+                semesterRecordId);
+        Submission submission = submission(
+                new SubmittedEvaluation(firstCourseId, professorId, "늦은 제출", List.of(LectureEvaluationTag.LOW_HOMEWORK))
+        );
+
+        int saved = repository.insertSubmission(submission);
+
+        assertThat(saved).isZero();
+        assertThat(count("SELECT COUNT(*) FROM course_evaluations WHERE student_id = ?", studentId)).isZero();
+        assertThat(count("""
+                SELECT COUNT(*) FROM course_evaluation_tags t
+                JOIN course_evaluations ce ON ce.id = t.course_evaluation_id
+                WHERE ce.student_id = ?
+                """, studentId))
+                .isZero();
+    }
+
+    private Submission submission(SubmittedEvaluation... evaluations) {
+        return new Submission(semesterRecordId, studentId, YEAR, SEMESTER, List.of(evaluations));
+    }
+
+    private long insertReturningId(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+}
@@ -0,0 +1,144 @@
+package com.chukchuk.haksa.domain.lectureevaluations.service;
+
+import com.chukchuk.haksa.domain.course.model.Course;
+import com.chukchuk.haksa.domain.course.repository.CourseRepository;
+import com.chukchuk.haksa.domain.department.model.Department;
+import com.chukchuk.haksa.domain.department.repository.DepartmentRepository;
+import com.chukchuk.haksa.domain.lectureevaluations.dto.CourseEvaluationStatsDto;
+import com.chukchuk.haksa.domain.lectureevaluations.model.CourseEvaluation;
+import com.chukchuk.haksa.domain.lectureevaluations.model.CourseEvaluationStat;
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationBulkRepository.SubmittedEvaluation;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationRepository;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationStatRepository;
+import com.chukchuk.haksa.domain.professor.model.Professor;
+import com.chukchuk.haksa.domain.professor.repository.ProfessorRepository;
+import com.chukchuk.haksa.domain.student.model.Student;
+import com.chukchuk.haksa.domain.student.repository.StudentRepository;
+import com.chukchuk.haksa.domain.user.model.User;
+import com.chukchuk.haksa.domain.user.repository.UserRepository;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.support.QueryBudget;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.chukchuk.haksa.support.StudentFixtures.enrolledStudent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CourseEvaluationStatsServiceIntegrationTest {
+
+    @Autowired
+    private CourseEvaluationStatsService courseEvaluationStatsService;
+    @Autowired
+    private CourseEvaluationRepository courseEvaluationRepository;
+    @Autowired
+    private CourseEvaluationStatRepository courseEvaluationStatRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private ProfessorRepository professorRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("제출분을 증분으로 더한 집계는 원본 재집계와 같고, 두 번째 조회는 캐시로 DB를 타지 않는다")
+    void incrementalStatsMatchRebuildAndAreCached() {
+        Department department = departmentRepository.save(new Department("2000704", "경영학과"));
+        Student first = createStudent(department, "stats-first@haksa.com", "20260104");
+        Student second = createStudent(department, "stats-second@haksa.com", "20260105");
+        Course course = courseRepository.save(new Course("QB401", "회계원리"));
+        Professor professor = professorRepository.save(new Professor("통계교수"));
+
+        // 학기별 첫 제출은 새 row, 같은 학기 두 번째 제출은 기존 row 갱신 경로를 탄다.
+        submit(first, course, professor, 2025, 10, LectureEvaluationTag.INTERESTING_LECTURE, LectureEvaluationTag.EASY_GRADE);
+        submit(first, course, professor, 2025, 20, LectureEvaluationTag.INTERESTING_LECTURE);
+        submit(second, course, professor, 2025, 10, LectureEvaluationTag.LOW_HOMEWORK);
+        entityManager.flush();
+        entityManager.clear();
+
+        CourseEvaluationStatsDto.StatsResponse stats =
+                courseEvaluationStatsService.getStats(course.getId(), professor.getId());
+
+        assertThat(stats.evaluationCount()).isEqualTo(3);
+        assertThat(stats.tags())
+                .filteredOn(tag -> tag.count() > 0)
+                .extracting(CourseEvaluationStatsDto.TagCount::tag, CourseEvaluationStatsDto.TagCount::count)
+                .containsExactly(
+                        tuple(LectureEvaluationTag.LOW_HOMEWORK, 1),
+                        tuple(LectureEvaluationTag.INTERESTING_LECTURE, 2),
+                        tuple(LectureEvaluationTag.EASY_GRADE, 1)
+                );
+        assertThat(stats.semesters())
+                .extracting(CourseEvaluationStatsDto.SemesterStats::semester, CourseEvaluationStatsDto.SemesterStats::evaluationCount)
+                .containsExactly(
+                        tuple(20, 1),
+                        tuple(10, 2)
+                );
+
+        QueryCounter.Scope cached = QueryBudget.measure(QueryCounter.ScopeType.HTTP, "lecture_evaluation.stats.cached",
+                () -> courseEvaluationStatsService.getStats(course.getId(), professor.getId()));
+        assertThat(cached.total()).as(QueryBudget.describe(cached)).isZero();
+
+        List<String> incremental = snapshot(course, professor);
+        assertThat(courseEvaluationStatsService.rebuildAll()).isEqualTo(2);
+        entityManager.clear();
+        assertThat(snapshot(course, professor)).isEqualTo(incremental);
+    }
+
+    private List<String> snapshot(Course course, Professor professor) {
+        return courseEvaluationStatRepository.findByCourseIdAndProfessorId(course.getId(), professor.getId()).stream()
+                .map(this::describe)
+                .toList();
+    }
+
+    private String describe(CourseEvaluationStat stat) {
+        StringBuilder builder = new StringBuilder()
+                .append(stat.getId().getYear()).append('/').append(stat.getId().getSemester())
+                .append(" n=").append(stat.getEvaluationCount());
+        for (LectureEvaluationTag tag : LectureEvaluationTag.values()) {
+            builder.append(' ').append(tag.name()).append('=').append(stat.countOf(tag));
+        }
+        return builder.toString();
+    }
+
+    private void submit(
+            Student student,
+            Course course,
+            Professor professor,
+            int year,
+            int semester,
+            LectureEvaluationTag... tags
+    ) {
+        courseEvaluationRepository.save(new CourseEvaluation(student, course, professor, year, semester, null, List.of(tags)));
+        courseEvaluationStatsService.recordSubmitted(year, semester, List.of(
+                new SubmittedEvaluation(course.getId(), professor.getId(), null, List.of(tags))
+        ));
+    }
+
+    private Student createStudent(Department department, String email, String studentCode) {
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .profileNickname("stats")
+                .build());
+        return studentRepository.save(enrolledStudent(studentCode, department, user).build());
+    }
+}
@@ -0,0 +1,237 @@
+package com.chukchuk.haksa.domain.lectureevaluations.service;
+
+import com.chukchuk.haksa.domain.academic.record.model.LectureEvaluationStatus;
+import com.chukchuk.haksa.domain.academic.record.model.SemesterAcademicRecord;
+import com.chukchuk.haksa.domain.academic.record.model.StudentCourse;
+import com.chukchuk.haksa.domain.academic.record.repository.SemesterAcademicRecordRepository;
+import com.chukchuk.haksa.domain.academic.record.repository.StudentCourseRepository;
+import com.chukchuk.haksa.domain.course.model.Course;
+import com.chukchuk.haksa.domain.course.model.CourseOffering;
+import com.chukchuk.haksa.domain.course.model.EvaluationType;
+import com.chukchuk.haksa.domain.course.model.FacultyDivision;
+import com.chukchuk.haksa.domain.course.repository.CourseOfferingRepository;
+import com.chukchuk.haksa.domain.course.repository.CourseRepository;
+import com.chukchuk.haksa.domain.department.model.Department;
+import com.chukchuk.haksa.domain.department.repository.DepartmentRepository;
+import com.chukchuk.haksa.domain.lectureevaluations.dto.LectureEvaluationDto;
+import com.chukchuk.haksa.domain.lectureevaluations.model.CourseEvaluationTag;
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationRepository;
+import com.chukchuk.haksa.domain.professor.model.Professor;
+import com.chukchuk.haksa.domain.professor.repository.ProfessorRepository;
+import com.chukchuk.haksa.domain.student.model.Grade;
+import com.chukchuk.haksa.domain.student.model.GradeType;
+import com.chukchuk.haksa.domain.student.model.Student;
+import com.chukchuk.haksa.domain.student.repository.StudentRepository;
+import com.chukchuk.haksa.domain.user.model.User;
+import com.chukchuk.haksa.domain.user.repository.UserRepository;
+import com.chukchuk.haksa.global.exception.type.CommonException;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.support.QueryBudget;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.chukchuk.haksa.support.StudentFixtures.enrolledStudent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class LectureEvaluationServiceIntegrationTest {
+
+    private static final int YEAR = 2026;
+    private static final int SEMESTER = 10;
+
+    @Autowired
+    private LectureEvaluationService lectureEvaluationService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private SemesterAcademicRecordRepository semesterAcademicRecordRepository;
+    @Autowired
+    private StudentCourseRepository studentCourseRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private CourseOfferingRepository courseOfferingRepository;
+    @Autowired
+    private ProfessorRepository professorRepository;
+    @Autowired
+    private CourseEvaluationRepository courseEvaluationRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("평가 대상 조회는 수강 과목 수와 무관하게 같은 Statement 수로 끝나고, IP/교수 미지정 과목은 SQL에서 제외된다")
+    void getRequired_statementCountDoesNotGrowWithCourses() {
+        Department department = departmentRepository.save(new Department("2000705", "소프트웨어학과"));
+        User few = createStudentWithCourses(department, "eval-few@haksa.com", "20260106", 1);
+        User many = createStudentWithCourses(department, "eval-many@haksa.com", "20260107", 6);
+        entityManager.flush();
+        entityManager.clear();
+
+        AtomicReference<LectureEvaluationDto.RequiredResponse> fewResponse = new AtomicReference<>();
+        QueryCounter.Scope fewScope = QueryBudget.of(QueryCounter.ScopeType.HTTP, "lecture_evaluation.required.few")
+                .maxSelectRepeat(1)
+                .verify(() -> fewResponse.set(lectureEvaluationService.getRequired(few.getId())));
+        entityManager.clear();
+
+        AtomicReference<LectureEvaluationDto.RequiredResponse> manyResponse = new AtomicReference<>();
+        QueryCounter.Scope manyScope = QueryBudget.of(QueryCounter.ScopeType.HTTP, "lecture_evaluation.required.many")
+                .maxSelectRepeat(1)
+                .verify(() -> manyResponse.set(lectureEvaluationService.getRequired(many.getId())));
+
+        assertThat(fewResponse.get().grades()).hasSize(1);
+        assertThat(manyResponse.get().grades()).hasSize(6);
+        assertThat(manyResponse.get().grades())
+                .allSatisfy(card -> {
+                    assertThat(card.grade()).isEqualTo("A0");
+                    assertThat(card.professorId()).isNotNull();
+                });
+        assertThat(manyScope.total()).as(QueryBudget.describe(manyScope)).isEqualTo(fewScope.total());
+    }
+
+    @Test
+    @DisplayName("강의평가 제출은 과목마다 따로 읽지 않고 강의평가/태그를 일괄 저장하며 학기를 완료 처리한다")
+    void submit_writesEvaluationsInBulkAndCompletesSemester() {
+        Department department = departmentRepository.save(new Department("2000706", "소프트웨어학과"));
+        User user = createStudentWithCourses(department, "eval-submit@haksa.com", "20260108", 4);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<LectureEvaluationDto.SubmitEvaluation> evaluations = lectureEvaluationService.getRequired(user.getId())
+                .grades().stream()
+                .map(card -> new LectureEvaluationDto.SubmitEvaluation(
+                        card.courseId(),
+                        card.professorId(),
+                        List.of(LectureEvaluationTag.INFORMATIVE_LECTURE, LectureEvaluationTag.INFORMATIVE_LECTURE, LectureEvaluationTag.EASY_GRADE),
+                        null
+                ))
+                .toList();
+        entityManager.clear();
+
+        QueryBudget.of(QueryCounter.ScopeType.HTTP, "lecture_evaluation.submit")
+                .maxSelectRepeat(1)
+                .verify(() -> {
+                    lectureEvaluationService.submit(user.getId(), new LectureEvaluationDto.SubmitRequest(YEAR, SEMESTER, evaluations));
+                    entityManager.flush();
+                });
+
+        entityManager.clear();
+        Student student = userRepository.findById(user.getId()).orElseThrow().getStudent();
+        assertThat(semesterAcademicRecordRepository.findByStudentIdAndYearAndSemester(student.getId(), YEAR, SEMESTER)
+                .orElseThrow()
+                .getLectureEvaluationStatus()).isEqualTo(LectureEvaluationStatus.COMPLETED);
+        assertThat(courseEvaluationRepository.findAll())
+                .filteredOn(evaluation -> evaluation.getStudent().getId().equals(student.getId()))
+                .hasSize(4)
+                .allSatisfy(evaluation -> assertThat(evaluation.getTags())
+                        .extracting(CourseEvaluationTag::getTag)
+                        .containsExactlyInAnyOrder(LectureEvaluationTag.INFORMATIVE_LECTURE, LectureEvaluationTag.EASY_GRADE));
+    }
+
+    @Test
+    @DisplayName("이미 완료된 학기로 다시 제출하면 아무것도 저장하지 않는다")
+    void submit_rejectsSecondSubmission() {
+        Department department = departmentRepository.save(new Department("2000707", "소프트웨어학과"));
+        User user = createStudentWithCourses(department, "eval-twice@haksa.com", "20260109", 2);
+        entityManager.flush();
+        entityManager.clear();
+
+        LectureEvaluationDto.SubmitRequest request = new LectureEvaluationDto.SubmitRequest(YEAR, SEMESTER,
+                lectureEvaluationService.getRequired(user.getId()).grades().stream()
+                        .map(card -> new LectureEvaluationDto.SubmitEvaluation(card.courseId(), card.professorId(), List.of(), null))
+                        .toList());
+        lectureEvaluationService.submit(user.getId(), request);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThatThrownBy(() -> lectureEvaluationService.submit(user.getId(), request))
+                .isInstanceOf(CommonException.class);
+        assertThat(courseEvaluationRepository.count()).isEqualTo(2);
+    }
+
+    /**
+     * 평가 대상 과목 targetCount개와 제외돼야 하는 과목 2개(IP 성적, 교수 미지정)를 가진 학생을 만든다.
+     */
+    private User createStudentWithCourses(Department department, String email, String studentCode, int targetCount) {
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .profileNickname("eval")
+                .build());
+        Student student = studentRepository.save(enrolledStudent(studentCode, department, user).build());
+
+        SemesterAcademicRecord semesterRecord = new SemesterAcademicRecord(
+                student,
+                YEAR,
+                SEMESTER,
+                12,
+                12,
+                BigDecimal.valueOf(4.0),
+                BigDecimal.valueOf(90),
+                BigDecimal.valueOf(4.0),
+                1,
+                30
+        );
+        semesterRecord.markLectureEvaluationPending();
+        student.addSemesterRecord(semesterRecord);
+        semesterAcademicRecordRepository.save(semesterRecord);
+
+        // 과목마다 다른 교수/과목을 두어 연관 지연 로딩이 생기면 과목 수만큼 쿼리가 늘어나게 한다.
+        for (int i = 0; i < targetCount; i++) {
+            Professor professor = professorRepository.save(new Professor(studentCode + "-교수" + i));
+            enroll(student, department, studentCode + "-" + i, professor, GradeType.A0);
+        }
+        enroll(student, department, studentCode + "-ip", professorRepository.save(new Professor(studentCode + "-교수ip")), GradeType.IP);
+        enroll(student, department, studentCode + "-np", null, GradeType.A0);
+        return user;
+    }
+
+    private void enroll(Student student, Department department, String code, Professor professor, GradeType gradeType) {
+        Course course = courseRepository.save(new Course(code, "과목" + code));
+        CourseOffering offering = courseOfferingRepository.save(new CourseOffering(
+                YEAR * 10 + SEMESTER,
+                false,
+                YEAR,
+                SEMESTER,
+                "공과대학",
+                "01",
+                "월1",
+                null,
+                3,
+                EvaluationType.ABSOLUTE,
+                FacultyDivision.전선,
+                course,
+                professor,
+                department,
+                null
+        ));
+        StudentCourse studentCourse = new StudentCourse(
+                student,
+                offering,
+                new Grade(gradeType),
+                3,
+                false,
+                90,
+                false
+        );
+        student.addStudentCourse(studentCourse);
+        studentCourseRepository.save(studentCourse);
+    }
+}
@@ -1,25 +1,22 @@
 package com.chukchuk.haksa.domain.lectureevaluations.service;
 
 import com.chukchuk.haksa.domain.academic.record.model.SemesterAcademicRecord;
-import com.chukchuk.haksa.domain.academic.record.model.StudentCourse;
 import com.chukchuk.haksa.domain.academic.record.model.LectureEvaluationStatus;
 import com.chukchuk.haksa.domain.academic.record.repository.SemesterAcademicRecordRepository;
-import com.chukchuk.haksa.domain.academic.record.repository.StudentCourseRepository;
-import com.chukchuk.haksa.domain.course.model.Course;
-import com.chukchuk.haksa.domain.course.model.CourseOffering;
 import com.chukchuk.haksa.domain.course.model.FacultyDivision;
 import com.chukchuk.haksa.domain.lectureevaluations.config.LectureEvaluationProperties;
 import com.chukchuk.haksa.domain.lectureevaluations.dto.LectureEvaluationDto;
+import com.chukchuk.haksa.domain.lectureevaluations.dto.LectureEvaluationTarget;
 import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationBulkRepository;
 import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationRepository;
-import com.chukchuk.haksa.domain.professor.model.Professor;
-import com.chukchuk.haksa.domain.student.model.Grade;
 import com.chukchuk.haksa.domain.student.model.GradeType;
 import com.chukchuk.haksa.domain.student.model.Student;
 import com.chukchuk.haksa.domain.student.service.StudentService;
 import com.chukchuk.haksa.global.exception.type.CommonException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,20 +31,22 @@ class LectureEvaluationServiceUnitTests {
 
     private final StudentService studentService = mock(StudentService.class);
     private final SemesterAcademicRecordRepository semesterAcademicRecordRepository = mock(SemesterAcademicRecordRepository.class);
-    private final StudentCourseRepository studentCourseRepository = mock(StudentCourseRepository.class);
     private final CourseEvaluationRepository courseEvaluationRepository = mock(CourseEvaluationRepository.class);
+    private final CourseEvaluationBulkRepository courseEvaluationBulkRepository = mock(CourseEvaluationBulkRepository.class);
     private final LectureEvaluationProperties properties = new LectureEvaluationProperties(2026, 10);
+    private final CourseEvaluationStatsService courseEvaluationStatsService = mock(CourseEvaluationStatsService.class);
 
     private final LectureEvaluationService service = new LectureEvaluationService(
             studentService,
             semesterAcademicRecordRepository,
-            studentCourseRepository,
             courseEvaluationRepository,
-            properties
+            courseEvaluationBulkRepository,
+            properties,
+            courseEvaluationStatsService
     );
 
     @Test
-    @DisplayName("target 학기가 평가 필요 상태이면 IP 과목을 제외하고 score null을 유지한다")
+    @DisplayName("target 학기가 평가 필요 상태이면 IP를 제외한 평가 대상을 조회하고 score null을 유지한다")
     void getRequired_returnsTargetGradesExcludingIpAndKeepsNullScore() {
         UUID userId = UUID.randomUUID();
         UUID studentId = UUID.randomUUID();
@@ -61,10 +60,9 @@ class LectureEvaluationServiceUnitTests {
         when(semesterAcademicRecordRepository.findByStudentIdAndYearAndSemester(studentId, 2026, 10))
                 .thenReturn(Optional.of(record));
 
-        StudentCourse completed = studentCourse(1L, "CSE101", "컴퓨터네트워크", 11L, "김민규", GradeType.A_PLUS, null);
-        StudentCourse inProgress = studentCourse(2L, "CSE102", "운영체제", 12L, "이교수", GradeType.IP, 95);
-        when(studentCourseRepository.findByStudentIdAndYearAndSemester(studentId, 2026, 10))
-                .thenReturn(List.of(completed, inProgress));
+        LectureEvaluationTarget completed = target(1L, "CSE101", "컴퓨터네트워크", 11L, "김민규", GradeType.A_PLUS, null);
+        when(courseEvaluationRepository.findEvaluationTargets(studentId, 2026, 10, GradeType.IP))
+                .thenReturn(List.of(completed));
 
         LectureEvaluationDto.RequiredResponse response = service.getRequired(userId);
 
@@ -74,44 +72,20 @@ class LectureEvaluationServiceUnitTests {
         assertThat(response.grades()).hasSize(1);
         assertThat(response.grades().get(0).courseId()).isEqualTo(1L);
         assertThat(response.grades().get(0).professorId()).isEqualTo(11L);
+        assertThat(response.grades().get(0).grade()).isEqualTo("A+");
         assertThat(response.grades().get(0).score()).isNull();
     }
 
     @Test
     @DisplayName("성적 값이 null이면 성적 카드 grade를 null로 반환한다")
     void gradeCardFrom_returnsNullGradeWhenGradeValueMissing() {
-        StudentCourse target = studentCourse(1L, "CSE101", "컴퓨터네트워크", 11L, "김민규", null, 88);
+        LectureEvaluationTarget target = target(1L, "CSE101", "컴퓨터네트워크", 11L, "김민규", null, 88);
 
         LectureEvaluationDto.GradeCard gradeCard = LectureEvaluationDto.GradeCard.from(target);
 
         assertThat(gradeCard.grade()).isNull();
     }
 
-    @Test
-    @DisplayName("교수 정보가 없는 과목은 평가 대상에서 제외한다")
-    void getRequired_excludesCoursesWithoutProfessor() {
-        UUID userId = UUID.randomUUID();
-        UUID studentId = UUID.randomUUID();
-        Student student = mock(Student.class);
-        when(student.getId()).thenReturn(studentId);
-        when(studentService.getStudentByUserId(userId)).thenReturn(student);
-
-        SemesterAcademicRecord record = mock(SemesterAcademicRecord.class);
-        when(record.isLectureEvaluationPending()).thenReturn(true);
-        when(semesterAcademicRecordRepository.findByStudentIdAndYearAndSemester(studentId, 2026, 10))
-                .thenReturn(Optional.of(record));
-
-        StudentCourse withProfessor = studentCourse(1L, "CSE101", "컴퓨터네트워크", 11L, "김민규", GradeType.A_PLUS, 95);
-        StudentCourse withoutProfessor = studentCourse(2L, "CSE102", "운영체제", null, null, GradeType.A0, 90);
-        when(studentCourseRepository.findByStudentIdAndYearAndSemester(studentId, 2026, 10))
-                .thenReturn(List.of(withProfessor, withoutProfessor));
-
-        LectureEvaluationDto.RequiredResponse response = service.getRequired(userId);
-
-        assertThat(response.grades()).hasSize(1);
-        assertThat(response.grades().get(0).courseId()).isEqualTo(1L);
-    }
-
     @Test
     @DisplayName("target 학기 row가 없으면 status null과 빈 grades를 반환한다")
     void getRequired_returnsNullStatusWhenTargetSemesterRecordMissing() {
@@ -129,7 +103,7 @@ class LectureEvaluationServiceUnitTests {
         assertThat(response.year()).isEqualTo(2026);
         assertThat(response.semester()).isEqualTo(10);
         assertThat(response.grades()).isEmpty();
-        verify(studentCourseRepository, never()).findByStudentIdAndYearAndSemester(any(), any(), any());
+        verify(courseEvaluationRepository, never()).findEvaluationTargets(any(), any(), any(), any());
     }
 
     @Test
@@ -142,12 +116,14 @@ class LectureEvaluationServiceUnitTests {
         when(studentService.getStudentByUserId(userId)).thenReturn(student);
 
         SemesterAcademicRecord record = mock(SemesterAcademicRecord.class);
+        UUID semesterRecordId = UUID.randomUUID();
+        when(record.getId()).thenReturn(semesterRecordId);
         when(record.isLectureEvaluationPending()).thenReturn(true);
         when(semesterAcademicRecordRepository.findByStudentIdAndYearAndSemester(studentId, 2026, 10))
                 .thenReturn(Optional.of(record));
 
-        StudentCourse target = studentCourse(1L, "CSE101", "컴퓨터네트워크", 11L, "김민규", GradeType.A_PLUS, 88);
-        when(studentCourseRepository.findByStudentIdAndYearAndSemester(studentId, 2026, 10))
+        LectureEvaluationTarget target = target(1L, "CSE101", "컴퓨터네트워크", 11L, "김민규", GradeType.A_PLUS, 88);
+        when(courseEvaluationRepository.findEvaluationTargets(studentId, 2026, 10, GradeType.IP))
                 .thenReturn(List.of(target));
 
         LectureEvaluationDto.SubmitRequest request = new LectureEvaluationDto.SubmitRequest(
@@ -161,10 +137,52 @@ class LectureEvaluationServiceUnitTests {
                 ))
         );
 
+        when(courseEvaluationBulkRepository.insertSubmission(any())).thenReturn(1);
+
         service.submit(userId, request);
 
-        verify(courseEvaluationRepository).saveAll(anyList());
-        verify(record).markLectureEvaluationCompleted();
+        ArgumentCaptor<CourseEvaluationBulkRepository.Submission> captor =
+                ArgumentCaptor.forClass(CourseEvaluationBulkRepository.Submission.class);
+        verify(courseEvaluationBulkRepository).insertSubmission(captor.capture());
+        assertThat(captor.getValue().semesterRecordId()).isEqualTo(semesterRecordId);
+        assertThat(captor.getValue().evaluations())
+                .singleElement()
+                .satisfies(evaluation -> {
+                    assertThat(evaluation.courseId()).isEqualTo(1L);
+                    assertThat(evaluation.professorId()).isEqualTo(11L);
+                    assertThat(evaluation.tags()).containsExactly(LectureEvaluationTag.LOW_HOMEWORK);
+                });
+        verify(courseEvaluationStatsService).recordSubmitted(eq(2026), eq(10), anyList());
+    }
+
+    @Test
+    @DisplayName("저장 시점에 학기가 이미 PENDING이 아니면 예외를 던지고 집계하지 않는다")
+    void submit_throwsWhenSemesterCompletedConcurrently() {
+        UUID userId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+        Student student = mock(Student.class);
+        when(student.getId()).thenReturn(studentId);
+        when(studentService.getStudentByUserId(userId)).thenReturn(student);
+
+        SemesterAcademicRecord record = mock(SemesterAcademicRecord.class);
+        when(record.isLectureEvaluationPending()).thenReturn(true);
+        when(semesterAcademicRecordRepository.findByStudentIdAndYearAndSemester(studentId, 2026, 10))
+                .thenReturn(Optional.of(record));
+
+        LectureEvaluationTarget target = target(1L, "CSE101", "컴퓨터네트워크", 11L, "김민규", GradeType.A_PLUS, 88);
+        when(courseEvaluationRepository.findEvaluationTargets(studentId, 2026, 10, GradeType.IP))
+                .thenReturn(List.of(target));
+        when(courseEvaluationBulkRepository.insertSubmission(any())).thenReturn(0);
+
+        LectureEvaluationDto.SubmitRequest request = new LectureEvaluationDto.SubmitRequest(
+                2026,
+                10,
+                List.of(new LectureEvaluationDto.SubmitEvaluation(1L, 11L, List.of(), null))
+        );
+
+        assertThatThrownBy(() -> service.submit(userId, request))
+                .isInstanceOf(CommonException.class);
+        verify(courseEvaluationStatsService, never()).recordSubmitted(any(), any(), anyList());
     }
 
     @Test
@@ -176,16 +194,46 @@ class LectureEvaluationServiceUnitTests {
         when(student.getId()).thenReturn(studentId);
         when(studentService.getStudentByUserId(userId)).thenReturn(student);
 
+        UUID recordId = UUID.randomUUID();
         SemesterAcademicRecord record = mock(SemesterAcademicRecord.class);
+        when(record.getId()).thenReturn(recordId);
         when(record.isLectureEvaluationPending()).thenReturn(true);
         when(semesterAcademicRecordRepository.findByStudentIdAndYearAndSemester(studentId, 2026, 10))
                 .thenReturn(Optional.of(record));
+        when(semesterAcademicRecordRepository.updateLectureEvaluationStatus(
+                eq(recordId), eq(LectureEvaluationStatus.PENDING), eq(LectureEvaluationStatus.SKIPPED), any()))
+                .thenReturn(1);
 
         LectureEvaluationDto.SkipRequest request = new LectureEvaluationDto.SkipRequest(2026, 10);
 
         service.skip(userId, request);
 
-        verify(record).markLectureEvaluationSkipped();
+        verify(semesterAcademicRecordRepository).updateLectureEvaluationStatus(
+                eq(recordId), eq(LectureEvaluationStatus.PENDING), eq(LectureEvaluationStatus.SKIPPED), any());
+        verify(record, never()).markLectureEvaluationSkipped();
+    }
+
+    @Test
+    @DisplayName("건너뛰기 중 동시 요청이 먼저 상태를 바꾸면 예외를 던진다")
+    void skip_throwsWhenConcurrentRequestChangedStatusFirst() {
+        UUID userId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+        Student student = mock(Student.class);
+        when(student.getId()).thenReturn(studentId);
+        when(studentService.getStudentByUserId(userId)).thenReturn(student);
+
+        SemesterAcademicRecord record = mock(SemesterAcademicRecord.class);
+        when(record.getId()).thenReturn(UUID.randomUUID());
+        when(record.isLectureEvaluationPending()).thenReturn(true);
+        when(semesterAcademicRecordRepository.findByStudentIdAndYearAndSemester(studentId, 2026, 10))
+                .thenReturn(Optional.of(record));
+        when(semesterAcademicRecordRepository.updateLectureEvaluationStatus(any(), any(), any(), any()))
+                .thenReturn(0);
+
+        LectureEvaluationDto.SkipRequest request = new LectureEvaluationDto.SkipRequest(2026, 10);
+
+        assertThatThrownBy(() -> service.skip(userId, request))
+                .isInstanceOf(CommonException.class);
     }
 
     @Test
@@ -202,8 +250,8 @@ class LectureEvaluationServiceUnitTests {
         when(semesterAcademicRecordRepository.findByStudentIdAndYearAndSemester(studentId, 2026, 10))
                 .thenReturn(Optional.of(record));
 
-        StudentCourse target = studentCourse(1L, "CSE101", "컴퓨터네트워크", 11L, "김민규", GradeType.A_PLUS, 88);
-        when(studentCourseRepository.findByStudentIdAndYearAndSemester(studentId, 2026, 10))
+        LectureEvaluationTarget target = target(1L, "CSE101", "컴퓨터네트워크", 11L, "김민규", GradeType.A_PLUS, 88);
+        when(courseEvaluationRepository.findEvaluationTargets(studentId, 2026, 10, GradeType.IP))
                 .thenReturn(List.of(target));
 
         LectureEvaluationDto.SubmitRequest request = new LectureEvaluationDto.SubmitRequest(
@@ -219,10 +267,11 @@ class LectureEvaluationServiceUnitTests {
 
         assertThatThrownBy(() -> service.submit(userId, request))
                 .isInstanceOf(CommonException.class);
-        verify(courseEvaluationRepository, never()).saveAll(anyList());
+        verify(courseEvaluationBulkRepository, never()).insertSubmission(any());
+        verify(courseEvaluationStatsService, never()).recordSubmitted(any(), any(), anyList());
     }
 
-    private StudentCourse studentCourse(
+    private LectureEvaluationTarget target(
             Long courseId,
             String courseCode,
             String courseName,
@@ -231,26 +280,17 @@ class LectureEvaluationServiceUnitTests {
             GradeType gradeType,
             Integer originalScore
     ) {
-        StudentCourse studentCourse = mock(StudentCourse.class);
-        CourseOffering offering = mock(CourseOffering.class);
-        Course course = mock(Course.class);
-        Professor professor = professorId != null ? mock(Professor.class) : null;
-
-        when(studentCourse.getOffering()).thenReturn(offering);
-        when(studentCourse.getGrade()).thenReturn(new Grade(gradeType));
-        when(studentCourse.getOriginalScore()).thenReturn(originalScore);
-        when(offering.getCourse()).thenReturn(course);
-        when(offering.getProfessor()).thenReturn(professor);
-        when(offering.getFacultyDivisionName()).thenReturn(FacultyDivision.전선);
-        when(offering.getPoints()).thenReturn(3);
-        when(course.getId()).thenReturn(courseId);
-        when(course.getCourseCode()).thenReturn(courseCode);
-        when(course.getCourseName()).thenReturn(courseName);
-        if (professor != null) {
-            when(professor.getId()).thenReturn(professorId);
-            when(professor.getProfessorName()).thenReturn(professorName);
-        }
-
-        return studentCourse;
+        return new LectureEvaluationTarget(
+                courseId,
+                courseCode,
+                courseName,
+                FacultyDivision.전선,
+                3,
+                professorId,
+                professorName,
+                gradeType,
+                originalScore,
+                null
+        );
     }
 }
@@ -11,6 +11,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -49,6 +51,6 @@ class InternalScrapeResultControllerApiIntegrationTest extends ApiControllerWebM
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
 
-        verify(scrapeResultCallbackService).handleCallback(eq(body), eq("2026-03-14T10:01:00Z"), eq("signature"), eq("2"), eq("req-1"));
+        verify(scrapeResultCallbackService).handleCallback(eq(body.getBytes(StandardCharsets.UTF_8)), eq("2026-03-14T10:01:00Z"), eq("signature"), eq("2"), eq("req-1"));
     }
 }
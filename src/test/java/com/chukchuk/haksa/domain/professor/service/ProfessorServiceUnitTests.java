@@ -1,18 +1,24 @@
 package com.chukchuk.haksa.domain.professor.service;
 
+import com.chukchuk.haksa.domain.cache.ReferenceIdCache;
 import com.chukchuk.haksa.domain.professor.model.Professor;
 import com.chukchuk.haksa.domain.professor.repository.ProfessorRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,6 +29,9 @@ class ProfessorServiceUnitTests {
     @Mock
     private ProfessorRepository professorRepository;
 
+    @Mock
+    private ReferenceIdCache referenceIdCache;
+
     @InjectMocks
     private ProfessorService professorService;
 
@@ -50,4 +59,26 @@ class ProfessorServiceUnitTests {
         assertThat(result).isSameAs(saved);
         verify(professorRepository).save(any(Professor.class));
     }
+
+    @Test
+    @DisplayName("캐시와 DB에서 찾은 교수는 그대로 쓰고, 없는 교수만 만들어 캐시에 넣는다")
+    void getOrCreateAll_whenSomeMissing_createsOnlyMissingAndCachesThem() {
+        Professor cached = new Professor("가교수");
+        List<Professor> saved = List.of(new Professor("나교수"), new Professor("다교수"));
+        when(referenceIdCache.findAll(eq(ReferenceIdCache.PROFESSOR_BY_NAME),
+                argThat(names -> List.copyOf(names).equals(List.of("가교수", "나교수", "다교수"))), any()))
+                .thenReturn(Map.of("가교수", cached));
+        when(professorRepository.saveAll(ArgumentMatchers.<Professor>anyList())).thenReturn(saved);
+
+        Map<String, Professor> result = professorService.getOrCreateAll(List.of("다교수", "가교수", "나교수", "가교수"));
+
+        assertThat(result).containsEntry("가교수", cached)
+                .containsEntry("나교수", saved.get(0))
+                .containsEntry("다교수", saved.get(1))
+                .hasSize(3);
+        verify(professorRepository).saveAll(argThat((List<Professor> professors) -> professors.size() == 2
+                && professors.get(0).getProfessorName().equals("나교수")
+                && professors.get(1).getProfessorName().equals("다교수")));
+        verify(referenceIdCache).putAll(ReferenceIdCache.PROFESSOR_BY_NAME, saved);
+    }
 }
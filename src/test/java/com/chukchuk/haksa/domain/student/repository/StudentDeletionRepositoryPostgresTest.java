@@ -0,0 +1,199 @@
+package com.chukchuk.haksa.domain.student.repository;
+
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationStatDelta;
+import com.chukchuk.haksa.domain.student.repository.StudentDeletionRepository.DeletedUser;
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import com.chukchuk.haksa.global.metrics.MeteredDataSource;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.support.IndexAuditDatabase;
+import com.chukchuk.haksa.support.QueryBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 학생/사용자 삭제 PostgreSQL 경로(DELETE_USERS_CTE) 점검
+ *
+ * - H2 테스트는 테이블당 한 문장씩 지우는 대체 경로만 타므로, indexAudit 태스크의 PostgreSQL에서 data-modifying CTE를 실행한다.
+ *   자식 row가 부모와 같은 문장에서 지워지므로 FK 검사가 문장 끝에서 통과하는지도 여기서만 확인된다.
+ * - 한 트랜잭션 안에서 실행하고 끝에서 롤백한다.
+ */
+@Tag("index-audit")
+@EnabledIfEnvironmentVariable(named = IndexAuditDatabase.URL_ENV, matches = ".+")
+class StudentDeletionRepositoryPostgresTest {
+
+    private static final long DEPARTMENT_ID = 2_000_903L;
+    private static final int YEAR = 2025;
+    private static final int SEMESTER = 10;
+
+    private Connection connection;
+    private JdbcTemplate jdbcTemplate;
+    private StudentDeletionRepositoryImpl repository;
+
+    private long courseId;
+    private long professorId;
+    private long offeringId;
+
+    @BeforeAll
+    static void migrate() {
+        IndexAuditDatabase.migrate();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = IndexAuditDatabase.connect();
+        connection.setAutoCommit(false);
+        jdbcTemplate = new JdbcTemplate(new MeteredDataSource(new SingleConnectionDataSource(connection, true), true));
+        repository = new StudentDeletionRepositoryImpl(jdbcTemplate, new DatabaseDialect(jdbcTemplate));
+
+        jdbcTemplate.update("""
+                INSERT INTO departments (id, department_code, established_department_name)
+                VALUES (?, 'DELETE-PG', '삭제학과')
+                """, DEPARTMENT_ID);
+        courseId = jdbcTemplate.queryForObject(
+                "INSERT INTO courses (course_code, course_name) VALUES ('DELETE-PG', '삭제과목') RETURNING id", Long.class);
+        professorId = jdbcTemplate.queryForObject(
+                "INSERT INTO professor (professor_name) VALUES ('삭제교수-PG') RETURNING id", Long.class);
+        offeringId = jdbcTemplate.queryForObject("""
+                INSERT INTO course_offerings (year, semester, points, course_id, professor_id)
+                VALUES (?, ?, 3, ?, ?) RETURNING id
+                """, Long.class, YEAR, SEMESTER, courseId, professorId);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try {
+            connection.rollback();
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("강의평가/수강/학적/소셜 계정이 있는 사용자를 한 문장으로 지우고 다른 사용자는 남긴다")
+    void deleteUsers_removesUsersWithHistoryInSingleStatement() {
+        List<Linked> targets = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            targets.add(linkedUserWithHistory("target-" + i));
+        }
+        UUID unlinkedUser = insertUser("unlinked");
+        insertSocialAccount(unlinkedUser, "unlinked");
+        Linked bystander = linkedUserWithHistory("bystander");
+
+        List<UUID> userIds = new ArrayList<>(targets.stream().map(Linked::userId).toList());
+        userIds.add(unlinkedUser);
+        userIds.add(UUID.randomUUID());
+
+        List<CourseEvaluationStatDelta> deltas = repository.countEvaluations(userIds);
+        assertThat(deltas).singleElement()
+                .satisfies(delta -> {
+                    assertThat(delta.evaluationCount()).isEqualTo(targets.size());
+                    assertThat(delta.tagCount(LectureEvaluationTag.LOW_HOMEWORK)).isEqualTo(targets.size());
+                });
+
+        AtomicReference<List<DeletedUser>> deleted = new AtomicReference<>();
+        QueryCounter.Scope scope = QueryBudget.measure(QueryCounter.ScopeType.SYNC, "student.delete.pg",
+                () -> deleted.set(repository.deleteUsers(userIds)));
+
+        assertThat(scope.total()).isEqualTo(1);
+        List<DeletedUser> expected = new ArrayList<>(targets.stream()
+                .map(target -> new DeletedUser(target.userId(), target.studentId()))
+                .toList());
+        expected.add(new DeletedUser(unlinkedUser, null));
+        assertThat(deleted.get()).containsExactlyInAnyOrderElementsOf(expected);
+
+        for (Linked target : targets) {
+            assertThat(remainingRows(target)).isZero();
+        }
+        assertThat(count("SELECT COUNT(*) FROM users WHERE id = ?", unlinkedUser)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM social_accounts WHERE user_id = ?", unlinkedUser)).isZero();
+        assertThat(remainingRows(bystander)).isEqualTo(9);
+    }
+
+    /**
+     * 사용자, 학생, 소셜 계정, 수강/학기/학적/졸업 진행, 강의평가와 태그를 한 벌 만든다.
+     */
+    private Linked linkedUserWithHistory(String prefix) {
+        UUID userId = insertUser(prefix);
+        UUID studentId = UUID.randomUUID();
+        insertSocialAccount(userId, prefix);
+        jdbcTemplate.update("""
+                INSERT INTO students (student_id, student_code, reconnection_required, admission_year, department_id, user_id)
+                VALUES (?, ?, FALSE, 2024, ?, ?)
+                """, studentId, prefix.toUpperCase() + "-DELETE", DEPARTMENT_ID, userId);
+        jdbcTemplate.update("""
+                INSERT INTO student_courses (grade, points, is_retake, original_score, is_retake_deleted, offering_id, student_id)
+                VALUES ('A0', 3, FALSE, 90, FALSE, ?, ?)
+                """, offeringId, studentId);
+        jdbcTemplate.update("""
+                INSERT INTO semester_academic_records (id, student_id, year, semester, lecture_evaluation_status)
+                VALUES (?, ?, ?, ?, 'COMPLETED')
+                """, UUID.randomUUID(), studentId, YEAR, SEMESTER);
+        jdbcTemplate.update("INSERT INTO student_academic_records (id, student_id) VALUES (?, ?)",
+                UUID.randomUUID(), studentId);
+        jdbcTemplate.update("INSERT INTO student_graduation_progress (id, student_id) VALUES (?, ?)",
+                UUID.randomUUID(), studentId);
+        long evaluationId = jdbcTemplate.queryForObject("""
+                INSERT INTO course_evaluations (student_id, course_id, professor_id, year, semester, review, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, '삭제 전 평가', now(), now())
+                RETURNING id
+                """, Long.class, studentId, courseId, professorId, YEAR, SEMESTER);
+        jdbcTemplate.update("INSERT INTO course_evaluation_tags (course_evaluation_id, tag) VALUES (?, 'LOW_HOMEWORK')",
+                evaluationId);
+        return new Linked(userId, studentId);
+    }
+
+    /**
+     * 사용자/학생/소셜 계정/자식 테이블에 남은 row 수 (한 벌이면 9)
+     */
+    private int remainingRows(Linked linked) {
+        UUID studentId = linked.studentId();
+        return count("SELECT COUNT(*) FROM users WHERE id = ?", linked.userId())
+                + count("SELECT COUNT(*) FROM social_accounts WHERE user_id = ?", linked.userId())
+                + count("SELECT COUNT(*) FROM students WHERE student_id = ?", studentId)
+                + count("SELECT COUNT(*) FROM student_courses WHERE student_id = ?", studentId)
+                + count("SELECT COUNT(*) FROM semester_academic_records WHERE student_id = ?", studentId)
+                + count("SELECT COUNT(*) FROM student_academic_records WHERE student_id = ?", studentId)
+                + count("SELECT COUNT(*) FROM student_graduation_progress WHERE student_id = ?", studentId)
+                + count("SELECT COUNT(*) FROM course_evaluations WHERE student_id = ?", studentId)
+                + count("""
+                        SELECT COUNT(*) FROM course_evaluation_tags t
+                        JOIN course_evaluations ce ON ce.id = t.course_evaluation_id
+                        WHERE ce.student_id = ?
+                        """, studentId);
+    }
+
+    private UUID insertUser(String prefix) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, email, is_deleted, portal_connected) VALUES (?, ?, FALSE, TRUE)",
+                id, prefix + "-delete@haksa.com");
+        return id;
+    }
+
+    private void insertSocialAccount(UUID userId, String prefix) {
+        jdbcTemplate.update("INSERT INTO social_accounts (provider, social_id, email, user_id) VALUES ('KAKAO', ?, ?, ?)",
+                prefix + "-delete", prefix + "-delete@haksa.com", userId);
+    }
+
+    private int count(String sql, Object arg) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, arg);
+    }
+
+    private record Linked(UUID userId, UUID studentId) {
+    }
+}
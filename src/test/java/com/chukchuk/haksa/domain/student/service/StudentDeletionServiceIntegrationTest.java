@@ -0,0 +1,206 @@
+package com.chukchuk.haksa.domain.student.service;
+
+import com.chukchuk.haksa.domain.academic.record.model.SemesterAcademicRecord;
+import com.chukchuk.haksa.domain.academic.record.model.StudentAcademicRecord;
+import com.chukchuk.haksa.domain.academic.record.repository.SemesterAcademicRecordRepository;
+import com.chukchuk.haksa.domain.academic.record.repository.StudentAcademicRecordRepository;
+import com.chukchuk.haksa.domain.cache.AcademicCache;
+import com.chukchuk.haksa.domain.course.model.Course;
+import com.chukchuk.haksa.domain.course.repository.CourseRepository;
+import com.chukchuk.haksa.domain.department.model.Department;
+import com.chukchuk.haksa.domain.department.repository.DepartmentRepository;
+import com.chukchuk.haksa.domain.lectureevaluations.model.CourseEvaluation;
+import com.chukchuk.haksa.domain.lectureevaluations.model.CourseEvaluationStat;
+import com.chukchuk.haksa.domain.lectureevaluations.model.LectureEvaluationTag;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationBulkRepository.SubmittedEvaluation;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationRepository;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationStatRepository;
+import com.chukchuk.haksa.domain.lectureevaluations.service.CourseEvaluationStatsService;
+import com.chukchuk.haksa.domain.professor.model.Professor;
+import com.chukchuk.haksa.domain.professor.repository.ProfessorRepository;
+import com.chukchuk.haksa.domain.student.model.Student;
+import com.chukchuk.haksa.domain.student.repository.StudentDeletionRepository.DeletedUser;
+import com.chukchuk.haksa.domain.student.repository.StudentRepository;
+import com.chukchuk.haksa.domain.user.model.SocialAccount;
+import com.chukchuk.haksa.domain.user.model.User;
+import com.chukchuk.haksa.domain.user.repository.SocialAccountRepository;
+import com.chukchuk.haksa.domain.user.repository.UserRepository;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.global.security.cache.AuthTokenCache;
+import com.chukchuk.haksa.global.security.service.OidcProvider;
+import com.chukchuk.haksa.support.QueryBudget;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.chukchuk.haksa.support.StudentFixtures.enrolledStudent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StudentDeletionServiceIntegrationTest {
+
+    private static final int YEAR = 2025;
+    private static final int SEMESTER = 10;
+
+    @Autowired
+    private StudentDeletionService studentDeletionService;
+    @Autowired
+    private CourseEvaluationStatsService courseEvaluationStatsService;
+    @Autowired
+    private CourseEvaluationRepository courseEvaluationRepository;
+    @Autowired
+    private CourseEvaluationStatRepository courseEvaluationStatRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SocialAccountRepository socialAccountRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private StudentAcademicRecordRepository studentAcademicRecordRepository;
+    @Autowired
+    private SemesterAcademicRecordRepository semesterAcademicRecordRepository;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private ProfessorRepository professorRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AcademicCache academicCache;
+    @MockBean
+    private AuthTokenCache authTokenCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("여러 사용자를 한 번에 지워도 문장 수는 고정이고, 지운 강의평가만큼 통계에서 빠진다")
+    void deleteUsers_removesAllAssociationsWithFixedStatements() {
+        Department department = departmentRepository.save(new Department("2000801", "삭제학과"));
+        Course course = courseRepository.save(new Course("QD801", "삭제과목"));
+        Professor professor = professorRepository.save(new Professor("삭제교수"));
+
+        List<UUID> userIds = new ArrayList<>();
+        List<UUID> studentIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Student student = createStudent(department, "delete-" + i + "@haksa.com", "2026080" + i);
+            persistRecords(student);
+            submit(student, course, professor, LectureEvaluationTag.INTERESTING_LECTURE);
+            userIds.add(student.getUser().getId());
+            studentIds.add(student.getId());
+        }
+        User unlinked = userRepository.save(User.builder().email("unlinked@haksa.com").profileNickname("u").build());
+        userIds.add(unlinked.getId());
+        Student kept = createStudent(department, "kept@haksa.com", "20260809");
+        submit(kept, course, professor, LectureEvaluationTag.EASY_GRADE);
+        entityManager.flush();
+        entityManager.clear();
+
+        AtomicReference<List<DeletedUser>> deleted = new AtomicReference<>();
+        // 집계 조회 1 + 집계 차감 1 + 대상 조회 1 + 자식/학생 삭제 7 + 소셜 계정/사용자 삭제 2
+        QueryBudget.of(QueryCounter.ScopeType.MAINTENANCE, "student.deletion.batch")
+                .maxStatements(12)
+                .maxSelectRepeat(1)
+                .verify(() -> deleted.set(studentDeletionService.deleteUsers(userIds)));
+
+        assertThat(deleted.get()).extracting(DeletedUser::userId).containsExactlyInAnyOrderElementsOf(userIds);
+        assertThat(userRepository.findAllById(userIds)).isEmpty();
+        assertThat(studentRepository.findAllById(studentIds)).isEmpty();
+        assertThat(countByStudent("course_evaluations", studentIds)).isZero();
+        assertThat(countByStudent("semester_academic_records", studentIds)).isZero();
+        assertThat(countByStudent("student_academic_records", studentIds)).isZero();
+        assertThat(socialAccountRepository.findAllByUserId(userIds.get(0))).isEmpty();
+        assertThat(studentRepository.findById(kept.getId())).isPresent();
+
+        CourseEvaluationStat stat = courseEvaluationStatRepository
+                .findByCourseIdAndProfessorId(course.getId(), professor.getId()).get(0);
+        assertThat(stat.getEvaluationCount()).isEqualTo(1);
+        assertThat(stat.countOf(LectureEvaluationTag.INTERESTING_LECTURE)).isZero();
+        assertThat(stat.countOf(LectureEvaluationTag.EASY_GRADE)).isEqualTo(1);
+
+        studentIds.forEach(studentId -> verify(academicCache).deleteAllByStudentId(studentId));
+        userIds.forEach(userId -> verify(authTokenCache).evictByUserId(userId.toString()));
+    }
+
+    @Test
+    @DisplayName("학생 초기화는 학생과 강의평가를 남기고 학기/학업 요약만 지운다")
+    void resetStudent_keepsStudentAndEvaluations() {
+        Department department = departmentRepository.save(new Department("2000802", "초기화학과"));
+        Course course = courseRepository.save(new Course("QD802", "초기화과목"));
+        Professor professor = professorRepository.save(new Professor("초기화교수"));
+        Student student = createStudent(department, "reset@haksa.com", "20260810");
+        persistRecords(student);
+        submit(student, course, professor, LectureEvaluationTag.LOW_HOMEWORK);
+        entityManager.flush();
+        entityManager.clear();
+
+        studentDeletionService.resetStudent(student.getId());
+
+        List<UUID> studentIds = List.of(student.getId());
+        assertThat(studentRepository.findById(student.getId())).isPresent();
+        assertThat(semesterAcademicRecordRepository.findByStudentId(student.getId())).isEmpty();
+        assertThat(studentAcademicRecordRepository.findByStudentId(student.getId())).isEmpty();
+        assertThat(countByStudent("course_evaluations", studentIds)).isEqualTo(1);
+        verify(academicCache).deleteAllByStudentId(student.getId());
+    }
+
+    private int countByStudent(String table, List<UUID> studentIds) {
+        return studentIds.stream()
+                .mapToInt(studentId -> jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM " + table + " WHERE student_id = ?", Integer.class, studentId))
+                .sum();
+    }
+
+    private void submit(Student student, Course course, Professor professor, LectureEvaluationTag tag) {
+        courseEvaluationRepository.save(new CourseEvaluation(student, course, professor, YEAR, SEMESTER, null, List.of(tag)));
+        courseEvaluationStatsService.recordSubmitted(YEAR, SEMESTER, List.of(
+                new SubmittedEvaluation(course.getId(), professor.getId(), null, List.of(tag))
+        ));
+    }
+
+    private void persistRecords(Student student) {
+        studentAcademicRecordRepository.save(new StudentAcademicRecord(
+                student, 30, 24, BigDecimal.valueOf(3.8), BigDecimal.valueOf(85)
+        ));
+        SemesterAcademicRecord semesterRecord = new SemesterAcademicRecord(
+                student, YEAR, SEMESTER, 15, 15,
+                BigDecimal.valueOf(3.9), BigDecimal.valueOf(88), BigDecimal.valueOf(3.9), 1, 30
+        );
+        student.addSemesterRecord(semesterRecord);
+        semesterAcademicRecordRepository.save(semesterRecord);
+    }
+
+    private Student createStudent(Department department, String email, String studentCode) {
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .profileNickname("delete")
+                .build());
+        socialAccountRepository.save(SocialAccount.builder()
+                .provider(OidcProvider.KAKAO)
+                .socialId("social-" + studentCode)
+                .email(email)
+                .user(user)
+                .build());
+        return studentRepository.save(enrolledStudent(studentCode, department, user).build());
+    }
+}
@@ -1,9 +1,7 @@
 package com.chukchuk.haksa.domain.student.service;
 
-import com.chukchuk.haksa.domain.academic.record.repository.SemesterAcademicRecordRepository;
-import com.chukchuk.haksa.domain.academic.record.repository.StudentAcademicRecordRepository;
-import com.chukchuk.haksa.domain.academic.record.repository.StudentCourseRepository;
 import com.chukchuk.haksa.domain.department.model.Department;
+import com.chukchuk.haksa.domain.student.dto.StudentDataVersion;
 import com.chukchuk.haksa.domain.student.dto.StudentDto;
 import com.chukchuk.haksa.domain.student.model.Student;
 import com.chukchuk.haksa.domain.student.model.StudentStatus;
@@ -29,6 +27,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,13 +43,7 @@ class StudentServiceUnitTests {
     private UserRepository userRepository;
 
     @Mock
-    private StudentAcademicRecordRepository studentAcademicRecordRepository;
-
-    @Mock
-    private SemesterAcademicRecordRepository semesterAcademicRecordRepository;
-
-    @Mock
-    private StudentCourseRepository studentCourseRepository;
+    private StudentDeletionService studentDeletionService;
 
     @InjectMocks
     private StudentService studentService;
@@ -120,6 +113,34 @@ class StudentServiceUnitTests {
                 .satisfies(ex -> assertThat(((CommonException) ex).getCode()).isEqualTo(ErrorCode.USER_NOT_CONNECTED.code()));
     }
 
+    @Test
+    @DisplayName("응답 캐시용 학생 id와 데이터 버전은 User 엔티티를 읽지 않고 한 번에 조회한다")
+    void getRequiredStudentDataVersionByUserId_success() {
+        UUID userId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+        Instant lastSyncedAt = Instant.parse("2026-03-01T00:00:00Z");
+        when(userRepository.findStudentDataVersion(userId))
+                .thenReturn(Optional.of(new StudentDataVersion(studentId, lastSyncedAt)));
+
+        StudentDataVersion found = studentService.getRequiredStudentDataVersionByUserId(userId);
+
+        assertThat(found.studentId()).isEqualTo(studentId);
+        assertThat(found.version()).isEqualTo(lastSyncedAt.toEpochMilli());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("학생 컨텍스트가 없으면 데이터 버전 조회도 USER_NOT_CONNECTED 예외를 던진다")
+    void getRequiredStudentDataVersionByUserId_notConnected_throws() {
+        UUID userId = UUID.randomUUID();
+        when(userRepository.findStudentDataVersion(userId))
+                .thenReturn(Optional.of(new StudentDataVersion(null, null)));
+
+        assertThatThrownBy(() -> studentService.getRequiredStudentDataVersionByUserId(userId))
+                .isInstanceOf(CommonException.class)
+                .satisfies(ex -> assertThat(((CommonException) ex).getCode()).isEqualTo(ErrorCode.USER_NOT_CONNECTED.code()));
+    }
+
     @Test
     @DisplayName("재연동 마킹 시 학생을 조회해 markReconnected 후 저장한다")
     void markReconnectedByUser_success() {
@@ -239,15 +260,13 @@ class StudentServiceUnitTests {
     }
 
     @Test
-    @DisplayName("학생 데이터 초기화 시 학기/과목/학업요약을 벌크 삭제한다")
-    void resetBy_deletesAcademicRecordsInBulk() {
+    @DisplayName("학생 데이터 초기화 시 학기/과목/학업요약 삭제를 삭제 서비스에 위임한다")
+    void resetBy_delegatesToDeletionService() {
         UUID studentId = UUID.randomUUID();
 
         studentService.resetBy(studentId);
 
-        verify(studentCourseRepository).deleteByStudentId(studentId);
-        verify(semesterAcademicRecordRepository).deleteByStudentId(studentId);
-        verify(studentAcademicRecordRepository).deleteByStudentId(studentId);
+        verify(studentDeletionService).resetStudent(studentId);
     }
 
     @Test
@@ -0,0 +1,116 @@
+package com.chukchuk.haksa.domain.user.repository;
+
+import com.chukchuk.haksa.domain.user.repository.UserMergeRepository.MergeResult;
+import com.chukchuk.haksa.global.datasource.DatabaseDialect;
+import com.chukchuk.haksa.global.metrics.MeteredDataSource;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.support.IndexAuditDatabase;
+import com.chukchuk.haksa.support.QueryBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 병합 PostgreSQL 경로(MERGE_CTE) 점검
+ *
+ * - H2 통합 테스트는 이식 가능한 경로만 타므로, indexAudit 태스크(INDEX_AUDIT_DB_URL)의 PostgreSQL에서
+ *   data-modifying CTE 경로를 실행한다. 한 트랜잭션 안에서 실행하고 끝에서 롤백한다.
+ * - 이력(소셜 계정/세션) 수가 달라도 문장 수가 같고, 참조 row가 모두 옮겨지는지 확인한다.
+ */
+@Tag("index-audit")
+@EnabledIfEnvironmentVariable(named = IndexAuditDatabase.URL_ENV, matches = ".+")
+class UserMergeRepositoryPostgresTest {
+
+    private static final long DEPARTMENT_ID = 2_000_901L;
+
+    @Test
+    @DisplayName("PostgreSQL에서는 이력 수와 관계없이 잠금 1 + 병합 CTE 1 문장으로 병합한다")
+    void merge_usesSingleStatementRegardlessOfHistory() throws Exception {
+        IndexAuditDatabase.migrate();
+
+        try (Connection connection = IndexAuditDatabase.connect()) {
+            connection.setAutoCommit(false);
+            try {
+                JdbcTemplate jdbcTemplate = new JdbcTemplate(
+                        new MeteredDataSource(new SingleConnectionDataSource(connection, true), true));
+                UserMergeRepositoryImpl repository =
+                        new UserMergeRepositoryImpl(jdbcTemplate, new DatabaseDialect(jdbcTemplate));
+                jdbcTemplate.update("""
+                        INSERT INTO departments (id, department_code, established_department_name)
+                        VALUES (?, 'MERGE-PG', '병합학과')
+                        """, DEPARTMENT_ID);
+
+                int small = mergeAndCount(jdbcTemplate, repository, "small", 1, 1);
+                int large = mergeAndCount(jdbcTemplate, repository, "large", 30, 40);
+
+                assertThat(small).isEqualTo(2);
+                assertThat(large).isEqualTo(small);
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    private int mergeAndCount(JdbcTemplate jdbcTemplate, UserMergeRepositoryImpl repository,
+                              String prefix, int socialAccounts, int sessions) {
+        UUID source = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+        insertUser(jdbcTemplate, source, prefix + "-existing@haksa.com", true);
+        insertUser(jdbcTemplate, target, prefix + "-current@haksa.com", false);
+        for (int i = 0; i < socialAccounts; i++) {
+            insertSocialAccount(jdbcTemplate, source, prefix + "-existing-" + i);
+        }
+        insertSocialAccount(jdbcTemplate, target, prefix + "-current");
+        for (int i = 0; i < sessions; i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO refresh_token (session_id, user_id, token_hash, expiry)
+                    VALUES (?, ?, ?, now() + interval '1 day')
+                    """, prefix + "-session-" + i, source.toString(), prefix + "-token-" + i);
+        }
+        jdbcTemplate.update("""
+                INSERT INTO students (student_id, student_code, reconnection_required, admission_year, department_id, user_id)
+                VALUES (?, ?, FALSE, 2024, ?, ?)
+                """, studentId, prefix.toUpperCase() + "-MERGE", DEPARTMENT_ID, source);
+
+        AtomicReference<MergeResult> result = new AtomicReference<>();
+        QueryCounter.Scope scope = QueryBudget.measure(QueryCounter.ScopeType.SYNC, "user.merge.pg." + prefix, () -> {
+            repository.lockUsers(source, target);
+            result.set(repository.merge(source, target));
+        });
+
+        assertThat(result.get().merged()).isTrue();
+        assertThat(result.get().studentId()).isEqualTo(studentId);
+        assertThat(count(jdbcTemplate, "SELECT COUNT(*) FROM users WHERE id = ?", source)).isZero();
+        assertThat(count(jdbcTemplate, "SELECT COUNT(*) FROM social_accounts WHERE user_id = ?", target))
+                .isEqualTo(socialAccounts + 1);
+        assertThat(count(jdbcTemplate, "SELECT COUNT(*) FROM refresh_token WHERE user_id = ?", target.toString()))
+                .isEqualTo(sessions);
+        assertThat(jdbcTemplate.queryForObject("SELECT email FROM users WHERE id = ?", String.class, target))
+                .isEqualTo(prefix + "-existing@haksa.com");
+        return scope.total();
+    }
+
+    private void insertUser(JdbcTemplate jdbcTemplate, UUID id, String email, boolean portalConnected) {
+        jdbcTemplate.update("INSERT INTO users (id, email, is_deleted, portal_connected) VALUES (?, ?, FALSE, ?)",
+                id, email, portalConnected);
+    }
+
+    private void insertSocialAccount(JdbcTemplate jdbcTemplate, UUID userId, String socialId) {
+        jdbcTemplate.update("INSERT INTO social_accounts (provider, social_id, email, user_id) VALUES ('KAKAO', ?, ?, ?)",
+                socialId, socialId + "@haksa.com", userId);
+    }
+
+    private int count(JdbcTemplate jdbcTemplate, String sql, Object arg) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, arg);
+    }
+}
@@ -0,0 +1,160 @@
+package com.chukchuk.haksa.domain.user.service;
+
+import com.chukchuk.haksa.domain.auth.entity.RefreshToken;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRepository;
+import com.chukchuk.haksa.domain.cache.AcademicCache;
+import com.chukchuk.haksa.domain.department.model.Department;
+import com.chukchuk.haksa.domain.department.repository.DepartmentRepository;
+import com.chukchuk.haksa.domain.student.model.Student;
+import com.chukchuk.haksa.domain.student.repository.StudentRepository;
+import com.chukchuk.haksa.domain.user.model.SocialAccount;
+import com.chukchuk.haksa.domain.user.model.User;
+import com.chukchuk.haksa.domain.user.repository.SocialAccountRepository;
+import com.chukchuk.haksa.domain.user.repository.UserRepository;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.global.security.cache.AuthTokenCache;
+import com.chukchuk.haksa.global.security.service.OidcProvider;
+import com.chukchuk.haksa.support.QueryBudget;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.chukchuk.haksa.support.StudentFixtures.enrolledStudent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserMergeServiceIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserMergeService userMergeService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SocialAccountRepository socialAccountRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AcademicCache academicCache;
+    @MockBean
+    private AuthTokenCache authTokenCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("기존 사용자의 소셜 계정/학생/세션 수와 관계없이 고정된 문장 수로 현재 사용자에 병합한다")
+    void tryMergeWithExistingUser_movesReferencesWithFixedStatements() {
+        Department department = departmentRepository.save(new Department("2000901", "병합학과"));
+
+        int small = mergeAndCount(department, "small", "20260901", 1, 1);
+        int large = mergeAndCount(department, "large", "20260902", 20, 30);
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("기존 사용자가 이미 병합되어 사라졌으면 현재 사용자를 그대로 둔다")
+    void merge_whenSourceGone_returnsTargetUnchanged() {
+        User current = userRepository.save(User.builder().email("alone@haksa.com").profileNickname("alone").build());
+        entityManager.flush();
+
+        User result = userService.getUserById(current.getId());
+        User merged = userMergeService.merge(UUID.randomUUID(), result);
+
+        assertThat(merged).isSameAs(result);
+        assertThat(merged.getEmail()).isEqualTo("alone@haksa.com");
+        assertThat(merged.getPortalConnected()).isFalse();
+    }
+
+    /**
+     * 소셜 계정 socialAccounts개, 세션 sessions개를 가진 기존 사용자를 현재 사용자에 병합하고 실행 문장 수를 돌려준다.
+     */
+    private int mergeAndCount(Department department, String prefix, String studentCode, int socialAccounts, int sessions) {
+        Instant connectedAt = Instant.parse("2026-03-02T00:00:00Z");
+
+        User existing = userRepository.save(User.builder()
+                .email(prefix + "-existing@haksa.com")
+                .profileNickname("existing")
+                .build());
+        existing.markPortalConnected(connectedAt);
+        for (int i = 0; i < socialAccounts; i++) {
+            saveSocialAccount(existing, prefix + "-existing-" + i);
+        }
+        for (int i = 0; i < sessions; i++) {
+            refreshTokenRepository.save(new RefreshToken(
+                    prefix + "-session-" + i, existing.getId().toString(), "token-" + i, new Date()));
+        }
+        Student student = studentRepository.save(enrolledStudent(studentCode, department, existing)
+                .name("병합학생")
+                .build());
+
+        User current = userRepository.save(User.builder()
+                .email(prefix + "-current@haksa.com")
+                .profileNickname("current")
+                .build());
+        saveSocialAccount(current, prefix + "-current");
+        entityManager.flush();
+        entityManager.clear();
+
+        UUID existingId = existing.getId();
+        UUID currentId = current.getId();
+        AtomicReference<User> merged = new AtomicReference<>();
+        // 현재 사용자/기존 사용자 id 조회 2 + 잠금 1 + 원본 조회 1 + 참조 이동 3 + 흡수 1 + 삭제 1 + 재조회
+        QueryCounter.Scope scope = QueryBudget.of(QueryCounter.ScopeType.SYNC, "user.merge." + prefix)
+                .maxStatements(12)
+                .maxSelectRepeat(2)
+                .verify(() -> merged.set(userService.tryMergeWithExistingUser(currentId, studentCode)));
+
+        User result = merged.get();
+        assertThat(result.getId()).isEqualTo(currentId);
+        assertThat(result.getEmail()).isEqualTo(prefix + "-existing@haksa.com");
+        assertThat(result.getPortalConnected()).isTrue();
+        assertThat(result.getConnectedAt()).isEqualTo(connectedAt);
+        assertThat(result.getStudent().getId()).isEqualTo(student.getId());
+
+        assertThat(userRepository.findById(existingId)).isEmpty();
+        assertThat(socialAccountRepository.findAllByUserId(currentId)).hasSize(socialAccounts + 1);
+        assertThat(socialAccountRepository.findAllByUserId(existingId)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_token WHERE user_id = ?", Integer.class, currentId.toString()))
+                .isEqualTo(sessions);
+
+        verify(authTokenCache).evictByUserId(existingId.toString());
+        verify(authTokenCache).evictByUserId(currentId.toString());
+        verify(academicCache).deleteAllByStudentId(student.getId());
+        return scope.total();
+    }
+
+    private void saveSocialAccount(User user, String socialId) {
+        socialAccountRepository.save(SocialAccount.builder()
+                .provider(OidcProvider.KAKAO)
+                .socialId(socialId)
+                .email(user.getEmail())
+                .user(user)
+                .build());
+    }
+}
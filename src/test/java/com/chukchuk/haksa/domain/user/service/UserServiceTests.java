@@ -2,7 +2,6 @@ package com.chukchuk.haksa.domain.user.service;
 
 import com.chukchuk.haksa.domain.auth.dto.AuthDto;
 import com.chukchuk.haksa.domain.auth.service.RefreshTokenService;
-import com.chukchuk.haksa.domain.cache.AcademicCache;
 import com.chukchuk.haksa.domain.student.service.StudentDeletionService;
 import com.chukchuk.haksa.domain.user.dto.UserDto;
 import com.chukchuk.haksa.domain.user.model.User;
@@ -48,7 +47,7 @@ class UserServiceTests {
     private StudentDeletionService studentDeletionService;
 
     @Mock
-    private AcademicCache academicCache;
+    private UserMergeService userMergeService;
 
     @Mock
     private AuthTokenCache authTokenCache;
@@ -86,9 +85,9 @@ class UserServiceTests {
                 socialAccountRepository,
                 jwtProvider,
                 refreshTokenService,
-                academicCache,
                 authTokenCache,
                 studentDeletionService,
+                userMergeService,
                 Map.of(OidcProvider.APPLE, appleOidcService)
         );
 
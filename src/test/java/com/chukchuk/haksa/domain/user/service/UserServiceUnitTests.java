@@ -2,8 +2,6 @@ package com.chukchuk.haksa.domain.user.service;
 
 import com.chukchuk.haksa.domain.auth.dto.AuthDto;
 import com.chukchuk.haksa.domain.auth.service.RefreshTokenService;
-import com.chukchuk.haksa.domain.cache.AcademicCache;
-import com.chukchuk.haksa.domain.student.model.Student;
 import com.chukchuk.haksa.domain.student.service.StudentDeletionService;
 import com.chukchuk.haksa.domain.user.dto.UserDto;
 import com.chukchuk.haksa.domain.user.model.SocialAccount;
@@ -27,7 +25,6 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
 import java.util.Date;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,7 +32,6 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -56,9 +52,6 @@ class UserServiceUnitTests {
     @Mock
     private RefreshTokenService refreshTokenService;
 
-    @Mock
-    private AcademicCache academicCache;
-
     @Mock
     private AuthTokenCache authTokenCache;
 
@@ -68,6 +61,9 @@ class UserServiceUnitTests {
     @Mock
     private StudentDeletionService studentDeletionService;
 
+    @Mock
+    private UserMergeService userMergeService;
+
     @Test
     @DisplayName("userId로 사용자를 조회할 수 있다")
     void getUserById_success() {
@@ -166,18 +162,17 @@ class UserServiceUnitTests {
 
         UserService userService = createService();
         when(userRepository.findById(currentUserId)).thenReturn(Optional.of(currentUser));
-        when(userRepository.findByStudent_StudentCode("20201234")).thenReturn(Optional.empty());
+        when(userRepository.findUserIdByStudentCode("20201234")).thenReturn(Optional.empty());
 
         User merged = userService.tryMergeWithExistingUser(currentUserId, "20201234");
 
         assertThat(merged).isSameAs(currentUser);
-        verify(userRepository, never()).delete(any(User.class));
-        verify(authTokenCache, never()).evictByUserId(anyString());
+        verify(userMergeService, never()).merge(any(), any());
     }
 
     @Test
-    @DisplayName("기존 사용자 발견 시 social account와 student 연관관계를 현재 사용자로 병합하고 기존 사용자를 삭제한다")
-    void tryMergeWithExistingUser_whenExistingUserExists_mergesAndDeletesExisting() {
+    @DisplayName("기존 사용자 발견 시 병합 서비스에 기존 사용자 id와 현재 사용자를 넘긴다")
+    void tryMergeWithExistingUser_whenExistingUserExists_delegatesToMergeService() {
         UUID currentUserId = UUID.randomUUID();
         UUID existingUserId = UUID.randomUUID();
 
@@ -187,44 +182,16 @@ class UserServiceUnitTests {
                 .profileNickname("current")
                 .build();
 
-        User existingUser = User.builder()
-                .id(existingUserId)
-                .email("existing@example.com")
-                .profileNickname("existing")
-                .build();
-        existingUser.markPortalConnected(Instant.now());
-
-        Student existingStudent = org.mockito.Mockito.mock(Student.class);
-        existingUser.setStudent(existingStudent);
-
-        SocialAccount first = SocialAccount.builder()
-                .provider(OidcProvider.KAKAO)
-                .socialId("social-id-1")
-                .email("existing@example.com")
-                .user(existingUser)
-                .build();
-        SocialAccount second = SocialAccount.builder()
-                .provider(OidcProvider.KAKAO)
-                .socialId("social-id-2")
-                .email("existing2@example.com")
-                .user(existingUser)
-                .build();
-
         UserService userService = createService();
         when(userRepository.findById(currentUserId)).thenReturn(Optional.of(currentUser));
-        when(userRepository.findByStudent_StudentCode("20201234")).thenReturn(Optional.of(existingUser));
-        when(socialAccountRepository.findAllByUserId(existingUserId)).thenReturn(List.of(first, second));
+        when(userRepository.findUserIdByStudentCode("20201234")).thenReturn(Optional.of(existingUserId));
+        when(userMergeService.merge(existingUserId, currentUser)).thenReturn(currentUser);
 
         User merged = userService.tryMergeWithExistingUser(currentUserId, "20201234");
 
         assertThat(merged).isSameAs(currentUser);
-        assertThat(first.getUser()).isSameAs(currentUser);
-        assertThat(second.getUser()).isSameAs(currentUser);
-        assertThat(currentUser.getEmail()).isEqualTo("existing@example.com");
-        assertThat(currentUser.getPortalConnected()).isTrue();
-        verify(existingStudent).updateUser(currentUser);
-        verify(userRepository).delete(existingUser);
-        verify(authTokenCache).evictByUserId(currentUserId.toString());
+        verify(userMergeService).merge(existingUserId, currentUser);
+        verify(userRepository, never()).delete(any(User.class));
     }
 
     @Test
@@ -239,12 +206,12 @@ class UserServiceUnitTests {
 
         UserService userService = createService();
         when(userRepository.findById(currentUserId)).thenReturn(Optional.of(currentUser));
-        when(userRepository.findByStudent_StudentCode("20201234")).thenReturn(Optional.of(currentUser));
+        when(userRepository.findUserIdByStudentCode("20201234")).thenReturn(Optional.of(currentUserId));
 
         User merged = userService.tryMergeWithExistingUser(currentUserId, "20201234");
 
         assertThat(merged).isSameAs(currentUser);
-        verify(userRepository, never()).delete(any(User.class));
+        verify(userMergeService, never()).merge(any(), any());
     }
 
     @Test
@@ -260,30 +227,17 @@ class UserServiceUnitTests {
     }
 
     @Test
-    @DisplayName("회원 탈퇴 시 학생 캐시/토큰/소셜계정을 정리한 뒤 사용자를 삭제한다")
-    void deleteUserById_cleansUpAndDeletesUser() {
+    @DisplayName("회원 탈퇴는 삭제 서비스에 사용자 단위 삭제를 위임한다")
+    void deleteUserById_delegatesToDeletionService() {
         UUID userId = UUID.randomUUID();
-        UUID studentId = UUID.randomUUID();
-
-        User user = User.builder()
-                .id(userId)
-                .email("delete@example.com")
-                .profileNickname("delete")
-                .build();
-
-        Student student = org.mockito.Mockito.mock(Student.class);
-        when(student.getId()).thenReturn(studentId);
-        user.setStudent(student);
-
         UserService userService = createService();
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(studentDeletionService.deleteUser(userId)).thenReturn(true);
 
         userService.deleteUserById(userId);
 
-        verify(academicCache).deleteAllByStudentId(studentId);
-        verify(authTokenCache).evictByUserId(userId.toString());
-        verify(socialAccountRepository).deleteByUser(user);
-        verify(userRepository).delete(user);
+        verify(studentDeletionService).deleteUser(userId);
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).delete(any());
     }
 
     @Test
@@ -291,7 +245,7 @@ class UserServiceUnitTests {
     void deleteUserById_userNotFound_throws() {
         UUID userId = UUID.randomUUID();
         UserService userService = createService();
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(studentDeletionService.deleteUser(userId)).thenReturn(false);
 
         assertThatThrownBy(() -> userService.deleteUserById(userId))
                 .isInstanceOf(EntityNotFoundException.class)
@@ -408,9 +362,9 @@ class UserServiceUnitTests {
                 socialAccountRepository,
                 jwtProvider,
                 refreshTokenService,
-                academicCache,
                 authTokenCache,
                 studentDeletionService,
+                userMergeService,
                 Map.of(OidcProvider.KAKAO, oidcService)
         );
     }
@@ -0,0 +1,74 @@
+package com.chukchuk.haksa.global.common.route;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteClassifierTests {
+
+    @Test
+    @DisplayName("JWT 화이트리스트 경로는 인증을 건너뛴다")
+    void whitelistPathsBypassAuthentication() {
+        assertThat(List.of("/", "/v3/api-docs", "/v3/api-docs/swagger-config", "/swagger-ui/index.html",
+                "/swagger-config", "/webjars/swagger-ui/x.js", "/error"))
+                .allSatisfy(path -> assertThat(classify(path).authBypass()).as(path).isTrue());
+    }
+
+    @Test
+    @DisplayName("화이트리스트가 아닌 경로는 인증 필터를 거친다")
+    void otherPathsRequireAuthentication() {
+        assertThat(List.of("/api/users/me", "/api/student/profile", "/health", "/swag", "/api/swagger", "//"))
+                .allSatisfy(path -> assertThat(classify(path).authBypass()).as(path).isFalse());
+    }
+
+    @Test
+    @DisplayName("헬스체크·문서·정적 리소스는 http_summary를 남기지 않는다")
+    void excludedPathsSkipSummaryLog() {
+        assertThat(List.of("/health", "/actuator/health/liveness", "/swagger-ui.html", "/favicon.ico",
+                "/webjars/swagger-ui/index.css", "/error", "/static/app.JS", "/fonts/a.woff2"))
+                .allSatisfy(path -> assertThat(classify(path).summaryLogSkipped()).as(path).isTrue());
+    }
+
+    @Test
+    @DisplayName("일반 API 경로는 http_summary를 남긴다")
+    void apiPathsWriteSummaryLog() {
+        assertThat(List.of("/", "/api/users/me", "/api/v1.2/courses", "/webjars/other", "/api/report.json"))
+                .allSatisfy(path -> {
+                    RouteClassification classification = classify(path);
+                    assertThat(classification.summaryLogSkipped()).as(path).isFalse();
+                    assertThat(classification.staticAsset()).as(path).isFalse();
+                });
+    }
+
+    @Test
+    @DisplayName("분류 결과는 요청 속성에 저장되어 같은 URI에서는 재사용된다")
+    void classificationIsCachedOnRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+
+        RouteClassification first = RouteClassifier.classify(request);
+
+        assertThat(request.getAttribute(RouteClassifier.ATTRIBUTE)).isSameAs(first);
+        assertThat(RouteClassifier.classify(request)).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("에러 디스패치처럼 URI가 바뀌면 다시 분류한다")
+    void reclassifiesWhenUriChanges() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        RouteClassifier.classify(request);
+
+        request.setRequestURI("/error");
+        RouteClassification reclassified = RouteClassifier.classify(request);
+
+        assertThat(reclassified.path()).isEqualTo("/error");
+        assertThat(reclassified.authBypass()).isTrue();
+    }
+
+    private RouteClassification classify(String path) {
+        return RouteClassifier.classify(new MockHttpServletRequest("GET", path));
+    }
+}
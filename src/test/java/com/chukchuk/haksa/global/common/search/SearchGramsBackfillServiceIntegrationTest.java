@@ -0,0 +1,82 @@
+package com.chukchuk.haksa.global.common.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SearchGramsBackfillServiceIntegrationTest {
+
+    private static final long DEPARTMENT_ID = 2_000_703L;
+
+    @Autowired
+    private SearchGramsBackfillService backfillService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("검색 컬럼이 빈 과목/학과를 SearchText 값으로 채우고, 다시 실행하면 아무것도 바꾸지 않는다")
+    void backfillAll_fillsNullRowsOnce() {
+        jdbcTemplate.update("INSERT INTO courses (course_code, course_name) VALUES ('BACKFILL-1', '자료 구조')");
+        jdbcTemplate.update("""
+                INSERT INTO departments (id, department_code, established_department_name)
+                VALUES (?, 'BACKFILL', '컴퓨터공학과')
+                """, DEPARTMENT_ID);
+
+        assertThat(backfillService.backfillAll()).isGreaterThanOrEqualTo(2);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT search_text FROM courses WHERE course_code = 'BACKFILL-1'", String.class))
+                .isEqualTo(SearchText.document("BACKFILL-1", "자료 구조"));
+        assertThat(grams("SELECT search_grams FROM courses WHERE course_code = 'BACKFILL-1'"))
+                .containsExactly(SearchText.grams("BACKFILL-1", "자료 구조"));
+        assertThat(grams("SELECT search_grams FROM departments WHERE id = " + DEPARTMENT_ID))
+                .contains("컴퓨", "공학");
+        assertThat(backfillService.backfillAll()).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 크기보다 많은 row도 모두 채우고, 이미 채워진 row는 덮어쓰지 않는다")
+    void backfillAll_pagesThroughAllRowsAndKeepsFilledRows() {
+        List<Object[]> courses = new ArrayList<>();
+        for (int i = 0; i <= SearchGramsBackfillService.BATCH_SIZE; i++) {
+            courses.add(new Object[]{"BACKFILL-P" + i, "페이지과목" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO courses (course_code, course_name) VALUES (?, ?)", courses);
+        jdbcTemplate.update("""
+                INSERT INTO courses (course_code, course_name, search_text, search_grams)
+                VALUES ('BACKFILL-KEPT', '유지과목', 'kept', ARRAY['ke'])
+                """);
+
+        backfillService.backfillAll();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM courses WHERE course_code LIKE 'BACKFILL-P%' AND search_grams IS NULL", Integer.class))
+                .isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT search_text FROM courses WHERE course_code = 'BACKFILL-KEPT'", String.class))
+                .isEqualTo("kept");
+    }
+
+    private List<String> grams(String sql) {
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+            Object[] values = (Object[]) rs.getArray(1).getArray();
+            List<String> grams = new ArrayList<>();
+            for (Object value : values) {
+                grams.add((String) value);
+            }
+            return grams;
+        });
+    }
+}
@@ -63,6 +63,7 @@ class CodeRabbitConfigTest {
                 "src/main/java/com/chukchuk/haksa/application/portal/**",
                 "src/main/java/com/chukchuk/haksa/infrastructure/portal/**",
                 "src/main/resources/db/migration/**",
+                "src/main/resources/db/postgresql/**",
                 "src/main/java/com/chukchuk/haksa/global/logging/**",
                 "src/main/java/com/chukchuk/haksa/global/exception/**",
                 "src/test/**"
@@ -56,6 +56,7 @@ class OpenApiResponseContractTest {
             new OperationRef("/api/academic/summary", "get"),
             new OperationRef("/api/academic/record", "get"),
             new OperationRef("/api/lecture-evaluations/required", "get"),
+            new OperationRef("/api/lecture-evaluations/stats", "get"),
             new OperationRef("/api/lecture-evaluations", "post"),
             new OperationRef("/api/lecture-evaluations/skip", "post")
     );
@@ -171,6 +172,20 @@ class OpenApiResponseContractTest {
                 .contains("NOT_RELEASED");
     }
 
+    @Test
+    void lectureEvaluationStatsResponseUsesDedicatedWrapper() throws Exception {
+        JsonNode apiDocs = apiDocs();
+
+        assertJsonResponseRef(apiDocs, "/api/lecture-evaluations/stats", "get", "200", "LectureEvaluationStatsApiResponse");
+        assertJsonResponseRef(apiDocs, "/api/lecture-evaluations/stats", "get", "400", "ErrorResponseWrapper");
+
+        JsonNode response = responseSchema(apiDocs, "/api/lecture-evaluations/stats", "get", "200");
+        JsonNode data = propertySchema(apiDocs, response, "data");
+        assertThat(propertySchema(apiDocs, data, "evaluationCount").path("type").asText()).isEqualTo("integer");
+        JsonNode tag = arrayItemSchema(apiDocs, propertySchema(apiDocs, data, "tags"));
+        assertThat(propertySchema(apiDocs, tag, "tag").path("enum").toString()).contains("EASY_GRADE");
+    }
+
     @Test
     void jsonResponsesDoNotUseWildcardMediaType() throws Exception {
         JsonNode apiDocs = apiDocs();
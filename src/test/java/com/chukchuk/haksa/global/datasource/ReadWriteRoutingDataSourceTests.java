@@ -0,0 +1,164 @@
+package com.chukchuk.haksa.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTests {
+
+    private static final String LAG_QUERY = "SELECT seconds FROM replica_lag";
+
+    private SimpleMeterRegistry registry;
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        primary = database("primary");
+        replica = database("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (seconds DOUBLE PRECISION)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_lag VALUES (0)");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 주 DB로 간다")
+    void readOnlyTransactionsGoToReplica() {
+        DataSource routing = routing(LAG_QUERY);
+
+        assertThat(nodeName(routing, true)).isEqualTo("replica");
+        assertThat(nodeName(routing, false)).isEqualTo("primary");
+        assertThat(routed(DataSourceRoute.REPLICA)).isEqualTo(1);
+        assertThat(routed(DataSourceRoute.PRIMARY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 주 DB로 보낸다")
+    void lagBeyondLimitFallsBackToPrimary() {
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 30");
+        DataSource routing = routing(LAG_QUERY);
+
+        assertThat(nodeName(routing, true)).isEqualTo("primary");
+        assertThat(fallbacks(ReplicaLagMonitor.FallbackReason.LAG)).isEqualTo(1);
+        assertThat(registry.get("db.replica.lag").gauge().value()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("복제 지연을 확인할 수 없으면 주 DB로 보내고, 다시 확인되면 복제본으로 돌아간다")
+    void unknownLagFallsBackUntilReplicaRecovers() {
+        DataSource routing = routing("SELECT seconds FROM missing_table");
+
+        assertThat(nodeName(routing, true)).isEqualTo("primary");
+        assertThat(fallbacks(ReplicaLagMonitor.FallbackReason.UNAVAILABLE)).isEqualTo(1);
+        assertThat(registry.get("db.replica.lag").gauge().value()).isNaN();
+
+        new JdbcTemplate(replica).execute("CREATE TABLE missing_table (seconds DOUBLE PRECISION)");
+        new JdbcTemplate(replica).update("INSERT INTO missing_table VALUES (1)");
+
+        assertThat(nodeName(routing, true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("open-in-view로 EntityManager를 공유해도 읽기 전용 트랜잭션 뒤의 쓰기 트랜잭션은 주 DB로 간다")
+    void writeAfterReadOnlyTransactionInSameEntityManagerGoesToPrimary() {
+        DataSource routing = routing(LAG_QUERY);
+        LocalContainerEntityManagerFactoryBean factory = entityManagerFactory(routing);
+        EntityManagerFactory entityManagerFactory = factory.getObject();
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        // OpenEntityManagerInViewInterceptor와 같이 요청 동안 EntityManager 하나를 묶어 둔다.
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            Object read = readOnly.execute(status ->
+                    entityManager.createNativeQuery("SELECT name FROM node").getSingleResult());
+
+            TransactionTemplate write = new TransactionTemplate(transactionManager);
+            write.executeWithoutResult(status ->
+                    entityManager.createNativeQuery("UPDATE node SET name = 'written'").executeUpdate());
+
+            assertThat(read).isEqualTo("replica");
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+            factory.destroy();
+        }
+
+        assertThat(new JdbcTemplate(primary).queryForObject("SELECT name FROM node", String.class)).isEqualTo("written");
+        assertThat(new JdbcTemplate(replica).queryForObject("SELECT name FROM node", String.class)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("주 DB 고정 범위 안의 읽기 전용 트랜잭션은 복제본으로 가지 않는다")
+    void readOnlyTransactionInsidePrimaryScopeGoesToPrimary() {
+        DataSource routing = routing(LAG_QUERY);
+
+        assertThat(ReadWriteRoutingDataSource.onPrimary(() -> nodeName(routing, true))).isEqualTo("primary");
+        assertThat(nodeName(routing, true)).isEqualTo("replica");
+    }
+
+    private DataSource routing(String lagQuery) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, lagQuery, Duration.ofSeconds(5), Duration.ZERO, registry);
+        return ReadWriteDataSourceConfig.lazy(new ReadWriteRoutingDataSource(primary, replica, monitor, registry), true);
+    }
+
+    private String nodeName(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(readOnly);
+        return template.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    /**
+     * 운영과 같이 HibernateJpaVendorAdapter 기본 설정 위에 routingConnectionHandling을 적용한다.
+     */
+    private static LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+        Map<String, Object> properties = new HashMap<>();
+        ReadWriteDataSourceConfig.routingConnectionHandling().customize(properties);
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setPackagesToScan(ReadWriteRoutingDataSourceTests.class.getPackageName());
+        factory.setJpaPropertyMap(properties);
+        factory.afterPropertiesSet();
+        return factory;
+    }
+
+    private double routed(DataSourceRoute route) {
+        return registry.get("db.route.connections").tag("route", route.tag()).counter().count();
+    }
+
+    private double fallbacks(ReplicaLagMonitor.FallbackReason reason) {
+        return registry.get("db.route.fallbacks").tag("reason", reason.tag()).counter().count();
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
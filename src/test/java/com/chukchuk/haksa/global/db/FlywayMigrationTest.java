@@ -8,7 +8,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -16,7 +19,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 class FlywayMigrationTest {
 
     @Test
-    void freshDatabaseMigratesFromV1ToV8() throws Exception {
+    void freshDatabaseMigratesFromV1ToLatest() throws Exception {
         String dbName = "flyway-migration-" + UUID.randomUUID();
         String url = "jdbc:h2:mem:" + dbName + ";MODE=PostgreSQL;DATABASE_TO_UPPER=false;NON_KEYWORDS=YEAR;"
                 + "DB_CLOSE_DELAY=-1;"
@@ -56,7 +59,12 @@ class FlywayMigrationTest {
                         MigrationVersion.fromVersion("5"),
                         MigrationVersion.fromVersion("6"),
                         MigrationVersion.fromVersion("7"),
-                        MigrationVersion.fromVersion("8")
+                        MigrationVersion.fromVersion("8"),
+                        MigrationVersion.fromVersion("9"),
+                        MigrationVersion.fromVersion("10"),
+                        MigrationVersion.fromVersion("11"),
+                        MigrationVersion.fromVersion("13"),
+                        MigrationVersion.fromVersion("15")
                 );
 
         try (var connection = DriverManager.getConnection(url, "sa", "")) {
@@ -76,6 +84,14 @@ class FlywayMigrationTest {
             assertThat(hasColumn(connection, "refresh_token", "token_hash")).isTrue();
             assertThat(isNullable(connection, "refresh_token", "token")).isTrue();
             assertThat(primaryKeyColumn(connection, "refresh_token")).isEqualTo("session_id");
+            assertThat(hasTable(connection, "refresh_token_cleanup_checkpoint")).isTrue();
+            assertThat(rowCount(connection, "refresh_token_cleanup_checkpoint")).isEqualTo(1);
+            assertThat(hasTable(connection, "course_evaluation_stats")).isTrue();
+            assertThat(hasColumn(connection, "courses", "search_grams")).isTrue();
+            assertThat(hasColumn(connection, "departments", "search_text")).isTrue();
+            assertThat(hasIndex(connection, "course_offerings", "idx_course_offerings_course_id")).isTrue();
+            assertThat(hasIndex(connection, "student_courses", "idx_student_courses_student_id")).isTrue();
+            assertThat(hasIndex(connection, "social_accounts", "idx_social_accounts_user_id")).isTrue();
         }
     }
 
@@ -217,6 +233,24 @@ class FlywayMigrationTest {
                 .doesNotContain("ELSE NULL");
     }
 
+    @Test
+    void postgresqlOnlyMigrationsUseVersionsNotTakenByCommonMigrations() throws Exception {
+        Set<String> commonVersions = migrationVersions(Path.of("src/main/resources/db/migration"));
+        Set<String> postgresqlVersions = migrationVersions(Path.of("src/main/resources/db/postgresql"));
+
+        assertThat(postgresqlVersions).isNotEmpty();
+        assertThat(postgresqlVersions).doesNotContainAnyElementsOf(commonVersions);
+    }
+
+    private Set<String> migrationVersions(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.matches("V\\d+__.+\\.sql"))
+                    .map(name -> name.substring(1, name.indexOf("__")))
+                    .collect(Collectors.toSet());
+        }
+    }
+
     private boolean hasColumn(Connection connection, String columnName) throws Exception {
         return hasColumn(connection, "course_offerings", columnName);
     }
@@ -245,6 +279,25 @@ class FlywayMigrationTest {
         }
     }
 
+    private int rowCount(Connection connection, String tableName) throws Exception {
+        try (var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT COUNT(*) FROM public." + tableName)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private boolean hasIndex(Connection connection, String tableName, String indexName) throws Exception {
+        try (var indexes = connection.getMetaData().getIndexInfo(null, "public", tableName, false, false)) {
+            while (indexes.next()) {
+                if (indexName.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     private boolean isNullable(Connection connection, String tableName, String columnName) throws Exception {
         try (var columns = connection.getMetaData().getColumns(null, "public", tableName, columnName)) {
             assertThat(columns.next()).isTrue();
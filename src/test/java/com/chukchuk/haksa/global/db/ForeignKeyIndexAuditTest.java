@@ -0,0 +1,49 @@
+package com.chukchuk.haksa.global.db;
+
+import com.chukchuk.haksa.support.IndexAuditDatabase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 학생/사용자 삭제 경로 FK 인덱스 점검 (PostgreSQL 전용)
+ *
+ * - 학생/사용자 삭제(StudentDeletionRepository)는 students, users, course_evaluations를 참조하는 FK 컬럼으로 자식 row를 지운다.
+ * - 같은 대상을 참조하는 모든 FK가 선두 컬럼 인덱스를 갖는지 카탈로그로 확인한다.
+ *   자식 테이블이 추가될 때 인덱스 없이 삭제 경로가 순차 스캔으로 바뀌는 것을 막는다.
+ */
+@Tag("index-audit")
+@EnabledIfEnvironmentVariable(named = IndexAuditDatabase.URL_ENV, matches = ".+")
+class ForeignKeyIndexAuditTest {
+
+    private static final String UNINDEXED_FOREIGN_KEYS_SQL = """
+            SELECT c.conrelid::regclass::text || '.' || c.conname
+            FROM pg_constraint c
+            WHERE c.contype = 'f'
+              AND c.confrelid IN ('public.students'::regclass, 'public.users'::regclass, 'public.course_evaluations'::regclass)
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM pg_index i
+                  WHERE i.indrelid = c.conrelid
+                    AND (i.indkey::int2[])[0:cardinality(c.conkey) - 1] @> c.conkey
+              )
+            ORDER BY 1
+            """;
+
+    @Test
+    @DisplayName("학생/사용자/강의평가를 참조하는 FK는 모두 선두 컬럼 인덱스를 갖는다")
+    void deletionPathForeignKeysAreIndexed() {
+        IndexAuditDatabase.migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(IndexAuditDatabase.dataSource());
+
+        List<String> missing = jdbcTemplate.queryForList(UNINDEXED_FOREIGN_KEYS_SQL, String.class);
+
+        assertThat(missing).isEmpty();
+    }
+}
@@ -0,0 +1,426 @@
+package com.chukchuk.haksa.global.db;
+
+import com.chukchuk.haksa.domain.academic.record.model.StudentCourse;
+import com.chukchuk.haksa.domain.academic.record.repository.SemesterAcademicRecordRepository;
+import com.chukchuk.haksa.domain.academic.record.repository.StudentCourseRepository;
+import com.chukchuk.haksa.domain.academic.record.service.StudentCoursePartitionService;
+import com.chukchuk.haksa.domain.auth.repository.RefreshTokenRepository;
+import com.chukchuk.haksa.domain.cache.AcademicCache;
+import com.chukchuk.haksa.domain.course.repository.CourseOfferingRepository;
+import com.chukchuk.haksa.domain.graduation.dto.AreaRequirementDto;
+import com.chukchuk.haksa.domain.graduation.repository.GraduationQueryRepository;
+import com.chukchuk.haksa.domain.lectureevaluations.repository.CourseEvaluationRepository;
+import com.chukchuk.haksa.domain.student.model.GradeType;
+import com.chukchuk.haksa.domain.student.model.Student;
+import com.chukchuk.haksa.domain.student.repository.StudentDeletionRepository;
+import com.chukchuk.haksa.domain.student.repository.StudentRepository;
+import com.chukchuk.haksa.domain.user.model.User;
+import com.chukchuk.haksa.domain.user.repository.SocialAccountRepository;
+import com.chukchuk.haksa.domain.user.repository.UserRepository;
+import com.chukchuk.haksa.global.metrics.MeteredDataSource;
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+import com.chukchuk.haksa.global.security.service.OidcProvider;
+import com.chukchuk.haksa.support.CapturingDataSource;
+import com.chukchuk.haksa.support.CapturingDataSource.CapturedStatement;
+import com.chukchuk.haksa.support.IndexAuditDatabase;
+import com.chukchuk.haksa.support.QueryBudget;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 주요 조회 경로 인덱스 점검 (PostgreSQL 전용)
+ *
+ * - INDEX_AUDIT_DB_URL(_USERNAME/_PASSWORD)로 지정한 로컬 PostgreSQL로 애플리케이션 컨텍스트를 띄우고(Flyway로 마이그레이션),
+ *   테스트 트랜잭션 안에서 운영 규모에 가까운 데이터를 채운 뒤 ANALYZE한다. 트랜잭션은 끝에서 롤백한다.
+ * - 실제 리포지토리 메서드를 QueryCounter 범위 안에서 호출하고, 그동안 실행된 문장을 바인딩 값과 함께 모아(CapturingDataSource)
+ *   EXPLAIN (ANALYZE, BUFFERS)로 다시 실행한다. 모은 문장 수는 MeteredDataSource가 QueryCounter에 남긴 수와 같아야 한다.
+ * - 계획은 build/reports/index-audit/에 남기고, 보호 대상 테이블이 Seq Scan으로 읽히면 실패한다.
+ * - 데이터를 채운 뒤 StudentCoursePartitionService.swap()으로 student_courses를 파티션 테이블(V16)로 교체한다.
+ *   파티션 스캔은 부모 테이블로 묶어 보고,
+ *   한 문장이 파티션을 둘 이상 읽으면(파티션 키 조건 누락) 실패한다. 변경 문장은 조회 뒤에 실행한다.
+ * - 2차/쿼리 캐시는 끄고, AcademicCache는 로더를 그대로 호출하도록 바꿔 매번 DB를 읽게 한다.
+ * - 일반 test 태스크에서는 제외되고 indexAudit 태스크(check에 포함)로 실행된다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(HotQueryIndexAuditTest.CaptureConfig.class)
+@Tag("index-audit")
+@EnabledIfEnvironmentVariable(named = IndexAuditDatabase.URL_ENV, matches = ".+")
+class HotQueryIndexAuditTest {
+
+    private static final Path REPORT_DIR = Path.of("build", "reports", "index-audit");
+    private static final Pattern PARTITION_NAME = Pattern.compile("^(student_courses)_p\\d+$");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final int DEPARTMENTS = 200;
+    private static final int ADMISSION_YEARS = 10;
+    private static final int COURSES = 2_000;
+    private static final int OFFERINGS = 20_000;
+    private static final int STUDENTS = 5_000;
+    private static final int COURSES_PER_STUDENT = 40;
+    private static final int SESSIONS = 20_000;
+
+    private static final List<String> SEED_SQL = List.of(
+            """
+            INSERT INTO public.departments (id, department_code, established_department_name)
+            SELECT 1000000 + g, 'AUDIT-' || g, '점검학과' || g
+            FROM generate_series(1, %d) g
+            """.formatted(DEPARTMENTS),
+            """
+            INSERT INTO public.department_area_requirements (
+                id, admission_year, required_credits, area_type, department_id
+            )
+            SELECT md5('audit-area-' || d || '-' || y || '-' || a)::uuid, 2016 + y, 12, 'AREA' || a, 1000000 + d
+            FROM generate_series(1, %d) d, generate_series(1, %d) y, generate_series(1, 8) a
+            """.formatted(DEPARTMENTS, ADMISSION_YEARS),
+            """
+            INSERT INTO public.dual_major_requirements (
+                id, major_role, admission_year, area_type, required_credits, department_id
+            )
+            SELECT md5('audit-dual-' || d || '-' || y || '-' || r || '-' || a)::uuid,
+                   CASE r WHEN 1 THEN 'PRIMARY' ELSE 'SECONDARY' END, 2016 + y, 'AREA' || a, 9, 1000000 + d
+            FROM generate_series(1, %d) d, generate_series(1, %d) y, generate_series(1, 2) r, generate_series(1, 3) a
+            """.formatted(DEPARTMENTS, ADMISSION_YEARS),
+            """
+            INSERT INTO public.professor (id, professor_name)
+            SELECT 1000000 + g, '점검교수' || g
+            FROM generate_series(1, 500) g
+            """,
+            """
+            INSERT INTO public.courses (id, course_code, course_name)
+            SELECT 1000000 + g, 'AUDIT' || g, '점검과목' || g
+            FROM generate_series(1, %d) g
+            """.formatted(COURSES),
+            """
+            INSERT INTO public.course_offerings (
+                id, year, semester, points, course_id, professor_id, faculty_division_name, deleted_at
+            )
+            SELECT 1000000 + g, 2016 + (g %% 10), CASE WHEN g %% 2 = 0 THEN 10 ELSE 20 END, 3,
+                   1000000 + 1 + (g %% %d), 1000000 + 1 + (g %% 500), '전선',
+                   CASE WHEN g %% 50 = 0 THEN now() END
+            FROM generate_series(1, %d) g
+            """.formatted(COURSES, OFFERINGS),
+            """
+            INSERT INTO public.users (id, email, is_deleted, portal_connected)
+            SELECT md5('audit-user-' || g)::uuid, 'audit' || g || '@haksa.com', FALSE, g %% 10 <> 0
+            FROM generate_series(1, %d) g
+            """.formatted(STUDENTS),
+            """
+            INSERT INTO public.social_accounts (provider, social_id, email, user_id)
+            SELECT 'KAKAO', 'audit-social-' || g, 'audit' || g || '@haksa.com', md5('audit-user-' || g)::uuid
+            FROM generate_series(1, %d) g
+            """.formatted(STUDENTS),
+            """
+            INSERT INTO public.students (
+                student_id, student_code, reconnection_required, admission_year, department_id, user_id
+            )
+            SELECT md5('audit-student-' || g)::uuid, 'A' || lpad(g::text, 8, '0'), FALSE,
+                   2016 + (g %% 10), 1000000 + 1 + (g %% %d), md5('audit-user-' || g)::uuid
+            FROM generate_series(1, %d) g
+            """.formatted(DEPARTMENTS, STUDENTS),
+            """
+            INSERT INTO public.semester_academic_records (id, semester, year, student_id)
+            SELECT md5('audit-semester-' || g || '-' || t)::uuid, CASE WHEN t %% 2 = 0 THEN 10 ELSE 20 END,
+                   2016 + t / 2, md5('audit-student-' || g)::uuid
+            FROM generate_series(1, %d) g, generate_series(1, 8) t
+            """.formatted(STUDENTS),
+            """
+            INSERT INTO public.student_courses (
+                grade, points, is_retake, original_score, is_retake_deleted, offering_id, student_id
+            )
+            SELECT CASE WHEN c %% 15 = 0 THEN 'F' ELSE 'A0' END, 3, FALSE, 90, c %% 20 = 0,
+                   1000000 + 1 + ((g * 37 + c * 101) %% %d), md5('audit-student-' || g)::uuid
+            FROM generate_series(1, %d) g, generate_series(1, %d) c
+            """.formatted(OFFERINGS, STUDENTS, COURSES_PER_STUDENT),
+            """
+            INSERT INTO public.refresh_token (session_id, user_id, token_hash, expiry)
+            SELECT 'audit-session-' || g, md5('audit-user-' || (1 + g %% %d))::text, md5('audit-token-' || g),
+                   now() + (g %% 30 - 15) * interval '1 day'
+            FROM generate_series(1, %d) g
+            """.formatted(STUDENTS, SESSIONS)
+    );
+
+    @DynamicPropertySource
+    static void indexAuditDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", IndexAuditDatabase::url);
+        registry.add("spring.datasource.username", IndexAuditDatabase::username);
+        registry.add("spring.datasource.password", IndexAuditDatabase::password);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        // 스키마는 Hibernate가 아니라 migration(db/migration + db/postgresql)이 만든다.
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.cache.use_second_level_cache", () -> "false");
+        registry.add("spring.jpa.properties.hibernate.cache.use_query_cache", () -> "false");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private StudentCourseRepository studentCourseRepository;
+    @Autowired
+    private SemesterAcademicRecordRepository semesterAcademicRecordRepository;
+    @Autowired
+    private GraduationQueryRepository graduationQueryRepository;
+    @Autowired
+    private CourseOfferingRepository courseOfferingRepository;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SocialAccountRepository socialAccountRepository;
+    @Autowired
+    private CourseEvaluationRepository courseEvaluationRepository;
+    @Autowired
+    private StudentDeletionRepository studentDeletionRepository;
+    @Autowired
+    private StudentCoursePartitionService studentCoursePartitionService;
+
+    @MockBean
+    private AcademicCache academicCache;
+
+    @Test
+    @DisplayName("주요 조회 경로가 보호 대상 테이블을 순차 스캔하지 않고 파티션 테이블은 파티션 하나만 읽는다")
+    void hotQueriesAvoidSequentialScans() throws Exception {
+        given(academicCache.getOrLoadDualMajorRequirements(any(), any(), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<List<AreaRequirementDto>>>getArgument(3).get());
+
+        Files.createDirectories(REPORT_DIR);
+        SEED_SQL.forEach(jdbcTemplate::execute);
+        studentCoursePartitionService.swap();
+        jdbcTemplate.execute("ANALYZE");
+
+        UUID studentId = jdbcTemplate.queryForObject("SELECT md5('audit-student-42')::uuid", UUID.class);
+        UUID userId = jdbcTemplate.queryForObject("SELECT md5('audit-user-42')::uuid", UUID.class);
+        Student student = studentRepository.findById(studentId).orElseThrow();
+        User user = userRepository.findById(userId).orElseThrow();
+        Date now = new Date();
+
+        List<String> regressions = new ArrayList<>();
+        audit(regressions, "StudentCourseRepository.findByStudent", Set.of("student_courses"),
+                () -> studentCourseRepository.findByStudent(student));
+        audit(regressions, "StudentCourseRepository.findByStudentIdAndYearAndSemester",
+                Set.of("student_courses", "course_offerings"),
+                () -> studentCourseRepository.findByStudentIdAndYearAndSemester(studentId, 2020, 10));
+        audit(regressions, "SemesterAcademicRecordRepository.findByStudentIdAndYearAndSemester",
+                Set.of("semester_academic_records"),
+                () -> semesterAcademicRecordRepository.findByStudentIdAndYearAndSemester(studentId, 2018, 10));
+        audit(regressions, "SemesterAcademicRecordRepository.findByStudentIdOrderByYearDescSemesterDesc",
+                Set.of("semester_academic_records"),
+                () -> semesterAcademicRecordRepository.findByStudentIdOrderByYearDescSemesterDesc(studentId));
+        audit(regressions, "GraduationQueryRepository.getLatestValidCourses",
+                Set.of("student_courses", "course_offerings", "courses"),
+                () -> graduationQueryRepository.getLatestValidCourses(studentId));
+        audit(regressions, "GraduationQueryRepository.getAreaRequirements", Set.of("department_area_requirements"),
+                () -> graduationQueryRepository.getAreaRequirements(1000042L, 2020));
+        audit(regressions, "GraduationQueryRepository.getDualMajorRequirements", Set.of("dual_major_requirements"),
+                () -> graduationQueryRepository.getDualMajorRequirementsWithCache(1000042L, 1000043L, 2020));
+        audit(regressions, "CourseOfferingRepository.findReusableLectureEvaluationTestOfferings",
+                Set.of("course_offerings"),
+                () -> courseOfferingRepository.findReusableLectureEvaluationTestOfferings(2020, 10));
+        audit(regressions, "RefreshTokenRepository.findById", Set.of("refresh_token"),
+                () -> refreshTokenRepository.findById("audit-session-42"));
+        audit(regressions, "RefreshTokenRepository.findExpiredKeysAfter", Set.of("refresh_token"),
+                () -> refreshTokenRepository.findExpiredKeysAfter(
+                        Date.from(now.toInstant().minus(10, ChronoUnit.DAYS)),
+                        Date.from(now.toInstant().minus(30, ChronoUnit.DAYS)),
+                        "",
+                        PageRequest.of(0, 500)));
+        audit(regressions, "StudentRepository.findByUser", Set.of("students"),
+                () -> studentRepository.findByUser(user));
+        audit(regressions, "StudentRepository.findPortalPendingStudent", Set.of("students", "users"),
+                () -> studentRepository.findPortalPendingStudent(userId));
+        audit(regressions, "UserRepository.findUserIdByStudentCode", Set.of("students"),
+                () -> userRepository.findUserIdByStudentCode("A00000042"));
+        audit(regressions, "SocialAccountRepository.findByProviderAndSocialId", Set.of("social_accounts"),
+                () -> socialAccountRepository.findByProviderAndSocialId(OidcProvider.KAKAO, "audit-social-42"));
+        audit(regressions, "SocialAccountRepository.findAllByUserId", Set.of("social_accounts"),
+                () -> socialAccountRepository.findAllByUserId(userId));
+        audit(regressions, "CourseEvaluationRepository.findEvaluationTargets",
+                Set.of("student_courses", "course_offerings"),
+                () -> courseEvaluationRepository.findEvaluationTargets(studentId, 2020, 10, GradeType.IP));
+
+        // 이하 변경 문장 (트랜잭션 끝에서 롤백)
+        List<StudentCourse> courses = studentCourseRepository.findByStudent(student);
+        StudentCourse updated = courses.get(0);
+        updated.setRetakeDeleted(!updated.isRetakeDeleted());
+        audit(regressions, "StudentCourse.update", Set.of("student_courses"), entityManager::flush);
+        List<Long> removedIds = List.of(courses.get(1).getId(), courses.get(2).getId());
+        audit(regressions, "StudentCourseRepository.deleteOwnedByStudentIdAndIdIn", Set.of("student_courses"),
+                () -> studentCourseRepository.deleteOwnedByStudentIdAndIdIn(studentId, removedIds));
+        audit(regressions, "StudentDeletionRepository.resetStudent", Set.of("student_courses"),
+                () -> studentDeletionRepository.resetStudent(studentId));
+
+        assertThat(regressions)
+                .as("plans: %s", REPORT_DIR.toAbsolutePath())
+                .isEmpty();
+    }
+
+    /**
+     * 시나리오가 실행한 문장을 모두 EXPLAIN하고 회귀를 모은다. 끝나면 영속성 컨텍스트를 비워 다음 시나리오가 DB를 읽게 한다.
+     *
+     * @param guarded 순차 스캔이 나오면 실패로 보는 테이블
+     */
+    private void audit(List<String> regressions, String name, Set<String> guarded, Runnable scenario) throws Exception {
+        AtomicReference<List<CapturedStatement>> captured = new AtomicReference<>();
+        QueryCounter.Scope scope = QueryBudget.measure(QueryCounter.ScopeType.SYNC, name,
+                () -> captured.set(CapturingDataSource.capture(scenario)));
+        entityManager.clear();
+
+        List<CapturedStatement> statements = captured.get();
+        assertThat(statements)
+                .as("[%s] captured statements\n%s", name, QueryBudget.describe(scope))
+                .isNotEmpty()
+                .hasSize(scope.total());
+
+        for (int i = 0; i < statements.size(); i++) {
+            String report = statements.size() == 1 ? name : name + "-" + (i + 1);
+            JsonNode plan = explain(statements.get(i));
+            Files.writeString(REPORT_DIR.resolve(report + ".json"), plan.toPrettyString());
+            List<Scan> scans = new ArrayList<>();
+            collectScans(plan, scans);
+            scans.stream()
+                    .filter(scan -> "Seq Scan".equals(scan.nodeType()))
+                    .map(scan -> parentTable(scan.relation()))
+                    .filter(guarded::contains)
+                    .distinct()
+                    .forEach(table -> regressions.add(report + " -> Seq Scan on " + table));
+            partitionsByParent(scans).forEach((table, partitions) -> {
+                if (partitions.size() > 1) {
+                    regressions.add(report + " -> " + table + " not pruned " + partitions);
+                }
+            });
+        }
+    }
+
+    /**
+     * 모은 문장을 같은 트랜잭션에서 같은 바인딩 값으로 EXPLAIN한다. (범위 밖이라 QueryCounter/캡처에는 남지 않는다)
+     */
+    private JsonNode explain(CapturedStatement captured) {
+        return jdbcTemplate.execute((ConnectionCallback<JsonNode>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + captured.sql())) {
+                captured.bind(statement);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return OBJECT_MAPPER.readTree(resultSet.getString(1));
+                }
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("unreadable plan: " + captured.sql(), e);
+            }
+        });
+    }
+
+    private void collectScans(JsonNode node, List<Scan> scans) {
+        if (node.isArray()) {
+            node.forEach(child -> collectScans(child, scans));
+            return;
+        }
+        if (!node.isObject()) {
+            return;
+        }
+        String nodeType = node.path("Node Type").asText();
+        if (nodeType.endsWith("Scan") && node.has("Relation Name")) {
+            scans.add(new Scan(nodeType, node.path("Relation Name").asText()));
+        }
+        node.forEach(child -> collectScans(child, scans));
+    }
+
+    private static String parentTable(String relation) {
+        Matcher matcher = PARTITION_NAME.matcher(relation);
+        return matcher.matches() ? matcher.group(1) : relation;
+    }
+
+    private static Map<String, Set<String>> partitionsByParent(List<Scan> scans) {
+        Map<String, Set<String>> partitions = new TreeMap<>();
+        for (Scan scan : scans) {
+            Matcher matcher = PARTITION_NAME.matcher(scan.relation());
+            if (matcher.matches()) {
+                partitions.computeIfAbsent(matcher.group(1), table -> new TreeSet<>()).add(scan.relation());
+            }
+        }
+        return partitions;
+    }
+
+    private record Scan(String nodeType, String relation) {
+    }
+
+    /**
+     * DataSource를 MeteredDataSource보다 먼저 CapturingDataSource로 감싼다. (MeteredDataSource → CapturingDataSource → 풀)
+     */
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new CapturingDataSourcePostProcessor();
+        }
+    }
+
+    private static final class CapturingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource
+                    && !(bean instanceof CapturingDataSource)
+                    && !(bean instanceof MeteredDataSource)) {
+                return new CapturingDataSource(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
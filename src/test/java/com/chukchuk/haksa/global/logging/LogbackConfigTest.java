@@ -28,4 +28,15 @@ class LogbackConfigTest {
             assertThat(xml).contains("<tag>" + tag + "</tag>");
         }
     }
+
+    @Test
+    void asyncJsonProfileUsesRingBufferAppenderWithLogstashEncoder() throws IOException {
+        String xml = Files.readString(LOGBACK_XML);
+
+        assertThat(xml)
+                .contains("<appender name=\"ASYNC_JSON\" class=\"com.chukchuk.haksa.global.logging.appender.RingBufferAsyncAppender\">")
+                .contains("<encoder class=\"net.logstash.logback.encoder.LogstashEncoder\">")
+                .contains("<springProfile name=\"async-json\">")
+                .contains("<springProfile name=\"prod &amp; !async-json\">");
+    }
 }
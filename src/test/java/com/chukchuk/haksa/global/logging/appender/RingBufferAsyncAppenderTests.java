@@ -0,0 +1,147 @@
+package com.chukchuk.haksa.global.logging.appender;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferAsyncAppenderTests {
+
+    private final LoggerContext context = new LoggerContext();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private RingBufferAsyncAppender appender;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (appender != null) {
+            appender.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("flush는 호출 시점까지 넣은 이벤트를 순서대로 모두 기록하고 MDC를 유지한다")
+    void flushWritesAllEventsInOrder() {
+        ListAppender<ILoggingEvent> sink = listAppender();
+        appender = start(sink, 64, RingBufferAsyncAppender.DropPolicy.DROP_NEWEST);
+
+        MDC.put("userId", "user-1");
+        try {
+            for (int i = 0; i < 10; i++) {
+                appender.doAppend(event(Level.INFO, "m" + i));
+            }
+        } finally {
+            MDC.remove("userId");
+        }
+
+        assertThat(appender.flush(1000)).isTrue();
+        assertThat(sink.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("m0", "m1", "m2", "m3", "m4", "m5", "m6", "m7", "m8", "m9");
+        assertThat(sink.list.get(0).getMDCPropertyMap()).containsEntry("userId", "user-1");
+        assertThat(appender.getDroppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("DROP_NEWEST는 버퍼가 가득 차면 새 이벤트를 버리고 호출 스레드를 막지 않는다")
+    void dropNewestCountsDroppedEvents() throws Exception {
+        BlockingSink sink = new BlockingSink();
+        appender = start(sink, 2, RingBufferAsyncAppender.DropPolicy.DROP_NEWEST);
+
+        appender.doAppend(event(Level.INFO, "in-flight"));
+        assertThat(sink.entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+        appender.doAppend(event(Level.INFO, "q1"));
+        appender.doAppend(event(Level.INFO, "q2"));
+        appender.doAppend(event(Level.ERROR, "dropped"));
+
+        assertThat(appender.getDroppedCount()).isEqualTo(1);
+        assertThat(appender.getQueuedCount()).isEqualTo(2);
+
+        release.countDown();
+        assertThat(appender.flush(1000)).isTrue();
+        assertThat(sink.delegate.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("in-flight", "q1", "q2");
+    }
+
+    @Test
+    @DisplayName("DISCARD_BELOW_WARN은 여유가 부족하면 INFO를 버리고 WARN 이상은 오래된 이벤트를 밀어내고 남긴다")
+    void discardBelowWarnKeepsWarnings() throws Exception {
+        BlockingSink sink = new BlockingSink();
+        appender = start(sink, 5, RingBufferAsyncAppender.DropPolicy.DISCARD_BELOW_WARN);
+
+        appender.doAppend(event(Level.INFO, "in-flight"));
+        assertThat(sink.entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < 6; i++) {
+            appender.doAppend(event(Level.INFO, "info" + i));
+        }
+        appender.doAppend(event(Level.WARN, "warn"));
+
+        assertThat(appender.getDroppedCount()).isEqualTo(2);
+
+        release.countDown();
+        assertThat(appender.flush(1000)).isTrue();
+        assertThat(sink.delegate.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("in-flight", "info1", "info2", "info3", "info4", "warn");
+    }
+
+    private RingBufferAsyncAppender start(
+            ch.qos.logback.core.Appender<ILoggingEvent> sink,
+            int queueSize,
+            RingBufferAsyncAppender.DropPolicy dropPolicy
+    ) {
+        RingBufferAsyncAppender async = new RingBufferAsyncAppender();
+        async.setContext(context);
+        async.setName("test");
+        async.setQueueSize(queueSize);
+        async.setDropPolicy(dropPolicy);
+        async.addAppender(sink);
+        async.start();
+        assertThat(async.isStarted()).isTrue();
+        return async;
+    }
+
+    private ListAppender<ILoggingEvent> listAppender() {
+        ListAppender<ILoggingEvent> list = new ListAppender<>();
+        list.setContext(context);
+        list.start();
+        return list;
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(getClass().getName(), context.getLogger("test"), level, message, null, null);
+    }
+
+    /** 첫 이벤트에서 release 될 때까지 워커 스레드를 붙잡는 appender */
+    private class BlockingSink extends AppenderBase<ILoggingEvent> {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final ListAppender<ILoggingEvent> delegate = listAppender();
+
+        BlockingSink() {
+            setContext(context);
+            start();
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delegate.doAppend(event);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.chukchuk.haksa.global.logging.sanitize;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LogSanitizerTests {
+
+    /* 규칙 키워드/구분자/일반 문자를 섞어 만든 임의 입력의 재료 */
+    private static final String[] FRAGMENTS = {
+            "?", "&", "=", ":", "\"", "@", " ", ",", ";", "\t", "/", "-", "_", ".", "%", "+", "*",
+            "token", "access_token", "id_token", "refresh_token", "tok", "oken",
+            "password", "passwd", "pwd", "pass", "pas",
+            "username", "user", "login", "account", "use",
+            "studentCode", "studentId", "studentNo", "student", "stud",
+            "portalSession", "portalToken", "JSESSIONID", "portal",
+            "authorization", "Authorization: Bearer ", "bearer ", "secret",
+            "\": \"", "\":\"", "{\"", "\"}",
+            "kim", "a", "b", "x1", "abc123", "eyJhbGciOi.J9", "example.com", "20231234",
+            "/api/users", "학번", "é", "K", "K", "ſ", "\n"
+    };
+
+    @Test
+    @DisplayName("사전 필터를 적용한 결과는 모든 규칙을 순서대로 적용한 결과와 같다")
+    void prefilteredOutputMatchesSequentialRules() {
+        Random random = new Random(20240917L);
+        for (int i = 0; i < 50_000; i++) {
+            String input = randomInput(random);
+            assertThat(LogSanitizer.clean(input))
+                    .as("input=%s", input)
+                    .isEqualTo(LogSanitizer.cleanUnfiltered(input));
+        }
+    }
+
+    @Test
+    @DisplayName("민감 키워드가 없으면 원본 문자열을 그대로 반환한다")
+    void returnsSameInstanceWhenNothingMatches() {
+        String uri = "GET /api/graduation/progress?semester=2024-1";
+        String message = "[PERF] portal.sync.end took_ms=120";
+
+        assertThat(LogSanitizer.clean(uri)).isSameAs(uri);
+        assertThat(LogSanitizer.clean("plain message")).isSameAs("plain message");
+        // portal 키워드는 있지만 portalSession/portalToken 형태가 아니면 결과는 동일하다.
+        assertThat(LogSanitizer.clean(message)).isEqualTo(message);
+        assertThat(LogSanitizer.clean(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("기존 규칙의 마스킹 결과를 유지한다")
+    void keepsExistingMaskingOutput() {
+        assertThat(LogSanitizer.clean("/api/login?studentCode=20231234&token=abc.def"))
+                .isEqualTo("/api/login?studentCode=***&token=***");
+        assertThat(LogSanitizer.clean("?password=pw1234&username=chukchuk"))
+                .isEqualTo("?password=***&username=ch***uk");
+        assertThat(LogSanitizer.clean("Authorization: Bearer eyJhbGciOi.J9"))
+                .isEqualTo("Authorization: Bearer ***");
+        assertThat(LogSanitizer.clean("mail kim@example.com"))
+                .isEqualTo("mail k***@example.com");
+        assertThat(LogSanitizer.clean("{\"password\":\"pw\",\"name\":\"kim\"}"))
+                .isEqualTo("{\"password\": \"***\",\"name\":\"kim\"}");
+    }
+
+    @Test
+    @DisplayName("KeywordScanner는 겹치는 키워드를 대소문자 구분 없이 모두 찾는다")
+    void scannerFindsOverlappingKeywords() {
+        KeywordScanner scanner = new KeywordScanner(Map.of("he", 1, "she", 2, "hers", 4, "=", 8));
+
+        assertThat(scanner.scan("uSHErs")).isEqualTo(1 | 2 | 4);
+        assertThat(scanner.scan("hé s-he")).isEqualTo(1);
+        assertThat(scanner.scan("a=b")).isEqualTo(8);
+        assertThat(scanner.scan("nothing")).isZero();
+        assertThatThrownBy(() -> new KeywordScanner(Map.of("Token", 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String randomInput(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int parts = 1 + random.nextInt(14);
+        for (int i = 0; i < parts; i++) {
+            String fragment = FRAGMENTS[random.nextInt(FRAGMENTS.length)];
+            sb.append(random.nextInt(4) == 0 ? flipCase(fragment, random) : fragment);
+        }
+        return sb.toString();
+    }
+
+    private static String flipCase(String s, Random random) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (char c : s.toCharArray()) {
+            sb.append(random.nextBoolean() ? Character.toUpperCase(c) : Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,103 @@
+package com.chukchuk.haksa.global.metrics;
+
+import com.chukchuk.haksa.global.logging.config.LoggingThresholds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QueryCounterTests {
+
+    @Test
+    @DisplayName("리터럴과 IN 목록 크기가 달라도 같은 SQL 형태로 묶는다")
+    void normalizesLiteralsAndInLists() {
+        assertThat(SqlShape.of("SELECT * FROM courses c1_0 WHERE c1_0.id IN (?, ?, ?)"))
+                .isEqualTo(SqlShape.of("select * from courses c1_0 where c1_0.id in (?)"))
+                .isEqualTo("select * from courses c1_0 where c1_0.id in (?...)");
+        assertThat(SqlShape.of("update t set status = 'DONE', retry = 3 where id = 10"))
+                .isEqualTo("update t set status = ?, retry = ? where id = ?");
+        assertThat(SqlShape.of(null)).isEqualTo(SqlShape.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("중첩 범위의 실행 수는 바깥 범위에도 누적되고 닫으면 바깥 범위가 복원된다")
+    void nestedScopesAccumulateIntoParents() {
+        try (QueryCounter.Scope outer = QueryCounter.open(QueryCounter.ScopeType.CALLBACK, "outer")) {
+            QueryCounter.record("select 1");
+            QueryCounter.Scope inner = QueryCounter.open(QueryCounter.ScopeType.SYNC, "inner");
+            QueryCounter.record("select * from students where id = ?");
+            QueryCounter.record("select * from students where id = ?");
+            inner.close();
+
+            assertThat(QueryCounter.current()).isSameAs(outer);
+            assertThat(inner.total()).isEqualTo(2);
+            assertThat(outer.total()).isEqualTo(3);
+            assertThat(outer.countsByShape()).containsEntry("select * from students where id = ?", 2);
+        }
+        assertThat(QueryCounter.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 SELECT 형태가 기준 이상 반복되면 N+1 의심 범위로 센다")
+    void countsRepeatedSelectScopes() {
+        long before = QueryCounter.repeated(QueryCounter.ScopeType.MAINTENANCE);
+
+        QueryCounter.Scope scope = QueryCounter.open(QueryCounter.ScopeType.MAINTENANCE, "test");
+        for (int i = 0; i < LoggingThresholds.QUERY_REPEAT_WARN; i++) {
+            QueryCounter.record("select * from course_offerings where id = " + i);
+            QueryCounter.record("insert into professors (name) values (?)");
+        }
+        scope.close();
+
+        assertThat(scope.maxSelectRepeat()).isEqualTo(LoggingThresholds.QUERY_REPEAT_WARN);
+        assertThat(QueryCounter.repeated(QueryCounter.ScopeType.MAINTENANCE)).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("요청 컨텍스트가 없어도 범위가 열려 있으면 커넥션을 감싸 실행된 SQL을 센다")
+    void wrapsConnectionInsideScope() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        Statement plain = mock(Statement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select * from users where id = ?")).thenReturn(prepared);
+        when(connection.createStatement()).thenReturn(plain);
+        MeteredDataSource dataSource = new MeteredDataSource(target);
+
+        QueryCounter.Scope scope = QueryCounter.open(QueryCounter.ScopeType.SYNC, "test");
+        try (Connection c = dataSource.getConnection()) {
+            c.prepareStatement("select * from users where id = ?").executeQuery();
+            c.prepareStatement("select * from users where id = ?").executeQuery();
+            c.createStatement().execute("delete from refresh_tokens where expires_at < now()");
+        } finally {
+            scope.close();
+        }
+
+        assertThat(scope.countsByShape())
+                .containsEntry("select * from users where id = ?", 2)
+                .containsEntry("delete from refresh_tokens where expires_at < now()", 1);
+        assertThat(RequestMetricsContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("instrumentAll이면 범위 밖에서 얻은 커넥션도 감싼다")
+    void wrapsEveryConnectionWhenInstrumentAll() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection wrapped = new MeteredDataSource(target, true).getConnection();
+
+        assertThat(wrapped).isNotSameAs(connection);
+        assertThat(Proxy.isProxyClass(wrapped.getClass())).isTrue();
+    }
+}
@@ -0,0 +1,117 @@
+package com.chukchuk.haksa.global.metrics;
+
+import com.chukchuk.haksa.global.config.RequestMetricsProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RequestMetricsFilterTests {
+
+    private static final String ROUTE = "/api/graduation/progress";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RequestMetricsFilter filter = new RequestMetricsFilter(registry, new RequestMetricsProperties());
+
+    @Test
+    @DisplayName("라우트 패턴과 결과 분류로 지연 시간을 기록하고 DB 시간과 캐시 조회 수를 함께 남긴다")
+    void recordsLatencyDbTimeAndCacheHitsPerRoute() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select 1")).thenReturn(statement);
+        when(statement.executeQuery()).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            return null;
+        });
+        MeteredDataSource dataSource = new MeteredDataSource(target);
+
+        filter.doFilter(new MockHttpServletRequest("GET", ROUTE), new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE);
+            try (Connection c = dataSource.getConnection();
+                 PreparedStatement ps = c.prepareStatement("select 1")) {
+                ps.executeQuery();
+            } catch (SQLException e) {
+                throw new ServletException(e);
+            }
+            RequestMetricsContext.recordCache("academic", true);
+            RequestMetricsContext.recordCache("academic", true);
+            RequestMetricsContext.recordCache("academic", false);
+        });
+
+        Timer latency = registry.get("http.route.latency")
+                .tags("method", "GET", "route", ROUTE, "outcome", "success")
+                .timer();
+        assertThat(latency.count()).isEqualTo(1);
+        assertThat(latency.takeSnapshot().histogramCounts()).hasSize(7);
+
+        Timer db = registry.get("http.route.db").tags("route", ROUTE).timer();
+        assertThat(db.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(5);
+        assertThat(registry.get("http.route.db.connection").tags("route", ROUTE).timer().count()).isEqualTo(1);
+        assertThat(registry.get("http.route.app").tags("route", ROUTE).timer().count()).isEqualTo(1);
+        assertThat(registry.get("http.route.db.statements").tags("route", ROUTE).summary().totalAmount()).isEqualTo(1);
+
+        assertThat(registry.get("http.route.cache").tags("route", ROUTE, "cache", "academic", "result", "hit")
+                .counter().count()).isEqualTo(2);
+        assertThat(registry.get("http.route.cache").tags("route", ROUTE, "cache", "academic", "result", "miss")
+                .counter().count()).isEqualTo(1);
+        assertThat(RequestMetricsContext.current()).isNull();
+        assertThat(QueryCounter.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("필터 밖으로 예외가 전파되면 핸들러에 도달하지 못한 요청도 server_error로 기록한다")
+    void recordsEscapedExceptionAsServerError() {
+        assertThatThrownBy(() -> filter.doFilter(
+                new MockHttpServletRequest("POST", "/api/unknown"),
+                new MockHttpServletResponse(),
+                (req, res) -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get("http.route.latency")
+                .tags("method", "POST", "route", RequestMetricsFilter.UNMATCHED, "outcome", "server_error")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.find("http.route.db.connection").timer()).isNull();
+        assertThat(RequestMetricsContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 컨텍스트 밖에서는 원본 커넥션을 그대로 반환한다")
+    void returnsRawConnectionOutsideRequest() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+
+        assertThat(new MeteredDataSource(target).getConnection()).isSameAs(connection);
+    }
+
+    @Test
+    @DisplayName("응답 상태를 결과 분류로 변환한다")
+    void classifiesOutcomeByStatus() {
+        assertThat(RequestMetricsFilter.outcome(200)).isEqualTo("success");
+        assertThat(RequestMetricsFilter.outcome(302)).isEqualTo("redirect");
+        assertThat(RequestMetricsFilter.outcome(401)).isEqualTo("auth_error");
+        assertThat(RequestMetricsFilter.outcome(403)).isEqualTo("auth_error");
+        assertThat(RequestMetricsFilter.outcome(404)).isEqualTo("not_found");
+        assertThat(RequestMetricsFilter.outcome(422)).isEqualTo("client_error");
+        assertThat(RequestMetricsFilter.outcome(503)).isEqualTo("server_error");
+    }
+}
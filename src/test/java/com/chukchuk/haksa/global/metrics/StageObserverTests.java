@@ -0,0 +1,97 @@
+package com.chukchuk.haksa.global.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StageObserverTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<Observation.Context> stopped;
+    private StageObserver stageObserver;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stopped = new ArrayList<>();
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig()
+                .observationHandler(new DefaultMeterObservationHandler(meterRegistry))
+                .observationHandler(new ObservationHandler<>() {
+                    @Override
+                    public void onStop(Observation.Context context) {
+                        stopped.add(context);
+                    }
+
+                    @Override
+                    public boolean supportsContext(Observation.Context context) {
+                        return true;
+                    }
+                });
+        stageObserver = new StageObserver(registry);
+    }
+
+    @Test
+    @DisplayName("단계마다 flow/stage 태그의 portal.stage 타이머를 남기고 안쪽 단계는 바깥 단계의 자식이 된다")
+    void nestedStagesRecordTimersAndParent() {
+        String result = stageObserver.observe(StageObserver.SYNC, "academic_sync", () -> {
+            stageObserver.run(StageObserver.SYNC, "course_resolve", () -> stageObserver.attribute("courses", 12));
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        Timer inner = meterRegistry.find(StageObserver.NAME).tags("flow", "sync", "stage", "course_resolve").timer();
+        Timer outer = meterRegistry.find(StageObserver.NAME).tags("flow", "sync", "stage", "academic_sync").timer();
+        assertThat(inner).isNotNull();
+        assertThat(outer).isNotNull();
+        assertThat(inner.count()).isEqualTo(1);
+        // 값이 다양한 속성은 span에만 붙고 지표 태그가 되지 않는다.
+        assertThat(inner.getId().getTag("courses")).isNull();
+
+        assertThat(stopped).hasSize(2);
+        Observation.Context innerContext = stopped.get(0);
+        assertThat(innerContext.getContextualName()).isEqualTo("sync course_resolve");
+        assertThat(innerContext.getHighCardinalityKeyValue("courses")).isEqualTo(KeyValue.of("courses", "12"));
+        assertThat(innerContext.getParentObservation().getContextView()).isSameAs(stopped.get(1));
+    }
+
+    @Test
+    @DisplayName("단계 안의 checked 예외는 error로 기록한 뒤 그대로 전파한다")
+    void checkedExceptionIsRecordedAndRethrown() {
+        assertThatThrownBy(() -> stageObserver.run(StageObserver.CALLBACK, "payload_normalize", () -> {
+            throw new IOException("broken payload");
+        })).isInstanceOf(IOException.class).hasMessage("broken payload");
+
+        assertThat(stopped).singleElement()
+                .satisfies(context -> assertThat(context.getError()).isInstanceOf(IOException.class));
+        assertThat(meterRegistry.find(StageObserver.NAME).tags("stage", "payload_normalize", "error", "IOException").timer())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("관측이 꺼져 있으면 본문만 실행하고 속성 기록은 무시한다")
+    void noopRegistryRunsBodyOnly() {
+        StageObserver noop = new StageObserver(ObservationRegistry.NOOP);
+
+        Integer value = noop.observe(StageObserver.CALLBACK, "s3_fetch", () -> {
+            noop.attribute("payload_chars", 10);
+            return 42;
+        });
+
+        assertThat(value).isEqualTo(42);
+    }
+}
@@ -0,0 +1,103 @@
+package com.chukchuk.haksa.infrastructure.cache.local;
+
+import com.chukchuk.haksa.domain.graduation.dto.AreaRequirementDto;
+import com.chukchuk.haksa.domain.graduation.dto.LanguageCertRequirementResponse;
+import com.chukchuk.haksa.global.config.AcademicCacheProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.chukchuk.haksa.domain.academic.record.dto.StudentAcademicRecordDto.AcademicSummaryResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AcademicCacheSnapshotStoreTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("저장한 스냅샷은 DB 스탬프가 같으면 새 캐시에 정적 키만 복원한다")
+    void savedSnapshotRestoresStaticEntriesWhenStampMatches() {
+        AcademicCacheProperties properties = properties();
+        StaticDataVersionReader versionReader = mock(StaticDataVersionReader.class);
+        when(versionReader.read()).thenReturn("stamp-1");
+
+        LocalAcademicCache source = new LocalAcademicCache(properties);
+        List<AreaRequirementDto> requirements = List.of(new AreaRequirementDto("전핵", 30, 2, 5));
+        LanguageCertRequirementResponse languageCert =
+                LanguageCertRequirementResponse.unmapped("2000763", "자유전공학부", 2025, "미매핑");
+        source.getOrLoadGraduationRequirements(1L, 2024, () -> requirements);
+        source.getOrLoadLanguageCertRequirement("2000763", 2025, () -> languageCert);
+        source.getOrLoadAcademicSummary(UUID.randomUUID(), () ->
+                new AcademicSummaryResponse(100, new BigDecimal("3.50"), new BigDecimal("88.1"), 130));
+
+        assertThat(store(source, versionReader, properties).save()).isEqualTo(2);
+
+        LocalAcademicCache restored = new LocalAcademicCache(properties);
+        assertThat(store(restored, versionReader, properties).load()).isEqualTo(2);
+
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(restored.getOrLoadGraduationRequirements(1L, 2024, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        })).isEqualTo(requirements);
+        assertThat(restored.getOrLoadLanguageCertRequirement("2000763", 2025, () -> {
+            loads.incrementAndGet();
+            return null;
+        })).usingRecursiveComparison().isEqualTo(languageCert);
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 스탬프가 바뀌면 스냅샷을 사용하지 않는다")
+    void staleSnapshotIsIgnored() {
+        AcademicCacheProperties properties = properties();
+        StaticDataVersionReader versionReader = mock(StaticDataVersionReader.class);
+        when(versionReader.read()).thenReturn("stamp-1", "stamp-2");
+
+        LocalAcademicCache source = new LocalAcademicCache(properties);
+        source.getOrLoadGraduationRequirements(1L, 2024, () -> List.of(new AreaRequirementDto("전핵", 30, 2, 5)));
+        store(source, versionReader, properties).save();
+
+        LocalAcademicCache restored = new LocalAcademicCache(properties);
+        assertThat(store(restored, versionReader, properties).load()).isZero();
+    }
+
+    @Test
+    @DisplayName("스냅샷 파일이 없으면 아무것도 복원하지 않는다")
+    void missingSnapshotLoadsNothing() {
+        AcademicCacheProperties properties = properties();
+        StaticDataVersionReader versionReader = mock(StaticDataVersionReader.class);
+        when(versionReader.read()).thenReturn("stamp-1");
+
+        assertThat(store(new LocalAcademicCache(properties), versionReader, properties).load()).isZero();
+    }
+
+    private AcademicCacheSnapshotStore store(
+            LocalAcademicCache cache,
+            StaticDataVersionReader versionReader,
+            AcademicCacheProperties properties
+    ) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<LocalAcademicCache> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(cache);
+        return new AcademicCacheSnapshotStore(provider, versionReader, properties);
+    }
+
+    private AcademicCacheProperties properties() {
+        AcademicCacheProperties properties = new AcademicCacheProperties();
+        properties.getSnapshot().setEnabled(true);
+        properties.getSnapshot().setPath(tempDir.resolve("academic-cache-snapshot.json.gz").toString());
+        properties.getSnapshot().setBundledResource("cache/missing-snapshot.json.gz");
+        return properties;
+    }
+}
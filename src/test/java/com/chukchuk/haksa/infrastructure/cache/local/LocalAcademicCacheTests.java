@@ -0,0 +1,353 @@
+package com.chukchuk.haksa.infrastructure.cache.local;
+
+import com.chukchuk.haksa.domain.cache.CachedResponseBody;
+import com.chukchuk.haksa.domain.course.model.FacultyDivision;
+import com.chukchuk.haksa.domain.graduation.dto.AreaProgressDto;
+import com.chukchuk.haksa.domain.graduation.dto.AreaRequirementDto;
+import com.chukchuk.haksa.domain.graduation.dto.CourseDto;
+import com.chukchuk.haksa.domain.graduation.dto.GraduationProgressResponse;
+import com.chukchuk.haksa.global.config.AcademicCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.chukchuk.haksa.domain.academic.record.dto.StudentAcademicRecordDto.AcademicSummaryResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalAcademicCacheTests {
+
+    private static final int CONCURRENT_REQUESTS = 16;
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 무효화 주기마다 loader를 한 번만 실행한다")
+    void concurrentGetOrLoadRunsLoaderOncePerKeyPerInvalidation() throws Exception {
+        LocalAcademicCache cache = new LocalAcademicCache(properties(Duration.ZERO));
+        UUID studentId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        try {
+            List<AcademicSummaryResponse> firstRound = runConcurrently(executor, cache, studentId, loads);
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(firstRound).allSatisfy(result -> assertThat(result).isSameAs(firstRound.get(0)));
+
+            cache.deleteAllByStudentId(studentId);
+
+            List<AcademicSummaryResponse> secondRound = runConcurrently(executor, cache, studentId, loads);
+            assertThat(loads.get()).isEqualTo(2);
+            assertThat(secondRound).allSatisfy(result -> assertThat(result).isSameAs(secondRound.get(0)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("loader 예외는 그대로 전파되고 캐시에 남지 않는다")
+    void loaderExceptionIsPropagatedAndNotCached() {
+        LocalAcademicCache cache = new LocalAcademicCache(properties(Duration.ZERO));
+        UUID studentId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> cache.getOrLoadAcademicSummary(studentId, () -> {
+            throw new IllegalStateException("load fail");
+        })).isInstanceOf(IllegalStateException.class);
+
+        AcademicSummaryResponse loaded = cache.getOrLoadAcademicSummary(studentId, LocalAcademicCacheTests::summary);
+
+        assertThat(loaded).isNotNull();
+    }
+
+    @Test
+    @DisplayName("빈 졸업 요건은 캐시하지 않는다")
+    void emptyRequirementsAreNotCached() {
+        LocalAcademicCache cache = new LocalAcademicCache(properties(Duration.ZERO));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoadGraduationRequirements(1L, 2024, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        List<AreaRequirementDto> loaded = cache.getOrLoadGraduationRequirements(1L, 2024, () -> {
+            loads.incrementAndGet();
+            return requirements(12);
+        });
+
+        assertThat(loaded).hasSize(1);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("진행 현황 로딩 중 졸업 요건을 중첩 로딩해도 교착되지 않는다")
+    void nestedLoadsForDifferentKeysComplete() {
+        LocalAcademicCache cache = new LocalAcademicCache(properties(Duration.ZERO));
+        UUID studentId = UUID.randomUUID();
+
+        GraduationProgressResponse progress = cache.getOrLoadGraduationProgress(studentId, () -> {
+            cache.getOrLoadGraduationRequirements(1L, 2024, () -> requirements(12));
+            return new GraduationProgressResponse(List.of());
+        });
+
+        assertThat(progress).isNotNull();
+        assertThat(cache.getOrLoadGraduationRequirements(1L, 2024, () -> requirements(99)))
+                .extracting(AreaRequirementDto::requiredCredits)
+                .containsExactly(12);
+    }
+
+    @Test
+    @DisplayName("refresh-ahead 기준 나이를 넘긴 정적 졸업 요건은 조회한 요청이 직접 다시 읽어 갱신한다")
+    void staticRequirementsAreRefreshedAheadOnCallerThread() {
+        LocalAcademicCache cache = new LocalAcademicCache(properties(Duration.ofNanos(1)));
+        Thread caller = Thread.currentThread();
+        List<Thread> loaderThreads = new ArrayList<>();
+
+        cache.getOrLoadGraduationRequirements(1L, 2024, () -> requirements(12));
+        List<AreaRequirementDto> refreshed = cache.getOrLoadGraduationRequirements(1L, 2024, () -> {
+            loaderThreads.add(Thread.currentThread());
+            return requirements(15);
+        });
+        List<AreaRequirementDto> cached = cache.getOrLoadGraduationRequirements(1L, 2024, () -> {
+            throw new IllegalStateException("refresh fail");
+        });
+
+        assertThat(loaderThreads).containsExactly(caller);
+        assertThat(refreshed).extracting(AreaRequirementDto::requiredCredits).containsExactly(15);
+        assertThat(cached).extracting(AreaRequirementDto::requiredCredits).containsExactly(15);
+    }
+
+    @Test
+    @DisplayName("학생 단위 데이터는 refresh-ahead 대상이 아니다")
+    void studentKeysAreNotRefreshedAhead() {
+        LocalAcademicCache cache = new LocalAcademicCache(properties(Duration.ofNanos(1)));
+        UUID studentId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            cache.getOrLoadAcademicSummary(studentId, () -> {
+                loads.incrementAndGet();
+                return summary();
+            });
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키 패밀리별 hit/miss, 로딩 시간, 엔트리 수를 메트릭으로 노출한다")
+    void exportsPerFamilyMetrics() {
+        LocalAcademicCache cache = new LocalAcademicCache(properties(Duration.ZERO));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        UUID studentId = UUID.randomUUID();
+
+        cache.getOrLoadAcademicSummary(studentId, LocalAcademicCacheTests::summary);
+        cache.getOrLoadAcademicSummary(studentId, LocalAcademicCacheTests::summary);
+        cache.getOrLoadGraduationRequirements(1L, 2024, () -> requirements(12));
+
+        assertThat(registry.get("academic.cache.requests")
+                .tags("family", "summary", "result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("academic.cache.requests")
+                .tags("family", "summary", "result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("academic.cache.load")
+                .tags("family", "requirements").functionTimer().count()).isEqualTo(1);
+        assertThat(registry.get("academic.cache.family.size")
+                .tags("family", "summary").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("academic.cache.family.estimated.bytes")
+                .tags("family", "summary").gauge().value()).isPositive();
+        assertThat(registry.get("cache.gets")
+                .tags("cache", "academic", "result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("패밀리별 엔트리 수와 가중치는 저장/제거 때 갱신된다")
+    void familyGaugesFollowPutAndRemove() {
+        LocalAcademicCache cache = new LocalAcademicCache(properties(Duration.ZERO));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        cache.getOrLoadAcademicSummary(first, LocalAcademicCacheTests::summary);
+        cache.getOrLoadAcademicSummary(second, LocalAcademicCacheTests::summary);
+        cache.getOrLoadAcademicSummary(second, LocalAcademicCacheTests::summary);
+        assertThat(familyGauge(registry, "academic.cache.family.size", "summary")).isEqualTo(2);
+        double twoEntries = familyGauge(registry, "academic.cache.family.estimated.bytes", "summary");
+
+        cache.deleteAllByStudentId(first);
+
+        assertThat(familyGauge(registry, "academic.cache.family.size", "summary")).isEqualTo(1);
+        assertThat(familyGauge(registry, "academic.cache.family.estimated.bytes", "summary"))
+                .isPositive()
+                .isLessThan(twoEntries);
+        assertThat(familyGauge(registry, "academic.cache.family.size", "semesters")).isZero();
+    }
+
+    @Test
+    @DisplayName("응답 본문은 response 패밀리로 집계되고 compact 인코딩 없이 보관되며 학생 무효화 대상에 포함된다")
+    void responseBodyIsCachedAsIsAndInvalidatedWithStudent() {
+        AcademicCacheProperties properties = properties(Duration.ZERO);
+        properties.getCompact().setEnabled(true);
+        properties.getCompact().setThresholdBytes(1);
+        LocalAcademicCache cache = new LocalAcademicCache(properties);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        UUID studentId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        CachedResponseBody body = new CachedResponseBody("{\"success\":true}".getBytes(), "\"etag\"");
+
+        CachedResponseBody first = cache.getOrLoadResponseBody(studentId, 1L, "summary", () -> {
+            loads.incrementAndGet();
+            return body;
+        });
+        CachedResponseBody second = cache.getOrLoadResponseBody(studentId, 1L, "summary", () -> {
+            loads.incrementAndGet();
+            return body;
+        });
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(registry.get("academic.cache.requests")
+                .tags("family", "response", "result", "hit").functionCounter().count()).isEqualTo(1);
+
+        cache.deleteAllByStudentId(studentId);
+        cache.getOrLoadResponseBody(studentId, 1L, "summary", () -> {
+            loads.incrementAndGet();
+            return body;
+        });
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("compact 모드에서는 JSON 바이트로 보관하고 조회 시 동일한 내용으로 복원한다")
+    void compactModeRoundTripsGraduationProgress() {
+        AcademicCacheProperties properties = properties(Duration.ZERO);
+        properties.getCompact().setEnabled(true);
+        properties.getCompact().setThresholdBytes(0);
+        LocalAcademicCache cache = new LocalAcademicCache(properties);
+        UUID studentId = UUID.randomUUID();
+        GraduationProgressResponse original = graduationProgress();
+        original.setHasDifferentGraduationRequirement();
+
+        GraduationProgressResponse loaded = cache.getOrLoadGraduationProgress(studentId, () -> original);
+        GraduationProgressResponse cached = cache.getOrLoadGraduationProgress(studentId, () -> null);
+
+        assertThat(loaded).isSameAs(original);
+        assertThat(cached).isNotSameAs(original);
+        assertThat(cached).usingRecursiveComparison().isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("엔트리 수가 아닌 값 크기 기준으로 가중치를 집계한다")
+    void weighsEntriesByValueSize() {
+        LocalAcademicCache cache = new LocalAcademicCache(properties(Duration.ZERO));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.getOrLoadAcademicSummary(UUID.randomUUID(), LocalAcademicCacheTests::summary);
+        double summaryBytes = registry.get("academic.cache.family.estimated.bytes")
+                .tags("family", "summary").gauge().value();
+        cache.getOrLoadGraduationProgress(UUID.randomUUID(), LocalAcademicCacheTests::graduationProgress);
+        double progressBytes = registry.get("academic.cache.family.estimated.bytes")
+                .tags("family", "graduation").gauge().value();
+
+        assertThat(progressBytes).isGreaterThan(summaryBytes);
+        assertThat(registry.get("academic.cache.weighted.bytes").gauge().value())
+                .isGreaterThanOrEqualTo(progressBytes);
+    }
+
+    @Test
+    @DisplayName("compact 값은 보관 중인 바이트 길이로, 그 밖의 값은 직렬화 없이 어림한 크기로 가중치를 매긴다")
+    void weighsCompactValuesByStoredBytes() {
+        GraduationProgressResponse progress = graduationProgress();
+        byte[] bytes = CacheValueCodec.encode(progress);
+
+        int overhead = CacheValueCodec.weigh("k", new CacheValueCodec.CompactValue(new byte[0]));
+        int compactWeight = CacheValueCodec.weigh("k", new CacheValueCodec.CompactValue(bytes));
+        int estimatedBytes = CacheValueCodec.weigh("k", progress) - overhead;
+
+        assertThat(compactWeight).isEqualTo(overhead + bytes.length);
+        // 어림값은 필드 이름과 JSON 구두점을 빼고 한글을 3바이트로 세므로 실제 인코딩 크기의 4배 안쪽이면 된다.
+        assertThat(estimatedBytes).isBetween(bytes.length / 4, bytes.length * 4);
+        assertThat(estimatedBytes).isGreaterThan(CacheValueCodec.weigh("k", summary()) - overhead);
+    }
+
+    private List<AcademicSummaryResponse> runConcurrently(
+            ExecutorService executor,
+            LocalAcademicCache cache,
+            UUID studentId,
+            AtomicInteger loads
+    ) throws Exception {
+        CountDownLatch ready = new CountDownLatch(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AcademicSummaryResponse>> futures = new ArrayList<>();
+
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return cache.getOrLoadAcademicSummary(studentId, () -> {
+                    loads.incrementAndGet();
+                    sleepQuietly();
+                    return summary();
+                });
+            }));
+        }
+
+        assertThat(ready.await(5, TimeUnit.SECONDS)).isTrue();
+        start.countDown();
+
+        List<AcademicSummaryResponse> results = new ArrayList<>();
+        for (Future<AcademicSummaryResponse> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static double familyGauge(SimpleMeterRegistry registry, String name, String family) {
+        return registry.get(name).tags("family", family).gauge().value();
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static AcademicCacheProperties properties(Duration refreshAhead) {
+        AcademicCacheProperties properties = new AcademicCacheProperties();
+        properties.setRefreshAhead(refreshAhead);
+        return properties;
+    }
+
+    private static GraduationProgressResponse graduationProgress() {
+        List<CourseDto> courses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            courses.add(new CourseDto(2024, "과목" + i, 3, "A+", 10, i % 2 == 0 ? null : 7));
+        }
+        return new GraduationProgressResponse(
+                List.of(new AreaProgressDto(FacultyDivision.전핵, 60, 45, 2, 1, 3, courses)),
+                true
+        );
+    }
+
+    private static AcademicSummaryResponse summary() {
+        return new AcademicSummaryResponse(100, new BigDecimal("3.50"), new BigDecimal("88.1"), 130);
+    }
+
+    private static List<AreaRequirementDto> requirements(int requiredCredits) {
+        return List.of(new AreaRequirementDto("전핵", requiredCredits, null, null));
+    }
+}
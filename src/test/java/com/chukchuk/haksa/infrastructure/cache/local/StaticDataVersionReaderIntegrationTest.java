@@ -0,0 +1,68 @@
+package com.chukchuk.haksa.infrastructure.cache.local;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StaticDataVersionReaderIntegrationTest {
+
+    private static final long DEPARTMENT_ID = 2_000_701L;
+
+    @Autowired
+    private StaticDataVersionReader versionReader;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID requirementId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO departments (id, department_code, established_department_name)
+                VALUES (?, 'VERSION-1', '버전학과')
+                """, DEPARTMENT_ID);
+        requirementId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO dual_major_requirements (id, major_role, admission_year, area_type, required_credits, department_id)
+                VALUES (?, 'PRIMARY', 2024, '전핵', 15, ?)
+                """, requirementId, DEPARTMENT_ID);
+    }
+
+    @Test
+    @DisplayName("학과 수와 최대 id가 그대로여도 학과명이 바뀌면 버전 스탬프가 바뀐다")
+    void read_changesWhenDepartmentRenamed() {
+        String before = versionReader.read();
+
+        jdbcTemplate.update("UPDATE departments SET established_department_name = '새버전학과' WHERE id = ?", DEPARTMENT_ID);
+
+        assertThat(versionReader.read()).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("복수전공 요건 행 수가 그대로여도 학점 값이 바뀌면 버전 스탬프가 바뀐다")
+    void read_changesWhenDualMajorRequirementEdited() {
+        String before = versionReader.read();
+
+        jdbcTemplate.update("UPDATE dual_major_requirements SET required_credits = 18 WHERE id = ?", requirementId);
+
+        assertThat(versionReader.read()).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("데이터가 그대로면 같은 버전 스탬프를 돌려준다")
+    void read_isStableWithoutChanges() {
+        assertThat(versionReader.read()).isEqualTo(versionReader.read());
+    }
+}
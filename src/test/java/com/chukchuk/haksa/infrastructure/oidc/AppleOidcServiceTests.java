@@ -1,5 +1,6 @@
 package com.chukchuk.haksa.infrastructure.oidc;
 
+import com.chukchuk.haksa.global.config.OidcKeyProperties;
 import com.chukchuk.haksa.global.exception.code.ErrorCode;
 import com.chukchuk.haksa.global.exception.type.TokenException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -16,6 +17,7 @@ import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.MessageDigest;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
@@ -54,7 +56,7 @@ class AppleOidcServiceTests {
                 .compact();
 
         OidcJwksClient jwksClient = Mockito.mock(OidcJwksClient.class);
-        when(jwksClient.fetchKeys(Mockito.anyString(), Mockito.eq(keysUrl))).thenReturn(jwks);
+        when(jwksClient.fetchKeys(keysUrl)).thenReturn(jwks);
 
         AppleOidcService service = createService(jwksClient, clientId, null, issuer, keysUrl);
 
@@ -95,8 +97,7 @@ class AppleOidcServiceTests {
                 .compact();
 
         OidcJwksClient jwksClient = Mockito.mock(OidcJwksClient.class);
-        when(jwksClient.fetchKeys("apple", keysUrl)).thenReturn(staleJwks);
-        when(jwksClient.refreshKeys("apple", keysUrl)).thenReturn(refreshedJwks);
+        when(jwksClient.fetchKeys(keysUrl)).thenReturn(staleJwks, refreshedJwks);
 
         AppleOidcService service = createService(jwksClient, clientId, null, issuer, keysUrl);
 
@@ -104,7 +105,7 @@ class AppleOidcServiceTests {
 
         assertThat(claims.getSubject()).isEqualTo("apple-sub");
         assertThat(claims.get("email", String.class)).isEqualTo("user@example.com");
-        Mockito.verify(jwksClient).refreshKeys("apple", keysUrl);
+        Mockito.verify(jwksClient, Mockito.times(2)).fetchKeys(keysUrl);
     }
 
     @Test
@@ -135,7 +136,7 @@ class AppleOidcServiceTests {
                 .compact();
 
         OidcJwksClient jwksClient = Mockito.mock(OidcJwksClient.class);
-        when(jwksClient.fetchKeys(Mockito.anyString(), Mockito.eq(keysUrl))).thenReturn(jwks);
+        when(jwksClient.fetchKeys(keysUrl)).thenReturn(jwks);
 
         AppleOidcService service = createService(
                 jwksClient,
@@ -177,7 +178,7 @@ class AppleOidcServiceTests {
                 .compact();
 
         OidcJwksClient jwksClient = Mockito.mock(OidcJwksClient.class);
-        when(jwksClient.fetchKeys(Mockito.anyString(), Mockito.eq(keysUrl))).thenReturn(jwks);
+        when(jwksClient.fetchKeys(keysUrl)).thenReturn(jwks);
 
         AppleOidcService service = createService(jwksClient, primaryClientId, null, issuer, keysUrl);
 
@@ -213,7 +214,7 @@ class AppleOidcServiceTests {
                 .compact();
 
         OidcJwksClient jwksClient = Mockito.mock(OidcJwksClient.class);
-        when(jwksClient.fetchKeys(Mockito.anyString(), Mockito.eq(keysUrl))).thenReturn(jwks);
+        when(jwksClient.fetchKeys(keysUrl)).thenReturn(jwks);
 
         AppleOidcService service = createService(
                 jwksClient,
@@ -255,7 +256,7 @@ class AppleOidcServiceTests {
                 .compact();
 
         OidcJwksClient jwksClient = Mockito.mock(OidcJwksClient.class);
-        when(jwksClient.fetchKeys(Mockito.anyString(), Mockito.eq(keysUrl))).thenReturn(jwks);
+        when(jwksClient.fetchKeys(keysUrl)).thenReturn(jwks);
 
         AppleOidcService service = createService(jwksClient, clientId, null, issuer, keysUrl);
 
@@ -270,7 +271,11 @@ class AppleOidcServiceTests {
                                            String issuer,
                                            String keysUrl) {
 
-        AppleOidcService service = new AppleOidcService(jwksClient);
+        OidcKeyProperties properties = new OidcKeyProperties();
+        properties.setMinRefetchInterval(Duration.ZERO);
+        OidcKeyRegistry registry = new OidcKeyRegistry(jwksClient, properties, Runnable::run, System::currentTimeMillis);
+
+        AppleOidcService service = new AppleOidcService(registry);
         ReflectionTestUtils.setField(service, "clientId", clientId);
         ReflectionTestUtils.setField(service, "allowedClientIds", allowedClientIds);
         ReflectionTestUtils.setField(service, "issuer", issuer);
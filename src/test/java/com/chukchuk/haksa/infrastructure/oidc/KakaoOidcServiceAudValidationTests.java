@@ -31,7 +31,7 @@ class KakaoOidcServiceAudValidationTests {
 
     @BeforeEach
     void setUp() throws Exception {
-        kakaoOidcService = new KakaoOidcService(mock(OidcJwksClient.class));
+        kakaoOidcService = new KakaoOidcService(mock(OidcKeyRegistry.class));
         validateClaimsMethod = KakaoOidcService.class.getDeclaredMethod("validateClaims", String.class, Claims.class);
         validateClaimsMethod.setAccessible(true);
 
@@ -1,5 +1,6 @@
 package com.chukchuk.haksa.infrastructure.oidc;
 
+import com.chukchuk.haksa.global.config.OidcKeyProperties;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
@@ -14,6 +15,7 @@ import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.MessageDigest;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 
@@ -22,6 +24,8 @@ import static org.mockito.Mockito.when;
 
 class KakaoOidcServiceTests {
 
+    private static final String KAKAO_JWKS_URL = "https://kauth.kakao.com/.well-known/jwks.json";
+
     @Test
     void verifyIdToken_refreshesKeysWhenKidMissing() throws Exception {
         String kid = "new-kid";
@@ -57,16 +61,20 @@ class KakaoOidcServiceTests {
                 .compact();
 
         OidcJwksClient jwksClient = Mockito.mock(OidcJwksClient.class);
-        when(jwksClient.fetchKeys("kakao", "https://kauth.kakao.com/.well-known/jwks.json")).thenReturn(staleJwks);
-        when(jwksClient.refreshKeys("kakao", "https://kauth.kakao.com/.well-known/jwks.json")).thenReturn(refreshedJwks);
+        when(jwksClient.fetchKeys(KAKAO_JWKS_URL)).thenReturn(staleJwks, refreshedJwks);
+
+        OidcKeyProperties properties = new OidcKeyProperties();
+        properties.setMinRefetchInterval(Duration.ZERO);
+        OidcKeyRegistry registry = new OidcKeyRegistry(jwksClient, properties, Runnable::run, System::currentTimeMillis);
 
-        KakaoOidcService service = new KakaoOidcService(jwksClient);
+        KakaoOidcService service = new KakaoOidcService(registry);
         ReflectionTestUtils.setField(service, "appKey", appKey);
+        ReflectionTestUtils.setField(service, "keysUrl", KAKAO_JWKS_URL);
 
         Claims claims = service.verifyIdToken(idToken, rawNonce);
 
         assertThat(claims.getSubject()).isEqualTo("kakao-sub");
-        Mockito.verify(jwksClient).refreshKeys("kakao", "https://kauth.kakao.com/.well-known/jwks.json");
+        Mockito.verify(jwksClient, Mockito.times(2)).fetchKeys(KAKAO_JWKS_URL);
     }
 
     private static byte[] stripLeadingZero(byte[] value) {
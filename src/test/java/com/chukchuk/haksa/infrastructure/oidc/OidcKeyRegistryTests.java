@@ -0,0 +1,190 @@
+package com.chukchuk.haksa.infrastructure.oidc;
+
+import com.chukchuk.haksa.global.config.OidcKeyProperties;
+import com.chukchuk.haksa.global.exception.code.ErrorCode;
+import com.chukchuk.haksa.global.exception.type.TokenException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * MockRestServiceServer를 로컬 JWKS 엔드포인트로 사용한다.
+ * 백그라운드 갱신은 호출 스레드에서 바로 실행되도록 직접 실행 Executor를 쓴다.
+ */
+class OidcKeyRegistryTests {
+
+    private static final String JWKS_URL = "https://idp.example/jwks";
+
+    private final AtomicLong now = new AtomicLong(0);
+    private MockRestServiceServer server;
+    private OidcKeyRegistry registry;
+    private KeyPair keyPair;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+
+        OidcKeyProperties properties = new OidcKeyProperties();
+        properties.setRefreshAfter(Duration.ofHours(1));
+        properties.setMinRefetchInterval(Duration.ofSeconds(30));
+        registry = new OidcKeyRegistry(new OidcJwksClient(restTemplate), properties, Runnable::run, now::get);
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+    }
+
+    @Test
+    @DisplayName("한 번 받은 키 세트는 kid별 파서를 재사용하고 JWKS를 다시 받지 않는다")
+    void reusesParsedKeysWithoutRefetching() {
+        expectJwks("kid-a");
+
+        JwtParser first = registry.parserFor("apple", JWKS_URL, "kid-a", "RS256");
+        JwtParser second = registry.parserFor("apple", JWKS_URL, "kid-a", "RS256");
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.parseClaimsJws(signedToken("kid-a")).getBody().getSubject()).isEqualTo("sub");
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("alg가 다르면 같은 kid라도 키를 찾지 못한다")
+    void rejectsKeyWithDifferentAlg() {
+        expectJwks("kid-a");
+
+        assertThatThrownBy(() -> registry.parserFor("apple", JWKS_URL, "kid-a", "ES256"))
+                .isInstanceOfSatisfying(TokenException.class, ex ->
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.TOKEN_NO_MATCHING_KEY));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 kid는 최소 간격이 지난 뒤에만 JWKS를 다시 받는다")
+    void unknownKidRefetchIsRateLimited() {
+        expectJwks("kid-a");
+        expectJwks("kid-a", "kid-b");
+
+        registry.parserFor("apple", JWKS_URL, "kid-a", "RS256");
+
+        now.set(Duration.ofSeconds(10).toMillis());
+        assertThatThrownBy(() -> registry.parserFor("apple", JWKS_URL, "kid-b", "RS256"))
+                .isInstanceOfSatisfying(TokenException.class, ex ->
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.TOKEN_NO_MATCHING_KEY));
+
+        now.set(Duration.ofSeconds(31).toMillis());
+        JwtParser rotated = registry.parserFor("apple", JWKS_URL, "kid-b", "RS256");
+
+        assertThat(rotated.parseClaimsJws(signedToken("kid-b")).getBody().getSubject()).isEqualTo("sub");
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("갱신 시점이 지나면 기존 키로 응답하고 백그라운드에서 새 키 세트로 교체한다")
+    void refreshesStaleKeySetInBackground() {
+        expectJwks("kid-a");
+        expectJwks("kid-b");
+
+        JwtParser initial = registry.parserFor("apple", JWKS_URL, "kid-a", "RS256");
+
+        now.set(Duration.ofHours(2).toMillis());
+        assertThat(registry.parserFor("apple", JWKS_URL, "kid-a", "RS256")).isSameAs(initial);
+
+        JwtParser rotated = registry.parserFor("apple", JWKS_URL, "kid-b", "RS256");
+        assertThat(rotated.parseClaimsJws(signedToken("kid-b")).getBody().getSubject()).isEqualTo("sub");
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("JWKS 엔드포인트가 실패하면 기존 키 세트를 계속 사용한다")
+    void servesStaleKeysWhenProviderIsUnreachable() {
+        expectJwks("kid-a");
+        server.expect(once(), requestTo(JWKS_URL)).andRespond(withServerError());
+
+        JwtParser initial = registry.parserFor("kakao", JWKS_URL, "kid-a", null);
+
+        now.set(Duration.ofHours(2).toMillis());
+        JwtParser afterFailure = registry.parserFor("kakao", JWKS_URL, "kid-a", null);
+        JwtParser withinInterval = registry.parserFor("kakao", JWKS_URL, "kid-a", null);
+
+        assertThat(afterFailure).isSameAs(initial);
+        assertThat(withinInterval).isSameAs(initial);
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("provider별 키 hit, 알 수 없는 kid 재조회와 제한, 갱신 실패, 키 세트 나이를 지표로 내보낸다")
+    void exportsProviderMetrics() {
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        registry.bindTo(meters);
+        expectJwks("kid-a");
+        server.expect(once(), requestTo(JWKS_URL)).andRespond(withServerError());
+
+        registry.parserFor("apple", JWKS_URL, "kid-a", "RS256");
+        registry.parserFor("apple", JWKS_URL, "kid-a", "RS256");
+
+        now.set(Duration.ofSeconds(10).toMillis());
+        assertThatThrownBy(() -> registry.parserFor("apple", JWKS_URL, "kid-b", "RS256"))
+                .isInstanceOf(TokenException.class);
+
+        now.set(Duration.ofSeconds(31).toMillis());
+        assertThatThrownBy(() -> registry.parserFor("apple", JWKS_URL, "kid-b", "RS256"))
+                .isInstanceOf(TokenException.class);
+
+        assertThat(meters.get("oidc.jwks.key.hits").tags("provider", "apple").functionCounter().count()).isEqualTo(2);
+        assertThat(meters.get("oidc.jwks.refetch.throttled").tags("provider", "apple").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meters.get("oidc.jwks.refetches").tags("provider", "apple").functionCounter().count()).isEqualTo(1);
+        assertThat(meters.get("oidc.jwks.fetch.failures").tags("provider", "apple").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meters.get("oidc.jwks.key.age").tags("provider", "apple").gauge().value()).isEqualTo(31.0);
+        server.verify();
+    }
+
+    private void expectJwks(String... kids) {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        String n = Base64.getUrlEncoder().withoutPadding().encodeToString(publicKey.getModulus().toByteArray());
+        String e = Base64.getUrlEncoder().withoutPadding().encodeToString(publicKey.getPublicExponent().toByteArray());
+
+        StringBuilder json = new StringBuilder("{\"keys\":[");
+        for (int i = 0; i < kids.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"kid\":\"").append(kids[i])
+                    .append("\",\"alg\":\"RS256\",\"kty\":\"RSA\",\"n\":\"").append(n)
+                    .append("\",\"e\":\"").append(e).append("\"}");
+        }
+        json.append("]}");
+
+        server.expect(once(), requestTo(JWKS_URL)).andRespond(withSuccess(json.toString(), MediaType.APPLICATION_JSON));
+    }
+
+    private String signedToken(String kid) {
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setSubject("sub")
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+}
@@ -10,6 +10,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -86,6 +87,47 @@ class HmacSignatureVerifierUnitTests {
         assertThat(diagnostics.expectedUtf8SignatureHash()).isNotBlank();
     }
 
+    @Test
+    @DisplayName("요청 바이트로 검증하고 base64url 서명과 잘못된 서명을 구분한다")
+    void inspect_verifiesRawBytes() throws Exception {
+        String secret = "test-callback-secret";
+        String timestamp = Instant.now().toString();
+        byte[] rawBody = "{\"job_id\":\"잡-1\",\"status\":\"failed\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] mac = hmac(secret.getBytes(StandardCharsets.UTF_8), timestamp + "." + new String(rawBody, StandardCharsets.UTF_8));
+        String urlSafe = Base64.getUrlEncoder().withoutPadding().encodeToString(mac);
+        mac[0] ^= 1;
+        String tampered = Base64.getEncoder().encodeToString(mac);
+
+        HmacSignatureVerifier verifier = new HmacSignatureVerifier(secret, 300);
+
+        assertThat(verifier.inspect(timestamp, rawBody, urlSafe).valid()).isTrue();
+        assertThat(verifier.inspect(timestamp, rawBody, tampered).reason())
+                .isEqualTo(HmacSignatureVerifier.VerificationFailureReason.SIGNATURE_MISMATCH);
+        assertThat(verifier.inspect(timestamp, rawBody, "sha256=zz").reason())
+                .isEqualTo(HmacSignatureVerifier.VerificationFailureReason.SIGNATURE_MISMATCH);
+    }
+
+    @Test
+    @DisplayName("진단은 최소 간격마다 한 번만 만들고 건너뛴 실패 수를 다음 진단에 넘긴다")
+    void sampleDiagnostics_isRateLimited() {
+        AtomicLong now = new AtomicLong(0);
+        HmacSignatureVerifier verifier = new HmacSignatureVerifier("test-callback-secret", 300, 10_000, now::get);
+        String timestamp = Instant.now().toString();
+        byte[] rawBody = "{\"job_id\":\"job-1\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(verifier.sampleDiagnostics(timestamp, rawBody, "invalid")).isPresent();
+        assertThat(verifier.sampleDiagnostics(timestamp, rawBody, "invalid")).isEmpty();
+        assertThat(verifier.sampleDiagnostics(timestamp, rawBody, "invalid")).isEmpty();
+
+        now.set(10_000);
+        assertThat(verifier.sampleDiagnostics(timestamp, rawBody, "invalid"))
+                .hasValueSatisfying(diagnostics -> {
+                    assertThat(diagnostics.reason())
+                            .isEqualTo(HmacSignatureVerifier.VerificationFailureReason.SIGNATURE_MISMATCH);
+                    assertThat(diagnostics.suppressedFailures()).isEqualTo(2);
+                });
+    }
+
     private static String signHex(String secretHex, String canonicalString) throws Exception {
         return HexFormat.of().formatHex(hmac(HexFormat.of().parseHex(secretHex), canonicalString));
     }
@@ -0,0 +1,176 @@
+package com.chukchuk.haksa.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * capture() 범위 안에서 실행된 Statement의 SQL과 바인딩 값을 모으는 테스트용 DataSource 래퍼
+ *
+ * - MeteredDataSource(QueryCounter)는 SQL 형태만 남기므로, 실행된 문장을 바인딩 값과 함께 다시 실행(EXPLAIN)하려면 이 래퍼로 감싼다.
+ * - MeteredDataSource 안쪽에 두면 execute* 한 번마다 QueryCounter.record와 여기 기록이 하나씩 쌓인다.
+ *   JDBC 배치는 QueryCounter처럼 한 번으로 세고, 첫 번째 addBatch 값만 남긴다.
+ * - 범위는 스레드별이다. 범위 밖 실행은 기록하지 않는다.
+ */
+public class CapturingDataSource extends DelegatingDataSource {
+
+    private static final ThreadLocal<List<CapturedStatement>> CURRENT = new ThreadLocal<>();
+
+    public CapturingDataSource(DataSource target) {
+        super(target);
+    }
+
+    /**
+     * 시나리오를 실행하고 그동안 실행된 Statement를 실행 순서대로 돌려준다.
+     */
+    public static List<CapturedStatement> capture(Runnable scenario) {
+        List<CapturedStatement> captured = new ArrayList<>();
+        List<CapturedStatement> previous = CURRENT.get();
+        CURRENT.set(captured);
+        try {
+            scenario.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+        return captured;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                CapturingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 실행된 문장 하나
+     *
+     * @param bindings 파라미터 위치별 set* 호출 (같은 메서드로 다른 PreparedStatement에 다시 바인딩한다)
+     */
+    public record CapturedStatement(String sql, Map<Integer, Binding> bindings) {
+
+        public void bind(PreparedStatement statement) throws SQLException {
+            for (Binding binding : bindings.values()) {
+                try {
+                    binding.method().invoke(statement, binding.args());
+                } catch (ReflectiveOperationException e) {
+                    throw new SQLException("rebind failed: " + binding.method().getName(), e);
+                }
+            }
+        }
+    }
+
+    public record Binding(Method method, Object[] args) {
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "createStatement", "prepareStatement", "prepareCall" -> {
+                    Object statement = CapturingDataSource.invoke(target, method, args);
+                    String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                    return Proxy.newProxyInstance(
+                            CapturingDataSource.class.getClassLoader(),
+                            new Class<?>[]{method.getReturnType()},
+                            new StatementHandler((Statement) statement, sql));
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                    return CapturingDataSource.invoke(target, method, args);
+                }
+            }
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String sql;
+        private final Map<Integer, Binding> bindings = new TreeMap<>();
+        private Map<Integer, Binding> firstBatch;
+
+        private StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bindings.put(index, new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (name.equals("addBatch") && (args == null || args.length == 0) && firstBatch == null) {
+                firstBatch = new TreeMap<>(bindings);
+            } else if (name.startsWith("execute")) {
+                record(name, args);
+            }
+            return CapturingDataSource.invoke(target, method, args);
+        }
+
+        private void record(String name, Object[] args) {
+            List<CapturedStatement> captured = CURRENT.get();
+            if (captured == null) {
+                return;
+            }
+            String executed = sql != null ? sql : args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            Map<Integer, Binding> values = name.equals("executeBatch") && firstBatch != null ? firstBatch : bindings;
+            captured.add(new CapturedStatement(executed, Map.copyOf(values)));
+            if (name.equals("executeBatch")) {
+                firstBatch = null;
+            }
+        }
+    }
+}
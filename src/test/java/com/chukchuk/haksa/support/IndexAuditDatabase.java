@@ -0,0 +1,60 @@
+package com.chukchuk.haksa.support;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * indexAudit 태스크용 PostgreSQL 접속 정보
+ *
+ * INDEX_AUDIT_DB_URL(_USERNAME/_PASSWORD)로 지정한 DB를 쓴다. 이 환경 변수가 없으면 index-audit 테스트는 건너뛴다.
+ */
+public final class IndexAuditDatabase {
+
+    public static final String URL_ENV = "INDEX_AUDIT_DB_URL";
+
+    /** 공통 migration과 PostgreSQL 전용 migration (flyway-migration workflow와 같은 구성) */
+    public static final String[] LOCATIONS = {"classpath:db/migration", "classpath:db/postgresql"};
+
+    private IndexAuditDatabase() {
+    }
+
+    public static String url() {
+        return System.getenv(URL_ENV);
+    }
+
+    public static String username() {
+        return System.getenv().getOrDefault("INDEX_AUDIT_DB_USERNAME", "postgres");
+    }
+
+    public static String password() {
+        return System.getenv().getOrDefault("INDEX_AUDIT_DB_PASSWORD", "");
+    }
+
+    /**
+     * 마지막 버전까지 마이그레이션한다. 이미 적용된 버전은 건너뛴다.
+     */
+    public static void migrate() {
+        Flyway.configure()
+                .dataSource(url(), username(), password())
+                .schemas("public")
+                .locations(LOCATIONS)
+                .load()
+                .migrate();
+    }
+
+    public static Connection connect() throws SQLException {
+        return DriverManager.getConnection(url(), username(), password());
+    }
+
+    /**
+     * 문장마다 자동 커밋하는 연결을 매번 새로 여는 DataSource (동시 실행 검증용)
+     */
+    public static DataSource dataSource() {
+        return new DriverManagerDataSource(url(), username(), password());
+    }
+}
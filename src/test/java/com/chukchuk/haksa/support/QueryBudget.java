@@ -0,0 +1,75 @@
+package com.chukchuk.haksa.support;
+
+import com.chukchuk.haksa.global.metrics.QueryCounter;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시나리오 하나의 Statement 실행 수 예산
+ *
+ * QueryCounter 범위 안에서 시나리오를 실행하고, 전체 실행 수와 같은 SELECT 형태의 반복 수(N+1)가
+ * 예산을 넘으면 형태별 실행 수를 메시지로 남기며 실패한다.
+ * 테스트 트랜잭션 안에서 세려면 metrics.request.instrument-all-connections=true가 필요하다. (application-test.yml)
+ */
+public final class QueryBudget {
+
+    private final QueryCounter.ScopeType type;
+    private final String name;
+    private int maxStatements = Integer.MAX_VALUE;
+    private int maxSelectRepeat = Integer.MAX_VALUE;
+
+    private QueryBudget(QueryCounter.ScopeType type, String name) {
+        this.type = type;
+        this.name = name;
+    }
+
+    public static QueryBudget of(QueryCounter.ScopeType type, String name) {
+        return new QueryBudget(type, name);
+    }
+
+    public QueryBudget maxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+        return this;
+    }
+
+    public QueryBudget maxSelectRepeat(int maxSelectRepeat) {
+        this.maxSelectRepeat = maxSelectRepeat;
+        return this;
+    }
+
+    /** 예산 검사 없이 실행 수만 잰다. */
+    public static QueryCounter.Scope measure(QueryCounter.ScopeType type, String name, Runnable scenario) {
+        QueryCounter.Scope scope = QueryCounter.open(type, name);
+        try {
+            scenario.run();
+        } finally {
+            scope.close();
+        }
+        return scope;
+    }
+
+    public QueryCounter.Scope verify(Runnable scenario) {
+        QueryCounter.Scope scope = measure(type, name, scenario);
+        String detail = describe(scope);
+        assertThat(scope.total())
+                .as("[%s] statements\n%s", name, detail)
+                .isLessThanOrEqualTo(maxStatements);
+        assertThat(scope.maxSelectRepeat())
+                .as("[%s] repeated select shape\n%s", name, detail)
+                .isLessThanOrEqualTo(maxSelectRepeat);
+        return scope;
+    }
+
+    public static String describe(QueryCounter.Scope scope) {
+        return scope.countsByShape().entrySet().stream()
+                .map(QueryBudget::line)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String line(Map.Entry<String, Integer> entry) {
+        return "%4d  %s".formatted(entry.getValue(), entry.getKey());
+    }
+}
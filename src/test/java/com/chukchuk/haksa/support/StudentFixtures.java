@@ -0,0 +1,35 @@
+package com.chukchuk.haksa.support;
+
+import com.chukchuk.haksa.domain.department.model.Department;
+import com.chukchuk.haksa.domain.student.model.Student;
+import com.chukchuk.haksa.domain.student.model.StudentStatus;
+import com.chukchuk.haksa.domain.user.model.User;
+
+/**
+ * 통합 테스트용 학생 기본값
+ *
+ * 2024학번 1학년 재학생(수시, 편입/졸업 아님, 전공 미지정)을 만든다. 다른 값이 필요하면 반환된 빌더에서 덮어쓴다.
+ */
+public final class StudentFixtures {
+
+    private StudentFixtures() {
+    }
+
+    public static Student.StudentBuilder enrolledStudent(String studentCode, Department department, User user) {
+        return Student.builder()
+                .studentCode(studentCode)
+                .name("학생")
+                .department(department)
+                .major(null)
+                .secondaryMajor(null)
+                .admissionYear(2024)
+                .semesterEnrolled(1)
+                .isTransferStudent(false)
+                .isGraduated(false)
+                .status(StudentStatus.재학)
+                .gradeLevel(1)
+                .completedSemesters(0)
+                .admissionType("수시")
+                .user(user);
+    }
+}